@@ -0,0 +1,548 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 11:02:31
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import open.commons.core.csv.CsvFileConfig;
+import open.commons.core.utils.AssertUtils2;
+
+/**
+ * UTF-8 CSV 데이터를 bytes 단위로 직접 읽는 클래스. <br>
+ * 읽은 bytes에서 구분자/Quotes/Escape 문자를 찾아 줄 데이터를 컬럼 데이터로 분리하며, 컬럼 데이터는 줄마다 재사용하는 byte 배열에 유지하므로 {@link String} 배열을 생성하지 않고
+ * 컬럼 위치별로 변환할 수 있다.<br>
+ * 구분자, Quotes, Escape 문자가 ASCII 문자인 경우에만 사용할 수 있다. (UTF-8에서 ASCII 문자 byte는 다른 문자의 일부가 되지 않는다.)
+ * 
+ * <ul>
+ * <li>Quotes 안의 Quotes 문자 2개, Escape 문자 다음의 Quotes/Escape 문자는 해당 문자로 읽는다.
+ * <li>Quotes 안의 줄 바꿈 문자는 컬럼 데이터로 읽는다.
+ * <li>줄 끝의 <code>\r\n</code>은 줄 바꿈 문자로 읽는다.
+ * </ul>
+ * 
+ * 다음 데이터는 {@link com.opencsv.CSVReader}와 다르게 읽으므로, {@link CsvLoadOptions#setUtf8Reader(boolean)}로 설정한 경우에만 사용한다.
+ * <ul>
+ * <li>Quotes 밖의 Escape 문자는 데이터로 유지하며, 다음 Quotes 문자는 Quotes 구간을 시작한다.
+ * <li>컬럼 중간의 Quotes 문자는 데이터로 읽지 않는다.
+ * <li>줄 바꿈이 아닌 <code>\r</code> 문자는 데이터로 읽는다.
+ * </ul>
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see CSVUtf8Writer
+ */
+public class CSVUtf8Reader implements Closeable {
+
+    /** 입력 buffer 크기 */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+
+    private final byte separator;
+
+    private final byte quotechar;
+
+    private final byte escapechar;
+
+    /** 입력 buffer */
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    /** 입력 buffer에서 읽을 위치 */
+    private int position;
+    /** 입력 buffer 사용 크기 */
+    private int limit;
+    /** stream을 모두 읽었는지 여부 */
+    private boolean eof;
+    /** 현재 줄의 이스케이프를 해제한 데이터 */
+    private byte[] record = new byte[1024];
+    /** 현재 줄의 컬럼별 끝 위치. n 번째 컬럼 데이터는 [ends[n-1], ends[n]) 범위이다. */
+    private int[] ends = new int[16];
+    /** 현재 줄의 컬럼 개수 */
+    private int columnCount;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param in
+     *            읽을 stream
+     * @param config
+     *            CSV 파일 설정. 건너뛸 줄({@link CsvFileConfig#getSkip()})은 생성할 때 건너뛴다.
+     * @throws IOException
+     *             건너뛸 줄을 읽을 수 없는 경우
+     * @throws IllegalArgumentException
+     *             {@link #supports(CsvFileConfig)}를 만족하지 않는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CSVUtf8Reader(InputStream in, CsvFileConfig config) throws IOException {
+        AssertUtils2.notNulls(in, config);
+        if (!supports(config)) {
+            throw new IllegalArgumentException(String.format(
+                    "UTF-8 문자셋이고 구분자, Quotes, Escape 문자는 ASCII 문자이어야 합니다. charset=%s, separator=%s, quotechar=%s, escapechar=%s",
+                    config.getCharset(), config.getSeparator(), config.getQuotechar(), config.getEscape()));
+        }
+
+        this.in = in;
+        this.separator = (byte) config.getSeparator();
+        this.quotechar = (byte) config.getQuotechar();
+        this.escapechar = (byte) config.getEscape();
+
+        // 건너뛸 줄은 컬럼 데이터로 분리하지 않는다.
+        for (int i = 0; i < config.getSkip(); i++) {
+            if (!skipLine()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    /**
+     * 현재 줄의 이스케이프를 해제한 데이터에 1 byte를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param length
+     *            현재까지 추가한 크기
+     * @param b
+     *            추가할 데이터
+     * @return 추가한 후 크기
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private int append(int length, byte b) {
+        if (length == this.record.length) {
+            this.record = Arrays.copyOf(this.record, length * 2);
+        }
+        this.record[length] = b;
+        return length + 1;
+    }
+
+    /**
+     * 현재 줄의 컬럼을 마친다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @param end
+     *            컬럼 데이터 끝 위치
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void endColumn(int column, int end) {
+        if (column == this.ends.length) {
+            this.ends = Arrays.copyOf(this.ends, column * 2);
+        }
+        this.ends[column] = end;
+    }
+
+    /**
+     * 입력 buffer에 남은 데이터를 앞으로 옮기고 stream에서 이어 읽는다.<br>
+     * 남은 데이터가 입력 buffer를 모두 채운 경우 입력 buffer 크기를 늘린다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @throws IOException
+     *             stream을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void fill() throws IOException {
+        int remaining = this.limit - this.position;
+        if (this.position > 0) {
+            System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+        } else if (remaining == this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+        }
+        this.position = 0;
+        this.limit = remaining;
+
+        int read = this.in.read(this.buffer, this.limit, this.buffer.length - this.limit);
+        if (read < 0) {
+            this.eof = true;
+        } else {
+            this.limit += read;
+        }
+    }
+
+    /**
+     * 현재 줄의 컬럼 데이터가 저장된 배열을 제공한다.<br>
+     * 배열은 다음 줄을 읽을 때 재사용하므로, 컬럼 데이터는 다음 줄을 읽기 전에 변환해야 한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return UTF-8 bytes
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #getOffset(int)
+     * @see #getLength(int)
+     */
+    public byte[] getBytes() {
+        return this.record;
+    }
+
+    /**
+     * 현재 줄의 컬럼 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int getColumnCount() {
+        return this.columnCount;
+    }
+
+    /**
+     * 현재 줄의 컬럼 데이터 크기를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int getLength(int column) {
+        return this.ends[column] - getOffset(column);
+    }
+
+    /**
+     * 현재 줄의 컬럼 데이터 시작 위치를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @return {@link #getBytes()}에서의 위치
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int getOffset(int column) {
+        return column > 0 ? this.ends[column - 1] : 0;
+    }
+
+    /**
+     * 현재 줄의 컬럼 데이터를 문자열로 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public String getString(int column) {
+        int offset = getOffset(column);
+        return new String(this.record, offset, this.ends[column] - offset, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 문자가 ASCII 문자인지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param c
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static boolean isAscii(char c) {
+        return c < 0x80;
+    }
+
+    /**
+     * 다음 줄을 읽어 컬럼 데이터로 분리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 읽은 줄이 없는 경우 <code>false</code>
+     * @throws IOException
+     *             stream을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public boolean readNext() throws IOException {
+        while (true) {
+            int next = tokenize();
+            if (next >= 0) {
+                this.position = next;
+                return true;
+            } else if (this.eof) {
+                return false;
+            }
+            fill();
+        }
+    }
+
+    /**
+     * 다음 줄을 읽지 않고 건너뛴다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 건너뛴 줄이 없는 경우 <code>false</code>
+     * @throws IOException
+     *             stream을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private boolean skipLine() throws IOException {
+        while (true) {
+            for (int i = this.position; i < this.limit; i++) {
+                if (this.buffer[i] == '\n') {
+                    this.position = i + 1;
+                    return true;
+                }
+            }
+            if (this.eof) {
+                boolean skipped = this.position < this.limit;
+                this.position = this.limit;
+                return skipped;
+            }
+            // 건너뛴 데이터는 유지하지 않는다.
+            this.position = this.limit;
+            fill();
+        }
+    }
+
+    /**
+     * UTF-8 문자셋이고 구분자, Quotes, Escape 문자가 ASCII 문자인지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param config
+     *            CSV 파일 설정
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public static boolean supports(CsvFileConfig config) {
+        return StandardCharsets.UTF_8.equals(config.getCharset()) //
+                && isAscii(config.getSeparator()) //
+                && isAscii(config.getQuotechar()) //
+                && isAscii(config.getEscape());
+    }
+
+    /**
+     * 현재 줄의 컬럼 데이터를 문자열 배열로 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public String[] toStrings() {
+        String[] tokens = new String[this.columnCount];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = getString(i);
+        }
+        return tokens;
+    }
+
+    /**
+     * 입력 buffer에서 한 줄을 읽어 컬럼 데이터로 분리한다.<br>
+     * 줄 끝을 확인하기 위해 더 읽어야 하는 경우 분리한 데이터를 버리고, 이어 읽은 후 다시 분리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 다음 줄 시작 위치. 더 읽어야 하거나 읽은 줄이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private int tokenize() {
+        final byte[] buf = this.buffer;
+        final int end = this.limit;
+        if (this.eof && this.position == end) {
+            return -1;
+        }
+
+        int column = 0;
+        int len = 0;
+        boolean inQuotes = false;
+        for (int i = this.position; i < end; i++) {
+            byte b = buf[i];
+            if (inQuotes) {
+                boolean escaped = b == this.escapechar && this.escapechar != this.quotechar;
+                if (b == this.quotechar || escaped) {
+                    // 다음 문자를 확인해야 하는 경우
+                    if (i + 1 == end && !this.eof) {
+                        return -1;
+                    }
+                    byte next = i + 1 < end ? buf[i + 1] : 0;
+                    if ((escaped && (next == this.quotechar || next == this.escapechar)) || (b == this.quotechar && next == this.quotechar)) {
+                        // 이스케이프된 문자
+                        len = append(len, next);
+                        i++;
+                    } else if (b == this.quotechar) {
+                        inQuotes = false;
+                    } else {
+                        len = append(len, b);
+                    }
+                } else {
+                    len = append(len, b);
+                }
+            } else if (b == this.quotechar) {
+                inQuotes = true;
+            } else if (b == this.separator) {
+                endColumn(column++, len);
+            } else if (b == '\n') {
+                endColumn(column, len);
+                this.columnCount = column + 1;
+                return i + 1;
+            } else if (b == '\r') {
+                if (i + 1 == end && !this.eof) {
+                    return -1;
+                }
+                // 줄 끝의 '\r'은 줄 바꿈 문자로 읽는다.
+                if (i + 1 < end && buf[i + 1] != '\n') {
+                    len = append(len, b);
+                }
+            } else {
+                len = append(len, b);
+            }
+        }
+
+        if (!this.eof) {
+            return -1;
+        }
+        // 줄 바꿈 문자로 끝나지 않는 마지막 줄
+        endColumn(column, len);
+        this.columnCount = column + 1;
+        return end;
+    }
+}
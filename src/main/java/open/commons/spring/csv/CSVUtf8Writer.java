@@ -0,0 +1,452 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 8:52:07
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+
+package open.commons.spring.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.jspecify.annotations.Nullable;
+
+import open.commons.core.csv.CsvFileConfig;
+import open.commons.core.utils.AssertUtils2;
+
+/**
+ * CSV 데이터를 UTF-8 bytes로 직접 저장하는 클래스. <br>
+ * {@link CSVWriter#writeNext(String[])}와 같은 규칙으로 구분자/Quotes/Escape 문자를 적용하며, UTF-8 bytes로 유지하는 컬럼 데이터를
+ * {@link String}으로 변환하지 않고 저장할 수 있다.<br>
+ * 구분자, Quotes, Escape 문자가 ASCII 문자인 경우에만 사용할 수 있다. (UTF-8에서 ASCII 문자 byte는 다른 문자의 일부가 되지 않는다.)
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see CSVWriter
+ */
+public class CSVUtf8Writer implements Closeable {
+
+    /** 출력 buffer 크기 */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+
+    private final byte separator;
+
+    private final byte quotechar;
+
+    private final byte escapechar;
+
+    private final byte[] lineEnd;
+
+    /** CSV 헤더. <code>null</code>인 경우 모든 컬럼에 Quotes를 사용할 수 있다. */
+    private final CsvHeader @Nullable [] headers;
+    /** 컬럼 위치별 Quotes 사용 여부. <code>null</code>인 경우 모든 컬럼에 Quotes를 사용할 수 있다. */
+    private final boolean @Nullable [] quoted;
+
+    /** 출력 buffer */
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    /** 출력 buffer 사용 크기 */
+    private int count;
+    /** 현재 줄에서 다음에 저장할 컬럼 위치 */
+    private int column;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         컬럼별 변환 객체 사용
+     * </pre>
+     *
+     * @param out
+     *            저장할 stream
+     * @param separator
+     *            구분자
+     * @param quotechar
+     *            Quotes 문자. {@link CSVWriter#NO_QUOTE_CHARACTER}인 경우 사용하지 않음.
+     * @param escapechar
+     *            Escape 문자. {@link CSVWriter#NO_ESCAPE_CHARACTER}인 경우 사용하지 않음.
+     * @param headers
+     *            CSV 헤더 정보
+     * @throws IllegalArgumentException
+     *            ASCII 문자가 아닌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CSVUtf8Writer(OutputStream out, char separator, char quotechar, char escapechar,
+            final CsvHeader @Nullable [] headers) {
+        AssertUtils2.notNull(out);
+        if (!isAscii(separator) || !isAscii(quotechar) || !isAscii(escapechar)) {
+            throw new IllegalArgumentException(String.format(
+                    "구분자, Quotes, Escape 문자는 ASCII 문자이어야 합니다. separator=%s, quotechar=%s, escapechar=%s", separator,
+                    quotechar, escapechar));
+        }
+
+        this.out = out;
+        this.separator = (byte) separator;
+        this.quotechar = (byte) quotechar;
+        this.escapechar = (byte) escapechar;
+        this.lineEnd = CSVWriter.DEFAULT_LINE_END.getBytes(StandardCharsets.UTF_8);
+        this.headers = headers;
+        this.quoted = headers != null ? CsvColumnCodec.quoted(headers) : null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        this.out.close();
+    }
+
+    /**
+     * 현재 줄을 마친다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @throws IOException
+     *            저장할 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void endLine() throws IOException {
+        write(this.lineEnd, 0, this.lineEnd.length);
+        this.column = 0;
+    }
+
+    /**
+     * 출력 buffer를 저장한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @throws IOException
+     *            저장할 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void flush() throws IOException {
+        if (this.count > 0) {
+            this.out.write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+        this.out.flush();
+    }
+
+    /**
+     * ASCII 문자 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param c
+     *            문자
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static boolean isAscii(char c) {
+        return c < 0x80;
+    }
+
+    /**
+     * 주어진 설정으로 저장할 수 있는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param config
+     *            CSV 파일 설정
+     * @return UTF-8 문자셋이고, 구분자/Quotes/Escape 문자가 ASCII 문자인 경우 <code>true</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public static boolean supports(CsvFileConfig config) {
+        return StandardCharsets.UTF_8.equals(config.getCharset()) //
+                && isAscii(config.getSeparator()) //
+                && isAscii(config.getQuotechar()) //
+                && isAscii(config.getEscape());
+    }
+
+    /**
+     * 컬럼 데이터 타입에 따른 Quotes 사용 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         컬럼별 변환 객체 사용
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private boolean wrapWithQuotes(int column) {
+        return this.quoted == null || this.quoted[column];
+    }
+
+    /**
+     * 출력 buffer에 bytes를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param bytes
+     *            데이터
+     * @param offset
+     *            시작 위치
+     * @param length
+     *            길이
+     * @throws IOException
+     *            저장할 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void write(byte[] bytes, int offset, int length) throws IOException {
+        if (this.count + length > this.buffer.length) {
+            flush();
+            if (length > this.buffer.length) {
+                this.out.write(bytes, offset, length);
+                return;
+            }
+        }
+        System.arraycopy(bytes, offset, this.buffer, this.count, length);
+        this.count += length;
+    }
+
+    /**
+     * 출력 buffer에 byte를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param b
+     *            데이터
+     * @throws IOException
+     *            저장할 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void write(byte b) throws IOException {
+        if (this.count == this.buffer.length) {
+            flush();
+        }
+        this.buffer[this.count++] = b;
+    }
+
+    /**
+     * 컬럼 데이터를 저장한다.<br>
+     * {@link CSVWriter#writeNext(String[])}와 같이 Quotes, Escape 문자를 적용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param utf8
+     *            UTF-8 bytes
+     * @param offset
+     *            시작 위치
+     * @param length
+     *            길이
+     * @throws IOException
+     *            저장할 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void writeField(byte[] utf8, int offset, int length) throws IOException {
+        if (this.column > 0) {
+            write(this.separator);
+        }
+
+        boolean escape = this.escapechar != CSVWriter.NO_ESCAPE_CHARACTER;
+        boolean quote = false;
+        if (this.quotechar != CSVWriter.NO_QUOTE_CHARACTER && wrapWithQuotes(this.column)) {
+            // Escape 문자가 추가된 데이터에 구분자가 포함되어 있는 경우
+            for (int i = offset; i < offset + length && !quote; i++) {
+                byte b = utf8[i];
+                quote = b == this.separator
+                        || (escape && this.escapechar == this.separator && (b == this.quotechar || b == this.escapechar));
+            }
+        }
+
+        if (quote) {
+            write(this.quotechar);
+        }
+        if (escape) {
+            int from = offset;
+            for (int i = offset; i < offset + length; i++) {
+                byte b = utf8[i];
+                if (b == this.quotechar || b == this.escapechar) {
+                    write(utf8, from, i - from);
+                    write(this.escapechar);
+                    from = i;
+                }
+            }
+            write(utf8, from, offset + length - from);
+        } else {
+            write(utf8, offset, length);
+        }
+        if (quote) {
+            write(this.quotechar);
+        }
+
+        this.column++;
+    }
+
+    /**
+     * 컬럼 데이터를 저장한다.<br>
+     * <code>null</code>인 경우 구분자만 저장한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            컬럼 데이터
+     * @throws IOException
+     *            저장할 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void writeField(@Nullable String value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeField(utf8, 0, utf8.length);
+    }
+
+    /**
+     * CSV 헤더가 있으면 저장한다.<br>
+     * {@link CSVWriter#writeHeader()}와 같이 Quotes를 사용하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @throws IOException
+     *            저장할 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void writeHeader() throws IOException {
+        if (this.headers != null) {
+            for (int i = 0; i < this.headers.length; i++) {
+                if (i > 0) {
+                    write(this.separator);
+                }
+                byte[] header = this.headers[i].getHeader().getBytes(StandardCharsets.UTF_8);
+                write(header, 0, header.length);
+            }
+            endLine();
+        }
+    }
+
+    /**
+     * 데이터가 없는 컬럼을 저장한다.<br>
+     * 구분자만 저장한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @throws IOException
+     *            저장할 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void writeNull() throws IOException {
+        if (this.column > 0) {
+            write(this.separator);
+        }
+        this.column++;
+    }
+}
@@ -33,7 +33,6 @@ import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
-import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 
@@ -94,8 +93,8 @@ public class CSVWriter implements Closeable {
 
     private ResultSetHelper resultService = new ResultSetHelperService();
 
-    /** 컬럼 데이터 타입에 따른 Quotes 사용여부 확인 */
-    private final Function<Integer, Boolean> wrapWithQuotes;
+    /** 컬럼 위치별 Quotes 사용여부. <code>null</code>인 경우 모든 컬럼에 Quotes를 사용할 수 있다. */
+    private final boolean @Nullable [] wrapWithQuotes;
     private final CsvHeader[] headers;
 
     /**
@@ -254,6 +253,7 @@ public class CSVWriter implements Closeable {
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         컬럼별 변환 객체 사용
      * </pre>
      *
      * @param writer
@@ -269,7 +269,7 @@ public class CSVWriter implements Closeable {
      * @param headers
      *            CSV 헤더 정보
      * @since 2021. 8. 17.
-     * @version 0.1.0
+     * @version 4.0.0
      */
     public CSVWriter(Writer writer, char separator, char quotechar, char escapechar, String lineEnd,
             final CsvHeader @Nullable [] headers) {
@@ -282,18 +282,7 @@ public class CSVWriter implements Closeable {
         this.escapechar = escapechar;
         this.lineEnd = lineEnd;
         this.headers = headers;
-        this.wrapWithQuotes = headers != null //
-                ? idx -> {
-                    switch (headers[idx].getDataType()) {
-                        case STR:
-                        case GENERAL:
-                            return true;
-                        default:
-                            return false;
-                    }
-                }
-                : _ -> true //
-        ;
+        this.wrapWithQuotes = headers != null ? CsvColumnCodec.quoted(headers) : null;
     }
 
     /**
@@ -705,7 +694,7 @@ public class CSVWriter implements Closeable {
                     .toString();
 
             if (this.quotechar != NO_QUOTE_CHARACTER // Quotes char이 설정되어 있고,
-                    && this.wrapWithQuotes.apply(i) // 데이터 타입이 문자열이고,
+                    && (this.wrapWithQuotes == null || this.wrapWithQuotes[i]) // 데이터 타입이 문자열이고,
                     && processedString.indexOf(this.separator) > -1 // 데이터에 구분자(separator)가 포함되어 있지
                                                                     // 않고
             ) {
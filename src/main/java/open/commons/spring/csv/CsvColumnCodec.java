@@ -0,0 +1,448 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 11:31:47
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv;
+
+import java.nio.charset.StandardCharsets;
+
+import org.jspecify.annotations.Nullable;
+
+import open.commons.core.utils.ExceptionUtils;
+import open.commons.spring.csv.utils.CsvNumberParser;
+import open.commons.spring.web.servlet.exception.BadRequestException;
+import open.commons.spring.web.servlet.exception.InternalServerException;
+
+/**
+ * 컬럼 데이터 타입별로 컬럼 데이터를 변환하는 클래스. <br>
+ * CSV 파일의 헤더 정보를 {@link #compile(CsvHeader[])}로 한 번 변환하여 유지하며, 줄 데이터는 컬럼 위치별 객체로 변환하므로 컬럼마다 데이터 타입을 확인하지 않는다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see ColumnDataType
+ */
+abstract class CsvColumnCodec {
+
+    /** {@link ColumnDataType#GENERAL} */
+    private static final CsvColumnCodec GENERAL = new GeneralCodec();
+    /** {@link ColumnDataType#INT} */
+    private static final CsvColumnCodec INT = new IntCodec();
+    /** {@link ColumnDataType#NUM} */
+    private static final CsvColumnCodec NUM = new NumCodec();
+    /** {@link ColumnDataType#STR} */
+    private static final CsvColumnCodec STR = new StrCodec();
+
+    /**
+     * 헤더 정보를 컬럼 위치별 변환 객체로 변환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param headers
+     *            CSV 파일 헤더 정보
+     * @return
+     * @throws InternalServerException
+     *             지원하지 않는 컬럼 데이터 타입인 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    static CsvColumnCodec[] compile(CsvHeader[] headers) {
+        CsvColumnCodec[] codecs = new CsvColumnCodec[headers.length];
+        for (int i = 0; i < headers.length; i++) {
+            switch (headers[i].getDataType()) {
+                case GENERAL:
+                    codecs[i] = GENERAL;
+                    break;
+                case INT:
+                    codecs[i] = INT;
+                    break;
+                case NUM:
+                    codecs[i] = NUM;
+                    break;
+                case STR:
+                    codecs[i] = STR;
+                    break;
+                default:
+                    throw ExceptionUtils.newException(InternalServerException.class, "지원하지 않는 컬럼 데이터 타입입니다. header=%s",
+                            headers[i]);
+            }
+        }
+        return codecs;
+    }
+
+    /**
+     * UTF-8 bytes의 주어진 범위를 컬럼 데이터로 변환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param utf8
+     *            UTF-8 bytes
+     * @param offset
+     *            시작 위치
+     * @param length
+     *            크기
+     * @return 숫자 컬럼의 빈 문자열인 경우 <code>null</code>
+     * @throws NumberFormatException
+     *             숫자 컬럼 데이터가 숫자가 아닌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract @Nullable Object decode(byte[] utf8, int offset, int length);
+
+    /**
+     * CSV 파일에서 읽은 문자열을 컬럼 데이터로 변환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            문자열
+     * @return 숫자 컬럼의 빈 문자열인 경우 <code>null</code>
+     * @throws NumberFormatException
+     *             숫자 컬럼 데이터가 숫자가 아닌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract @Nullable Object decode(String value);
+
+    /**
+     * CSV 파일에 저장할 때 Quotes를 사용하는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract boolean isQuoted();
+
+    /**
+     * 헤더 정보별 Quotes 사용 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param headers
+     *            CSV 파일 헤더 정보
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    static boolean[] quoted(CsvHeader[] headers) {
+        CsvColumnCodec[] codecs = compile(headers);
+        boolean[] quoted = new boolean[codecs.length];
+        for (int i = 0; i < codecs.length; i++) {
+            quoted[i] = codecs[i].isQuoted();
+        }
+        return quoted;
+    }
+
+    /**
+     * 외부에서 입력한 컬럼 데이터를 검증하고 컬럼 데이터 타입에 맞게 변환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            입력 데이터
+     * @return 숫자 컬럼의 빈 문자열인 경우 <code>null</code>
+     * @throws NumberFormatException
+     *             숫자 컬럼 데이터가 숫자가 아닌 경우
+     * @throws BadRequestException
+     *             컬럼 데이터 타입과 일치하지 않는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract @Nullable Object validate(Object value);
+
+    /**
+     * {@link ColumnDataType#GENERAL} 컬럼 데이터 변환 클래스.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    private static final class GeneralCodec extends CsvColumnCodec {
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#decode(byte[], int, int)
+         */
+        @Override
+        Object decode(byte[] utf8, int offset, int length) {
+            return new String(utf8, offset, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#decode(java.lang.String)
+         */
+        @Override
+        Object decode(String value) {
+            return value;
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#isQuoted()
+         */
+        @Override
+        boolean isQuoted() {
+            return true;
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#validate(java.lang.Object)
+         */
+        @Override
+        Object validate(Object value) {
+            return value.toString();
+        }
+    }
+
+    /**
+     * {@link ColumnDataType#INT} 컬럼 데이터 변환 클래스.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    private static final class IntCodec extends CsvColumnCodec {
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#decode(byte[], int, int)
+         */
+        @Override
+        @Nullable Object decode(byte[] utf8, int offset, int length) {
+            return length == 0 ? null : CsvNumberParser.parseLong(utf8, offset, length);
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#decode(java.lang.String)
+         */
+        @Override
+        @Nullable Object decode(String value) {
+            return value.isEmpty() ? null : CsvNumberParser.parseLong(value, 0, value.length());
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#isQuoted()
+         */
+        @Override
+        boolean isQuoted() {
+            return false;
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#validate(java.lang.Object)
+         */
+        @Override
+        @Nullable Object validate(Object value) {
+            // 정수 타입은 문자열로 변환하지 않는다.
+            if (value instanceof Long) {
+                return value;
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).longValue();
+            }
+            CharSequence str = value instanceof CharSequence ? (CharSequence) value : value.toString();
+            return str.length() == 0 ? null : CsvNumberParser.parseLong(str, 0, str.length());
+        }
+    }
+
+    /**
+     * {@link ColumnDataType#NUM} 컬럼 데이터 변환 클래스.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    private static final class NumCodec extends CsvColumnCodec {
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#decode(byte[], int, int)
+         */
+        @Override
+        @Nullable Object decode(byte[] utf8, int offset, int length) {
+            return length == 0 ? null : CsvNumberParser.parseDouble(utf8, offset, length);
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#decode(java.lang.String)
+         */
+        @Override
+        @Nullable Object decode(String value) {
+            return value.isEmpty() ? null : CsvNumberParser.parseDouble(value, 0, value.length());
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#isQuoted()
+         */
+        @Override
+        boolean isQuoted() {
+            return false;
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#validate(java.lang.Object)
+         */
+        @Override
+        @Nullable Object validate(Object value) {
+            // 실수 타입과 정수 타입은 문자열로 변환하지 않는다. (Float는 문자열 표현과 값이 다르다.)
+            if (value instanceof Double) {
+                return value;
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).doubleValue();
+            }
+            CharSequence str = value instanceof CharSequence ? (CharSequence) value : value.toString();
+            return str.length() == 0 ? null : CsvNumberParser.parseDouble(str, 0, str.length());
+        }
+    }
+
+    /**
+     * {@link ColumnDataType#STR} 컬럼 데이터 변환 클래스.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    private static final class StrCodec extends CsvColumnCodec {
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#decode(byte[], int, int)
+         */
+        @Override
+        Object decode(byte[] utf8, int offset, int length) {
+            return new String(utf8, offset, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#decode(java.lang.String)
+         */
+        @Override
+        Object decode(String value) {
+            return value;
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#isQuoted()
+         */
+        @Override
+        boolean isQuoted() {
+            return true;
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see open.commons.spring.csv.CsvColumnCodec#validate(java.lang.Object)
+         */
+        @Override
+        Object validate(Object value) {
+            if (String.class != value.getClass()) {
+                throw ExceptionUtils.newException(BadRequestException.class,
+                        "헤더의 컬럼 데이터 타입과 일치하지 않는 데이터 입니다. header.column-data-type=%s, 입력값: %s", ColumnDataType.STR,
+                        value.getClass());
+            }
+            return value;
+        }
+    }
+}
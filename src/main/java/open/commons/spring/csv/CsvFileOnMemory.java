@@ -44,6 +44,15 @@ public class CsvFileOnMemory extends AbstractCsvFileLoad {
     @Min(value = 0, message = "줄번호는 0 또는 양의 정수이어야 합니다.")
     private final int lineCount;
 
+    /** 예상 메모리 사용량. 단위: byte */
+    private long memoryUsage;
+
+    /** 컬럼별 예상 메모리 사용량. 단위: byte */
+    private long[] columnMemoryUsage = new long[0];
+
+    /** 컬럼별 압축 비율. (압축 데이터 크기 / 압축 전 크기, 압축하지 않은 경우 1) */
+    private double[] columnCompressionRatio = new double[0];
+
     /**
      * <br>
      * 
@@ -67,6 +76,49 @@ public class CsvFileOnMemory extends AbstractCsvFileLoad {
         this.lineCount = lineCount;
     }
 
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the columnCompressionRatio
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #columnCompressionRatio
+     */
+    public double[] getColumnCompressionRatio() {
+        return columnCompressionRatio;
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the columnMemoryUsage
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #columnMemoryUsage
+     */
+    public long[] getColumnMemoryUsage() {
+        return columnMemoryUsage;
+    }
+
     /**
      *
      * <br>
@@ -89,6 +141,94 @@ public class CsvFileOnMemory extends AbstractCsvFileLoad {
         return lineCount;
     }
 
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the memoryUsage
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #memoryUsage
+     */
+    public long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param columnCompressionRatio
+     *            the columnCompressionRatio to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #columnCompressionRatio
+     */
+    public void setColumnCompressionRatio(@NotNull double[] columnCompressionRatio) {
+        this.columnCompressionRatio = columnCompressionRatio;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param columnMemoryUsage
+     *            the columnMemoryUsage to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #columnMemoryUsage
+     */
+    public void setColumnMemoryUsage(@NotNull long[] columnMemoryUsage) {
+        this.columnMemoryUsage = columnMemoryUsage;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param memoryUsage
+     *            the memoryUsage to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #memoryUsage
+     */
+    public void setMemoryUsage(long memoryUsage) {
+        this.memoryUsage = memoryUsage;
+    }
+
     /**
      * @since 2021. 8. 13.
      * @version 0.1.0
@@ -104,6 +244,12 @@ public class CsvFileOnMemory extends AbstractCsvFileLoad {
         builder.append(Arrays.toString(headers));
         builder.append(", lineCount=");
         builder.append(lineCount);
+        builder.append(", memoryUsage=");
+        builder.append(memoryUsage);
+        builder.append(", columnMemoryUsage=");
+        builder.append(Arrays.toString(columnMemoryUsage));
+        builder.append(", columnCompressionRatio=");
+        builder.append(Arrays.toString(columnCompressionRatio));
         builder.append("]");
         return builder.toString();
     }
@@ -0,0 +1,515 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 11:44:51
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * CSV 파일 비동기 적재 작업 정보.<br>
+ * 적재 작업의 상태와 진행 정보(읽은 크기, 적재한 줄 수, 예상 남은 시간)를 제공한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+public class CsvLoadJob {
+
+    /** CSV 파일 메모리 적재 데이터 식별정보 */
+    private final String uuid;
+
+    /** 파일 경로 */
+    private final String filepath;
+
+    /** 적재 작업 상태 */
+    private CsvLoadState state = CsvLoadState.QUEUED;
+
+    /** 읽을 파일 크기. 단위: byte (-1: 알 수 없음) */
+    private long totalBytes = -1;
+
+    /** 읽은 크기. 단위: byte */
+    private long bytesRead;
+
+    /** 적재한 줄 수 */
+    private int lineCount;
+
+    /** 적재 경과시간. 단위: ms (millisecond) */
+    private long elapsedTime;
+
+    /** 예상 남은 적재시간. 단위: ms (millisecond), (-1: 알 수 없음) */
+    private long remainingTime = -1;
+
+    /** 적재 결과. 적재를 완료한 경우에만 제공한다. */
+    private @Nullable CsvFileOnMemory result;
+
+    /** 적재 실패 또는 취소 원인 */
+    private @Nullable String message;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 메모리 적재 데이터 식별정보
+     * @param filepath
+     *            파일 경로
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvLoadJob(@NotNull String uuid, @NotNull String filepath) {
+        this.uuid = uuid;
+        this.filepath = filepath;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the bytesRead
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #bytesRead
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the elapsedTime
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #elapsedTime
+     */
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the filepath
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #filepath
+     */
+    public String getFilepath() {
+        return filepath;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the lineCount
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #lineCount
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the message
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #message
+     */
+    public @Nullable String getMessage() {
+        return message;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the remainingTime
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #remainingTime
+     */
+    public long getRemainingTime() {
+        return remainingTime;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the result
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #result
+     */
+    public @Nullable CsvFileOnMemory getResult() {
+        return result;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the state
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #state
+     */
+    public CsvLoadState getState() {
+        return state;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the totalBytes
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #totalBytes
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the uuid
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #uuid
+     */
+    public String getUuid() {
+        return uuid;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param bytesRead
+     *            the bytesRead to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #bytesRead
+     */
+    public void setBytesRead(long bytesRead) {
+        this.bytesRead = bytesRead;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param elapsedTime
+     *            the elapsedTime to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #elapsedTime
+     */
+    public void setElapsedTime(long elapsedTime) {
+        this.elapsedTime = elapsedTime;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param lineCount
+     *            the lineCount to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #lineCount
+     */
+    public void setLineCount(int lineCount) {
+        this.lineCount = lineCount;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param message
+     *            the message to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #message
+     */
+    public void setMessage(@Nullable String message) {
+        this.message = message;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param remainingTime
+     *            the remainingTime to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #remainingTime
+     */
+    public void setRemainingTime(long remainingTime) {
+        this.remainingTime = remainingTime;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param result
+     *            the result to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #result
+     */
+    public void setResult(@Nullable CsvFileOnMemory result) {
+        this.result = result;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param state
+     *            the state to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #state
+     */
+    public void setState(@NotNull CsvLoadState state) {
+        this.state = state;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param totalBytes
+     *            the totalBytes to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #totalBytes
+     */
+    public void setTotalBytes(long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("CsvLoadJob [uuid=");
+        builder.append(uuid);
+        builder.append(", filepath=");
+        builder.append(filepath);
+        builder.append(", state=");
+        builder.append(state);
+        builder.append(", totalBytes=");
+        builder.append(totalBytes);
+        builder.append(", bytesRead=");
+        builder.append(bytesRead);
+        builder.append(", lineCount=");
+        builder.append(lineCount);
+        builder.append(", elapsedTime=");
+        builder.append(elapsedTime);
+        builder.append(", remainingTime=");
+        builder.append(remainingTime);
+        builder.append(", result=");
+        builder.append(result);
+        builder.append(", message=");
+        builder.append(message);
+        builder.append("]");
+        return builder.toString();
+    }
+
+}
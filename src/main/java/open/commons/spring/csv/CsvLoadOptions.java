@@ -0,0 +1,490 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 2:20:05
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv;
+
+import open.commons.core.utils.AssertUtils2;
+
+/**
+ * CSV 파일을 메모리에 적재할 때 적용하는 설정.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+public class CsvLoadOptions {
+
+    /** 기본 값 사전 최대 고유값 개수 */
+    public static final int DEFAULT_DICTIONARY_THRESHOLD = 1000;
+    /** 기본 값 문자열 공유 최대 고유값 개수 */
+    public static final int DEFAULT_INTERN_THRESHOLD = 4096;
+
+    /** 데이터 저장 방식 */
+    private CsvStorageType storageType = CsvStorageType.ROW;
+    /**
+     * 값 사전을 사용하는 {@link ColumnDataType#STR} 컬럼의 최대 고유값 개수.<br>
+     * {@link CsvStorageType#COLUMNAR} 방식에만 적용되며, 적재 중 고유값 개수가 이 값을 넘는 컬럼은 값 사전을 사용하지 않는다. 0 이하인 경우 사용하지 않는다.
+     */
+    private int dictionaryThreshold = DEFAULT_DICTIONARY_THRESHOLD;
+    /**
+     * 문자열({@link ColumnDataType#STR}, {@link ColumnDataType#GENERAL}) 컬럼 데이터를 {@link String} 객체 대신 공유 byte 배열에 UTF-8
+     * bytes로 모아서 유지할지 여부.<br>
+     * {@link CsvStorageType#COLUMNAR} 방식에만 적용되며, 값 사전을 사용하는 컬럼은 값 사전을 사용하지 않게 된 경우부터 적용된다.
+     * 
+     * @see open.commons.spring.csv.storage.CsvUtf8Column
+     */
+    private boolean compactStrings;
+    /**
+     * 적재 중 같은 값의 문자열({@link ColumnDataType#STR}, {@link ColumnDataType#GENERAL})이 하나의 {@link String} 객체를 공유하는 컬럼의 최대
+     * 고유값 개수.<br>
+     * {@link CsvStorageType#ROW} 방식과 UTF-8 bytes를 사용하지 않는 {@link CsvStorageType#COLUMNAR} 방식에만 적용되며, 값 사전을 사용하는 컬럼은
+     * 제외된다. 적재 중 고유값 개수가 이 값을 넘는 컬럼은 공유하지 않는다. 0 이하인 경우 사용하지 않는다.
+     * 
+     * @see open.commons.spring.csv.storage.CsvStringInterner
+     */
+    private int internThreshold = DEFAULT_INTERN_THRESHOLD;
+    /**
+     * 적재가 완료된 데이터를 읽기 전용으로 고정할지 여부.<br>
+     * 고정된 데이터는 추가/변경/삭제할 수 없으며, 조회/검색은 잠금 없이 동시에 수행한다. 검색시 정렬 조건은 데이터 순서를 변경하지 않고 검색 결과에만 적용한다.
+     */
+    private boolean frozen;
+    /**
+     * 다시 읽을 때 이전 적재 데이터를 재사용할지 여부.<br>
+     * 적재할 때 CSV 파일을 내용에 따라 조각으로 나누어 조각별 해시 값을 유지하고, 다시 읽을 때 내용이 같은 조각은 CSV 문자열을 해석하지 않고 이전에 적재한 줄 데이터를
+     * 재사용한다. 적재한 후 데이터를 변경하거나 정렬한 경우 재사용하지 않는다. {@link CsvStorageType#MAPPED} 방식에는 적용되지 않는다.
+     * 
+     * @see open.commons.spring.csv.storage.CsvChunkIndex
+     */
+    private boolean reuseChunks;
+    /**
+     * CSV 파일을 줄 경계에 맞춘 byte 범위로 나누어 동시에 해석하는 작업 개수.<br>
+     * 해석한 줄 데이터는 파일 순서대로 적재하며, 1 이하인 경우 하나의 작업으로 순서대로 해석한다. {@link CsvStorageType#MAPPED} 방식과 스냅샷 파일에서 읽는 경우에는 적용되지
+     * 않는다.
+     */
+    private int parallelism = 1;
+    /**
+     * UTF-8 CSV 파일을 문자열로 변환하지 않고 bytes 단위로 해석할지 여부.<br>
+     * {@link CSVUtf8Reader#supports(open.commons.core.csv.CsvFileConfig)}를 만족하는 파일에만 적용된다. Quotes 밖의 Escape 문자, 컬럼 중간의
+     * Quotes 문자, 줄 바꿈이 아닌 <code>\r</code> 문자를 {@link com.opencsv.CSVReader}와 다르게 해석하므로, 이런 데이터가 없는 파일에만 사용해야 한다.
+     * 
+     * @see CSVUtf8Reader
+     */
+    private boolean utf8Reader;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvLoadOptions() {
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the dictionaryThreshold
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #dictionaryThreshold
+     */
+    public int getDictionaryThreshold() {
+        return dictionaryThreshold;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the internThreshold
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #internThreshold
+     */
+    public int getInternThreshold() {
+        return internThreshold;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the parallelism
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the storageType
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #storageType
+     */
+    public CsvStorageType getStorageType() {
+        return storageType;
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the compactStrings
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #compactStrings
+     */
+    public boolean isCompactStrings() {
+        return compactStrings;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the frozen
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #frozen
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the reuseChunks
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #reuseChunks
+     */
+    public boolean isReuseChunks() {
+        return reuseChunks;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the utf8Reader
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #utf8Reader
+     */
+    public boolean isUtf8Reader() {
+        return utf8Reader;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param compactStrings
+     *            the compactStrings to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #compactStrings
+     */
+    public void setCompactStrings(boolean compactStrings) {
+        this.compactStrings = compactStrings;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param dictionaryThreshold
+     *            the dictionaryThreshold to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #dictionaryThreshold
+     */
+    public void setDictionaryThreshold(int dictionaryThreshold) {
+        this.dictionaryThreshold = dictionaryThreshold;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param frozen
+     *            the frozen to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #frozen
+     */
+    public void setFrozen(boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param internThreshold
+     *            the internThreshold to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #internThreshold
+     */
+    public void setInternThreshold(int internThreshold) {
+        this.internThreshold = internThreshold;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param parallelism
+     *            the parallelism to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #parallelism
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param reuseChunks
+     *            the reuseChunks to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #reuseChunks
+     */
+    public void setReuseChunks(boolean reuseChunks) {
+        this.reuseChunks = reuseChunks;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param storageType
+     *            the storageType to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #storageType
+     */
+    public void setStorageType(CsvStorageType storageType) {
+        AssertUtils2.notNull(storageType);
+
+        this.storageType = storageType;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param utf8Reader
+     *            the utf8Reader to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #utf8Reader
+     */
+    public void setUtf8Reader(boolean utf8Reader) {
+        this.utf8Reader = utf8Reader;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("CsvLoadOptions [storageType=");
+        builder.append(storageType);
+        builder.append(", dictionaryThreshold=");
+        builder.append(dictionaryThreshold);
+        builder.append(", compactStrings=");
+        builder.append(compactStrings);
+        builder.append(", internThreshold=");
+        builder.append(internThreshold);
+        builder.append(", frozen=");
+        builder.append(frozen);
+        builder.append(", reuseChunks=");
+        builder.append(reuseChunks);
+        builder.append(", parallelism=");
+        builder.append(parallelism);
+        builder.append(", utf8Reader=");
+        builder.append(utf8Reader);
+        builder.append("]");
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 11:42:08
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import open.commons.core.utils.AssertUtils2;
+import open.commons.spring.web.annotation.RequestValueConverter;
+import open.commons.spring.web.annotation.RequestValueSupported;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * CSV 파일 비동기 적재 작업 상태.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+@RequestValueSupported
+public enum CsvLoadState {
+
+    /** 적재 대기 */
+    QUEUED("queued"), //
+    /** 적재 중 */
+    LOADING("loading"), //
+    /** 적재 완료 */
+    COMPLETED("completed"), //
+    /** 적재 실패 */
+    FAILED("failed"), //
+    /** 적재 취소 */
+    CANCELLED("cancelled"), //
+    ;
+
+    private String type;
+
+    private CsvLoadState(String type) {
+        this.type = type;
+    }
+
+    /**
+     *
+     * @return a string of an instance of {@link CsvLoadState}
+     *
+     * @since 2026. 10. 17.
+     */
+    @JsonValue
+    public String get() {
+        return this.type;
+    }
+
+    /**
+     * 적재 작업이 끝난 상태인지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return {@link #COMPLETED}, {@link #FAILED}, {@link #CANCELLED}인 경우 <code>true</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     *
+     * @see java.lang.Enum#toString()
+     */
+    @Override
+    public String toString() {
+        return new StringBuffer() //
+                .append(name()) //
+                .append(':')//
+                .append(get()) //
+                .toString();
+    }
+
+    /**
+     * 
+     * @param type
+     *            a string for {@link CsvLoadState} instance.
+     *
+     * @return an instance of {@link CsvLoadState}
+     *
+     * @since 2026. 10. 17.
+     *
+     * @see #get(String, boolean)
+     */
+    public static CsvLoadState get(String type) {
+        return get(type, false);
+    }
+
+    /**
+     *
+     * @param type
+     *            a string for an instance of {@link CsvLoadState}.
+     * @param ignoreCase
+     *            ignore <code><b>case-sensitive</b></code> or not.
+     *
+     * @return an instance of {@link CsvLoadState}
+     *
+     * @since 2026. 10. 17.
+     */
+    @RequestValueConverter(hasIgnoreCase = true)
+    public static CsvLoadState get(String type, boolean ignoreCase) {
+        AssertUtils2.notBlank(type, "'type' MUST NOT be null. input: %s", type);
+
+        if (ignoreCase) {
+            for (CsvLoadState value : values()) {
+                if (value.type.equalsIgnoreCase(type)) {
+                    return value;
+                }
+            }
+        } else {
+            for (CsvLoadState value : values()) {
+                if (value.type.equals(type)) {
+                    return value;
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("Unexpected 'type' value of 'CsvLoadState'. expected: " + values0()
+                + " & Ignore case-sensitive: " + ignoreCase + ", input: " + type);
+    }
+
+    private static List<String> values0() {
+
+        List<String> valuesStr = new ArrayList<>();
+
+        for (CsvLoadState value : values()) {
+            valuesStr.add(value.get());
+        }
+
+        return valuesStr;
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 2:11:36
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import open.commons.core.utils.AssertUtils2;
+import open.commons.spring.web.annotation.RequestValueConverter;
+import open.commons.spring.web.annotation.RequestValueSupported;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * CSV 파일 데이터를 메모리에 적재하는 저장 방식.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+@RequestValueSupported
+public enum CsvStorageType {
+
+    /** 줄 단위 저장. 줄 데이터를 {@link Object} 배열로 유지한다. */
+    ROW("row"), //
+    /**
+     * 컬럼 단위 저장. {@link ColumnDataType#INT}, {@link ColumnDataType#NUM} 컬럼은 기본형 배열({@code long[]},
+     * {@code double[]})과 null 비트맵으로, 그 외 컬럼은 문자열 배열로 유지한다.
+     */
+    COLUMNAR("columnar"), //
+    /**
+     * 힙 외부(off-heap) 컬럼 단위 저장. {@link #COLUMNAR}와 같은 형태의 데이터를 {@link java.lang.foreign.MemorySegment}에 유지하며, 문자열은
+     * UTF-8 bytes로 유지한다. 적재 데이터는 파일 적재 해제 또는 TTL 초과로 제거될 때 해제된다.
+     */
+    OFF_HEAP("off-heap"), //
+    /**
+     * 메모리 매핑 저장. 파일을 메모리 매핑하고 줄 시작 위치만 유지하며, 줄 데이터는 요청시 변환한다. 조회 위주의 큰 파일에 적합하며, 적재된 동안 파일을 외부에서 변경해서는 안된다.<br>
+     * 파일을 byte 단위로 해석하므로 ASCII 호환 문자셋과 1 byte 구분/인용/escape 문자만 지원한다. 인용/escape 문자는 opencsv와 같은 규칙으로 해석하지만, 컬럼 데이터
+     * 중간에 있는 인용 문자(<code>a,b"c"d</code>)는 opencsv와 달리 데이터에 포함하지 않으며, 줄바꿈 없는 '\r'은 줄의 끝으로 판단하지 않는다.
+     */
+    MAPPED("mapped"), //
+    ;
+
+    private String type;
+
+    private CsvStorageType(String type) {
+        this.type = type;
+    }
+
+    /**
+     *
+     * @return a string of an instance of {@link CsvStorageType}
+     *
+     * @since 2026. 10. 17.
+     */
+    @JsonValue
+    public String get() {
+        return this.type;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     *
+     * @see java.lang.Enum#toString()
+     */
+    @Override
+    public String toString() {
+        return new StringBuffer() //
+                .append(name()) //
+                .append(':')//
+                .append(get()) //
+                .toString();
+    }
+
+    /**
+     * 
+     * @param type
+     *            a string for {@link CsvStorageType} instance.
+     *
+     * @return an instance of {@link CsvStorageType}
+     *
+     * @since 2026. 10. 17.
+     *
+     * @see #get(String, boolean)
+     */
+    public static CsvStorageType get(String type) {
+        return get(type, false);
+    }
+
+    /**
+     *
+     * @param type
+     *            a string for an instance of {@link CsvStorageType}.
+     * @param ignoreCase
+     *            ignore <code><b>case-sensitive</b></code> or not.
+     *
+     * @return an instance of {@link CsvStorageType}
+     *
+     * @since 2026. 10. 17.
+     */
+    @RequestValueConverter(hasIgnoreCase = true)
+    public static CsvStorageType get(String type, boolean ignoreCase) {
+        AssertUtils2.notBlank(type, "'type' MUST NOT be null. input: %s", type);
+
+        if (ignoreCase) {
+            for (CsvStorageType value : values()) {
+                if (value.type.equalsIgnoreCase(type)) {
+                    return value;
+                }
+            }
+        } else {
+            for (CsvStorageType value : values()) {
+                if (value.type.equals(type)) {
+                    return value;
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("Unexpected 'type' value of 'CsvStorageType'. expected: " + values0()
+                + " & Ignore case-sensitive: " + ignoreCase + ", input: " + type);
+    }
+
+    private static List<String> values0() {
+
+        List<String> valuesStr = new ArrayList<>();
+
+        for (CsvStorageType value : values()) {
+            valuesStr.add(value.get());
+        }
+
+        return valuesStr;
+    }
+
+}
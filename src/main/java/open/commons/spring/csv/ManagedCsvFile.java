@@ -54,6 +54,8 @@ public class ManagedCsvFile {
     private Pageable pageable;
     /** 원본 데이터 전체 크기 */
     private int totalSize;
+    /** 적재를 완료한 데이터에서 제공한 결과인지 여부. 적재 중인 데이터에서 제공한 경우 전체 크기는 적재한 데이터 크기이다. */
+    private boolean complete = true;
 
     /**
      * <br>
@@ -190,6 +192,49 @@ public class ManagedCsvFile {
         return totalSize;
     }
 
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the complete
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #complete
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param complete
+     *            the complete to set
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #complete
+     */
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
     /**
      * 페이지 정보를 설정한다.<br>
      * 
@@ -276,6 +321,8 @@ public class ManagedCsvFile {
         builder.append(pageable);
         builder.append(", totalSize=");
         builder.append(totalSize);
+        builder.append(", complete=");
+        builder.append(complete);
         builder.append("]");
         return builder.toString();
     }
@@ -29,24 +29,39 @@ package open.commons.spring.csv;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Vector;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.IntBinaryOperator;
+import java.util.regex.Pattern;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
@@ -55,11 +70,23 @@ import org.springframework.data.domain.Pageable;
 import open.commons.core.Result;
 import open.commons.core.concurrent.Mutex;
 import open.commons.core.csv.CsvFileConfig;
-import open.commons.core.utils.ArrayUtils;
 import open.commons.core.utils.AssertUtils2;
 import open.commons.core.utils.ComparableUtils;
 import open.commons.core.utils.ExceptionUtils;
 import open.commons.spring.csv.service.PositionDir;
+import open.commons.spring.csv.storage.CsvChunkIndex;
+import open.commons.spring.csv.storage.CsvColumnStore;
+import open.commons.spring.csv.storage.CsvDictionary;
+import open.commons.spring.csv.storage.CsvJournalFile;
+import open.commons.spring.csv.storage.CsvMappedStore;
+import open.commons.spring.csv.storage.CsvOffHeapStore;
+import open.commons.spring.csv.storage.CsvRecordScanner;
+import open.commons.spring.csv.storage.CsvRowStore;
+import open.commons.spring.csv.storage.CsvSnapshotFile;
+import open.commons.spring.csv.storage.CsvStringInterner;
+import open.commons.spring.csv.storage.CsvUtf8Column;
+import open.commons.spring.csv.storage.ICsvStore;
+import open.commons.spring.csv.utils.CommonsUtils;
 import open.commons.spring.web.servlet.exception.BadRequestException;
 import open.commons.spring.web.servlet.exception.InternalServerException;
 
@@ -72,6 +99,14 @@ import open.commons.spring.web.servlet.exception.InternalServerException;
 public class MemorizedCsvFile {
 
     private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.S");
+    /** 파일이 교체되었는지 확인하기 위해 유지하는 이어 읽을 위치 직전 데이터 크기 */
+    private static final int TAIL_SIGNATURE_SIZE = 64;
+    /** 마지막 줄의 끝 위치를 찾을 때 한번에 읽는 데이터 크기 */
+    private static final int TAIL_SCAN_SIZE = 8192;
+    /** 원본 파일에 저장할 때 줄 데이터가 시작하는 위치를 기록하는 줄 간격 */
+    private static final int ROW_OFFSET_INTERVAL = 4096;
+    /** 잠금을 유지하지 않고 변경 내역을 원본 파일에 저장하는 최대 시도 횟수. 모두 실패한 경우 읽기 잠금을 유지한 채 저장한다. */
+    private static final int COMPACT_ATTEMPTS = 3;
 
     private Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -83,6 +118,8 @@ public class MemorizedCsvFile {
 
     /** CSV 데이터 헤더 정보 */
     private final CsvHeader[] headers;
+    /** 컬럼 위치별 데이터 변환 객체 */
+    private final CsvColumnCodec[] codecs;
     /** 헤더 여부 */
     private final Boolean hasHeader;
 
@@ -92,10 +129,49 @@ public class MemorizedCsvFile {
      */
     private final String filepath;
 
+    /** CSV 파일 적재 설정 */
+    private final CsvLoadOptions loadOptions;
+
     /** CSV 파일 데이터 */
-    private final Vector<Object[]> lines = new Vector<>();
-    /** CSV 데이터에 대한 Mutex 객체 */
-    private final Mutex mutexLines = new Mutex("Mutex for 'lines'");
+    private final ICsvStore lines;
+    /** 적재 중 사용하는 컬럼별 문자열 표. 적재가 완료되면 해제한다. */
+    private CsvStringInterner @Nullable [] interners;
+    /** CSV 데이터에 대한 읽기/쓰기 잠금. 조회는 동시에 수행하고, 변경은 단독으로 수행한다. */
+    private final ReentrantReadWriteLock lockLines = new ReentrantReadWriteLock();
+    /** 최근에 생성한 CSV 데이터 스냅샷. 데이터가 변경되면 초기화하며, 이전 스냅샷은 사용하는 곳이 없어지면 회수된다. */
+    private volatile @Nullable ICsvStore snapshot;
+    private Mutex mutexSnapshot = new Mutex("Mutex for 'Snapshot'");
+    /** 읽기 전용 여부. 적재가 완료된 후 설정하며, 이후 데이터가 변경되지 않으므로 조회는 잠금을 사용하지 않는다. */
+    private volatile boolean frozen;
+    /** 적재 중 공개 여부. 적재를 완료하기 전에 조회/검색할 수 있도록 공개한 경우 설정하며, 적재가 완료되면 해제한다. */
+    private volatile boolean loading;
+    /** 읽기 전용 데이터의 정렬 조건별 줄 위치 순서. 검색 결과를 정렬할 때 사용한다. */
+    private final Map<ColumnSort, int[]> sortedOrders = new ConcurrentHashMap<>();
+    /** 이어 읽을 CSV 파일 위치. 마지막 줄까지 줄바꿈으로 끝난 경우에만 설정하며, -1인 경우 이어 읽을 수 없다. */
+    private long tailOffset = -1;
+    /** CSV 파일에서 읽은 줄 개수 */
+    private int tailLineCount;
+    /** 이어 읽을 위치 직전 데이터. 파일이 교체되었는지 확인할 때 사용한다. */
+    private byte @Nullable [] tailSignature;
+    /**
+     * 원본 파일에서 줄 데이터가 시작하는 위치. (key: 줄 위치, value: 파일 위치)<br>
+     * 파일의 [0, value) 범위는 [0, key) 범위의 줄 데이터를 저장한 내용과 같으며, 원본 파일에 저장할 때 달라지지 않은 앞부분을 유지하는 데 사용한다.<br>
+     * 스냅샷을 저장하는 동안에는 {@link #lockLines}와 상관없이 변경되므로, 이어 읽을 위치 정보(tailOffset, tailLineCount, tailSignature)와 함께 항상 이 객체로 동기화하여 접근한다.
+     */
+    private final NavigableMap<Integer, Long> rowOffsets = new TreeMap<>();
+    /**
+     * 원본 파일과 달라진 첫번째 줄 위치. 달라진 줄이 없는 경우 {@link Integer#MAX_VALUE}<br>
+     * 쓰기 잠금 상태에서 변경하며, 원본 파일에 저장하는 경우 {@link #mutexFile}과 읽기 잠금 상태에서 초기화한다.
+     */
+    private int dirtyRow = Integer.MAX_VALUE;
+    /** 데이터 변경 횟수. 쓰기 잠금 상태에서 증가하며, 잠금 없이 저장하는 동안 데이터가 변경되었는지 확인할 때 사용한다. */
+    private long modCount;
+    /** CSV 파일 조각 색인. 다시 읽을 때 내용이 같은 조각의 줄 데이터를 재사용하며, 적재한 후 데이터가 변경되거나 정렬되면 해제한다. */
+    private volatile @Nullable CsvChunkIndex chunks;
+    /** 변경 내역 파일. 데이터를 변경하기 전에 변경 내역을 기록한다. (<code>null</code>: 기록하지 않음) */
+    private volatile @Nullable CsvJournalFile journal;
+    /** 원본 파일 저장 잠금. 원본 파일에 저장하는 작업을 차례로 수행하며, {@link #lockLines}보다 먼저 설정해야 한다. */
+    private Mutex mutexFile = new Mutex("Mutex for 'File'");
 
     /** 생성 시간. (millisecond) */
     private final long created;
@@ -130,8 +206,38 @@ public class MemorizedCsvFile {
      */
     public MemorizedCsvFile(String uuid, CsvFileConfig csvFileConfig, CsvHeader[] headers, boolean hasHeader,
             String filepath) {
-        
-        AssertUtils2.notNulls(csvFileConfig, headers, filepath);
+        this(uuid, csvFileConfig, headers, hasHeader, filepath, new CsvLoadOptions());
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @param uuid
+     *            CSV 파일 데이터 식별정보
+     * @param csvFileConfig
+     *            CSV 파일 설정
+     * @param headers
+     *            CSV 파일 헤더 정보
+     * @param hasHeader
+     *            헤더 여부
+     * @param filepath
+     *            CSV 파일 경로
+     * @param loadOptions
+     *            CSV 파일 적재 설정
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public MemorizedCsvFile(String uuid, CsvFileConfig csvFileConfig, CsvHeader[] headers, boolean hasHeader,
+            String filepath, CsvLoadOptions loadOptions) {
+
+        AssertUtils2.notNulls(csvFileConfig, headers, filepath, loadOptions);
 
         if (!Files.isReadable(Paths.get(filepath))) {
             throw ExceptionUtils.newException(BadRequestException.class, new FileNotFoundException(filepath),
@@ -142,8 +248,93 @@ public class MemorizedCsvFile {
         this.uuid = uuid;
         this.csvFileConfig = csvFileConfig;
         this.headers = headers;
+        this.codecs = CsvColumnCodec.compile(headers);
         this.hasHeader = hasHeader;
         this.filepath = filepath;
+        this.loadOptions = loadOptions;
+        this.lines = createStore(headers, loadOptions);
+        this.interners = createInterners(headers, loadOptions);
+    }
+
+    /**
+     * 조회에 사용할 CSV 데이터를 제공한다.<br>
+     * 저장소가 스냅샷을 지원하는 경우 읽기 잠금을 해제하고 스냅샷을 제공하므로 조회하는 동안 데이터를 변경할 수 있으며, 지원하지 않는 경우 읽기 잠금을 유지한 채 적재 데이터를 제공한다.<br>
+     * 읽기 전용 데이터인 경우 잠금 없이 적재 데이터를 제공한다.<br>
+     * 조회가 끝나면 반드시 같은 읽기 전용 여부로 {@link #releaseLines(ICsvStore, boolean)}를 호출해야 한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         잠금을 설정할 때 확인한 읽기 전용 여부 사용
+     * </pre>
+     *
+     * @param frozen
+     *            읽기 잠금을 설정하기 전에 확인한 읽기 전용 여부
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see 이 함수를 호출하는 곳에서 반드시 {@link #lockLines}에 대해 읽기 잠금을 설정해야 한다. (읽기 전용 데이터 제외)
+     */
+    private ICsvStore acquireLines(boolean frozen) {
+        if (frozen) {
+            return this.lines;
+        }
+
+        ICsvStore snapshot = this.snapshot;
+        if (snapshot == null) {
+            // 읽기 잠금 상태에서 생성하므로 데이터 변경과 동시에 수행되지 않는다.
+            synchronized (mutexSnapshot) {
+                snapshot = this.snapshot;
+                if (snapshot == null) {
+                    snapshot = this.snapshot = this.lines.snapshot();
+                }
+            }
+        }
+
+        if (snapshot == null) {
+            return this.lines;
+        }
+
+        this.lockLines.readLock().unlock();
+        return snapshot;
+    }
+
+    /**
+     * 적재 중인 줄 데이터를 추가한다.<br>
+     * 적재 중 공개한 경우 조회/검색과 동시에 수행되지 않도록 쓰기 잠금으로 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            줄 데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #shareLoading()
+     */
+    private void addLine(Object[] data) {
+        if (!this.loading) {
+            this.lines.add(data);
+            return;
+        }
+
+        this.lockLines.writeLock().lock();
+        try {
+            this.lines.add(data);
+            this.snapshot = null;
+        } finally {
+            this.lockLines.writeLock().unlock();
+        }
     }
 
     /**
@@ -207,6 +398,124 @@ public class MemorizedCsvFile {
         }
     }
 
+    /**
+     * 변경 내역을 기록한다.<br>
+     * 변경 내역 파일이 없는 경우 기록하지 않으며, 기록하지 못한 경우 데이터를 변경하지 않도록 예외를 발생시킨다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param operation
+     *            연산
+     * @param lineNumber
+     *            줄 번호
+     * @param argument
+     *            연산 인자
+     * @param data
+     *            줄 데이터
+     * @throws InternalServerException
+     *            변경 내역을 기록하지 못한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see CsvJournalFile#append(byte, int, int, Object[])
+     */
+    private void appendJournal(byte operation, int lineNumber, int argument, Object @Nullable [] data)
+            throws InternalServerException {
+        final CsvJournalFile journal = this.journal;
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.append(operation, lineNumber, argument, data);
+        } catch (IOException | RuntimeException e) {
+            String errMsg = String.format("[변경 실패] 변경 내역을 기록하지 못하였습니다. 파일=%s, 원인=%s", this.filepath, e.getMessage());
+            logger.error(errMsg, e);
+            throw ExceptionUtils.newException(InternalServerException.class, e, errMsg);
+        }
+    }
+
+    /**
+     * CSV 파일에 덧붙인 줄 데이터를 추가하고, 이어 읽을 위치를 갱신한다.<br>
+     * 줄 데이터는 변경된 데이터와 상관없이 마지막 줄 뒤에 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param from
+     *            줄 데이터를 읽기 시작한 CSV 파일 위치
+     * @param to
+     *            줄 데이터를 읽은 CSV 파일 끝 위치
+     * @param readlines
+     *            줄 데이터 목록
+     * @return 다른 요청이 먼저 이어 읽은 경우 실패
+     * @throws BadRequestException
+     *            헤더 타입과 실제 데이터가 일치하지 않는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #findTail()
+     */
+    public Result<Boolean> appendTail(long from, long to, @NotNull List<String[]> readlines) throws BadRequestException {
+        assertWritable();
+
+        // 잠금을 설정하기 전에 데이터를 변환한다.
+        final int lineCount;
+        synchronized (this.rowOffsets) {
+            lineCount = this.tailLineCount;
+        }
+        final Object[][] data = new Object[readlines.size()][];
+        String[] readline = null;
+        for (int i = 0; i < data.length; i++) {
+            readline = readlines.get(i);
+            assertDataLength(readline, BadRequestException.class);
+            data[i] = deserialize(lineCount + i + 1, readline);
+        }
+        final byte[] signature = readTailSignature(to);
+
+        this.lockLines.writeLock().lock();
+        try {
+            synchronized (this.rowOffsets) {
+                if (this.tailOffset != from) {
+                    return Result.error("이미 이어 읽은 데이터입니다. 파일=%s, 요청 위치=%,d, 현재 위치=%,d", this.filepath, from,
+                            this.tailOffset);
+                }
+
+                // 원본 파일과 같은 데이터에 덧붙인 경우 덧붙인 데이터의 끝 위치를 기록한다.
+                final boolean unchanged = this.dirtyRow == Integer.MAX_VALUE
+                        && Long.valueOf(from).equals(this.rowOffsets.get(this.lines.size()));
+                for (Object[] line : data) {
+                    this.lines.add(line);
+                }
+                if (unchanged) {
+                    this.rowOffsets.put(this.lines.size(), to);
+                }
+                this.tailOffset = signature != null ? to : -1;
+                this.tailLineCount += data.length;
+                this.tailSignature = signature;
+            }
+            this.snapshot = null;
+            this.modCount++;
+            this.chunks = null;
+            updateTimestamp(true);
+
+            return Result.success(true);
+        } finally {
+            this.lockLines.writeLock().unlock();
+        }
+    }
+
     /**
      * 헤더와 데이터 길이의 일치 여부를 검증한다. <br>
      * 
@@ -267,256 +576,529 @@ public class MemorizedCsvFile {
     }
 
     /**
-     * 줄 데이터를 삭제한다. <br>
+     * 데이터를 변경할 수 있는지 검증한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
      * </pre>
      *
-     * @param lineNumber
-     *            지우려는 줄 번호
-     * @return
+     * @throws BadRequestException
+     *             읽기 전용 데이터인 경우
      *
-     * @since 2021. 8. 16.
-     * @version 0.1.0
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      */
-    public Result<Boolean> delete(@Min(1) Integer lineNumber) {
-        synchronized (mutexLines) {
-            assertLineNumber(lineNumber - 1, BadRequestException.class,
-                    String.format("범위를 벗어난 줄번호 입니다. 범위: 1 ~ %,d, 입력=%,d", this.lines.size(), lineNumber));
-
-            this.lines.remove(lineNumber - 1);
-            updateTimestamp(true);
-
-            return Result.success(true);
+    private void assertWritable() throws BadRequestException {
+        if (this.frozen) {
+            String errMsg = String.format("읽기 전용으로 적재된 데이터는 변경할 수 없습니다. 파일=%s", this.filepath);
+            logger.warn(errMsg);
+            throw ExceptionUtils.newException(BadRequestException.class, errMsg);
         }
     }
 
     /**
-     * 
-     * <br>
+     * 변경 내역을 원본 파일에 저장한 후 변경 내역 파일을 비운다.<br>
+     * 변경 내역이 없는 경우 원본 파일은 다시 쓰지 않고, 변경 내역 파일의 원본 파일 식별 키만 갱신한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
      * </pre>
+     *
+     * @return 원본 파일에 저장한 경우 <code>true</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      * 
-     * @param lineNumber
-     *            줄 번호
-     * @param readline
+     * @see #replayJournal(CsvJournalFile)
+     */
+    public Result<Boolean> compactJournal() {
+        return compactJournal(false);
+    }
+
+    /**
+     * 변경 내역을 원본 파일에 저장한 후 변경 내역 파일을 비운다.<br>
+     * 파일에 저장하는 동안에는 잠금을 유지하지 않고, 저장한 데이터가 변경되지 않은 경우에만 원본 파일을 교체하고 변경 내역 파일을 비우므로 저장한 내용과 변경 내역 파일이 어긋나지 않는다.
+     * 저장하는 동안 데이터가 계속 변경되어 {@link #COMPACT_ATTEMPTS}번 모두 교체하지 못한 경우, 읽기 잠금을 유지한 채 저장한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         파일에 저장하는 동안 잠금을 유지하지 않음
+     * </pre>
      *
-     * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @param rewrite
+     *            변경 내역이 없더라도 원본 파일에 저장할지 여부
+     * @return 원본 파일에 저장한 경우 <code>true</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      */
-    private Object[] deserialize(int lineNumber, String[] readline) {
-        final Object[] data = new Object[readline.length];
+    private Result<Boolean> compactJournal(boolean rewrite) {
+        synchronized (this.mutexFile) {
+            final CsvJournalFile journal = this.journal;
+            if (journal == null) {
+                return Result.success(false);
+            }
 
-        ArrayUtils.entrySet(readline).stream() //
-                .forEach(entry -> {
-                    Integer index = entry.getKey();
-                    String value = entry.getValue();
-                    // 값이 있어야 하고, 빈 문자열이 아닌 경우.
-                    if (value != null) {
-                        CsvHeader header = headers[index];
-                        try {
-                            switch (header.getDataType()) {
-                                case INT:
-                                    data[index] = value.isEmpty() ? null : Long.parseLong(value);
-                                    break;
-                                case STR:
-                                    data[index] = value;
-                                    break;
-                                case NUM:
-                                    data[index] = value.isEmpty() ? null : Double.parseDouble(value);
-                                    break;
-                                case GENERAL:
-                                    data[index] = value;
-                                    break;
-                                default:
-                                    break;
-                            }
-                        } catch (NumberFormatException e) {
-                            String errMsg = String.format(
-                                    "[적재 실패] '%s' 파일 로드 중 에러가 발생하였습니다. 헤더 설정을 확인하기 바랍니다. line.number=%,d, line.value=%s, file.header=%s, column.index=%,d, column.value=%s",
-                                    this.filepath, lineNumber, Arrays.toString(readline), header, index, value);
-                            logger.error(errMsg, e);
-                            throw ExceptionUtils.newException(BadRequestException.class, e, errMsg);
-                        } catch (Exception e) {
-                            String errMsg = String.format(
-                                    "[적재 실패] '%s' 파일 로드 중 에러가 발생하였습니다. 헤더 설정을 확인하기 바랍니다. line.number=%,d, line.value=%s, file.header=%s, column.index=%,d, column.value=%s",
-                                    this.filepath, lineNumber, Arrays.toString(readline), header, index, value);
-                            logger.error(errMsg, e);
-                            throw ExceptionUtils.newException(InternalServerException.class, e, errMsg);
+            try {
+                // 변경 내역이 없는 경우 원본 파일은 다시 쓰지 않고 식별 키만 갱신한다.
+                if (!rewrite) {
+                    this.lockLines.readLock().lock();
+                    try {
+                        if (journal.getCount() < 1) {
+                            journal.reset(createFileKey(this.csvFileConfig, this.headers, this.hasHeader, this.filepath,
+                                    Files.size(Paths.get(this.filepath))));
+                            return Result.success(false);
                         }
-                    } else {
-                        data[index] = null;
+                    } finally {
+                        this.lockLines.readLock().unlock();
                     }
-                });
-
-        return data;
-    }
-
-    private List<IndexedObject> filter(@NotNull final Collection<ColumnCondition> conditions) {
-        List<IndexedObject> result = new ArrayList<>();
-
-        int idx = 0;
-        int clmnIndex = -1;
-        for (Object[] line : this.lines) {
-            CsvHeader header = null;
-            Object colValue = null;
-            boolean matched = true;
-            // #0. 줄 데이터를 검색조건과 비교
-            for (ColumnCondition c : conditions) {
-                clmnIndex = c.getIndex();
-                header = headers[clmnIndex];
-                colValue = line[clmnIndex];
-                switch (header.getDataType()) {
-                    case INT:
-                        matched = filter((Long) colValue, c.getOp(), c.getData());
-                        break;
-                    case NUM:
-                        matched = filter((Double) colValue, c.getOp(), c.getData());
-                        break;
-                    case STR:
-                        matched = filter((String) colValue, c.getOp(), c.getData());
-                        break;
-                    case GENERAL:
-                        matched = true;
-                        break;
-                    default:
-                        break;
                 }
 
-                if (!matched) {
-                    break;
+                for (int attempt = 0; attempt < COMPACT_ATTEMPTS; attempt++) {
+                    if (rewriteFile(journal, false)) {
+                        return Result.success(true);
+                    }
+                    logger.debug("[변경 내역 저장] 저장하는 동안 데이터가 변경되어 다시 저장합니다. 파일={}, 시도={}", this.filepath, attempt + 1);
                 }
-            }
+                rewriteFile(journal, true);
 
-            if (matched) {
-                result.add(new IndexedObject(idx, line));
+                return Result.success(true);
+            } catch (IOException e) {
+                String errMsg = String.format("[변경 내역 저장 실패] 변경 내역 파일을 정리하지 못하였습니다. 파일=%s, 원인=%s", this.filepath,
+                        e.getMessage());
+                logger.error(errMsg, e);
+                return Result.error(errMsg);
             }
-
-            idx++;
         }
-
-        return result;
     }
 
+
     /**
-     * {@link ColumnDataType#INT} 타입의 데이터를 비교한다. <br>
+     * CSV 파일에서 읽은 줄 데이터를 헤더 정의에 맞게 변환한다.<br>
+     * 적재 데이터를 변경하지 않으므로 여러 스레드에서 동시에 사용할 수 있으며, 변환한 줄 데이터는 {@link #loadSnapshotData(Integer, Object[])}로 추가한다. 변환할 수
+     * 없는 줄 데이터는 {@link #loadLineData(Integer, String[])}로 추가하여 원인을 확인한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         컬럼별 변환 객체 사용
      * </pre>
-     * 
-     * @param colData
-     *            컬럼 데이터
-     * @param op
-     *            검색 조건 연산자
-     * @param condValue
-     *            검색 조건 데이터
-     * 
-     * @return
      *
-     * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @param readline
+     *            CSV 파일에서 읽은 줄 데이터
+     * @return 헤더와 데이터 길이가 일치하지 않거나 헤더 정의에 맞지 않는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      */
-    private boolean filter(Double colData, ColumnOp op, Object condValue) {
-        if (colData == null) {
-            return false;
+    public Object @Nullable [] convertLineData(String[] readline) {
+        if (readline.length != this.headers.length) {
+            return null;
         }
 
-        switch (op) {
-            case EQ:
-                return colData == Double.parseDouble(condValue.toString());
-            case NE:
-                return colData != Double.parseDouble(condValue.toString());
-            case GE:
-                return colData >= Double.parseDouble(condValue.toString());
-            case GT:
-                return colData > Double.parseDouble(condValue.toString());
-            case LE:
-                return colData <= Double.parseDouble(condValue.toString());
-            case LT:
-                return colData < Double.parseDouble(condValue.toString());
-            case CO:
-            case ST:
-            case ED:
-            case RX:
-                return false;
-            default:
-                // unreachable
-                return false;
+        final Object[] data = new Object[readline.length];
+        try {
+            for (int i = 0; i < readline.length; i++) {
+                data[i] = readline[i] != null ? this.codecs[i].decode(readline[i]) : null;
+            }
+            return data;
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 
+
     /**
-     * {@link ColumnDataType#INT} 타입의 데이터를 비교한다. <br>
+     * {@link CSVUtf8Reader}로 읽은 현재 줄의 컬럼 데이터를 {@link String} 배열을 생성하지 않고 헤더 정의에 맞게 변환한다.<br>
+     * 적재 데이터를 변경하지 않으므로 여러 스레드에서 동시에 사용할 수 있다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         컬럼별 변환 객체 사용
      * </pre>
-     * 
-     * @param colData
-     *            컬럼 데이터
-     * @param op
-     *            검색 조건 연산자
-     * @param condValue
-     *            검색 조건 데이터
-     * 
-     * @return
      *
-     * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @param reader
+     *            줄 데이터를 읽은 객체
+     * @return 헤더와 데이터 길이가 일치하지 않거나 헤더 정의에 맞지 않는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #convertLineData(String[])
      */
-    private boolean filter(Long colData, ColumnOp op, Object condValue) {
-        if (colData == null) {
-            return false;
+    public Object @Nullable [] convertLineData(CSVUtf8Reader reader) {
+        if (reader.getColumnCount() != this.headers.length) {
+            return null;
         }
 
-        switch (op) {
-            case EQ:
-                return colData == Long.parseLong(condValue.toString());
-            case NE:
-                return colData != Long.parseLong(condValue.toString());
-            case GE:
-                return colData >= Long.parseLong(condValue.toString());
-            case GT:
-                return colData > Long.parseLong(condValue.toString());
-            case LE:
-                return colData <= Long.parseLong(condValue.toString());
-            case LT:
-                return colData < Long.parseLong(condValue.toString());
-            case CO:
-            case ST:
-            case ED:
-            case RX:
-                return false;
-            default:
-                // unreachable
-                return false;
+        final Object[] data = new Object[this.headers.length];
+        try {
+            final byte[] bytes = reader.getBytes();
+            for (int i = 0; i < data.length; i++) {
+                data[i] = this.codecs[i].decode(bytes, reader.getOffset(i), reader.getLength(i));
+            }
+            return data;
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 
     /**
-     * {@link ColumnDataType#INT} 타입의 데이터를 비교한다. <br>
+     * 원본 파일 식별 키를 제공한다.<br>
+     * 식별 키는 원본 파일 정보(경로, 크기, 수정시간)와 헤더 설정으로 구성하며, 스냅샷 파일과 변경 내역 파일이 원본 파일과 일치하는지 확인할 때 사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param config
+     *            CSV 파일 설정
+     * @param headers
+     *            CSV 파일 헤더 정보
+     * @param hasHeader
+     *            헤더 여부
+     * @param filepath
+     *            CSV 파일 경로
+     * @param size
+     *            읽을 CSV 파일 크기
+     * @return
+     * @throws IOException
+     *            파일 정보를 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see CsvSnapshotFile
+     * @see CsvJournalFile
+     */
+    public static String createFileKey(CsvFileConfig config, CsvHeader[] headers, boolean hasHeader, String filepath,
+            long size) throws IOException {
+        Path path = Paths.get(filepath).toAbsolutePath().normalize();
+
+        StringBuilder key = new StringBuilder();
+        key.append("path=").append(path);
+        key.append(", size=").append(size);
+        key.append(", modified=").append(Files.getLastModifiedTime(path).toMillis());
+        key.append(", charset=").append(config.getCharset().name());
+        key.append(", separator=").append(config.getSeparator());
+        key.append(", quotechar=").append(config.getQuotechar());
+        key.append(", escape=").append(config.getEscape());
+        key.append(", skip=").append(config.getSkip());
+        key.append(", hasHeader=").append(hasHeader);
+        key.append(", headers=");
+        for (CsvHeader header : headers) {
+            key.append('[').append(header.getHeader()).append(':').append(header.getDataType()).append(']');
+        }
+        return key.toString();
+    }
+
+    /**
+     * 적재 설정에 맞는 컬럼별 문자열 표를 생성한다.<br>
+     * 문자열 객체를 유지하는 저장소의 문자열 컬럼에만 생성하며, 값 사전이나 UTF-8 bytes로 유지하는 컬럼은 제외한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param headers
+     *            CSV 파일 헤더 정보
+     * @param loadOptions
+     *            CSV 파일 적재 설정
+     * @return 문자열 표를 사용하지 않는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static CsvStringInterner @Nullable [] createInterners(CsvHeader[] headers, CsvLoadOptions loadOptions) {
+        final int threshold = loadOptions.getInternThreshold();
+        if (threshold < 1) {
+            return null;
+        }
+
+        final boolean dictionary;
+        switch (loadOptions.getStorageType()) {
+            case ROW:
+                dictionary = false;
+                break;
+            case COLUMNAR:
+                // UTF-8 bytes로 유지하는 컬럼은 문자열 객체를 유지하지 않는다.
+                if (loadOptions.isCompactStrings()) {
+                    return null;
+                }
+                dictionary = loadOptions.getDictionaryThreshold() > 0;
+                break;
+            default:
+                return null;
+        }
+
+        CsvStringInterner[] interners = new CsvStringInterner[headers.length];
+        boolean created = false;
+        ColumnDataType dataType = null;
+        for (int i = 0; i < headers.length; i++) {
+            dataType = headers[i].getDataType();
+            // 값 사전을 사용하는 컬럼은 이미 같은 값을 공유한다.
+            if (dataType == ColumnDataType.GENERAL || (dataType == ColumnDataType.STR && !dictionary)) {
+                interners[i] = new CsvStringInterner(threshold);
+                created = true;
+            }
+        }
+        return created ? interners : null;
+    }
+
+    /**
+     * 적재 설정에 맞는 데이터 저장소를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param headers
+     *            CSV 파일 헤더 정보
+     * @param loadOptions
+     *            CSV 파일 적재 설정
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private ICsvStore createStore(CsvHeader[] headers, CsvLoadOptions loadOptions) {
+        switch (loadOptions.getStorageType()) {
+            case COLUMNAR:
+                return new CsvColumnStore(headers, loadOptions.getDictionaryThreshold(), loadOptions.isCompactStrings());
+            case OFF_HEAP:
+                return new CsvOffHeapStore(headers);
+            case MAPPED:
+                return new CsvMappedStore(headers.length, this::deserialize);
+            case ROW:
+            default:
+                return new CsvRowStore(headers.length);
+        }
+    }
+
+    /**
+     * 줄 데이터를 삭제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기/쓰기 잠금 적용
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기 전용 데이터 변경 거부
+     * 2026. 10. 17.     parkjunhong77@gmail.com         변경 내역 기록
+     * 2026. 10. 17.     parkjunhong77@gmail.com         원본 파일과 달라진 줄 위치 기록
+     * </pre>
+     *
+     * @param lineNumber
+     *            지우려는 줄 번호
+     * @return
+     *
+     * @since 2021. 8. 16.
+     * @version 4.0.0
+     */
+    public Result<Boolean> delete(@Min(1) Integer lineNumber) {
+        assertWritable();
+
+        this.lockLines.writeLock().lock();
+        try {
+            assertLineNumber(lineNumber - 1, BadRequestException.class,
+                    String.format("범위를 벗어난 줄번호 입니다. 범위: 1 ~ %,d, 입력=%,d", this.lines.size(), lineNumber));
+
+            appendJournal(CsvJournalFile.DELETE, lineNumber, 0, null);
+            this.lines.remove(lineNumber - 1);
+            this.dirtyRow = Math.min(this.dirtyRow, lineNumber - 1);
+            this.snapshot = null;
+            this.modCount++;
+            this.chunks = null;
+            updateTimestamp(true);
+
+            return Result.success(true);
+        } finally {
+            this.lockLines.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         컬럼 데이터 변환 분리
+     * 2026. 10. 17.     parkjunhong77@gmail.com         컬럼별 변환 객체 사용
+     * </pre>
+     * 
+     * @param lineNumber
+     *            줄 번호
+     * @param readline
+     *
+     * @since 2021. 8. 15.
+     * @version 4.0.0
+     */
+    private Object[] deserialize(int lineNumber, String[] readline) {
+        final Object[] data = new Object[readline.length];
+
+        String value = null;
+        for (int index = 0; index < readline.length; index++) {
+            value = readline[index];
+            // 값이 있어야 하고, 빈 문자열이 아닌 경우.
+            if (value == null) {
+                continue;
+            }
+            try {
+                data[index] = this.codecs[index].decode(value);
+            } catch (NumberFormatException e) {
+                String errMsg = String.format(
+                        "[적재 실패] '%s' 파일 로드 중 에러가 발생하였습니다. 헤더 설정을 확인하기 바랍니다. line.number=%,d, line.value=%s, file.header=%s, column.index=%,d, column.value=%s",
+                        this.filepath, lineNumber, Arrays.toString(readline), this.headers[index], index, value);
+                logger.error(errMsg, e);
+                throw ExceptionUtils.newException(BadRequestException.class, e, errMsg);
+            } catch (Exception e) {
+                String errMsg = String.format(
+                        "[적재 실패] '%s' 파일 로드 중 에러가 발생하였습니다. 헤더 설정을 확인하기 바랍니다. line.number=%,d, line.value=%s, file.header=%s, column.index=%,d, column.value=%s",
+                        this.filepath, lineNumber, Arrays.toString(readline), this.headers[index], index, value);
+                logger.error(errMsg, e);
+                throw ExceptionUtils.newException(InternalServerException.class, e, errMsg);
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * 검색 조건에 맞는 줄 위치 목록을 제공한다.<br>
+     * 검색 조건별로 컬럼 데이터를 순서대로 비교하여 후보 목록을 줄여나간다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param store
+     *            조회할 데이터. 적재 데이터({@link #lines})인 경우 읽기 잠금을 설정해야 한다.
+     * @param conditions
+     *            검색 조건
+     * @return 줄 위치 목록. (0부터 시작)
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private int[] filter(ICsvStore store, @NotNull final Collection<ColumnCondition> conditions) {
+        final int size = store.size();
+        int[] candidates = null;
+        int count = size;
+
+        for (ColumnCondition c : conditions) {
+            ColumnFilter clmnFilter = new ColumnFilter(this.headers[c.getIndex()], c);
+            // 항상 일치하는 조건
+            if (clmnFilter.dataType == ColumnDataType.GENERAL) {
+                continue;
+            }
+            // 값 사전을 사용하는 컬럼은 값 대신 code 로 비교
+            if (clmnFilter.dataType == ColumnDataType.STR) {
+                CsvDictionary dictionary = store.getDictionary(clmnFilter.index);
+                if (dictionary != null) {
+                    clmnFilter.encode(dictionary, filter(dictionary, clmnFilter));
+                } else {
+                    // UTF-8 bytes로 유지하는 컬럼은 문자열로 변환하지 않고 비교
+                    clmnFilter.encode(store.getUtf8Column(clmnFilter.index));
+                }
+            }
+
+            int[] matched = new int[Integer.min(count, 1024)];
+            int matchedCount = 0;
+            int idx = 0;
+            for (int i = 0; i < count; i++) {
+                idx = candidates != null ? candidates[i] : i;
+                if (filter(store, idx, clmnFilter)) {
+                    if (matchedCount == matched.length) {
+                        matched = Arrays.copyOf(matched, Integer.min(count, matched.length * 2));
+                    }
+                    matched[matchedCount++] = idx;
+                }
+            }
+
+            candidates = matched;
+            count = matchedCount;
+            if (count == 0) {
+                break;
+            }
+        }
+
+        if (candidates == null) {
+            candidates = new int[size];
+            for (int i = 0; i < size; i++) {
+                candidates[i] = i;
+            }
+        }
+
+        return count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * 값 사전에 등록된 값별로 검색 조건 일치 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param dictionary
+     *            값 사전
+     * @param clmnFilter
+     *            컬럼 검색 조건
+     * @return <code>matched[code]</code>: 일치 여부
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private boolean[] filter(CsvDictionary dictionary, ColumnFilter clmnFilter) {
+        boolean[] matched = new boolean[dictionary.size()];
+        for (int code = 0; code < matched.length; code++) {
+            matched[code] = filter(dictionary.value(code), clmnFilter);
+        }
+        return matched;
+    }
+
+    /**
+     * {@link ColumnDataType#NUM} 타입의 데이터를 비교한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         조건 데이터를 미리 변환하여 비교
      * </pre>
      * 
      * @param colData
@@ -529,120 +1111,566 @@ public class MemorizedCsvFile {
      * @return
      *
      * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @version 4.0.0
      */
-    private boolean filter(String colData, ColumnOp op, Object condValue) {
-        if (colData == null) {
-            return false;
-        }
-
+    private boolean filter(double colData, ColumnOp op, double condValue) {
         switch (op) {
             case EQ:
-                return colData.equals(condValue.toString());
+                return colData == condValue;
             case NE:
-                return !colData.equals(condValue.toString());
+                return colData != condValue;
             case GE:
-                return colData.compareTo(condValue.toString()) >= 0;
+                return colData >= condValue;
             case GT:
-                return colData.compareTo(condValue.toString()) > 0;
+                return colData > condValue;
             case LE:
-                return colData.compareTo(condValue.toString()) <= 0;
+                return colData <= condValue;
             case LT:
-                return colData.compareTo(condValue.toString()) < 0;
+                return colData < condValue;
             case CO:
-                return colData.contains(condValue.toString());
             case ST:
-                return colData.startsWith(condValue.toString());
             case ED:
-                return colData.endsWith(condValue.toString());
             case RX:
-                return colData.matches(condValue.toString());
+                return false;
+            default:
+                // unreachable
+                return false;
         }
-
-        return true;
     }
 
     /**
-     * 
-     * <br>
+     * 줄 데이터가 검색 조건에 맞는지 여부를 제공한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
      * </pre>
      *
-     * @param sort
-     *            데이터 정렬 설정
-     * @param conditions
-     *            데이터 선택 조건
+     * @param store
+     *            조회할 데이터
+     * @param index
+     *            줄 위치
+     * @param clmnFilter
+     *            컬럼 검색 조건
      * @return
      *
-     * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      */
-    private List<IndexedObject> get0(ColumnSort sort, @NotNull Collection<ColumnCondition> conditions) {
-        sort(sort);
-        if (conditions == null) {
-            conditions = new ArrayList<>();
+    private boolean filter(ICsvStore store, int index, ColumnFilter clmnFilter) {
+        final int column = clmnFilter.index;
+        switch (clmnFilter.dataType) {
+            case INT:
+                return !store.isNull(index, column)
+                        && filter(store.getLong(index, column), clmnFilter.op, clmnFilter.longValue);
+            case NUM:
+                return !store.isNull(index, column)
+                        && filter(store.getDouble(index, column), clmnFilter.op, clmnFilter.doubleValue);
+            case STR:
+                if (clmnFilter.codeMatched != null) {
+                    int code = store.getCode(index, column);
+                    switch (clmnFilter.op) {
+                        case EQ:
+                            return code != CsvDictionary.NULL_CODE && code == clmnFilter.code;
+                        case NE:
+                            return code != CsvDictionary.NULL_CODE && code != clmnFilter.code;
+                        default:
+                            return code != CsvDictionary.NULL_CODE && clmnFilter.codeMatched[code];
+                    }
+                }
+                if (clmnFilter.utf8Column != null) {
+                    return !clmnFilter.utf8Column.isNull(index) && filter(clmnFilter.utf8Column, index, clmnFilter);
+                }
+                String colData = store.getString(index, column);
+                return colData != null && filter(colData, clmnFilter);
+            case GENERAL:
+                return true;
+            default:
+                return true;
         }
-        return filter(conditions);
     }
 
     /**
-     *
-     * <br>
+     * UTF-8 bytes로 유지하는 {@link ColumnDataType#STR} 타입의 데이터를 비교한다.<br>
+     * {@link #filter(String, ColumnFilter)}와 같은 결과를 제공한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
      * </pre>
-     * 
-     * @return the accessed
      *
-     * @since 2021. 8. 15.
-     * @version 0.1.0
-     * 
-     * @see #accessed
+     * @param column
+     *            컬럼 데이터
+     * @param index
+     *            줄 위치
+     * @param clmnFilter
+     *            컬럼 검색 조건
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      */
-    public long getAccessed() {
-        return accessed;
+    private boolean filter(CsvUtf8Column column, int index, ColumnFilter clmnFilter) {
+        final byte[] condValue = clmnFilter.utf8Value;
+        switch (clmnFilter.op) {
+            case EQ:
+                return column.contentEquals(index, condValue);
+            case NE:
+                return !column.contentEquals(index, condValue);
+            case GE:
+                return column.compare(index, condValue) >= 0;
+            case GT:
+                return column.compare(index, condValue) > 0;
+            case LE:
+                return column.compare(index, condValue) <= 0;
+            case LT:
+                return column.compare(index, condValue) < 0;
+            case CO:
+                return column.contains(index, condValue);
+            case ST:
+                return column.startsWith(index, condValue);
+            case ED:
+                return column.endsWith(index, condValue);
+            default:
+                return true;
+        }
     }
 
     /**
-     *
-     * <br>
+     * {@link ColumnDataType#INT} 타입의 데이터를 비교한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         조건 데이터를 미리 변환하여 비교
      * </pre>
      * 
-     * @return the created
+     * @param colData
+     *            컬럼 데이터
+     * @param op
+     *            검색 조건 연산자
+     * @param condValue
+     *            검색 조건 데이터
+     * 
+     * @return
      *
      * @since 2021. 8. 15.
-     * @version 0.1.0
-     * 
-     * @see #created
+     * @version 4.0.0
      */
-    public long getCreated() {
-        return created;
+    private boolean filter(long colData, ColumnOp op, long condValue) {
+        switch (op) {
+            case EQ:
+                return colData == condValue;
+            case NE:
+                return colData != condValue;
+            case GE:
+                return colData >= condValue;
+            case GT:
+                return colData > condValue;
+            case LE:
+                return colData <= condValue;
+            case LT:
+                return colData < condValue;
+            case CO:
+            case ST:
+            case ED:
+            case RX:
+                return false;
+            default:
+                // unreachable
+                return false;
+        }
     }
 
     /**
-     *
-     * <br>
+     * {@link ColumnDataType#STR} 타입의 데이터를 비교한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         정규식을 미리 변환하여 비교
+     * </pre>
+     * 
+     * @param colData
+     *            컬럼 데이터
+     * @param clmnFilter
+     *            컬럼 검색 조건
+     * 
+     * @return
+     *
+     * @since 2021. 8. 15.
+     * @version 4.0.0
+     */
+    private boolean filter(String colData, ColumnFilter clmnFilter) {
+        final String condValue = clmnFilter.strValue;
+        switch (clmnFilter.op) {
+            case EQ:
+                return colData.equals(condValue);
+            case NE:
+                return !colData.equals(condValue);
+            case GE:
+                return colData.compareTo(condValue) >= 0;
+            case GT:
+                return colData.compareTo(condValue) > 0;
+            case LE:
+                return colData.compareTo(condValue) <= 0;
+            case LT:
+                return colData.compareTo(condValue) < 0;
+            case CO:
+                return colData.contains(condValue);
+            case ST:
+                return colData.startsWith(condValue);
+            case ED:
+                return colData.endsWith(condValue);
+            case RX:
+                return clmnFilter.pattern.matcher(colData).matches();
+        }
+
+        return true;
+    }
+
+    /**
+     * 해시 값과 크기가 같은 CSV 파일 조각을 찾는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param hash
+     *            조각 해시 값
+     * @param length
+     *            조각 크기
+     * @return 조각 위치. 조각 색인이 없거나 같은 조각이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see CsvChunkIndex#find(long, long)
+     */
+    public int findChunk(long hash, long length) {
+        final CsvChunkIndex chunks = this.chunks;
+        return chunks != null ? chunks.find(hash, length) : -1;
+    }
+
+    /**
+     * CSV 파일에서 이어 읽을 범위를 제공한다.<br>
+     * 이어 읽을 위치 이후에 덧붙인 데이터 중 줄바꿈으로 끝난 데이터까지를 범위로 한다. 인용 문자로 감싼 컬럼 데이터 안의 줄바꿈은 줄의 끝으로 판단하지 않도록, 줄의 시작인 이어 읽을 위치부터
+     * 인용 문자를 확인한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         인용 문자로 감싼 줄바꿈 제외
+     * 2026. 10. 17.     parkjunhong77@gmail.com         opencsv와 같은 규칙으로 escape 문자 해석
+     * </pre>
+     *
+     * @return [0]: 시작 위치, [1]: 끝 위치. 읽기 전용이거나, 이어 읽을 위치를 기록하지 않았거나, 파일이 줄어들거나 교체되었거나, 구분자, 인용 문자 또는 이스케이프 문자가
+     *         ASCII가 아닌 경우 <code>null</code>
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #appendTail(long, long, List)
+     */
+    public long @Nullable [] findTail() throws IOException {
+        final long offset;
+        final byte[] signature;
+        this.lockLines.readLock().lock();
+        try {
+            // 원본 파일에 저장하는 경우 잠금 없이 변경될 수 있다.
+            synchronized (this.rowOffsets) {
+                offset = this.tailOffset;
+                signature = this.tailSignature;
+            }
+        } finally {
+            this.lockLines.readLock().unlock();
+        }
+        final char separator = this.csvFileConfig.getSeparator();
+        final char quotechar = this.csvFileConfig.getQuotechar();
+        final char escape = this.csvFileConfig.getEscape();
+        if (this.frozen || offset < 0 || signature == null || separator > 0x7F || quotechar > 0x7F || escape > 0x7F) {
+            return null;
+        }
+        final CsvRecordScanner scanner = new CsvRecordScanner((byte) separator, (byte) quotechar, (byte) escape);
+
+        try (FileChannel channel = FileChannel.open(Paths.get(this.filepath), StandardOpenOption.READ)) {
+            if (!hasTail(channel, offset, signature)) {
+                return null;
+            }
+
+            final long size = channel.size();
+
+            // 인용 문자로 감싸지 않은 마지막 줄바꿈 위치
+            long end = offset;
+            long position = offset;
+            int state = CsvRecordScanner.START;
+            int transition = 0;
+            ByteBuffer buffer = null;
+            while (position < size) {
+                buffer = read(channel, position, (int) Math.min(TAIL_SCAN_SIZE, size - position));
+                for (int i = 0; i < buffer.limit(); i++) {
+                    transition = scanner.next(state, buffer.get(i));
+                    state = CsvRecordScanner.state(transition);
+                    if (CsvRecordScanner.endsRecord(transition)) {
+                        end = position + i + 1;
+                    }
+                }
+                position += buffer.limit();
+            }
+            return new long[] { offset, end };
+        }
+    }
+
+    /**
+     * CSV 파일 데이터 적재가 완료된 후 데이터 저장소를 정리한다.<br>
+     * 읽기 전용으로 적재하는 경우 이후 데이터를 변경할 수 없다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void finishLoading() {
+        finishLoading(-1);
+    }
+
+    /**
+     * CSV 파일 데이터 적재가 완료된 후 데이터 저장소를 정리하고, 읽은 CSV 파일 위치를 기록한다.<br>
+     * 읽은 데이터가 줄바꿈으로 끝난 경우 이후 덧붙인 데이터를 이어 읽을 수 있다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param offset
+     *            읽은 CSV 파일 크기. -1인 경우 이어 읽지 않는다.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #appendTail(long, long, List)
+     */
+    public void finishLoading(long offset) {
+        finishLoading(offset, null);
+    }
+
+    /**
+     * CSV 파일 데이터 적재가 완료된 후 데이터 저장소를 정리하고, 읽은 CSV 파일 위치와 조각 색인을 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param offset
+     *            읽은 CSV 파일 크기. -1인 경우 이어 읽지 않는다.
+     * @param chunks
+     *            CSV 파일 조각 색인. 줄 개수가 설정되어 있어야 한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #loadChunkData(MemorizedCsvFile, int)
+     */
+    public void finishLoading(long offset, @Nullable CsvChunkIndex chunks) {
+        final byte[] signature = offset < 0 ? null : readTailSignature(offset);
+
+        this.lockLines.writeLock().lock();
+        try {
+            this.lines.trimToSize();
+            this.snapshot = null;
+            this.interners = null;
+            this.frozen = this.loadOptions.isFrozen();
+            this.loading = false;
+            this.chunks = chunks;
+
+            synchronized (this.rowOffsets) {
+                this.tailOffset = signature != null ? offset : -1;
+                this.tailLineCount = this.lines.size();
+                this.tailSignature = signature;
+
+                // 적재 데이터가 원본 파일과 같은 경우 조각과 파일 끝에서 줄 데이터가 시작하는 위치를 기록한다.
+                this.rowOffsets.clear();
+                if (signature != null && this.dirtyRow == Integer.MAX_VALUE) {
+                    for (int c = 1; chunks != null && c < chunks.size(); c++) {
+                        this.rowOffsets.put(chunks.firstRow(c), chunks.start(c));
+                    }
+                    this.rowOffsets.put(this.lines.size(), offset);
+                }
+            }
+        } finally {
+            this.lockLines.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         정렬 분리
+     * 2026. 10. 17.     parkjunhong77@gmail.com         스냅샷 조회 지원
+     * </pre>
+     *
+     * @param store
+     *            조회할 데이터. 적재 데이터({@link #lines})인 경우 읽기 잠금을 설정해야 한다.
+     * @param conditions
+     *            데이터 선택 조건
+     * @return 줄 위치 목록. (0부터 시작)
+     *
+     * @since 2021. 8. 15.
+     * @version 4.0.0
+     */
+    private int[] get0(ICsvStore store, @NotNull Collection<ColumnCondition> conditions) {
+        if (conditions == null) {
+            conditions = new ArrayList<>();
+        }
+        return filter(store, conditions);
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the accessed
+     *
+     * @since 2021. 8. 15.
+     * @version 0.1.0
+     * 
+     * @see #accessed
+     */
+    public long getAccessed() {
+        return accessed;
+    }
+
+    /**
+     * 컬럼별 압축 비율을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 압축 데이터 크기 / 압축 전 크기. 압축하지 않은 경우 1
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see ICsvStore#compressionRatio(int)
+     */
+    public double[] getColumnCompressionRatio() {
+        this.lockLines.readLock().lock();
+        try {
+            double[] ratio = new double[this.headers.length];
+            for (int column = 0; column < ratio.length; column++) {
+                ratio[column] = this.lines.compressionRatio(column);
+            }
+            return ratio;
+        } finally {
+            this.lockLines.readLock().unlock();
+        }
+    }
+
+    /**
+     * 컬럼별 데이터의 예상 메모리 사용량을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 컬럼 순서별 메모리 사용량. 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see ICsvStore#memoryUsage(int)
+     */
+    public long[] getColumnMemoryUsage() {
+        this.lockLines.readLock().lock();
+        try {
+            long[] usage = new long[this.headers.length];
+            for (int column = 0; column < usage.length; column++) {
+                usage[column] = this.lines.memoryUsage(column);
+            }
+            return usage;
+        } finally {
+            this.lockLines.readLock().unlock();
+        }
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the created
+     *
+     * @since 2021. 8. 15.
+     * @version 0.1.0
+     * 
+     * @see #created
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 17.     parkjunhong77@gmail.com         최초 작성
      * </pre>
      * 
      * @return the csvFileConfig
@@ -652,286 +1680,1150 @@ public class MemorizedCsvFile {
      * 
      * @see #csvFileConfig
      */
-    public CsvFileConfig getCsvFileConfig() {
-        return csvFileConfig;
+    public CsvFileConfig getCsvFileConfig() {
+        return csvFileConfig;
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the filepath
+     *
+     * @since 2021. 8. 15.
+     * @version 0.1.0
+     * 
+     * @see #filepath
+     */
+    public String getFilepath() {
+        return filepath;
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the hasHeader
+     *
+     * @since 2021. 8. 17.
+     * @version 0.1.0
+     * 
+     * @see #hasHeader
+     */
+    public Boolean getHasHeader() {
+        return hasHeader;
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the headers
+     *
+     * @since 2021. 8. 17.
+     * @version 0.1.0
+     * 
+     * @see #headers
+     */
+    public CsvHeader[] getHeaders() {
+        return headers;
+    }
+
+    /**
+     * 원본 파일에 저장하지 않은 변경 내역 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 변경 내역을 기록하지 않는 경우 0
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int getJournalCount() {
+        final CsvJournalFile journal = this.journal;
+        return journal != null ? journal.getCount() : 0;
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the loadOptions
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #loadOptions
+     */
+    public CsvLoadOptions getLoadOptions() {
+        return loadOptions;
+    }
+
+    /**
+     * 적재 데이터의 예상 메모리 사용량을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see ICsvStore#memoryUsage()
+     */
+    public long getMemoryUsage() {
+        this.lockLines.readLock().lock();
+        try {
+            long usage = this.lines.memoryUsage();
+            // 읽기 전용 데이터의 정렬 순서
+            for (int[] order : this.sortedOrders.values()) {
+                usage += (long) order.length * Integer.BYTES;
+            }
+            return usage;
+        } finally {
+            this.lockLines.readLock().unlock();
+        }
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the modified
+     *
+     * @since 2021. 8. 15.
+     * @version 0.1.0
+     * 
+     * @see #modified
+     */
+    public long getModified() {
+        return modified;
+    }
+
+    /**
+     * 데이터 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기/쓰기 잠금 적용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2021. 8. 16.
+     * @version 4.0.0
+     */
+    public int getSize() {
+        this.lockLines.readLock().lock();
+        try {
+            return this.lines.size();
+        } finally {
+            this.lockLines.readLock().unlock();
+        }
+    }
+
+    /**
+     *
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     * 
+     * @return the uuid
+     *
+     * @since 2021. 8. 17.
+     * @version 0.1.0
+     * 
+     * @see #uuid
+     */
+    public String getUuid() {
+        return uuid;
+    }
+
+    /**
+     * 이어 읽을 위치 직전 데이터가 기록된 데이터와 같은지 여부를 제공한다. 파일이 줄어들거나 교체된 경우 다르다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param channel
+     *            원본 파일 채널
+     * @param offset
+     *            이어 읽을 위치
+     * @param signature
+     *            이어 읽을 위치 직전 데이터
+     * @return
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static boolean hasTail(FileChannel channel, long offset, byte[] signature) throws IOException {
+        return channel.size() >= offset
+                && ByteBuffer.wrap(signature).equals(read(channel, offset - signature.length, signature.length));
+    }
+
+    /**
+     * 신규 데이터를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기/쓰기 잠금 적용
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기 전용 데이터 변경 거부
+     * 2026. 10. 17.     parkjunhong77@gmail.com         변경 내역 기록
+     * 2026. 10. 17.     parkjunhong77@gmail.com         원본 파일과 달라진 줄 위치 기록
+     * </pre>
+     *
+     * @param lineNumber
+     *            줄 번호
+     * @param position
+     *            줄번호를 기준으로 삽입할 방향
+     * @param data
+     *            새로운 CSV 파일 데이터.
+     * @return
+     * @throws BadRequestException
+     *             줄 번호가 올바르지 않은 경우.
+     *
+     * @since 2021. 8. 16.
+     * @version 4.0.0
+     */
+    public Result<Boolean> insertData(@NotNull @Min(1) Integer lineNumber, @NotNull PositionDir position,
+            @NotEmpty Object[] data) throws BadRequestException {
+        assertWritable();
+
+        this.lockLines.writeLock().lock();
+        try {
+            // 줄 번호 검증
+            assertLineNumber(lineNumber - 1, BadRequestException.class,
+                    String.format("범위를 벗어난 줄번호 입니다. 범위: 1 ~ %,d, 입력=%,d", this.lines.size(), lineNumber));
+            // 헤더와 데이터 길이 검증
+            assertDataLength(data, BadRequestException.class);
+            // 신규 데이터 검증
+            validateData(data);
+            // 변경 내역 기록
+            appendJournal(CsvJournalFile.INSERT, lineNumber, position.ordinal(), data);
+
+            // 신규 데이터 추가
+            switch (position) {
+                case BACK:
+                case BOTTOM:
+                    if (lineNumber == this.lines.size()) {
+                        this.lines.add(data);
+                    } else {
+                        this.lines.add(lineNumber, data);
+                    }
+                    this.dirtyRow = Math.min(this.dirtyRow, lineNumber);
+                    this.snapshot = null;
+                    this.modCount++;
+                    this.chunks = null;
+                    updateTimestamp(true);
+                    return Result.success(true);
+                case FRONT:
+                case TOP:
+                    this.lines.add(lineNumber - 1, data);
+                    this.dirtyRow = Math.min(this.dirtyRow, lineNumber - 1);
+                    this.snapshot = null;
+                    this.modCount++;
+                    this.chunks = null;
+                    updateTimestamp(true);
+                    return Result.success(true);
+                default:
+                    // unreachable
+                    return Result.error("지원하지 않는 방향이니다. 기대=%s, 입력=%s", PositionDir.values(), position);
+            }
+        } finally {
+            this.lockLines.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문자열 컬럼 데이터를 같은 값의 문자열 객체로 교체한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            줄 데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void intern(Object[] data) {
+        final CsvStringInterner[] interners = this.interners;
+        if (interners == null) {
+            return;
+        }
+
+        CsvStringInterner interner = null;
+        for (int i = 0; i < interners.length; i++) {
+            if ((interner = interners[i]) != null && data[i] instanceof String) {
+                data[i] = interner.intern((String) data[i]);
+            }
+        }
+    }
+
+    /**
+     * 적재 중 공개한 데이터인지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 적재를 완료하기 전에 공개한 경우 <code>true</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #shareLoading()
+     */
+    public boolean isLoading() {
+        return this.loading;
+    }
+
+    /**
+     * 적재한 CSV 파일과 같은 파일인지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param filepath
+     *            파일 경로
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private boolean isSameFile(String filepath) {
+        try {
+            Path path = Paths.get(filepath);
+            return Files.exists(path) && Files.isSameFile(path, Paths.get(this.filepath));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 다른 적재 데이터의 CSV 파일 조각에 해당하는 줄 데이터를 추가한다.<br>
+     * 값은 이미 헤더 정의에 맞게 변환되어 있으므로 다시 변환하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param source
+     *            조각 색인을 가진 적재 데이터
+     * @param chunk
+     *            조각 위치
+     * @return 추가한 줄 개수. 적재 데이터가 변경되어 조각 색인이 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #findChunk(long, long)
+     */
+    public int loadChunkData(MemorizedCsvFile source, int chunk) {
+        source.lockLines.readLock().lock();
+        try {
+            final CsvChunkIndex chunks = source.chunks;
+            if (chunks == null) {
+                return -1;
+            }
+
+            final int from = chunks.firstRow(chunk);
+            final int to = from + chunks.rows(chunk);
+            for (int i = from; i < to; i++) {
+                addLine(source.lines.get(i));
+            }
+            updateTimestamp(true);
+
+            return to - from;
+        } finally {
+            source.lockLines.readLock().unlock();
+        }
+    }
+
+    /**
+     * CSV 줄 데이터를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 13.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         문자열 객체 공유
+     * </pre>
+     *
+     * @param lineNumber
+     *            줄 번호
+     * @param readline
+     *            줄 데이터
+     * @throws BadRequestException
+     *             헤더 타입과 실제 데이터가 일치하지 않는 경우.
+     *
+     * @since 2021. 8. 13.
+     * @version 4.0.0
+     */
+    public void loadLineData(@Min(1) Integer lineNumber, @NotEmpty String[] readline) throws BadRequestException {
+        // 헤더와 데이터 길이 검증
+        assertDataLength(readline, InternalServerException.class);
+
+        Object[] data = deserialize(lineNumber, readline);
+        intern(data);
+        addLine(data);
+
+        updateTimestamp(true);
+    }
+
+
+    /**
+     * {@link CSVUtf8Reader}로 읽은 현재 줄 데이터를 추가한다.<br>
+     * 변환할 수 없는 줄 데이터는 {@link #loadLineData(Integer, String[])}로 다시 변환하여 원인을 확인한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param lineNumber
+     *            줄 번호
+     * @param reader
+     *            줄 데이터를 읽은 객체
+     * @throws BadRequestException
+     *             헤더 타입과 실제 데이터가 일치하지 않는 경우.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void loadLineData(@Min(1) Integer lineNumber, CSVUtf8Reader reader) throws BadRequestException {
+        Object[] data = convertLineData(reader);
+        if (data == null) {
+            loadLineData(lineNumber, reader.toStrings());
+            return;
+        }
+
+        intern(data);
+        addLine(data);
+
+        updateTimestamp(true);
+    }
+
+    /**
+     * CSV 파일을 메모리 매핑하고 줄 시작 위치를 색인한다.<br>
+     * {@link CsvStorageType#MAPPED} 방식으로 생성된 경우에만 사용할 수 있으며, 줄 데이터는 요청시 변환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 18.     parkjunhong77@gmail.com         색인 진행 정보 추가
+     * </pre>
+     *
+     * @param progress
+     *            일정 줄 간격마다 호출하는 진행 정보 함수. (색인한 줄 개수, 읽은 위치) (<code>null</code>: 사용하지 않음). 함수에서 발생한
+     *            예외는 색인을 중단하고 그대로 전달된다.
+     * @return 색인한 줄 개수
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     * @throws InternalServerException
+     *            {@link CsvStorageType#MAPPED} 방식이 아닌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int loadMappedFile(@Nullable BiConsumer<Integer, Long> progress) throws IOException {
+        this.lockLines.writeLock().lock();
+        try {
+            if (!(this.lines instanceof CsvMappedStore)) {
+                throw ExceptionUtils.newException(InternalServerException.class, "메모리 매핑 방식으로 적재하는 파일이 아닙니다. 파일=%s, 저장방식=%s",
+                        this.filepath, this.loadOptions.getStorageType());
+            }
+
+            int lineCount = ((CsvMappedStore) this.lines).map(Paths.get(this.filepath), this.csvFileConfig, progress);
+            this.snapshot = null;
+            this.modCount++;
+            updateTimestamp(true);
+
+            return lineCount;
+        } finally {
+            this.lockLines.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 파일에서 읽거나 {@link #convertLineData(String[])}로 변환한 줄 데이터를 추가한다.<br>
+     * 값은 이미 헤더 정의에 맞게 변환되어 있으므로 다시 변환하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         변환한 줄 데이터 추가 지원
+     * </pre>
+     *
+     * @param lineNumber
+     *            줄 번호
+     * @param data
+     *            줄 데이터
+     * @throws InternalServerException
+     *            헤더와 데이터 길이가 일치하지 않는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see CsvSnapshotFile#readNext()
+     */
+    public void loadSnapshotData(@Min(1) Integer lineNumber, @NotEmpty Object[] data) throws InternalServerException {
+        // 헤더와 데이터 길이 검증
+        assertDataLength(data, InternalServerException.class);
+
+        intern(data);
+        addLine(data);
+
+        updateTimestamp(true);
+    }
+
+    /**
+     * 읽기 전용 데이터의 줄 위치 목록을 정렬 조건에 맞게 정렬한다.<br>
+     * 정렬 조건별 전체 줄 위치 순서는 처음 요청할 때 생성하여 재사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param indexes
+     *            줄 위치 목록. (오름차순)
+     * @param sort
+     *            정렬 조건
+     * @return 정렬된 줄 위치 목록
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private int[] order(int[] indexes, @Nullable ColumnSort sort) {
+        if (sort == null || indexes.length < 2) {
+            return indexes;
+        }
+
+        int[] order = this.sortedOrders.computeIfAbsent(sort, s -> {
+            Sorter sorter = new Sorter(this.lines, this.headers[s.getIndex()], s);
+            int[] sorted = new int[this.lines.size()];
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = i;
+            }
+            CommonsUtils.sortIndexes(sorted, sorter);
+            return sorted;
+        });
+
+        // 전체 데이터가 선택된 경우
+        if (indexes.length == order.length) {
+            return order;
+        }
+
+        boolean[] selected = new boolean[order.length];
+        for (int index : indexes) {
+            selected[index] = true;
+        }
+        int[] ordered = new int[indexes.length];
+        int count = 0;
+        for (int index : order) {
+            if (selected[index]) {
+                ordered[count++] = index;
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 요청한 개수만큼 줄 번호 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기/쓰기 잠금 적용
+     * 2026. 10. 17.     parkjunhong77@gmail.com         스냅샷 조회 지원
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기 전용 데이터 잠금 없이 조회
+     * 2026. 10. 17.     parkjunhong77@gmail.com         적재 중인 데이터 조회 지원
+     * </pre>
+     *
+     * @param lineNumber
+     *            읽기 시작할 준 번호. (1부터 시작)
+     * @param count
+     *            읽을 데이터 개수.
+     * @return
+     * @throws BadRequestException
+     *             줄 번호가 올바르지 않은 경우
+     *
+     * @since 2021. 8. 15.
+     * @version 4.0.0
+     */
+    public ManagedCsvFile read(@Min(1) Integer lineNumber, @Min(1) Integer count) throws BadRequestException {
+        // 적재가 완료되면 읽기 전용으로 바뀔 수 있으므로 한 번만 확인한다.
+        final boolean frozen = this.frozen;
+        if (!frozen) {
+            this.lockLines.readLock().lock();
+        }
+        // 적재 중 여부는 잠금 상태에서 확인해야 조회하는 데이터와 일치한다.
+        final boolean loading = this.loading;
+        ICsvStore store = acquireLines(frozen);
+        try {
+            int begin = lineNumber - 1;
+            final int totalSize = store.size();
+            if (begin > totalSize) {
+                throw ExceptionUtils.newException(BadRequestException.class,
+                        "읽기 시작하려는 줄 번호가 전체 데이터보다 큽니다. 전체 데이터=%,d, 읽기 시작하려는 줄번호=%,d", totalSize, lineNumber);
+            }
+
+            final int end = Integer.min(begin + count, totalSize);
+
+            try {
+                CsvLines lines = select(store, null, begin, end);
+                lines.setTotalSize(totalSize);
+
+                ManagedCsvFile managed = new ManagedCsvFile(this.filepath, lines);
+                managed.setTotalSize(totalSize);
+                managed.setComplete(!loading);
+
+                return managed;
+            } catch (BadRequestException e) {
+                throw e;
+            } catch (Exception e) {
+                String errMsg = String.format("데이터 읽는 도중 에러가 발생하였습니다. lineNumber=%,d, count=%,d, 원인=%s", lineNumber,
+                        count, e.getMessage());
+                logger.error(errMsg, e);
+                throw ExceptionUtils.newException(InternalServerException.class, e, errMsg);
+            }
+        } finally {
+            releaseLines(store, frozen);
+        }
     }
 
     /**
-     *
-     * <br>
+     * 파일에서 데이터를 읽는다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
      * </pre>
-     * 
-     * @return the filepath
      *
-     * @since 2021. 8. 15.
-     * @version 0.1.0
-     * 
-     * @see #filepath
+     * @param channel
+     *            파일
+     * @param position
+     *            데이터 위치
+     * @param length
+     *            데이터 크기
+     * @return
+     * @throws IOException
+     *            파일을 읽을 수 없거나 파일 끝에 도달한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      */
-    public String getFilepath() {
-        return filepath;
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file. position=" + position + ", length=" + length);
+            }
+        }
+        buffer.flip();
+        return buffer;
     }
 
     /**
-     *
-     * <br>
+     * 이어 읽을 위치 직전 데이터를 읽는다.<br>
+     * 메모리 매핑 방식이거나, 줄바꿈 문자가 1 byte가 아닌 문자셋이거나, 데이터가 줄바꿈으로 끝나지 않은 경우 이어 읽을 수 없다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
      * </pre>
-     * 
-     * @return the hasHeader
      *
-     * @since 2021. 8. 17.
-     * @version 0.1.0
-     * 
-     * @see #hasHeader
+     * @param offset
+     *            이어 읽을 위치
+     * @return 이어 읽을 수 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      */
-    public Boolean getHasHeader() {
-        return hasHeader;
+    private byte @Nullable [] readTailSignature(long offset) {
+        if (this.lines instanceof CsvMappedStore
+                || !Arrays.equals(new byte[] { '\n' }, "\n".getBytes(this.csvFileConfig.getCharset()))) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(Paths.get(this.filepath), StandardOpenOption.READ)) {
+            int length = (int) Math.min(offset, TAIL_SIGNATURE_SIZE);
+            byte[] signature = new byte[length];
+            read(channel, offset - length, length).get(signature);
+            return length == 0 || signature[length - 1] == '\n' ? signature : null;
+        } catch (IOException e) {
+            logger.warn("[이어 읽기] CSV 파일을 읽을 수 없어 이어 읽지 않습니다. 파일={}, 원인={}", this.filepath, e.getMessage());
+            return null;
+        }
     }
 
     /**
-     *
-     * <br>
+     * 조회에 사용한 CSV 데이터를 반환한다.<br>
+     * 적재 데이터인 경우 {@link #acquireLines(boolean)}에서 유지한 읽기 잠금을 해제한다. (읽기 전용 데이터 제외)<br>
+     * 조회하는 도중 적재가 완료되어 읽기 전용으로 바뀌더라도 설정한 잠금을 해제하도록, 잠금을 설정할 때 확인한 읽기 전용 여부를 사용한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         잠금을 설정할 때 확인한 읽기 전용 여부 사용
      * </pre>
-     * 
-     * @return the headers
      *
-     * @since 2021. 8. 17.
-     * @version 0.1.0
-     * 
-     * @see #headers
+     * @param store
+     *            {@link #acquireLines(boolean)}가 제공한 데이터
+     * @param frozen
+     *            {@link #acquireLines(boolean)}에 전달한 읽기 전용 여부
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      */
-    public CsvHeader[] getHeaders() {
-        return headers;
+    private void releaseLines(ICsvStore store, boolean frozen) {
+        if (store == this.lines && !frozen) {
+            this.lockLines.readLock().unlock();
+        }
     }
 
     /**
-     *
-     * <br>
+     * 메모리 매핑된 적재 데이터를 저장한 원본 파일로 다시 매핑하여, 추가/변경된 줄 데이터를 유지하지 않는다.<br>
+     * 다시 매핑할 수 없는 경우 삭제/변경으로 사용하지 않게 된 줄 데이터만 정리한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
      * </pre>
-     * 
-     * @return the modified
      *
-     * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      * 
-     * @see #modified
+     * @see 이 함수를 호출하는 곳에서 반드시 {@link #lockLines}에 대해 쓰기 잠금을 설정해야 한다.
      */
-    public long getModified() {
-        return modified;
+    private void remapLines() {
+        if (!(this.lines instanceof CsvMappedStore)) {
+            return;
+        }
+
+        CsvMappedStore mapped = (CsvMappedStore) this.lines;
+        try {
+            if (mapped.remap(Paths.get(this.filepath), this.csvFileConfig)) {
+                return;
+            }
+            logger.warn("[파일 저장] 저장한 파일의 줄 개수가 달라 다시 메모리 매핑하지 않습니다. 파일={}", this.filepath);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("[파일 저장] 저장한 파일을 다시 메모리 매핑하지 못하였습니다. 파일={}, 원인={}", this.filepath, e.getMessage());
+        }
+        mapped.trimToSize();
     }
 
     /**
-     * 데이터 개수를 제공한다. <br>
+     * 적재 데이터가 사용하는 자원을 해제한다.<br>
+     * 해제한 이후에는 사용할 수 없다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         변경 내역 파일 닫기
      * </pre>
      *
-     * @return
      *
-     * @since 2021. 8. 16.
-     * @version 0.1.0
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      */
-    public int getSize() {
-        synchronized (mutexLines) {
-            return this.lines.size();
+    public void release() {
+        this.lockLines.writeLock().lock();
+        try {
+            this.lines.release();
+            this.snapshot = null;
+            this.chunks = null;
+            this.sortedOrders.clear();
+
+            final CsvJournalFile journal = this.journal;
+            if (journal != null) {
+                this.journal = null;
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    logger.warn("변경 내역 파일을 닫지 못하였습니다. 파일={}, 원인={}", this.filepath, e.getMessage());
+                }
+            }
+        } finally {
+            this.lockLines.writeLock().unlock();
         }
     }
 
     /**
-     *
-     * <br>
+     * 원본 파일을 임시 파일에 저장한 후 교체한다.<br>
+     * 메모리 매핑된 원본 파일인 경우 교체된 원본 파일은 메모리 매핑이 해제될 때까지 유지된다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         변경 내역 저장 지원
+     * 2026. 10. 17.     parkjunhong77@gmail.com         교체한 원본 파일 위치 기록
+     * 2026. 10. 17.     parkjunhong77@gmail.com         저장할 데이터 지정, 교체한 원본 파일 위치는 저장하는 곳에서 기록
      * </pre>
-     * 
-     * @return the uuid
      *
-     * @since 2021. 8. 17.
-     * @version 0.1.0
+     * @param store
+     *            저장할 데이터. 적재 데이터({@link #lines})인 경우 읽기 잠금을 설정해야 한다.
+     * @param filepath
+     *            원본 파일 경로
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
      * 
-     * @see #uuid
+     * @see #replacedFile(int)
      */
-    public String getUuid() {
-        return uuid;
+    private Result<Boolean> replaceFile(ICsvStore store, String filepath) {
+        Path target = Paths.get(filepath).toAbsolutePath();
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+
+            try (OutputStream out = new FileOutputStream(temp.toFile(), false)) {
+                writeLines(store, out, 0, null, -1);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            return Result.success(true);
+        } catch (IOException e) {
+            String errMsg = String.format("[파일 저장 실패] 파일 저장시 에러가 발생하였습니다. 원인=%s", e.getMessage());
+            logger.error(errMsg, e);
+            return Result.error(errMsg);
+        } catch (Exception e) {
+            String errMsg = String.format("[파일 저장 실패] 파일 저장시 에러가 발생하였습니다. 원인=%s", e.getMessage());
+            logger.error(errMsg, e);
+            throw new InternalServerException(errMsg, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    logger.warn("임시 파일을 삭제하지 못하였습니다. 파일={}, 원인={}", temp, e.getMessage());
+                }
+            }
+        }
     }
 
+
     /**
-     * 신규 데이터를 추가한다. <br>
+     * 교체한 원본 파일의 끝 위치를 기록하고, 원본 파일과 달라진 줄이 없음을 설정한다.<br>
+     * 원본 파일을 교체하는 동안 데이터가 변경되지 않은 경우에만 사용한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
      * </pre>
      *
-     * @param lineNumber
-     *            줄 번호
-     * @param position
-     *            줄번호를 기준으로 삽입할 방향
-     * @param data
-     *            새로운 CSV 파일 데이터.
-     * @return
-     * @throws BadRequestException
-     *             줄 번호가 올바르지 않은 경우.
+     * @param lineCount
+     *            교체한 원본 파일에 저장한 줄 개수
      *
-     * @since 2021. 8. 16.
-     * @version 0.1.0
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see 이 함수를 호출하는 곳에서 반드시 {@link #lockLines}에 대해 쓰기 잠금을 설정해야 한다. (읽기 전용 데이터 제외)
      */
-    public Result<Boolean> insertData(@NotNull @Min(1) Integer lineNumber, @NotNull PositionDir position,
-            @NotEmpty Object[] data) throws BadRequestException {
-        // 줄 번호 검증
-        assertLineNumber(lineNumber - 1, BadRequestException.class,
-                String.format("범위를 벗어난 줄번호 입니다. 범위: 1 ~ %,d, 입력=%,d", this.lines.size(), lineNumber));
-        // 신규 데이터 검증
-        validateData(data);
-
-        // 신규 데이터 추가
-        switch (position) {
-            case BACK:
-            case BOTTOM:
-                if (lineNumber == this.lines.size()) {
-                    this.lines.add(data);
-                } else {
-                    this.lines.add(lineNumber, data);
-                }
-                updateTimestamp(true);
-                return Result.success(true);
-            case FRONT:
-            case TOP:
-                this.lines.add(lineNumber - 1, data);
-                updateTimestamp(true);
-                return Result.success(true);
-            default:
-                // unreachable
-                return Result.error("지원하지 않는 방향이니다. 기대=%s, 입력=%s", PositionDir.values(), position);
+    private void replacedFile(int lineCount) {
+        synchronized (this.rowOffsets) {
+            this.rowOffsets.clear();
+            try {
+                updateTail(Files.size(Paths.get(this.filepath)), lineCount);
+            } catch (IOException e) {
+                // 크기를 확인하지 못한 원본 파일은 이어 읽거나 유지할 수 없다.
+                this.tailOffset = -1;
+                this.tailSignature = null;
+                logger.warn("[파일 저장] 교체한 원본 파일의 크기를 확인하지 못하였습니다. 파일={}, 원인={}", this.filepath, e.getMessage());
+            }
         }
+        this.dirtyRow = Integer.MAX_VALUE;
     }
 
     /**
-     * CSV 줄 데이터를 추가한다. <br>
+     * 변경 내역 파일에 기록된 변경 내역을 순서대로 적용한 후, 이후 변경 내역을 변경 내역 파일에 기록한다.<br>
+     * 적재를 완료({@link #finishLoading(long, CsvChunkIndex)})하기 전에 사용하며, 읽기 전용으로 적재하는 경우 변경 내역을 적용한 후 파일을 닫는다. 적용하지 못한 경우에도 변경 내역 파일을 닫는다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 13.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
      * </pre>
      *
-     * @param lineNumber
-     *            줄 번호
-     * @param readline
-     *            줄 데이터
-     * @throws BadRequestException
-     *             헤더 타입과 실제 데이터가 일치하지 않는 경우.
+     * @param journal
+     *            변경 내역 파일
+     * @return 적용한 변경 내역 개수
+     * @throws IOException
+     *            변경 내역 파일을 읽을 수 없는 경우
+     * @throws InternalServerException
+     *            변경 내역을 적용할 수 없는 경우
      *
-     * @since 2021. 8. 13.
-     * @version 0.1.0
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #compactJournal()
      */
-    public void loadLineData(@Min(1) Integer lineNumber, @NotEmpty String[] readline) throws BadRequestException {
-        // 헤더와 데이터 길이 검증
-        assertDataLength(readline, InternalServerException.class);
-
-        Object[] data = deserialize(lineNumber, readline);
-        this.lines.add(data);
+    public int replayJournal(CsvJournalFile journal) throws IOException, InternalServerException {
+        int count = 0;
+        try {
+            CsvJournalFile.Entry entry = null;
+            Result<Boolean> result = null;
+            while ((entry = journal.readNext()) != null) {
+                switch (entry.getOperation()) {
+                    case CsvJournalFile.UPDATE:
+                        result = updateLine(entry.getLineNumber(), entry.getData());
+                        break;
+                    case CsvJournalFile.INSERT:
+                        result = insertData(entry.getLineNumber(), PositionDir.values()[entry.getArgument()],
+                                entry.getData());
+                        break;
+                    case CsvJournalFile.DELETE:
+                        result = delete(entry.getLineNumber());
+                        break;
+                    case CsvJournalFile.SORT:
+                        this.lockLines.writeLock().lock();
+                        try {
+                            sort(new ColumnSort(entry.getLineNumber(), ColumnDirection.values()[entry.getArgument()]));
+                        } finally {
+                            this.lockLines.writeLock().unlock();
+                        }
+                        result = Result.success(true);
+                        break;
+                    default:
+                        throw new IOException("Unknown journal operation. operation=" + entry.getOperation());
+                }
+                if (!result.getResult()) {
+                    throw ExceptionUtils.newException(InternalServerException.class, "변경 내역을 적용할 수 없습니다. 순서=%,d, 원인=%s",
+                            count + 1, result.getMessage());
+                }
+                count++;
+            }
+        } catch (IOException e) {
+            journal.close();
+            throw e;
+        } catch (RuntimeException e) {
+            journal.close();
+            String errMsg = String.format("[적재 실패] '%s' 파일의 변경 내역을 적용할 수 없습니다. 순서=%,d, 원인=%s", this.filepath, count + 1,
+                    e.getMessage());
+            logger.error(errMsg, e);
+            throw ExceptionUtils.newException(InternalServerException.class, e, errMsg);
+        }
 
-        updateTimestamp(true);
+        if (this.loadOptions.isFrozen()) {
+            journal.close();
+        } else {
+            this.lockLines.writeLock().lock();
+            try {
+                this.journal = journal;
+            } finally {
+                this.lockLines.writeLock().unlock();
+            }
+        }
+        return count;
     }
 
     /**
-     * 요청한 개수만큼 줄 번호 데이터를 제공한다. <br>
+     * 적재 데이터를 임시 파일에 저장한 후 원본 파일을 교체하고 변경 내역 파일을 비운다.<br>
+     * 스냅샷을 지원하는 저장소는 잠금 없이 스냅샷을 저장하고, 지원하지 않는 저장소는 일정 간격마다 읽기 잠금을 해제하면서 저장한다. 저장하는 동안 데이터가 변경된 경우 원본 파일을 교체하지 않는다.
+     * <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
      * </pre>
      *
-     * @param lineNumber
-     *            읽기 시작할 준 번호. (1부터 시작)
-     * @param count
-     *            읽을 데이터 개수.
-     * @return
-     * @throws BadRequestException
-     *             줄 번호가 올바르지 않은 경우
+     * @param journal
+     *            변경 내역 파일
+     * @param exclusive
+     *            저장을 완료할 때까지 읽기 잠금을 유지할지 여부
+     * @return 원본 파일을 교체한 경우 <code>true</code>, 저장하는 동안 데이터가 변경된 경우 <code>false</code>
+     * @throws IOException
+     *             파일을 저장하거나 교체할 수 없는 경우
      *
-     * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see 이 함수를 호출하는 곳에서 반드시 {@link #mutexFile}에 대해 잠금을 설정해야 한다.
      */
-    public ManagedCsvFile read(@Min(1) Integer lineNumber, @Min(1) Integer count) throws BadRequestException {
-        synchronized (mutexLines) {
-            List<IndexedObject> filtered = get0(null, null);
+    private boolean rewriteFile(CsvJournalFile journal, boolean exclusive) throws IOException {
+        final Path target = Paths.get(this.filepath).toAbsolutePath();
+        final Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
 
-            int begin = lineNumber - 1;
-            final int totalSize = filtered.size();
-            if (begin > totalSize) {
-                throw ExceptionUtils.newException(BadRequestException.class,
-                        "읽기 시작하려는 줄 번호가 전체 데이터보다 큽니다. 전체 데이터=%,d, 읽기 시작하려는 줄번호=%,d", totalSize, lineNumber);
+        this.lockLines.readLock().lock();
+        boolean locked = true;
+        try {
+            // #1. 임시 파일에 저장
+            final long modCount = this.modCount;
+            final ICsvStore store = exclusive ? this.lines : acquireLines(false);
+            locked = store == this.lines;
+            final int size = store.size();
+            try (OutputStream out = new FileOutputStream(temp.toFile())) {
+                writeLines(store, out, 0, null, exclusive || !locked ? -1 : modCount);
+            } catch (ConcurrentModificationException e) {
+                return false;
             }
 
-            final int end = Integer.min(begin + count, totalSize);
-
+            // #2. 저장하는 동안 데이터가 변경되지 않은 경우 원본 파일 교체
+            if (!exclusive) {
+                if (locked) {
+                    this.lockLines.readLock().unlock();
+                    locked = false;
+                }
+                this.lockLines.writeLock().lock();
+            }
             try {
-                CsvLines lines = select(filtered, begin, end);
-                lines.setTotalSize(totalSize);
+                if (this.modCount != modCount) {
+                    return false;
+                }
 
-                ManagedCsvFile managed = new ManagedCsvFile(this.filepath, lines);
-                managed.setTotalSize(this.lines.size());
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                final long length = Files.size(target);
+                synchronized (this.rowOffsets) {
+                    this.rowOffsets.clear();
+                    updateTail(length, size);
+                }
+                this.dirtyRow = Integer.MAX_VALUE;
+                journal.reset(createFileKey(this.csvFileConfig, this.headers, this.hasHeader, this.filepath, length));
+                if (!exclusive) {
+                    remapLines();
+                }
 
-                return managed;
-            } catch (BadRequestException e) {
-                throw e;
-            } catch (Exception e) {
-                String errMsg = String.format("데이터 읽는 도중 에러가 발생하였습니다. lineNumber=%,d, count=%,d, 원인=%s", lineNumber,
-                        count, e.getMessage());
-                logger.error(errMsg, e);
-                throw ExceptionUtils.newException(InternalServerException.class, e, errMsg);
+                return true;
+            } finally {
+                if (!exclusive) {
+                    this.lockLines.writeLock().unlock();
+                }
+            }
+        } finally {
+            if (locked) {
+                this.lockLines.readLock().unlock();
+            }
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                logger.warn("임시 파일을 삭제하지 못하였습니다. 파일={}, 원인={}", temp, e.getMessage());
             }
         }
     }
 
     /**
      * 검색 조건에 맞는 데이터를 찾아 설정된 페이지 정보에 맞는 데이터를 제공한다.<br>
-     * 검색 조건 결과에 따라 페이지 정보와 맞지 않는 경우 페이지 정보를 변경하여 결과를 제공한다.
+     * 검색 조건 결과에 따라 페이지 정보와 맞지 않는 경우 페이지 정보를 변경하여 결과를 제공한다.<br>
+     * 정렬 조건은 검색 결과에만 적용하며 적재한 데이터의 순서는 변경하지 않는다. 따라서 검색한 후에도 조회/저장하는 데이터는 기존 순서를
+     * 유지하며, 읽기 잠금만 사용하므로 같은 파일의 다른 조회/검색과 동시에 수행할 수 있다.
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기/쓰기 잠금 적용
+     * 2026. 10. 17.     parkjunhong77@gmail.com         스냅샷 조회 지원
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기 전용 데이터 잠금 없이 조회
+     * 2026. 10. 17.     parkjunhong77@gmail.com         적재 중인 데이터 검색 지원
+     * 2026. 10. 17.     parkjunhong77@gmail.com         데이터 순서를 변경하지 않고 검색 결과만 정렬
+     * 2026. 10. 17.     parkjunhong77@gmail.com         쓰기 잠금 없이 읽기 잠금으로 검색
      * </pre>
      *
      * @param sort
@@ -945,16 +2837,32 @@ public class MemorizedCsvFile {
      *             줄 번호가 올바르지 않은 경우
      *
      * @since 2021. 8. 16.
-     * @version 0.1.0
+     * @version 4.0.0
      */
     public ManagedCsvFile search(ColumnSort sort, @NotNull final Collection<ColumnCondition> conditions,
             Pageable pageable) throws BadRequestException {
 
-        synchronized (mutexLines) {
-            List<IndexedObject> filtered = get0(sort, conditions);
+        // 데이터 순서는 변경하지 않고 검색 결과에 정렬을 적용한다.
+        final boolean frozen = this.frozen;
+        if (!frozen) {
+            this.lockLines.readLock().lock();
+        }
+        // 적재 중 여부는 잠금 상태에서 확인해야 검색하는 데이터와 일치한다.
+        final boolean loading = !frozen && this.loading;
+
+        // 적재 중인 데이터는 적재 데이터로 정렬하므로 스냅샷을 사용하지 않는다.
+        ICsvStore store = loading ? this.lines : acquireLines(frozen);
+        try {
+            int[] filtered = get0(store, conditions);
+            if (frozen) {
+                filtered = order(filtered, sort);
+            } else if (sort != null && filtered.length > 1) {
+                // 변경할 수 있는 데이터는 정렬 순서를 유지하지 않고 검색 결과만 정렬한다.
+                CommonsUtils.sortIndexes(filtered, new Sorter(store, this.headers[sort.getIndex()], sort));
+            }
             CsvLines lines = null;
 
-            if (filtered.size() > 0) {
+            if (filtered.length > 0) {
                 int pageNumber = pageable.getPageNumber();
                 int pageSize = pageable.getPageSize();
                 // 순서(1,2,3,...)
@@ -962,7 +2870,7 @@ public class MemorizedCsvFile {
                 // Index (0,1,2,...)
                 int beginIndex = (lineNumber - 1);
                 // 개수 (1,2,3,...)
-                final int totalSize = filtered.size();
+                final int totalSize = filtered.length;
                 // 페이지가 전체 개수를 초과한 경우 페이지 정보 재설정
                 if (beginIndex >= totalSize) {
                     // #0. 페이지 값 재조정 (페이지 단위로 계산)
@@ -980,7 +2888,7 @@ public class MemorizedCsvFile {
                 final int endIndex = Integer.min(beginIndex + pageSize, totalSize);
 
                 try {
-                    lines = select(filtered, beginIndex, endIndex);
+                    lines = select(store, filtered, beginIndex, endIndex);
                     lines.setTotalSize(totalSize);
 
                 } catch (BadRequestException e) {
@@ -997,10 +2905,13 @@ public class MemorizedCsvFile {
             }
 
             ManagedCsvFile managed = new ManagedCsvFile(this.filepath, lines);
-            managed.setTotalSize(this.lines.size());
+            managed.setTotalSize(store.size());
             managed.setPageable(pageable);
+            managed.setComplete(!loading);
 
             return managed;
+        } finally {
+            releaseLines(store, frozen);
         }
     }
 
@@ -1012,10 +2923,13 @@ public class MemorizedCsvFile {
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         스냅샷 조회 지원
      * </pre>
      * 
-     * @param data
-     *            TODO
+     * @param store
+     *            조회할 데이터. 적재 데이터({@link #lines})인 경우 읽기 잠금을 설정해야 한다.
+     * @param indexes
+     *            줄 위치 목록. <code>null</code>인 경우 전체 데이터
      * @param begin
      *            시작 index (inclusive)
      * @param end
@@ -1024,11 +2938,10 @@ public class MemorizedCsvFile {
      * @return
      *
      * @since 2021. 8. 15.
-     * @version 0.1.0
-     * 
-     * @see 이 함수를 호출하는 곳에서 반드시 {@link #mutexLines}에 대해 synchroized 설정을 해야 한다.
+     * @version 4.0.0
      */
-    private CsvLines select(List<IndexedObject> data, final @Min(1) Integer begin, final @Min(1) Integer end) {
+    private CsvLines select(ICsvStore store, int @Nullable [] indexes, final @Min(1) Integer begin,
+            final @Min(1) Integer end) {
 
         if (begin < 0 || end < 1) {
             String errMsg = String.format("데이터 검색 위치가 범위를 벗어났습니다. begin=%,d, end=%,d, MAX=%,d", begin, end,
@@ -1041,17 +2954,14 @@ public class MemorizedCsvFile {
 
         int pos = begin;
         CsvLine line = null;
-        Object[] copied = null;
 
         try {
-            IndexedObject idxObj = null;
+            int index = 0;
             while (pos < end) {
-                idxObj = data.get(pos);
-                line = new CsvLine(idxObj.getIndex() + 1);
+                index = indexes != null ? indexes[pos] : pos;
+                line = new CsvLine(index + 1);
                 // 데이터 복사
-                copied = new Object[this.headers.length];
-                System.arraycopy(idxObj.getValue(), 0, copied, 0, copied.length);
-                line.setData(copied);
+                line.setData(store.get(index));
                 // 반환목록에 추가
                 result.addData(line);
 
@@ -1079,53 +2989,33 @@ public class MemorizedCsvFile {
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         스냅샷 조회 지원
      * </pre>
      *
+     * @param store
+     *            조회할 데이터. 적재 데이터({@link #lines})인 경우 읽기 잠금을 설정해야 한다.
      * @param lineNumber
-     * @param data
+     * @param index
+     *            줄 위치
      * @return
      *
      * @since 2021. 8. 16.
-     * @version 0.1.0
+     * @version 4.0.0
      */
-    private String[] serialize(int lineNumber, Object[] data) {
-        final String[] lines = new String[data.length];
+    private String[] serialize(ICsvStore store, int lineNumber, int index) {
+        final String[] lines = new String[this.headers.length];
 
-        ArrayUtils.entrySet(data).stream() //
-                .forEach(entry -> {
-                    Integer index = entry.getKey();
-                    Object value = entry.getValue();
-                    if (value != null) {
-                        CsvHeader header = headers[index];
-                        try {
-                            switch (header.getDataType()) {
-                                case INT:
-                                case STR:
-                                case NUM:
-                                case GENERAL:
-                                    lines[index] = value.toString();
-                                    break;
-                                default:
-                                    // unreachable
-                                    break;
-                            }
-                        } catch (NumberFormatException e) {
-                            String errMsg = String.format(
-                                    "[저장 실패] '%s' 파일 저장 중 에러가 발생하였습니다. 헤더 설정을 확인하기 바랍니다. line.number=%,d, line.value=%s, file.header=%s, column.index=%,d, column.value=%s",
-                                    this.filepath, lineNumber, Arrays.toString(data), header, index, value);
-                            logger.error(errMsg, e);
-                            throw ExceptionUtils.newException(BadRequestException.class, e, errMsg);
-                        } catch (Exception e) {
-                            String errMsg = String.format(
-                                    "[저장 실패] '%s' 파일 저장 중 에러가 발생하였습니다. 헤더 설정을 확인하기 바랍니다. line.number=%,d, line.value=%s, file.header=%s, column.index=%,d, column.value=%s",
-                                    this.filepath, lineNumber, Arrays.toString(data), header, index, value);
-                            logger.error(errMsg, e);
-                            throw ExceptionUtils.newException(InternalServerException.class, e, errMsg);
-                        }
-                    } else {
-                        lines[index] = null;
-                    }
-                });
+        for (int column = 0; column < lines.length; column++) {
+            try {
+                lines[column] = store.getText(index, column);
+            } catch (Exception e) {
+                String errMsg = String.format(
+                        "[저장 실패] '%s' 파일 저장 중 에러가 발생하였습니다. 헤더 설정을 확인하기 바랍니다. line.number=%,d, line.value=%s, file.header=%s, column.index=%,d",
+                        this.filepath, lineNumber, Arrays.toString(store.get(index)), this.headers[column], column);
+                logger.error(errMsg, e);
+                throw ExceptionUtils.newException(InternalServerException.class, e, errMsg);
+            }
+        }
 
         return lines;
     }
@@ -1175,30 +3065,96 @@ public class MemorizedCsvFile {
     }
 
     /**
+     * 적재를 완료하기 전에 조회/검색할 수 있도록 공개한다.<br>
+     * 이후 적재하는 줄 데이터는 쓰기 잠금으로 추가하며, {@link #finishLoading(long, CsvChunkIndex)}를 호출하면 공개를 해제한다. 적재를 시작하기 전에 호출해야
+     * 한다. <br>
      * 
-     * <br>
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void shareLoading() {
+        this.loading = true;
+    }
+
+    /**
+     * 데이터 순서를 정렬 조건에 맞게 변경한다.<br>
+     * 검색 결과 정렬은 데이터 순서를 변경하지 않으므로, 이전에 변경 내역 파일에 기록된 정렬을 적용할 때만 사용한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         변경 내역 기록
+     * 2026. 10. 17.     parkjunhong77@gmail.com         원본 파일과 달라진 줄 위치 기록
+     * 2026. 10. 17.     parkjunhong77@gmail.com         변경 내역을 기록하지 않음
      * </pre>
      *
      * @param sorter
      *
      * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @version 4.0.0
+     * 
+     * @see 이 함수를 호출하는 곳에서 반드시 {@link #lockLines}에 대해 쓰기 잠금을 설정해야 한다.
      */
     private void sort(ColumnSort sort) {
         if (sort != null) {
-            Sorter sorter = new Sorter(this.headers[sort.getIndex()], sort);
-            Collections.sort(this.lines, sorter);
+            Sorter sorter = new Sorter(this.lines, this.headers[sort.getIndex()], sort);
+            int[] order = new int[this.lines.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            CommonsUtils.sortIndexes(order, sorter);
+            this.lines.reorder(order);
+            this.dirtyRow = 0;
+            this.snapshot = null;
+            this.modCount++;
+            this.chunks = null;
 
             updateTimestamp(true);
         }
     }
 
+    /**
+     * 최근에 접근하지 않은 줄 데이터를 임시 파일로 내려쓰거나 컬럼 데이터를 압축하여 메모리 사용량을 줄인다.<br>
+     * 내려쓰거나 압축한 데이터는 조회/검색할 때 다시 읽으며, 최근에 접근한 데이터는 메모리에 유지한다. 내려쓰지 못한 경우 적재 데이터는 그대로 유지된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param bytes
+     *            줄이려는 메모리 사용량. 단위: byte
+     * @return 줄어든 예상 메모리 사용량. 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see ICsvStore#spill(long)
+     */
+    public long spill(long bytes) {
+        this.lockLines.readLock().lock();
+        try {
+            return this.lines.spill(bytes);
+        } catch (RuntimeException e) {
+            logger.warn("[내려쓰기 실패] 파일: {}, 원인: {}", this.filepath, e.getMessage(), e);
+            return 0;
+        } finally {
+            this.lockLines.readLock().unlock();
+        }
+    }
+
     /**
      * @since 2021. 8. 15.
      * @version 0.1.0
@@ -1236,6 +3192,10 @@ public class MemorizedCsvFile {
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 13.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기/쓰기 잠금 적용
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기 전용 데이터 변경 거부
+     * 2026. 10. 17.     parkjunhong77@gmail.com         변경 내역 기록
+     * 2026. 10. 17.     parkjunhong77@gmail.com         원본 파일과 달라진 줄 위치 기록
      * </pre>
      *
      * @param lineNumber
@@ -1246,9 +3206,13 @@ public class MemorizedCsvFile {
      *             줄 번호가 올바르지 않은 경우
      *
      * @since 2021. 8. 13.
+     * @version 4.0.0
      */
     public Result<Boolean> updateLine(@NotNull Integer lineNumber, Object[] line) throws BadRequestException {
-        synchronized (mutexLines) {
+        assertWritable();
+
+        this.lockLines.writeLock().lock();
+        try {
             // 중복 라인 검증
             assertLineNumber(lineNumber - 1, BadRequestException.class,
                     String.format("범위를 벗어난 줄번호 입니다. 범위: 1 ~ %,d, 입력=%,d", this.lines.size(), lineNumber));
@@ -1256,15 +3220,84 @@ public class MemorizedCsvFile {
             assertDataLength(line, BadRequestException.class);
             // 헤더 정의에 맞는지 데이터 검증.
             validateData(line);
+            // 변경 내역 기록
+            appendJournal(CsvJournalFile.UPDATE, lineNumber, 0, line);
 
             this.lines.set(lineNumber - 1, line);
+            this.dirtyRow = Math.min(this.dirtyRow, lineNumber - 1);
+            this.snapshot = null;
+            this.modCount++;
+            this.chunks = null;
 
             updateTimestamp(true);
 
             return Result.success(true);
+        } finally {
+            this.lockLines.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 원본 파일에 저장한 후 이어 읽을 위치를 갱신한다.<br>
+     * 이어 읽을 수 없는 경우 줄 데이터가 시작하는 위치를 유지하지 않는다. 원본 파일과 달라진 줄 위치는 저장하는 곳에서 갱신한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         달라진 줄 위치를 갱신하지 않음
+     * </pre>
+     *
+     * @param offset
+     *            원본 파일 크기
+     * @param lineCount
+     *            저장한 줄 개수
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see 이 함수를 호출하는 곳에서 반드시 {@link #rowOffsets}에 대해 잠금을 설정해야 한다.
+     */
+    private void updateTail(long offset, int lineCount) {
+        final byte[] signature = readTailSignature(offset);
+        this.tailOffset = signature != null ? offset : -1;
+        this.tailLineCount = lineCount;
+        this.tailSignature = signature;
+        if (signature != null) {
+            this.rowOffsets.put(lineCount, offset);
+        } else {
+            this.rowOffsets.clear();
         }
     }
 
+    /**
+     * UTF-8 bytes로 유지하는 컬럼 목록을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param store
+     *            조회할 데이터
+     * @return 컬럼 위치별 UTF-8 bytes로 유지하는 컬럼. 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private CsvUtf8Column @Nullable [] utf8Columns(ICsvStore store) {
+        CsvUtf8Column[] columns = new CsvUtf8Column[this.headers.length];
+        boolean found = false;
+        for (int column = 0; column < columns.length; column++) {
+            columns[column] = store.getUtf8Column(column);
+            found |= columns[column] != null;
+        }
+        return found ? columns : null;
+    }
+
     /**
      * 데이터 관련 시간 정보를 갱신합니다. <br>
      * 
@@ -1292,55 +3325,19 @@ public class MemorizedCsvFile {
     }
 
     private void validateData(Object[] line) {
-
-        CsvHeader header = null;
-        ColumnDataType type = null;
-        int colIndex = -1;
         Object value = null;
-        for (Entry<Integer, Object> entry : ArrayUtils.entrySet(line)) {
-            value = entry.getValue();
+        for (int colIndex = 0; colIndex < line.length; colIndex++) {
+            value = line[colIndex];
             if (value == null) {
                 continue;
             }
 
-            colIndex = entry.getKey();
-
-            header = this.headers[colIndex];
-            type = header.getDataType();
-
             try {
-                switch (type) {
-                    case INT:
-                        if (value.toString().isEmpty()) {
-                            line[colIndex] = null;
-                        } else {
-                            line[colIndex] = Long.parseLong(value.toString());
-                        }
-                        break;
-                    case NUM:
-                        if (value.toString().isEmpty()) {
-                            line[colIndex] = null;
-                        } else {
-                            line[colIndex] = Double.parseDouble(value.toString());
-                        }
-                        break;
-                    case STR:
-                        if (String.class != value.getClass()) {
-                            throw ExceptionUtils.newException(BadRequestException.class,
-                                    "헤더의 컬럼 데이터 타입과 일치하지 않는 데이터 입니다. header.column-data-type=%s, 입력값: %s", type,
-                                    value.getClass());
-                        }
-                        break;
-                    case GENERAL:
-                        line[colIndex] = value.toString();
-                        break;
-                    default:
-                        // unreachable
-                        break;
-                }
+                line[colIndex] = this.codecs[colIndex].validate(value);
             } catch (NumberFormatException e) {
                 throw ExceptionUtils.newException(BadRequestException.class,
-                        "헤더의 컬럼 데이터 타입과 일치하지 않는 데이터 입니다. header.column-data-type=%s, 입력값: %s", type, value.getClass());
+                        "헤더의 컬럼 데이터 타입과 일치하지 않는 데이터 입니다. header.column-data-type=%s, 입력값: %s",
+                        this.headers[colIndex].getDataType(), value.getClass());
             }
         }
     }
@@ -1353,6 +3350,14 @@ public class MemorizedCsvFile {
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         메모리 매핑된 원본 파일 저장 지원
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기/쓰기 잠금 적용
+     * 2026. 10. 17.     parkjunhong77@gmail.com         스냅샷 조회 지원
+     * 2026. 10. 17.     parkjunhong77@gmail.com         UTF-8 bytes 저장 지원
+     * 2026. 10. 17.     parkjunhong77@gmail.com         읽기 전용 데이터 잠금 없이 조회
+     * 2026. 10. 17.     parkjunhong77@gmail.com         변경 내역을 기록하는 원본 파일 저장 지원
+     * 2026. 10. 17.     parkjunhong77@gmail.com         원본 파일은 달라진 줄부터 저장
+     * 2026. 10. 17.     parkjunhong77@gmail.com         원본 파일 저장은 차례로 수행
      * </pre>
      *
      * @param filepath
@@ -1360,36 +3365,178 @@ public class MemorizedCsvFile {
      * @return
      *
      * @since 2021. 8. 16.
+     * @version 4.0.0
      */
     public Result<Boolean> write(@NotEmpty String filepath) {
-        synchronized (mutexLines) {
-            try (CSVWriter writer = hasHeader //
-                    ? new CSVWriter(new OutputStreamWriter(new FileOutputStream(filepath, false),
-                            this.csvFileConfig.getCharsetName()) //
-                            , this.csvFileConfig.getSeparator(), this.csvFileConfig.getQuotechar(),
-                            this.csvFileConfig.getEscape(), this.headers) //
-                    : new CSVWriter(new OutputStreamWriter(new FileOutputStream(filepath, false),
-                            this.csvFileConfig.getCharsetName()) //
-                            , this.csvFileConfig.getSeparator(), this.csvFileConfig.getQuotechar(),
-                            this.csvFileConfig.getEscape())) {
-                String[] line = null;
-                if (hasHeader) {
-                    writer.writeHeader();
+        if (isSameFile(filepath)) {
+            // 변경 내역을 기록하는 원본 파일에 저장하는 경우 변경 내역 파일도 비운다.
+            if (this.journal != null) {
+                return compactJournal(true);
+            }
+            // 원본 파일은 달라진 줄부터 저장한다.
+            return writeChanges();
+        }
+
+        // 적재가 완료되면 읽기 전용으로 바뀔 수 있으므로 한 번만 확인한다.
+        final boolean frozen = this.frozen;
+        if (!frozen) {
+            this.lockLines.readLock().lock();
+        }
+        ICsvStore store = acquireLines(frozen);
+        try {
+            try (OutputStream out = new FileOutputStream(filepath, false)) {
+                writeLines(store, out, 0, null, -1);
+
+                return Result.success(true);
+            } catch (IOException e) {
+                String errMsg = String.format("[파일 저장 실패] 파일 저장시 에러가 발생하였습니다. 원인=%s", e.getMessage());
+                logger.error(errMsg, e);
+                return Result.error(errMsg);
+            } catch (Exception e) {
+                String errMsg = String.format("[파일 저장 실패] 파일 저장시 에러가 발생하였습니다. 원인=%s", e.getMessage());
+                logger.error(errMsg, e);
+                throw new InternalServerException(errMsg, e);
+            }
+        } finally {
+            releaseLines(store, frozen);
+        }
+    }
+
+    /**
+     * 원본 파일과 달라진 줄부터 원본 파일에 저장한다.<br>
+     * 스냅샷을 저장하는 동안 변경된 줄이 다음에 저장할 때 포함되도록, 스냅샷을 생성하는 시점에 달라진 줄 위치를 가져오고 초기화한다. 메모리 매핑된 원본 파일은 덮어쓰지 않고 교체한 후,
+     * 저장하는 동안 데이터가 변경되지 않은 경우 교체한 파일을 다시 메모리 매핑한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         교체한 메모리 매핑 파일 다시 매핑
+     * 2026. 10. 17.     parkjunhong77@gmail.com         교체한 원본 파일 위치는 데이터가 변경되지 않은 경우에만 기록
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #dirtyRow
+     */
+    private Result<Boolean> writeChanges() {
+        synchronized (this.mutexFile) {
+            // 적재가 완료되면 읽기 전용으로 바뀔 수 있으므로 한 번만 확인한다.
+            final boolean frozen = this.frozen;
+            if (!frozen) {
+                this.lockLines.readLock().lock();
+            }
+            // 읽기 잠금 상태이고 다른 저장은 수행되지 않으므로 데이터 변경과 동시에 수행되지 않는다.
+            final int dirtyRow = this.dirtyRow;
+            final long modCount = this.modCount;
+            final boolean mapped = this.lines instanceof CsvMappedStore;
+            if (!mapped) {
+                this.dirtyRow = Integer.MAX_VALUE;
+            }
+            ICsvStore store = acquireLines(frozen);
+            // 스냅샷인 경우 잠금 없이 저장하므로 저장한 데이터에서 줄 개수를 확인한다.
+            final int size = store.size();
+            Result<Boolean> result;
+            try {
+                result = mapped ? replaceFile(store, this.filepath) : writeChanges(store, dirtyRow);
+            } finally {
+                releaseLines(store, frozen);
+            }
+
+            if (mapped && result.getResult()) {
+                if (frozen) {
+                    replacedFile(size);
+                    return result;
+                }
+
+                // 교체하는 동안 데이터가 변경된 경우 교체한 원본 파일과 달라진 줄이 남아 있으므로 그대로 유지한다.
+                this.lockLines.writeLock().lock();
+                try {
+                    if (this.modCount == modCount) {
+                        replacedFile(size);
+                        remapLines();
+                    } else {
+                        synchronized (this.rowOffsets) {
+                            this.rowOffsets.clear();
+                            this.tailOffset = -1;
+                            this.tailSignature = null;
+                        }
+                    }
+                } finally {
+                    this.lockLines.writeLock().unlock();
                 }
+            }
+            return result;
+        }
+    }
 
-                int index = 0;
-                for (Object[] data : this.lines) {
-                    index++;
-                    line = serialize(index, data);
-                    writer.writeNext(line);
+    /**
+     * 원본 파일과 달라진 줄부터 원본 파일에 저장한다.<br>
+     * 원본 파일에서 달라지지 않은 앞부분은 유지하고 나머지를 잘라낸 후 이어서 저장하며, 원본 파일이 교체되었거나 유지할 수 있는 위치가 없는 경우 처음부터 저장한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         데이터를 확인한 시점에 달라진 줄 위치 사용
+     * </pre>
+     *
+     * @param store
+     *            저장할 데이터. 적재 데이터({@link #lines})인 경우 읽기 잠금을 설정해야 한다.
+     * @param dirtyRow
+     *            저장할 데이터를 확인한 시점에 원본 파일과 달라진 첫번째 줄 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #rowOffsets
+     * @see #dirtyRow
+     */
+    private Result<Boolean> writeChanges(ICsvStore store, int dirtyRow) {
+        synchronized (this.rowOffsets) {
+            try (FileChannel channel = FileChannel.open(Paths.get(this.filepath), StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                final int size = store.size();
+                // #1. 원본 파일에서 유지할 위치 확인
+                Entry<Integer, Long> kept = null;
+                if (this.tailOffset >= 0 && this.tailSignature != null
+                        && hasTail(channel, this.tailOffset, this.tailSignature)) {
+                    kept = this.rowOffsets.floorEntry(Math.min(dirtyRow, size));
                 }
+                // 첫번째 줄부터 저장하는 경우 헤더부터 저장한다.
+                final int from = kept != null ? kept.getKey() : 0;
+                final long offset = from > 0 ? kept.getValue() : 0;
+                this.rowOffsets.tailMap(from, from == 0).clear();
+
+                // #2. 유지할 위치 이후 데이터 저장
+                channel.truncate(offset);
+                channel.position(offset);
+                writeLines(store, Channels.newOutputStream(channel), from, channel, -1);
+                updateTail(channel.position(), size);
+
+                logger.debug("[파일 저장] 파일={}, 유지한 줄 개수={}, 저장한 줄 개수={}", this.filepath, from, size - from);
 
                 return Result.success(true);
             } catch (IOException e) {
+                // 저장하지 못한 원본 파일은 이어 읽거나 유지할 수 없다.
+                this.rowOffsets.clear();
+                this.tailOffset = -1;
+                this.tailSignature = null;
+
                 String errMsg = String.format("[파일 저장 실패] 파일 저장시 에러가 발생하였습니다. 원인=%s", e.getMessage());
                 logger.error(errMsg, e);
                 return Result.error(errMsg);
             } catch (Exception e) {
+                this.rowOffsets.clear();
+                this.tailOffset = -1;
+                this.tailSignature = null;
+
                 String errMsg = String.format("[파일 저장 실패] 파일 저장시 에러가 발생하였습니다. 원인=%s", e.getMessage());
                 logger.error(errMsg, e);
                 throw new InternalServerException(errMsg, e);
@@ -1397,9 +3544,208 @@ public class MemorizedCsvFile {
         }
     }
 
-    class IndexedObject {
+    /**
+     * 주어진 위치부터 줄 데이터를 저장한다.<br>
+     * UTF-8 bytes로 유지하는 컬럼 데이터는 문자열로 변환하지 않고 저장하며, 파일 채널이 주어진 경우 일정 간격마다 줄 데이터가 시작하는 위치를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         일정 간격마다 읽기 잠금 해제 지원
+     * </pre>
+     *
+     * @param store
+     *            조회할 데이터. 적재 데이터({@link #lines})인 경우 읽기 잠금을 설정해야 한다.
+     * @param out
+     *            출력 스트림. 닫지 않는다.
+     * @param from
+     *            저장할 첫번째 줄 위치. 0인 경우 헤더부터 저장한다.
+     * @param channel
+     *            원본 파일 채널. 출력 스트림이 저장하는 채널이며, <code>null</code>인 경우 위치를 기록하지 않는다.
+     * @param modCount
+     *            저장을 시작할 때 데이터 변경 횟수. 0 이상인 경우 일정 간격마다 읽기 잠금을 해제했다가 다시 설정하며, 음수인 경우 잠금을 해제하지 않는다.
+     * @throws IOException
+     *            저장할 수 없는 경우
+     * @throws ConcurrentModificationException
+     *            읽기 잠금을 해제한 동안 데이터가 변경된 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #rowOffsets
+     */
+    private void writeLines(ICsvStore store, OutputStream out, int from, @Nullable FileChannel channel, long modCount)
+            throws IOException {
+        final int size = store.size();
+
+        // UTF-8 bytes로 유지하는 컬럼이 있는 경우 문자열로 변환하지 않고 저장한다.
+        final CsvUtf8Column[] utf8Columns = utf8Columns(store);
+        if (utf8Columns != null && CSVUtf8Writer.supports(this.csvFileConfig)) {
+            CSVUtf8Writer writer = new CSVUtf8Writer(out, this.csvFileConfig.getSeparator(),
+                    this.csvFileConfig.getQuotechar(), this.csvFileConfig.getEscape(), hasHeader ? this.headers : null);
+            if (hasHeader && from == 0) {
+                writer.writeHeader();
+            }
+
+            byte[] bytes = new byte[CSVWriter.INITIAL_STRING_SIZE];
+            for (int index = from; index < size; index++) {
+                if (channel != null && index > from && index % ROW_OFFSET_INTERVAL == 0) {
+                    writer.flush();
+                    this.rowOffsets.put(index, channel.position());
+                }
+                if (modCount >= 0 && index > from && index % ROW_OFFSET_INTERVAL == 0) {
+                    yieldLines(modCount);
+                }
+
+                for (int column = 0; column < utf8Columns.length; column++) {
+                    CsvUtf8Column utf8Column = utf8Columns[column];
+                    if (utf8Column == null) {
+                        writer.writeField(store.getText(index, column));
+                        continue;
+                    }
+
+                    int length = utf8Column.length(index);
+                    if (length == CsvUtf8Column.NULL_LENGTH) {
+                        writer.writeNull();
+                        continue;
+                    }
+                    if (length > bytes.length) {
+                        bytes = new byte[Math.max(length, bytes.length << 1)];
+                    }
+                    utf8Column.getBytes(index, bytes, 0);
+                    writer.writeField(bytes, 0, length);
+                }
+                writer.endLine();
+            }
+            writer.flush();
+        } else {
+            CSVWriter writer = hasHeader //
+                    ? new CSVWriter(new OutputStreamWriter(out, this.csvFileConfig.getCharsetName()) //
+                            , this.csvFileConfig.getSeparator(), this.csvFileConfig.getQuotechar(),
+                            this.csvFileConfig.getEscape(), this.headers) //
+                    : new CSVWriter(new OutputStreamWriter(out, this.csvFileConfig.getCharsetName()) //
+                            , this.csvFileConfig.getSeparator(), this.csvFileConfig.getQuotechar(),
+                            this.csvFileConfig.getEscape());
+            if (hasHeader && from == 0) {
+                writer.writeHeader();
+            }
+
+            String[] line = null;
+            for (int index = from; index < size; index++) {
+                if (channel != null && index > from && index % ROW_OFFSET_INTERVAL == 0) {
+                    writer.flush();
+                    this.rowOffsets.put(index, channel.position());
+                }
+                if (modCount >= 0 && index > from && index % ROW_OFFSET_INTERVAL == 0) {
+                    yieldLines(modCount);
+                }
+
+                line = serialize(store, index + 1, index);
+                writer.writeNext(line);
+            }
+            writer.flush();
+            // 출력 오류를 예외로 전달하지 않는다.
+            if (writer.checkError()) {
+                throw new IOException("CSV 데이터를 저장하지 못하였습니다.");
+            }
+        }
+
+        if (channel != null) {
+            this.rowOffsets.put(size, channel.position());
+        }
+    }
+
+    /**
+     * 적재 데이터를 스냅샷 파일로 저장한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param path
+     *            스냅샷 파일 경로
+     * @param key
+     *            원본 파일 식별 키
+     * @throws IOException
+     *            파일을 쓸 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see CsvSnapshotFile#write(Path, String, int, ICsvStore)
+     */
+    public void writeSnapshot(Path path, String key) throws IOException {
+        this.lockLines.readLock().lock();
+        try {
+            CsvSnapshotFile.write(path, key, this.headers.length, this.lines);
+        } finally {
+            this.lockLines.readLock().unlock();
+        }
+    }
+
+    /**
+     * 설정한 읽기 잠금을 해제하여 대기 중인 데이터 변경을 먼저 수행하도록 한 후 다시 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param modCount
+     *            읽기 잠금을 설정했을 때 데이터 변경 횟수
+     * @throws ConcurrentModificationException
+     *             읽기 잠금을 해제한 동안 데이터가 변경된 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see 이 함수를 호출하는 곳에서 반드시 {@link #lockLines}에 대해 읽기 잠금을 설정해야 한다.
+     */
+    private void yieldLines(long modCount) throws ConcurrentModificationException {
+        this.lockLines.readLock().unlock();
+        this.lockLines.readLock().lock();
+        if (this.modCount != modCount) {
+            throw new ConcurrentModificationException("CSV 데이터가 변경되었습니다. 파일=" + this.filepath);
+        }
+    }
+
+    /**
+     * 검색 조건 데이터를 컬럼 데이터 타입에 맞게 미리 변환하여 유지하는 클래스.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    static class ColumnFilter {
+        /** 컬럼 index */
         private final int index;
-        private final Object[] value;
+        /** 컬럼 데이터 타입 */
+        private final ColumnDataType dataType;
+        /** 비교 연산자 */
+        private final ColumnOp op;
+        /** {@link ColumnDataType#INT} 비교 데이터 */
+        private long longValue;
+        /** {@link ColumnDataType#NUM} 비교 데이터 */
+        private double doubleValue;
+        /** {@link ColumnDataType#STR} 비교 데이터 */
+        private String strValue;
+        /** {@link ColumnOp#RX} 정규식 */
+        private Pattern pattern;
+        /** 값 사전을 사용하는 컬럼의 비교 데이터 code */
+        private int code = CsvDictionary.NULL_CODE;
+        /** 값 사전을 사용하는 컬럼의 code 별 일치 여부 */
+        private boolean[] codeMatched;
+        /** UTF-8 bytes로 유지하는 컬럼. {@link ColumnOp#RX}인 경우 사용하지 않는다. */
+        private CsvUtf8Column utf8Column;
+        /** UTF-8 bytes로 유지하는 컬럼의 비교 데이터 */
+        private byte[] utf8Value;
 
         /**
          * <br>
@@ -1408,85 +3754,139 @@ public class MemorizedCsvFile {
          * [개정이력]
          *      날짜      | 작성자   |   내용
          * ------------------------------------------
-         * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
          * </pre>
          *
-         * @param index
-         *            전체 데이터에서의 Index
-         * @param value
-         *            데이터
-         * @since 2021. 8. 16.
+         * @param header
+         *            컬럼 헤더
+         * @param condition
+         *            검색 조건
+         * @throws NumberFormatException
+         *            숫자 컬럼의 비교 데이터가 숫자가 아닌 경우
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
          */
-        public IndexedObject(int index, Object[] value) {
-            this.index = index;
-            this.value = value;
+        ColumnFilter(CsvHeader header, ColumnCondition condition) throws NumberFormatException {
+            this.index = condition.getIndex();
+            this.dataType = header.getDataType();
+            this.op = condition.getOp();
+            this.strValue = condition.getData().toString();
+
+            switch (this.dataType) {
+                case INT:
+                    if (isComparison(this.op)) {
+                        this.longValue = Long.parseLong(this.strValue);
+                    }
+                    break;
+                case NUM:
+                    if (isComparison(this.op)) {
+                        this.doubleValue = Double.parseDouble(this.strValue);
+                    }
+                    break;
+                case STR:
+                    if (this.op == ColumnOp.RX) {
+                        this.pattern = Pattern.compile(this.strValue);
+                    }
+                    break;
+                default:
+                    break;
+            }
         }
 
         /**
-         * 전체 데이터에서의 Index 를 제공한다. <br>
+         * 값 사전을 사용하는 컬럼의 비교 정보를 설정한다. <br>
          * 
          * <pre>
          * [개정이력]
          *      날짜      | 작성자   |   내용
          * ------------------------------------------
-         * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
          * </pre>
-         * 
-         * @return 전체 데이터에서의 Index
          *
-         * @since 2021. 8. 16.
-         * 
-         * @see #index
+         * @param dictionary
+         *            값 사전
+         * @param codeMatched
+         *            code 별 일치 여부
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
          */
-        public int getIndex() {
-            return index;
+        void encode(CsvDictionary dictionary, boolean[] codeMatched) {
+            this.code = dictionary.code(this.strValue);
+            this.codeMatched = codeMatched;
         }
 
         /**
-         *
-         * <br>
+         * UTF-8 bytes로 유지하는 컬럼의 비교 정보를 설정한다. <br>
          * 
          * <pre>
          * [개정이력]
          *      날짜      | 작성자   |   내용
          * ------------------------------------------
-         * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
          * </pre>
-         * 
-         * @return the value
          *
-         * @since 2021. 8. 16.
-         * 
-         * @see #value
+         * @param utf8Column
+         *            UTF-8 bytes로 유지하는 컬럼. <code>null</code>인 경우 문자열로 비교한다.
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
          */
-        public Object[] getValue() {
-            return value;
+        void encode(@Nullable CsvUtf8Column utf8Column) {
+            if (utf8Column != null && this.op != ColumnOp.RX) {
+                this.utf8Column = utf8Column;
+                this.utf8Value = this.strValue.getBytes(StandardCharsets.UTF_8);
+            } else {
+                this.utf8Column = null;
+                this.utf8Value = null;
+            }
         }
 
         /**
-         * @since 2021. 8. 16.
+         * 크기 비교 연산자 여부를 제공한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param op
+         *            비교 연산자
+         * @return
          *
-         * @see java.lang.Object#toString()
+         * @since 2026. 10. 17.
+         * @version 4.0.0
          */
-        @Override
-        public String toString() {
-            StringBuilder builder = new StringBuilder();
-            builder.append("IndexedObject [index=");
-            builder.append(index);
-            builder.append(", value=");
-            builder.append(Arrays.toString(value));
-            builder.append("]");
-            return builder.toString();
+        private static boolean isComparison(ColumnOp op) {
+            switch (op) {
+                case EQ:
+                case NE:
+                case GE:
+                case GT:
+                case LE:
+                case LT:
+                    return true;
+                default:
+                    return false;
+            }
         }
-
     }
 
-    class Sorter implements Comparator<Object[]> {
+    class Sorter implements IntBinaryOperator {
 
+        /** 정렬할 데이터 */
+        private final ICsvStore store;
         private final CsvHeader header;
         private final ColumnSort sort;
         private final Integer index;
         private final ColumnDirection orderBy;
+        /** 값 사전을 사용하는 컬럼의 code 별 정렬 순위 */
+        private final int[] ranks;
+        /** UTF-8 bytes로 유지하는 컬럼 */
+        private final CsvUtf8Column utf8Column;
 
         /**
          * <br>
@@ -1496,43 +3896,73 @@ public class MemorizedCsvFile {
          *      날짜      | 작성자   |   내용
          * ------------------------------------------
          * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+         * 2026. 10. 17.     parkjunhong77@gmail.com         값 사전 정렬 순위 적용
+         * 2026. 10. 17.     parkjunhong77@gmail.com         UTF-8 bytes 정렬 적용
+         * 2026. 10. 17.     parkjunhong77@gmail.com         정렬할 데이터 지정
          * </pre>
          *
+         * @param store
+         *            정렬할 데이터. 적재 데이터({@link #lines})인 경우 잠금을 설정해야 한다.
          * @param header
          * @param sort
          * @since 2021. 8. 15.
-         * @version 0.1.0
+         * @version 4.0.0
          */
-        public Sorter(CsvHeader header, ColumnSort sort) {
+        public Sorter(ICsvStore store, CsvHeader header, ColumnSort sort) {
+            this.store = store;
             this.header = header;
             this.sort = sort;
             this.index = sort.getIndex();
             this.orderBy = sort.getDirection();
+
+            CsvDictionary dictionary = header.getDataType() == ColumnDataType.STR ? store.getDictionary(this.index)
+                    : null;
+            this.ranks = dictionary != null ? dictionary.ranks() : null;
+            this.utf8Column = header.getDataType() == ColumnDataType.STR ? store.getUtf8Column(this.index) : null;
         }
 
         /**
+         * 줄 위치에 해당하는 데이터를 비교한다.
+         * 
          * @since 2021. 8. 15.
-         * @version 0.1.0
+         * @version 4.0.0
          *
-         * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+         * @see java.util.function.IntBinaryOperator#applyAsInt(int, int)
          */
         @Override
-        public int compare(Object[] o1, Object[] o2) {
+        public int applyAsInt(int r1, int r2) {
             int c = 0;
+            boolean null1 = store.isNull(r1, this.index);
+            boolean null2 = store.isNull(r2, this.index);
             switch (header.getDataType()) {
                 case INT:
-                    Long i1 = (Long) o1[this.index];
-                    Long i2 = (Long) o2[this.index];
-                    c = ComparableUtils.compare(i1, i2);
+                    c = null1 || null2 //
+                            ? ComparableUtils.compare(null1 ? null : store.getLong(r1, this.index),
+                                    null2 ? null : store.getLong(r2, this.index)) //
+                            : Long.compare(store.getLong(r1, this.index), store.getLong(r2, this.index));
                     break;
                 case NUM:
-                    Double n1 = (Double) o1[this.index];
-                    Double n2 = (Double) o2[this.index];
-                    c = ComparableUtils.compare(n1, n2);
+                    c = null1 || null2 //
+                            ? ComparableUtils.compare(null1 ? null : store.getDouble(r1, this.index),
+                                    null2 ? null : store.getDouble(r2, this.index)) //
+                            : Double.compare(store.getDouble(r1, this.index), store.getDouble(r2, this.index));
                     break;
                 case STR:
-                    String s1 = (String) o1[this.index];
-                    String s2 = (String) o2[this.index];
+                    if (this.ranks != null) {
+                        c = null1 || null2 //
+                                ? ComparableUtils.compare(null1 ? null : "", null2 ? null : "") //
+                                : Integer.compare(this.ranks[store.getCode(r1, this.index)],
+                                        this.ranks[store.getCode(r2, this.index)]);
+                        break;
+                    }
+                    if (this.utf8Column != null) {
+                        c = null1 || null2 //
+                                ? ComparableUtils.compare(null1 ? null : "", null2 ? null : "") //
+                                : this.utf8Column.compare(r1, r2);
+                        break;
+                    }
+                    String s1 = store.getString(r1, this.index);
+                    String s2 = store.getString(r2, this.index);
                     c = ComparableUtils.compare(s1, s2);
                     break;
                 case GENERAL:
@@ -42,6 +42,9 @@ import open.commons.spring.csv.ColumnCondition;
 import open.commons.spring.csv.CsvFileOnMemory;
 import open.commons.spring.csv.CsvFileSampling;
 import open.commons.spring.csv.CsvHeader;
+import open.commons.spring.csv.CsvLoadJob;
+import open.commons.spring.csv.CsvLoadOptions;
+import open.commons.spring.csv.CsvLoadState;
 import open.commons.spring.csv.ManagedCsvFile;
 
 /**
@@ -53,6 +56,28 @@ import open.commons.spring.csv.ManagedCsvFile;
  */
 public interface ICsvService {
 
+    /**
+     * 진행 중인 CSV 파일 비동기 적재 작업을 취소한다.<br>
+     * 적재 작업은 적재한 데이터를 해제하고 {@link CsvLoadState#CANCELLED} 상태로 끝난다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 메모리 적재 데이터 식별정보
+     * @return 취소를 요청한 경우 <code>true</code>, 이미 끝난 적재 작업인 경우 <code>false</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #loadAsync(String, CsvFileConfig, CsvHeader[], boolean, String, boolean, CsvLoadOptions)
+     */
+    public Result<Boolean> cancelLoad(@NotBlank String uuid);
+
     /**
      * 줄 번호에 해당하는 데이터를 삭제한다. <br>
      * <br>
@@ -74,6 +99,27 @@ public interface ICsvService {
      */
     public Result<Boolean> delete(@NotBlank String uuid, @Min(1) int lineNumber);
 
+    /**
+     * CSV 파일 비동기 적재 작업의 상태와 진행 정보를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 메모리 적재 데이터 식별정보
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #loadAsync(String, CsvFileConfig, CsvHeader[], boolean, String, boolean, CsvLoadOptions)
+     */
+    public Result<CsvLoadJob> getLoadJob(@NotBlank String uuid);
+
     /**
      * 메모리에 적재된 CSV 파일 데이터들의 식별정보 목록을 제공한다. <br>
      * 
@@ -90,6 +136,43 @@ public interface ICsvService {
      */
     public Result<Set<String>> getManagedFiles();
 
+    /**
+     * 메모리에 적재된 CSV 파일 데이터 전체의 예상 메모리 사용량을 제공한다.<br>
+     * 적재 중인 데이터를 포함한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public Result<Long> getMemoryUsage();
+
+    /**
+     * CSV 파일 메모리 적재 데이터의 예상 메모리 사용량을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 메모리 적재 데이터 식별정보
+     * @return 메모리 사용량과 컬럼별 메모리 사용량을 포함한 적재 정보
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public Result<CsvFileOnMemory> getMemoryUsage(@NotBlank String uuid);
+
     /**
      * 
      * <br>
@@ -147,13 +230,87 @@ public interface ICsvService {
             boolean hasHeader, @NotBlank String filepath, boolean reload);
 
     /**
-     * 주어진 개수만큼 데이터를 제공한다. <br>
+     * 적재 설정에 맞게 CSV 파일을 메모리에 로딩한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 메모리 적재 데이터 식별정보
+     * @param config
+     *            CSV 파일 설정
+     * @param headers
+     *            CSV 파일 헤더 정보
+     * @param hasHeader
+     *            헤더 여부
+     * @param filepath
+     *            CSV 파일 경로
+     * @param reload
+     *            재로딩 여부
+     * @param options
+     *            CSV 파일 적재 설정
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public Result<CsvFileOnMemory> load(@NotBlank String uuid, CsvFileConfig config, @NotEmpty CsvHeader[] headers,
+            boolean hasHeader, @NotBlank String filepath, boolean reload, @NotNull CsvLoadOptions options);
+
+    /**
+     * 적재 설정에 맞게 CSV 파일을 메모리에 로딩하는 작업을 시작하고, 적재 작업 정보를 바로 제공한다.<br>
+     * 적재 작업의 진행 정보는 {@link #getLoadJob(String)}로 확인하고, {@link #cancelLoad(String)}로 취소한다. 같은 식별정보로 진행 중인 적재 작업이
+     * 있는 경우 새로운 작업을 시작하지 않는다.<br>
+     * 적재하는 동안에도 이미 적재한 데이터를 {@link #read(String, Integer, Integer)}, {@link #search(String, List, Pageable, boolean)}로
+     * 조회/검색할 수 있다. 단, 같은 식별정보로 적재된 데이터가 있는 경우 적재를 완료할 때까지 기존 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         적재 중 조회/검색 지원
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 메모리 적재 데이터 식별정보
+     * @param config
+     *            CSV 파일 설정
+     * @param headers
+     *            CSV 파일 헤더 정보
+     * @param hasHeader
+     *            헤더 여부
+     * @param filepath
+     *            CSV 파일 경로
+     * @param reload
+     *            재로딩 여부
+     * @param options
+     *            CSV 파일 적재 설정
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #load(String, CsvFileConfig, CsvHeader[], boolean, String, boolean, CsvLoadOptions)
+     */
+    public Result<CsvLoadJob> loadAsync(@NotBlank String uuid, CsvFileConfig config, @NotEmpty CsvHeader[] headers,
+            boolean hasHeader, @NotBlank String filepath, boolean reload, @NotNull CsvLoadOptions options);
+
+    /**
+     * 주어진 개수만큼 데이터를 제공한다.<br>
+     * 비동기 적재 작업이 적재 중인 데이터는 이미 적재한 줄 범위를 제공하며, 결과에 적재를 완료하지 않은 데이터임을 표시한다
+     * ({@link ManagedCsvFile#isComplete()}). <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         적재 중인 데이터 조회 지원
      * </pre>
      *
      * @param uuid
@@ -165,6 +322,9 @@ public interface ICsvService {
      * @return
      *
      * @since 2021. 8. 15.
+     * @version 4.0.0
+     * 
+     * @see #loadAsync(String, CsvFileConfig, CsvHeader[], boolean, String, boolean, CsvLoadOptions)
      */
     public Result<ManagedCsvFile> read(@NotBlank String uuid, @Min(1) Integer lineNumber, @Min(1) Integer count);
 
@@ -206,6 +366,31 @@ public interface ICsvService {
      */
     public Result<CsvFileOnMemory> reload(@NotBlank String uuid, @NotBlank String filepath);
 
+    /**
+     * CSV 파일에 덧붙인 데이터를 이어서 적재한다.<br>
+     * 이전에 읽은 위치부터 줄바꿈으로 끝난 데이터까지만 읽어서 적재 데이터의 마지막 줄 뒤에 추가하며, 파일이 줄어들거나 교체되어 이어 읽을 수 없는 경우 파일 전체를 다시 적재한다.<br>
+     * 줄 단위로 데이터를 덧붙이기만 하는 파일에 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 메모리 적재 데이터 식별정보
+     * @param filepath
+     *            CSV 파일 경로
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #reload(String, String)
+     */
+    public Result<CsvFileOnMemory> reloadTail(@NotBlank String uuid, @NotBlank String filepath);
+
     /**
      * CSV 파일 데이터를 요청한만큼 제공한다. <br>
      * 
@@ -231,12 +416,16 @@ public interface ICsvService {
     /**
      * 
      * <br>
+     * 비동기 적재 작업이 적재 중인 데이터는 적재를 완료할 때까지 기다린 후 검색한다. <br>
+     * 정렬 조건({@link Pageable#getSort()})은 검색 결과에만 적용하며, 적재한 데이터의 순서는 변경하지 않는다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 16.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         적재 중인 데이터 검색 지원
+     * 2026. 10. 17.     parkjunhong77@gmail.com         정렬 조건을 검색 결과에만 적용
      * </pre>
      *
      * @param uuid
@@ -248,10 +437,42 @@ public interface ICsvService {
      * @return
      *
      * @since 2021. 8. 16.
+     * @version 4.0.0
+     * 
+     * @see #search(String, List, Pageable, boolean)
      */
     public Result<ManagedCsvFile> search(@NotBlank String uuid, List<ColumnCondition> conditions,
             @NotNull Pageable pageable);
 
+    /**
+     * 비동기 적재 작업이 적재 중인 데이터를 검색하는 방식을 지정하여 검색한다.<br>
+     * 이미 적재한 데이터만 검색한 결과는 적재를 완료하지 않은 데이터임을 표시하며({@link ManagedCsvFile#isComplete()}), 정렬 조건은 검색 결과에만 적용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 메모리 적재 데이터 식별정보
+     * @param conditions
+     *            검색 조건
+     * @param pageable
+     *            pagination 설정
+     * @param partial
+     *            적재 중인 데이터인 경우 이미 적재한 데이터만 검색할지 여부. <code>false</code>인 경우 적재를 완료할 때까지 기다린다.
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #loadAsync(String, CsvFileConfig, CsvHeader[], boolean, String, boolean, CsvLoadOptions)
+     */
+    public Result<ManagedCsvFile> search(@NotBlank String uuid, List<ColumnCondition> conditions,
+            @NotNull Pageable pageable, boolean partial);
+
     /**
      * 주어진 줄 번호 데이터를 변경한다. <br>
      * 
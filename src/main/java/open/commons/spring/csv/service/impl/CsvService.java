@@ -26,19 +26,51 @@
 
 package open.commons.spring.csv.service.impl;
 
+import java.io.Closeable;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import jakarta.validation.constraints.Min;
@@ -46,8 +78,10 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -64,16 +98,24 @@ import open.commons.core.utils.CsvUtils;
 import open.commons.core.utils.ExceptionUtils;
 import open.commons.core.utils.IOUtils;
 import open.commons.core.utils.NumberUtils;
+import open.commons.spring.csv.CSVUtf8Reader;
 import open.commons.spring.csv.ColumnCondition;
 import open.commons.spring.csv.ColumnDirection;
 import open.commons.spring.csv.ColumnSort;
 import open.commons.spring.csv.CsvFileOnMemory;
 import open.commons.spring.csv.CsvFileSampling;
 import open.commons.spring.csv.CsvHeader;
+import open.commons.spring.csv.CsvLoadJob;
+import open.commons.spring.csv.CsvLoadOptions;
+import open.commons.spring.csv.CsvLoadState;
+import open.commons.spring.csv.CsvStorageType;
 import open.commons.spring.csv.ManagedCsvFile;
 import open.commons.spring.csv.MemorizedCsvFile;
 import open.commons.spring.csv.service.ICsvService;
 import open.commons.spring.csv.service.PositionDir;
+import open.commons.spring.csv.storage.CsvChunkIndex;
+import open.commons.spring.csv.storage.CsvJournalFile;
+import open.commons.spring.csv.storage.CsvSnapshotFile;
 import open.commons.spring.web.mvc.IAsyncJobHandler;
 import open.commons.spring.web.mvc.service.AbstractGenericService;
 import open.commons.spring.web.servlet.exception.BadRequestException;
@@ -110,13 +152,38 @@ import com.opencsv.CSVReader;
  * 
  * <li>속성: application.csv.ttl.cron
  * </ul>
+ * <li>적재 데이터 전체 메모리 사용량 한도:
+ * <ul>
+ * <li>패턴: [0-9]+[k|m|g]?, (k: KiB, m: MiB, g: GiB, 단위가 없는 경우 byte). 0인 경우 제한하지 않음.
+ * <li>속성: application.csv.memory.max
+ * <li>한도를 초과하는 경우 오랫동안 사용하지 않은 파일부터 최근에 접근하지 않은 줄 데이터를 임시 파일로 내려쓰거나(ROW) 최근에 검색하지 않은 컬럼을 압축하며(COLUMNAR), 그래도 초과하는 경우 적재를 거부한다.
+ * </ul>
+ * <li>적재 데이터 스냅샷 디렉토리:
+ * <ul>
+ * <li>속성: application.csv.snapshot.dir
+ * <li>설정한 경우 CSV 파일을 적재한 후 변환된 데이터를 스냅샷 파일로 저장하고, 이후 같은 파일(경로, 크기, 수정시간, 헤더 설정이 같은 파일)을 적재할 때 CSV 파일 대신 스냅샷 파일을 읽는다.
+ * 설정하지 않은 경우 사용하지 않는다.
+ * </ul>
+ * <li>변경 내역 디렉토리:
+ * <ul>
+ * <li>속성: application.csv.journal.dir
+ * <li>설정한 경우 데이터를 변경(추가/변경/삭제)하기 전에 변경 내역을 파일에 덧붙여 기록하고, 이후 같은 파일을 적재할 때 기록된 변경 내역을 적용한다. 설정하지 않은 경우 사용하지 않는다.
+ * <li>기록된 변경 내역은 application.csv.journal.compact.delay(단위: ms, 기본값: 60000) 주기마다 원본 CSV 파일에 저장하고 비운다.
+ * <li>원본 CSV 파일이 외부에서 변경된 경우 기록된 변경 내역은 적용하지 않고, 변경 내역 파일을 '.stale'을 붙인 이름으로 보관한다.
+ * </ul>
+ * <li>비동기 적재 작업 실행기:
+ * <ul>
+ * <li>속성: application.csv.load.threads (동시에 실행하는 적재 작업 개수, 기본값: 0 - 사용 가능한 프로세서 개수)
+ * <li>속성: application.csv.load.queue (실행을 기다리는 적재 작업 최대 개수, 기본값: 64)
+ * <li>기다리는 작업이 최대 개수를 넘는 경우 적재 요청을 거부하며, 서비스를 종료할 때 실행을 기다리거나 진행 중인 적재 작업을 취소한다.
+ * </ul>
  * </ul>
  * 
  * @since 2021. 8. 12.
  * @version 0.1.0
  * @author Park Jun-Hong (parkjunhong77@gmail.com)
  */
-public class CsvService extends AbstractGenericService implements ICsvService, IAsyncJobHandler {
+public class CsvService extends AbstractGenericService implements ICsvService, IAsyncJobHandler, DisposableBean {
 
     public static final String BEAN_QUALIFIER = "open.commons.csv.service.impl.CsvService";
 
@@ -132,11 +199,35 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
      */
     private static final Map<String, MemorizedCsvFile> MANAGED_CSV_FILES = new ConcurrentSkipListMap<>();
     private static final Mutex MUTEX_CSV_FILE = new Mutex("mutex for 'CSV_FILE'");
+    /** 메모리 적재 중인 CSV 파일 데이터 */
+    private static final Set<MemorizedCsvFile> LOADING_CSV_FILES = ConcurrentHashMap.newKeySet();
+    /**
+     * CSV 파일 비동기 적재 작업
+     * <ul>
+     * <li>키: CSV 파일 적재 데이터 식별 정보
+     * <li>값: 적재 작업
+     * </ul>
+     */
+    private static final Map<String, LoadJob> LOAD_JOBS = new ConcurrentHashMap<>();
+    /** 서비스를 종료할 때 진행 중인 비동기 적재 작업이 끝나기를 기다리는 시간. 단위: ms (millisecond) */
+    private static final long LOAD_SHUTDOWN_TIMEOUT = 10_000;
+    /** 적재 중 메모리 사용량 한도를 검증하는 줄 간격 */
+    private static final int MEMORY_CHECK_INTERVAL = 8192;
+    /** 여러 작업으로 동시에 해석하는 경우 CSV 파일을 나누는 범위 크기. 단위: byte */
+    private static final long PARALLEL_RANGE_SIZE = 1 << 22;
 
     /** 시간 포맷 */
     private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.S");
     /** CSV 파일 유지 유효시간. 단위: ms (millisecond) */
     private final int ttl;
+    /** 적재 데이터 전체 메모리 사용량 한도. 단위: byte (0: 제한하지 않음) */
+    private final long memoryMax;
+    /** 적재 데이터 스냅샷 디렉토리 (<code>null</code>: 사용하지 않음) */
+    private final @Nullable Path snapshotDir;
+    /** 변경 내역 디렉토리 (<code>null</code>: 사용하지 않음) */
+    private final @Nullable Path journalDir;
+    /** CSV 파일 비동기 적재 작업 실행기. 동시에 실행하는 작업과 대기하는 작업 개수를 제한한다. */
+    private final ThreadPoolExecutor loadExecutor;
 
     /**
      * <br>
@@ -162,14 +253,231 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 12.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         메모리 사용량 한도 설정 추가
      * </pre>
      * 
      * @param ttl
      *            TTL 유효시간 표기. 포맷: ^([1-9][0-9]*)([s|m|h])$
      *
      * @since 2021. 8. 12.
+     * @version 4.0.0
      */
     public CsvService(@Value("${application.csv.ttl.value}") String ttl) {
+        this(ttl, "0");
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param ttl
+     *            TTL 유효시간 표기. 포맷: ^([1-9][0-9]*)([s|m|h])$
+     * @param memoryMax
+     *            적재 데이터 전체 메모리 사용량 한도 표기. 포맷: ^([0-9]+)([k|m|g])?$, 0인 경우 제한하지 않는다.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvService(@Value("${application.csv.ttl.value}") String ttl,
+            @Value("${application.csv.memory.max:0}") String memoryMax) {
+        this(ttl, memoryMax, "", "");
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param ttl
+     *            TTL 유효시간 표기. 포맷: ^([1-9][0-9]*)([s|m|h])$
+     * @param memoryMax
+     *            적재 데이터 전체 메모리 사용량 한도 표기. 포맷: ^([0-9]+)([k|m|g])?$, 0인 경우 제한하지 않는다.
+     * @param snapshotDir
+     *            적재 데이터 스냅샷 디렉토리. 빈 문자열인 경우 사용하지 않는다.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvService(@Value("${application.csv.ttl.value}") String ttl,
+            @Value("${application.csv.memory.max:0}") String memoryMax,
+            @Value("${application.csv.snapshot.dir:}") String snapshotDir) {
+        this(ttl, memoryMax, snapshotDir, "");
+    }
+
+    /**
+     * 비동기 적재 작업이 끝날 때까지 기다린 후 적재 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 적재 데이터 식별 정보
+     * @return
+     * @throws BadRequestException
+     *             적재를 완료하지 못한 경우
+     * @throws InternalServerException
+     *             기다리는 도중 중단된 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private MemorizedCsvFile awaitCsvFile(String uuid) {
+        LoadJob job = LOAD_JOBS.get(uuid);
+        if (job != null) {
+            try {
+                job.done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ExceptionUtils.newException(InternalServerException.class, e, "적재 완료를 기다리는 도중 중단되었습니다. uuid=%s",
+                        uuid);
+            }
+
+            if (job.state != CsvLoadState.COMPLETED) {
+                Result<CsvFileOnMemory> result = job.result;
+                String errMsg = String.format("식별정보(%s)에 해당하는 파일을 적재하지 못하였습니다. 상태=%s, 원인=%s", uuid, job.state.get(),
+                        result != null ? result.getMessage() : null);
+                logger.warn(errMsg);
+                throw new BadRequestException(errMsg);
+            }
+        }
+
+        synchronized (MUTEX_CSV_FILE) {
+            return getCsvFile(uuid);
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.service.ICsvService#cancelLoad(java.lang.String)
+     */
+    @Override
+    public Result<Boolean> cancelLoad(@NotBlank String uuid) {
+        AssertUtils2.notBlank(uuid);
+
+        boolean cancelled = getJob(uuid).cancel();
+        if (cancelled) {
+            logger.info("[적재취소 요청] uuid={}", uuid);
+        }
+
+        return Result.success(cancelled);
+    }
+
+    /**
+     * 설정된 주기마다 기록된 변경 내역을 원본 CSV 파일에 저장하고 변경 내역 파일을 비운다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see MemorizedCsvFile#compactJournal()
+     */
+    @Scheduled(fixedDelayString = "${application.csv.journal.compact.delay:60000}")
+    public void compactJournals() {
+        int count = 0;
+        Result<Boolean> result = null;
+        for (MemorizedCsvFile csvfile : MANAGED_CSV_FILES.values()) {
+            if ((count = csvfile.getJournalCount()) < 1) {
+                continue;
+            }
+
+            StopWatch watch = new StopWatch();
+            watch.start();
+            result = csvfile.compactJournal();
+            watch.stop();
+            if (result.isSuccess()) {
+                logger.info("[변경 내역 저장] 변경 내역: {}, 파일: {}, 경과시간: {}", NumberUtils.INT_TO_STR.apply(count),
+                        csvfile.getFilepath(), watch.getAsPretty());
+            } else {
+                logger.warn("[변경 내역 저장] 변경 내역을 저장하지 못하였습니다. 파일={}, 원인={}", csvfile.getFilepath(), result.getMessage());
+            }
+        }
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param ttl
+     *            TTL 유효시간 표기. 포맷: ^([1-9][0-9]*)([s|m|h])$
+     * @param memoryMax
+     *            적재 데이터 전체 메모리 사용량 한도 표기. 포맷: ^([0-9]+)([k|m|g])?$, 0인 경우 제한하지 않는다.
+     * @param snapshotDir
+     *            적재 데이터 스냅샷 디렉토리. 빈 문자열인 경우 사용하지 않는다.
+     * @param journalDir
+     *            변경 내역 디렉토리. 빈 문자열인 경우 사용하지 않는다.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvService(@Value("${application.csv.ttl.value}") String ttl,
+            @Value("${application.csv.memory.max:0}") String memoryMax,
+            @Value("${application.csv.snapshot.dir:}") String snapshotDir,
+            @Value("${application.csv.journal.dir:}") String journalDir) {
+        this(ttl, memoryMax, snapshotDir, journalDir, 0, 64);
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param ttl
+     *            TTL 유효시간 표기. 포맷: ^([1-9][0-9]*)([s|m|h])$
+     * @param memoryMax
+     *            적재 데이터 전체 메모리 사용량 한도 표기. 포맷: ^([0-9]+)([k|m|g])?$, 0인 경우 제한하지 않는다.
+     * @param snapshotDir
+     *            적재 데이터 스냅샷 디렉토리. 빈 문자열인 경우 사용하지 않는다.
+     * @param journalDir
+     *            변경 내역 디렉토리. 빈 문자열인 경우 사용하지 않는다.
+     * @param loadThreads
+     *            동시에 실행하는 비동기 적재 작업 개수. 0인 경우 사용 가능한 프로세서 개수.
+     * @param loadQueue
+     *            실행을 기다리는 비동기 적재 작업 최대 개수
+     *
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    public CsvService(@Value("${application.csv.ttl.value}") String ttl,
+            @Value("${application.csv.memory.max:0}") String memoryMax,
+            @Value("${application.csv.snapshot.dir:}") String snapshotDir,
+            @Value("${application.csv.journal.dir:}") String journalDir,
+            @Value("${application.csv.load.threads:0}") int loadThreads,
+            @Value("${application.csv.load.queue:64}") int loadQueue) {
         Matcher m = Pattern.compile("^([1-9][0-9]*)([s|m|h])$", Pattern.CASE_INSENSITIVE).matcher(ttl);
         if (m.matches()) {
             int n = Integer.parseInt(m.group(1));
@@ -194,6 +502,47 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
             throw ExceptionUtils.newException(IllegalArgumentException.class,
                     "CSV 파일 TTL(Time To Live) 시간설정이 올바르지 않습니다. 정규식=%s, 입력=%s", ttl);
         }
+
+        m = Pattern.compile("^([0-9]+)([k|m|g])?$", Pattern.CASE_INSENSITIVE).matcher(memoryMax.trim());
+        if (m.matches()) {
+            long n = Long.parseLong(m.group(1));
+            String u = m.group(2);
+            int shift = 0;
+            switch (u != null ? u.toLowerCase() : "") {
+                case "k":
+                    shift = 10;
+                    break;
+                case "m":
+                    shift = 20;
+                    break;
+                case "g":
+                    shift = 30;
+                    break;
+                default:
+                    break;
+            }
+            this.memoryMax = n << shift;
+        } else {
+            throw ExceptionUtils.newException(IllegalArgumentException.class,
+                    "CSV 파일 메모리 사용량 한도 설정이 올바르지 않습니다. 정규식=%s, 입력=%s", "^([0-9]+)([k|m|g])?$", memoryMax);
+        }
+
+        this.snapshotDir = snapshotDir == null || snapshotDir.trim().isEmpty() ? null : Paths.get(snapshotDir.trim());
+        this.journalDir = journalDir == null || journalDir.trim().isEmpty() ? null : Paths.get(journalDir.trim());
+
+        if (loadThreads < 0 || loadQueue < 1) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class,
+                    "CSV 파일 비동기 적재 작업 설정이 올바르지 않습니다. 작업 개수=%s (0 이상), 대기 개수=%s (1 이상)", loadThreads, loadQueue);
+        }
+        final int threads = loadThreads > 0 ? loadThreads : Runtime.getRuntime().availableProcessors();
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.loadExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(loadQueue), r -> {
+            Thread thread = new Thread(r, "csv-load-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 적재 요청이 없는 동안에는 스레드를 유지하지 않는다.
+        this.loadExecutor.allowCoreThreadTimeOut(true);
     }
 
     private long createReleasedTime(MemorizedCsvFile csvfile) {
@@ -220,8 +569,54 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
     }
 
     /**
+     * 비동기 적재 작업 실행기를 종료한다.<br>
+     * 실행을 기다리거나 진행 중인 적재 작업을 취소하고, {@link #LOAD_SHUTDOWN_TIMEOUT} 안에 끝나지 않는 작업은 스레드를 중단한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     *
+     * @see org.springframework.beans.factory.DisposableBean#destroy()
+     */
+    @Override
+    public void destroy() {
+        // 새로운 적재 요청을 거부한 후 취소한다. 실행을 기다리던 작업은 실행되는 즉시 취소된 상태로 끝난다.
+        this.loadExecutor.shutdown();
+        LOAD_JOBS.values().forEach(LoadJob::cancel);
+        try {
+            if (!this.loadExecutor.awaitTermination(LOAD_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                logger.warn("[적재종료] 진행 중인 적재 작업이 끝나지 않아 중단합니다. 대기시간: {}ms", LOAD_SHUTDOWN_TIMEOUT);
+                // 실행하지 못한 작업은 취소된 상태로 끝내서 적재 완료를 기다리는 요청을 해제한다.
+                this.loadExecutor.shutdownNow().forEach(Runnable::run);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.loadExecutor.shutdownNow().forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * 비동기 적재 작업은 이 서비스가 직접 관리({@link #loadAsync(String, CsvFileConfig, CsvHeader[], boolean, String, boolean, CsvLoadOptions)},
+     * {@link #getLoadJob(String)}, {@link #cancelLoad(String)})하므로 비동기 작업 관리 객체를 사용하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 8. 12.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 18.     parkjunhong77@gmail.com         비동기 적재 작업과의 관계 설명 추가
+     * </pre>
+     *
+     * @return 항상 <code>null</code>
+     *
      * @since 2021. 8. 12.
-     * @version 0.1.0
+     * @version 4.0.0
      *
      * @see open.commons.spring.web.mvc.IAsyncJobHandler#getAsyncManagerHolder()
      */
@@ -241,6 +636,77 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
         return csvfile;
     }
 
+    /**
+     * 비동기 적재 작업을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 적재 데이터 식별 정보
+     * @return
+     * @throws BadRequestException
+     *             식별 정보에 해당하는 적재 작업이 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private LoadJob getJob(String uuid) {
+        LoadJob job = LOAD_JOBS.get(uuid);
+        if (job == null) {
+            String errMsg = String.format("식별정보(%s)에 해당하는 적재 작업이 존재하지 않습니다.", uuid);
+            logger.warn(errMsg);
+            throw new BadRequestException(errMsg);
+        }
+
+        return job;
+    }
+
+    /**
+     * 적재 데이터의 변경 내역 파일 경로를 제공한다.<br>
+     * 같은 CSV 파일을 다른 식별 정보로 적재한 경우 변경 내역을 따로 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 적재 데이터 식별 정보
+     * @param filepath
+     *            CSV 파일 경로
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #journalDir
+     */
+    private Path getJournalPath(String uuid, String filepath) {
+        String absolute = Paths.get(filepath).toAbsolutePath().normalize().toString();
+        return this.journalDir
+                .resolve(UUID.nameUUIDFromBytes((uuid + "\n" + absolute).getBytes(StandardCharsets.UTF_8)) + ".journal");
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.service.ICsvService#getLoadJob(java.lang.String)
+     */
+    @Override
+    public Result<CsvLoadJob> getLoadJob(@NotBlank String uuid) {
+        AssertUtils2.notBlank(uuid);
+
+        return Result.success(getJob(uuid).toCsvLoadJob());
+    }
+
     /**
      * @since 2021. 8. 15.
      * @version 0.1.0
@@ -254,6 +720,101 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
         }
     }
 
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.service.ICsvService#getMemoryUsage()
+     */
+    @Override
+    public Result<Long> getMemoryUsage() {
+        return Result.success(getManagedMemoryUsage(null) + getLoadingMemoryUsage());
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.service.ICsvService#getMemoryUsage(java.lang.String)
+     */
+    @Override
+    public Result<CsvFileOnMemory> getMemoryUsage(@NotBlank String uuid) {
+        AssertUtils2.notBlank(uuid);
+
+        return execute(() -> {
+            MemorizedCsvFile csvfile = null;
+            synchronized (MUTEX_CSV_FILE) {
+                csvfile = getCsvFile(uuid);
+            }
+
+            CsvFileOnMemory memory = new CsvFileOnMemory(csvfile.getFilepath(), csvfile.getSize());
+            memory.setHeaders(csvfile.getHeaders());
+            memory.setMemoryUsage(csvfile.getMemoryUsage());
+            memory.setColumnMemoryUsage(csvfile.getColumnMemoryUsage());
+            memory.setColumnCompressionRatio(csvfile.getColumnCompressionRatio());
+
+            return Result.success(memory);
+        }, "메모리 사용량 조회");
+    }
+
+    /**
+     * 조회/검색할 적재 데이터를 제공한다.<br>
+     * 적재된 데이터가 없는 경우 비동기 적재 작업이 적재 중인 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 적재 데이터 식별 정보
+     * @return
+     * @throws BadRequestException
+     *             식별 정보에 해당하는 데이터가 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see MemorizedCsvFile#isLoading()
+     */
+    private MemorizedCsvFile getReadableCsvFile(String uuid) {
+        MemorizedCsvFile csvfile = MANAGED_CSV_FILES.get(uuid);
+        if (csvfile != null) {
+            return csvfile;
+        }
+
+        LoadJob job = LOAD_JOBS.get(uuid);
+        csvfile = job != null ? job.csvfile : null;
+        // 적재 중인 데이터가 없는 경우, 그 사이에 적재를 완료하여 등록되었는지 다시 확인한다.
+        return csvfile != null ? csvfile : getCsvFile(uuid);
+    }
+
+    /**
+     * CSV 파일의 스냅샷 파일 경로를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param filepath
+     *            CSV 파일 경로
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #snapshotDir
+     */
+    private Path getSnapshotPath(String filepath) {
+        String absolute = Paths.get(filepath).toAbsolutePath().normalize().toString();
+        return this.snapshotDir.resolve(UUID.nameUUIDFromBytes(absolute.getBytes(StandardCharsets.UTF_8)) + ".snapshot");
+    }
+
     /**
      * @since 2021. 8. 16.
      * @version 0.1.0
@@ -286,44 +847,250 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
     @Override
     public Result<CsvFileOnMemory> load(@NotBlank String uuid, CsvFileConfig config, @NotEmpty CsvHeader[] headers,
             boolean hasHeader, @NotBlank String filepath, boolean reload) {
+        return load(uuid, config, headers, hasHeader, filepath, reload, new CsvLoadOptions());
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.service.ICsvService#load(java.lang.String, open.commons.core.csv.CsvFileConfig,
+     *      open.commons.spring.csv.CsvHeader[], boolean, java.lang.String, boolean,
+     *      open.commons.spring.csv.CsvLoadOptions)
+     */
+    @Override
+    public Result<CsvFileOnMemory> load(@NotBlank String uuid, CsvFileConfig config, @NotEmpty CsvHeader[] headers,
+            boolean hasHeader, @NotBlank String filepath, boolean reload, @NotNull CsvLoadOptions options) {
         AssertUtils2.notBlanks(uuid, filepath);
         AssertUtils2.notEmpty((Object[]) headers);
+        AssertUtils2.notNull(options);
 
+        return load(uuid, config, headers, hasHeader, filepath, reload, options, new LoadJob(uuid, filepath));
+    }
+
+    /**
+     * 적재 설정에 맞게 CSV 파일을 메모리에 로딩하면서 적재 작업의 진행 정보를 갱신한다.<br>
+     * 적재 작업이 취소된 경우 적재한 데이터를 해제하고 중단한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param uuid
+     *            CSV 파일 메모리 적재 데이터 식별정보
+     * @param config
+     *            CSV 파일 설정
+     * @param headers
+     *            CSV 파일 헤더 정보
+     * @param hasHeader
+     *            헤더 여부
+     * @param filepath
+     *            CSV 파일 경로
+     * @param reload
+     *            재로딩 여부
+     * @param options
+     *            CSV 파일 적재 설정
+     * @param job
+     *            적재 작업
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private Result<CsvFileOnMemory> load(String uuid, CsvFileConfig config, CsvHeader[] headers, boolean hasHeader,
+            String filepath, boolean reload, CsvLoadOptions options, LoadJob job) {
         // #0. 파일 중복 적재 요청 검증
         validateCsvFile(uuid, filepath, reload);
 
+        // #0-1. 메모리 사용량 한도 검증. 다시 읽는 경우 교체될 기존 적재 데이터는 제외한다.
+        final String replacedUuid = reload ? uuid : null;
+        long managedMemoryUsage = reserveMemory(filepath, replacedUuid, getManagedMemoryUsage(replacedUuid));
+        if (managedMemoryUsage < 0) {
+            return rejectLoading(filepath);
+        }
+
         // #1. 파일 적재
         StopWatch watch = new StopWatch();
-        try (CSVReader reader = createCSVReader(config, filepath)) {
-
-            logger.info("[적재시작] 파일: {}", filepath);
+        MemorizedCsvFile managedCsvFile = null;
+        boolean registered = false;
+        // 메모리 매핑 방식은 줄 시작 위치만 색인하므로 CSVReader를 사용하지 않는다.
+        final boolean mapped = options.getStorageType() == CsvStorageType.MAPPED;
+        // 적재 중 덧붙인 데이터는 이어 읽기로 적재하도록, 적재를 시작할 때의 파일 크기만큼만 읽는다.
+        final long fileSize = mapped ? -1 : getFileSize(filepath);
+        job.totalBytes = mapped ? getFileSize(filepath) : fileSize;
+        // 스냅샷 파일과 변경 내역 파일이 CSV 파일과 일치하는지 확인하는 식별 키
+        final String fileKey = this.snapshotDir != null || this.journalDir != null
+                ? createFileKey(config, headers, hasHeader, filepath, mapped ? getFileSize(filepath) : fileSize)
+                : null;
+        // 메모리 매핑 방식은 변환한 데이터를 유지하지 않으므로 스냅샷을 사용하지 않는다.
+        final String snapshotKey = mapped || this.snapshotDir == null || fileSize < 0 ? null : fileKey;
+        final Path snapshotPath = snapshotKey != null ? getSnapshotPath(filepath) : null;
+        // 조각 단위로 읽는 경우 내용이 같은 조각은 기존 적재 데이터의 줄 데이터를 재사용한다.
+        final boolean chunked = !mapped && options.isReuseChunks() && fileSize >= 0;
+        final MemorizedCsvFile previous = reload && chunked ? MANAGED_CSV_FILES.get(uuid) : null;
+        // 여러 작업으로 동시에 해석하는 경우 CSV 파일을 줄 끝에서 나눈 범위별로 해석한다.
+        final boolean parallel = !mapped && options.getParallelism() > 1 && fileSize >= 0;
+        // bytes 단위 해석을 설정하고, UTF-8 문자셋이고 구분 문자가 ASCII 문자인 경우 문자열 배열을 생성하지 않고 bytes 단위로 읽는다.
+        final boolean utf8 = options.isUtf8Reader() && CSVUtf8Reader.supports(config);
+        try (CsvSnapshotFile snapshot = snapshotKey != null ? openSnapshot(snapshotPath, snapshotKey, headers.length) : null;
+                CSVUtf8Reader utf8Reader = mapped || chunked || parallel || snapshot != null || !utf8 ? null
+                        : createCSVUtf8Reader(config, filepath, 0, fileSize < 0 ? Long.MAX_VALUE : fileSize, job.bytesRead);
+                CSVReader reader = mapped || chunked || parallel || snapshot != null || utf8 ? null
+                        : createCSVReader(config, filepath, 0, fileSize < 0 ? Long.MAX_VALUE : fileSize, job.bytesRead)) {
+
+            logger.info("[적재시작] 파일: {}, 스냅샷: {}", filepath, snapshot != null ? snapshotPath : "N/A");
 
             String[] readline = null;
+            Object[] data = null;
             int lineCount = 0;
+            CsvChunkIndex chunks = null;
 
             // #1-1. 메모리 적재 시작
-            MemorizedCsvFile managedCsvFile = new MemorizedCsvFile(uuid, config, headers, hasHeader, filepath);
+            managedCsvFile = new MemorizedCsvFile(uuid, config, headers, hasHeader, filepath, options);
+            LOADING_CSV_FILES.add(managedCsvFile);
+            // 비동기 적재 작업은 적재를 완료하기 전에 조회/검색할 수 있도록 공개한다.
+            if (LOAD_JOBS.get(uuid) == job) {
+                managedCsvFile.shareLoading();
+                job.csvfile = managedCsvFile;
+            }
 
             watch.start();
-            while ((readline = reader.readNext()) != null) {
-                lineCount++;
-                managedCsvFile.loadLineData(lineCount, readline);
-
-                // if (lineCount % 10000 == 0) {
-                // logger.info("[적재 중] {}", NumberUtils.INT_TO_STR.apply(lineCount));
-                // }
+            if (mapped) {
+                lineCount = managedCsvFile.loadMappedFile(job::progress);
+            } else if (snapshot != null) {
+                while ((data = snapshot.readNext()) != null) {
+                    lineCount++;
+                    managedCsvFile.loadSnapshotData(lineCount, data);
+                    if (lineCount % MEMORY_CHECK_INTERVAL == 0) {
+                        job.progress(lineCount);
+                        if ((managedMemoryUsage = reserveMemory(filepath, replacedUuid, managedMemoryUsage)) < 0) {
+                            return rejectLoading(filepath);
+                        }
+                    }
+                }
+            } else if (chunked) {
+                // 줄 바꿈 문자를 byte 단위로 찾을 수 없는 문자열 인코딩은 파일 전체를 하나의 조각으로 읽는다.
+                chunks = CsvChunkIndex.scan(Paths.get(filepath), config, fileSize);
+                final int chunkCount = chunks != null ? chunks.size() : 1;
+                final int[] reused = new int[chunkCount];
+                int reusedChunks = 0;
+                int reusedLines = 0;
+                try (RangeParser parser = new RangeParser(managedCsvFile, config, filepath, options.getParallelism(), utf8)) {
+                    // 재사용할 수 없는 조각은 미리 해석한다.
+                    for (int c = 0; c < chunkCount; c++) {
+                        reused[c] = previous != null && chunks != null ? previous.findChunk(chunks.hash(c), chunks.length(c)) : -1;
+                        // 건너뛸 줄은 첫 번째 조각에만 적용되므로, 첫 번째 조각은 첫 번째 조각으로만 재사용한다.
+                        if (config.getSkip() > 0 && (c == 0) != (reused[c] == 0)) {
+                            reused[c] = -1;
+                        }
+                        if (reused[c] < 0) {
+                            parser.add(chunks != null ? chunks.start(c) : 0, chunks != null ? chunks.end(c) : fileSize);
+                        }
+                    }
+
+                    for (int c = 0; c < chunkCount; c++) {
+                        int rows = reused[c] >= 0 ? managedCsvFile.loadChunkData(previous, reused[c]) : -1;
+                        if (rows >= 0) {
+                            reusedChunks++;
+                            reusedLines += rows;
+                        } else if (reused[c] >= 0) {
+                            // 적재하는 도중 기존 적재 데이터가 변경된 경우
+                            rows = parser.load(chunks.start(c), chunks.end(c), lineCount);
+                        } else {
+                            rows = parser.load(lineCount);
+                        }
+                        lineCount += rows;
+                        if (chunks != null) {
+                            chunks.setRows(c, rows);
+                        }
+                        job.progress(lineCount, chunks != null ? chunks.end(c) : fileSize);
+
+                        if ((managedMemoryUsage = reserveMemory(filepath, replacedUuid, managedMemoryUsage)) < 0) {
+                            return rejectLoading(filepath);
+                        }
+                    }
+                }
+                logger.info("[조각재사용] 조각: {}/{}, 데이터개수: {}, 파일: {}", reusedChunks, chunkCount,
+                        NumberUtils.INT_TO_STR.apply(reusedLines), filepath);
+            } else if (parallel) {
+                try (RangeParser parser = new RangeParser(managedCsvFile, config, filepath, options.getParallelism(), utf8)) {
+                    // 줄 바꿈 문자를 byte 단위로 찾을 수 없는 문자열 인코딩은 파일 전체를 하나의 범위로 읽는다.
+                    long[] ends = parser.split(fileSize);
+                    if (ends == null) {
+                        ends = new long[] { fileSize };
+                    }
+                    for (int i = 0; i < ends.length; i++) {
+                        parser.add(i > 0 ? ends[i - 1] : 0, ends[i]);
+                    }
+
+                    for (int i = 0; i < ends.length; i++) {
+                        lineCount += parser.load(lineCount);
+                        job.progress(lineCount, ends[i]);
+                        if ((managedMemoryUsage = reserveMemory(filepath, replacedUuid, managedMemoryUsage)) < 0) {
+                            return rejectLoading(filepath);
+                        }
+                    }
+                    logger.info("[동시해석] 범위: {}, 작업: {}, 파일: {}", ends.length, options.getParallelism(), filepath);
+                }
+            } else if (utf8Reader != null) {
+                while (utf8Reader.readNext()) {
+                    lineCount++;
+                    managedCsvFile.loadLineData(lineCount, utf8Reader);
+                    if (lineCount % MEMORY_CHECK_INTERVAL == 0) {
+                        job.progress(lineCount);
+                        if ((managedMemoryUsage = reserveMemory(filepath, replacedUuid, managedMemoryUsage)) < 0) {
+                            return rejectLoading(filepath);
+                        }
+                    }
+                }
+            } else {
+                while ((readline = reader.readNext()) != null) {
+                    lineCount++;
+                    managedCsvFile.loadLineData(lineCount, readline);
+                    if (lineCount % MEMORY_CHECK_INTERVAL == 0) {
+                        job.progress(lineCount);
+                        if ((managedMemoryUsage = reserveMemory(filepath, replacedUuid, managedMemoryUsage)) < 0) {
+                            return rejectLoading(filepath);
+                        }
+                    }
+
+                    // if (lineCount % 10000 == 0) {
+                    // logger.info("[적재 중] {}", NumberUtils.INT_TO_STR.apply(lineCount));
+                    // }
+                }
+            }
+            job.progress(lineCount, job.totalBytes);
+            // 기록된 변경 내역 적용. 변경 내역을 적용한 데이터는 CSV 파일 조각과 일치하지 않는다.
+            final int replayed = fileKey != null && this.journalDir != null
+                    ? openJournal(managedCsvFile, getJournalPath(uuid, filepath), fileKey)
+                    : 0;
+            managedCsvFile.finishLoading(fileSize, replayed > 0 ? null : chunks);
+            if (reserveMemory(filepath, replacedUuid, managedMemoryUsage) < 0) {
+                return rejectLoading(filepath);
             }
 
             watch.stop();
             logger.info("[적재완료] 데이터개수: {}, 파일: {}, 경과시간: {}", NumberUtils.INT_TO_STR.apply(lineCount), filepath,
                     watch.getAsPretty());
 
+            // #1-3. CSV 파일을 읽은 경우 스냅샷 저장. 변경 내역을 적용한 데이터는 CSV 파일과 다르므로 저장하지 않는다.
+            if (snapshotKey != null && snapshot == null && replayed == 0) {
+                saveSnapshot(managedCsvFile, snapshotPath, snapshotKey);
+            }
+
             // #2. 메모리 적재 등록
             Result<Boolean> resultRegistered = registerManagedCsvFile(uuid, filepath, managedCsvFile, reload);
-            if (resultRegistered.getResult()) {
+            registered = resultRegistered.getResult();
+            if (registered) {
                 // #1-2. 메모리 적재 결과
                 CsvFileOnMemory csvfile = new CsvFileOnMemory(filepath, lineCount);
                 csvfile.setHeaders(headers);
+                csvfile.setMemoryUsage(managedCsvFile.getMemoryUsage());
+                csvfile.setColumnMemoryUsage(managedCsvFile.getColumnMemoryUsage());
+                csvfile.setColumnCompressionRatio(managedCsvFile.getColumnCompressionRatio());
 
                 return Result.success(csvfile);
             } else {
@@ -331,15 +1098,70 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
             }
         } catch (BadRequestException e) {
             throw e;
+        } catch (CancellationException e) {
+            logger.info("[적재취소] 데이터개수: {}, 파일: {}", NumberUtils.INT_TO_STR.apply(job.lineCount), filepath);
+            return Result.error("CSV 파일 적재를 취소하였습니다. 파일=%s", filepath);
         } catch (Exception e) {
             logger.error("CSV 파일을 읽는 도중 에러가 발생하였습니다.", e);
             return Result.error("CSV 파일을 읽는 도중 에러가 발생하였습니다. 원인=%s, 타입=%s", e.getMessage(), e.getClass());
+        } finally {
+            // #3. 등록되지 않은 적재 데이터 해제
+            if (managedCsvFile != null) {
+                LOADING_CSV_FILES.remove(managedCsvFile);
+                job.csvfile = null;
+                if (!registered) {
+                    managedCsvFile.release();
+                }
+            }
         }
     }
 
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.service.ICsvService#loadAsync(java.lang.String,
+     *      open.commons.core.csv.CsvFileConfig, open.commons.spring.csv.CsvHeader[], boolean, java.lang.String,
+     *      boolean, open.commons.spring.csv.CsvLoadOptions)
+     */
+    @Override
+    public Result<CsvLoadJob> loadAsync(@NotBlank String uuid, CsvFileConfig config, @NotEmpty CsvHeader[] headers,
+            boolean hasHeader, @NotBlank String filepath, boolean reload, @NotNull CsvLoadOptions options) {
+        AssertUtils2.notBlanks(uuid, filepath);
+        AssertUtils2.notEmpty((Object[]) headers);
+        AssertUtils2.notNull(options);
+
+        // #0. 파일 중복 적재 요청 검증
+        validateCsvFile(uuid, filepath, reload);
+
+        // #1. 적재 작업 등록. 같은 식별정보로 진행 중인 적재 작업이 있는 경우 새로운 작업을 시작하지 않는다.
+        final LoadJob job = new LoadJob(uuid, filepath);
+        LoadJob registered = LOAD_JOBS.compute(uuid, (key, prev) -> prev != null && !prev.state.isFinished() ? prev : job);
+        if (registered != job) {
+            String errMsg = String.format("[적재요청 실패] 진행 중인 적재 작업이 있습니다. 파일명=%s", registered.filepath);
+            logger.warn(errMsg);
+            throw ExceptionUtils.newException(InternalServerException.class, errMsg);
+        }
+
+        // #2. 적재 작업 실행
+        try {
+            this.loadExecutor.execute(() -> job.run(() -> load(uuid, config, headers, hasHeader, filepath, reload, options, job)));
+        } catch (RejectedExecutionException e) {
+            String errMsg = String.format("[적재요청 실패] 실행을 기다리는 적재 작업이 너무 많거나 서비스가 종료되었습니다. 파일명=%s", filepath);
+            logger.warn(errMsg);
+            // 등록한 적재 작업을 기다리는 요청이 있을 수 있으므로, 실패한 작업으로 끝낸 후 제거한다.
+            job.run(() -> Result.error("%s", errMsg));
+            LOAD_JOBS.remove(uuid, job);
+            throw ExceptionUtils.newException(InternalServerException.class, errMsg);
+        }
+        logger.info("[적재요청] uuid={}, 파일: {}", uuid, filepath);
+
+        return Result.success(job.toCsvLoadJob());
+    }
+
     /**
      * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @version 4.0.0
      *
      * @see open.commons.spring.csv.service.ICsvService#read(java.lang.String, java.lang.Integer,
      *      java.lang.Integer)
@@ -351,18 +1173,40 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
         return execute(() -> {
             MemorizedCsvFile csvfile = null;
             synchronized (MUTEX_CSV_FILE) {
-                csvfile = getCsvFile(uuid);
+                csvfile = getReadableCsvFile(uuid);
             }
             ManagedCsvFile managed = csvfile.read(lineNumber, count);
             managed.setReleaseTime(createReleasedTime(csvfile));
+            relieveMemory();
 
             return Result.success(managed);
         }, "데이터 읽기");
     }
 
+    /**
+     * 메모리 사용량 한도 초과로 적재를 거부한 결과를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param filepath
+     *            CSV 파일 경로
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private Result<CsvFileOnMemory> rejectLoading(String filepath) {
+        return Result.error("메모리 사용량 한도를 초과하여 CSV 파일을 적재할 수 없습니다. 파일=%s, 한도=%,d", filepath, this.memoryMax);
+    }
+
     /**
      * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @version 4.0.0
      *
      * @see open.commons.spring.csv.service.ICsvService#release(java.lang.String)
      */
@@ -370,9 +1214,38 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
     public Result<Boolean> release(@NotBlank String uuid) {
         AssertUtils2.notBlank(uuid);
 
+        // 끝난 적재 작업 정보 제거
+        LOAD_JOBS.computeIfPresent(uuid, (key, job) -> job.state.isFinished() ? null : job);
+
         return unregisterManagedCsvFile(uuid);
     }
 
+    /**
+     * 메모리 사용량이 한도를 초과하는 경우, 최근에 접근하지 않은 줄 데이터를 임시 파일로 내려쓴다.<br>
+     * 조회/검색이 내려쓴 줄 데이터를 다시 읽어서 늘어난 메모리 사용량을 한도 이내로 유지한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void relieveMemory() {
+        if (this.memoryMax < 1) {
+            return;
+        }
+
+        long memoryUsage = getManagedMemoryUsage(null) + getLoadingMemoryUsage();
+        if (memoryUsage > this.memoryMax) {
+            spillManagedCsvFiles(memoryUsage - this.memoryMax, null);
+        }
+    }
+
     /**
      * @since 2021. 8. 17.
      * @version 0.1.0
@@ -394,10 +1267,131 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
                         csvfile.getFilepath(), filepath);
             }
 
-            return load(uuid, csvfile.getCsvFileConfig(), csvfile.getHeaders(), csvfile.getHasHeader(), filepath, true);
+            return load(uuid, csvfile.getCsvFileConfig(), csvfile.getHeaders(), csvfile.getHasHeader(), filepath, true,
+                    csvfile.getLoadOptions());
         }, "파일 재적재");
     }
 
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.service.ICsvService#reloadTail(java.lang.String, java.lang.String)
+     */
+    @Override
+    public Result<CsvFileOnMemory> reloadTail(@NotBlank String uuid, @NotBlank String filepath) {
+        AssertUtils2.notBlanks(uuid, filepath);
+
+        return execute(() -> {
+            MemorizedCsvFile csvfile = null;
+            synchronized (MUTEX_CSV_FILE) {
+                csvfile = getCsvFile(uuid);
+            }
+
+            if (!csvfile.getFilepath().equals(filepath)) {
+                throw ExceptionUtils.newException(BadRequestException.class, "기존 파일과 요청한 파일명이 일치하지 않습니다. 기존=%s, 입력=%s",
+                        csvfile.getFilepath(), filepath);
+            }
+
+            try {
+                // #1. 이어 읽을 수 없는 경우 다시 읽기
+                long[] tail = csvfile.findTail();
+                if (tail == null) {
+                    logger.info("[이어 읽기] 이어 읽을 수 없는 파일이므로 파일 전체를 다시 읽습니다. 파일: {}", filepath);
+                    return load(uuid, csvfile.getCsvFileConfig(), csvfile.getHeaders(), csvfile.getHasHeader(), filepath,
+                            true, csvfile.getLoadOptions());
+                }
+
+                // #2. 덧붙인 줄 데이터 적재
+                if (tail[1] > tail[0]) {
+                    StopWatch watch = new StopWatch();
+                    watch.start();
+
+                    List<String[]> readlines = new ArrayList<>();
+                    try (CSVReader reader = createCSVReader(csvfile.getCsvFileConfig(), filepath, tail[0], tail[1], null)) {
+                        String[] readline = null;
+                        while ((readline = reader.readNext()) != null) {
+                            readlines.add(readline);
+                        }
+                    }
+
+                    Result<Boolean> appended = csvfile.appendTail(tail[0], tail[1], readlines);
+                    if (!appended.isSuccess()) {
+                        return Result.copyOf(appended);
+                    }
+                    // 변경 내역 파일이 덧붙인 CSV 파일과 일치하도록 정리한다.
+                    Result<Boolean> compacted = csvfile.compactJournal();
+                    if (!compacted.isSuccess()) {
+                        return Result.copyOf(compacted);
+                    }
+                    relieveMemory();
+
+                    watch.stop();
+                    logger.info("[이어 읽기] 데이터개수: {}, 파일: {}, 범위: {} ~ {}, 경과시간: {}",
+                            NumberUtils.INT_TO_STR.apply(readlines.size()), filepath, tail[0], tail[1], watch.getAsPretty());
+                }
+            } catch (BadRequestException e) {
+                throw e;
+            } catch (Exception e) {
+                logger.error("CSV 파일을 이어 읽는 도중 에러가 발생하였습니다.", e);
+                return Result.error("CSV 파일을 이어 읽는 도중 에러가 발생하였습니다. 원인=%s, 타입=%s", e.getMessage(), e.getClass());
+            }
+
+            CsvFileOnMemory memory = new CsvFileOnMemory(filepath, csvfile.getSize());
+            memory.setHeaders(csvfile.getHeaders());
+            memory.setMemoryUsage(csvfile.getMemoryUsage());
+            memory.setColumnMemoryUsage(csvfile.getColumnMemoryUsage());
+            memory.setColumnCompressionRatio(csvfile.getColumnCompressionRatio());
+
+            return Result.success(memory);
+        }, "파일 이어 읽기");
+    }
+
+    /**
+     * 적재 중인 데이터를 포함한 메모리 사용량이 한도를 초과하는 경우, 적재된 파일의 줄 데이터를 임시 파일로 내려써서 메모리를 확보한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param filepath
+     *            적재 중인 CSV 파일 경로
+     * @param replacedUuid
+     *            다시 적재하여 교체될 데이터 식별정보. <code>null</code>인 경우 모든 데이터를 포함한다.
+     * @param managedMemoryUsage
+     *            적재가 완료된 데이터의 메모리 사용량
+     * @return 적재가 완료된 데이터의 메모리 사용량. 메모리를 확보하지 못한 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private long reserveMemory(String filepath, String replacedUuid, long managedMemoryUsage) {
+        if (this.memoryMax < 1) {
+            return managedMemoryUsage;
+        }
+
+        long memoryUsage = managedMemoryUsage + getLoadingMemoryUsage();
+        if (memoryUsage <= this.memoryMax) {
+            return managedMemoryUsage;
+        }
+
+        // 적재된 파일을 해제하는 대신 최근에 접근하지 않은 줄 데이터를 내려쓴다.
+        if (spillManagedCsvFiles(memoryUsage - this.memoryMax, replacedUuid) > 0) {
+            managedMemoryUsage = getManagedMemoryUsage(replacedUuid);
+            memoryUsage = managedMemoryUsage + getLoadingMemoryUsage();
+            if (memoryUsage <= this.memoryMax) {
+                return managedMemoryUsage;
+            }
+        }
+
+        logger.warn("[적재 거부] 메모리 사용량이 한도를 초과하였습니다. 파일: {}, 한도: {}, 사용량: {}", filepath, this.memoryMax,
+                memoryUsage);
+        return -1;
+    }
+
     /**
      * @since 2021. 8. 13.
      * @version 0.1.0
@@ -463,7 +1457,7 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
 
     /**
      * @since 2021. 8. 16.
-     * @version 0.1.0
+     * @version 4.0.0
      *
      * @see open.commons.spring.csv.service.ICsvService#search(java.lang.String, java.util.List,
      *      org.springframework.data.domain.Pageable)
@@ -471,13 +1465,30 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
     @Override
     public Result<ManagedCsvFile> search(@NotBlank String uuid, List<ColumnCondition> conditions,
             @NotNull Pageable pageable) {
+        return search(uuid, conditions, pageable, false);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.service.ICsvService#search(java.lang.String, java.util.List,
+     *      org.springframework.data.domain.Pageable, boolean)
+     */
+    @Override
+    public Result<ManagedCsvFile> search(@NotBlank String uuid, List<ColumnCondition> conditions,
+            @NotNull Pageable pageable, boolean partial) {
         AssertUtils2.notBlank(uuid);
         AssertUtils2.notNull(pageable);
 
         return execute(() -> {
             MemorizedCsvFile csvfile = null;
             synchronized (MUTEX_CSV_FILE) {
-                csvfile = getCsvFile(uuid);
+                csvfile = getReadableCsvFile(uuid);
+            }
+            // 적재 중인 데이터는 적재를 완료할 때까지 기다린다.
+            if (!partial && csvfile.isLoading()) {
+                csvfile = awaitCsvFile(uuid);
             }
 
             // #0. 정렬 조건
@@ -495,6 +1506,7 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
 
             ManagedCsvFile managed = csvfile.search(clmnSort, conditions, pageable);
             managed.setReleaseTime(createReleasedTime(csvfile));
+            relieveMemory();
 
             return Result.success(managed);
         }, "데이터 검색");
@@ -527,10 +1539,12 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         TTL 초과 데이터 자원 해제
+     * 2026. 10. 17.     parkjunhong77@gmail.com         TTL 초과 적재 작업 정보 제거
      * </pre>
      *
      * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @version 4.0.0
      */
     @Scheduled(cron = "${application.csv.ttl.cron}")
     public void validateManagedCsvFilesTTL() {
@@ -545,16 +1559,20 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
 
                 if (csvfile.afterAccessed() > this.ttl) {
                     MANAGED_CSV_FILES.remove(entry.getKey());
+                    csvfile.release();
                     logger.info("'{}' 파일이 TTL 초과로 제거되었습니다. 최종접근시간={}, 경과시간={}ms", csvfile.getFilepath(),
                             DATE_FORMAT.format(new Date(csvfile.getAccessed())), csvfile.afterAccessed());
                 }
             }
         }
+
+        // 끝난 후 유효시간이 지난 적재 작업 정보 제거
+        LOAD_JOBS.values().removeIf(job -> job.afterFinished() > this.ttl);
     }
 
     /**
      * @since 2021. 8. 16.
-     * @version 0.1.0
+     * @version 4.0.0
      *
      * @see open.commons.spring.csv.service.ICsvService#write(java.lang.String, java.lang.String)
      */
@@ -566,15 +1584,11 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
             MemorizedCsvFile csvfile = null;
             synchronized (MUTEX_CSV_FILE) {
                 csvfile = getCsvFile(uuid);
-                return csvfile.write(filepath);
             }
+            return csvfile.write(filepath);
         }, "파일 저장");
     }
 
-    private static CSVReader createCSVReader(CsvFileConfig config, String filepath) throws IOException {
-        return createCSVReader(config, filepath, -1);
-    }
-
     private static CSVReader createCSVReader(CsvFileConfig config, String filepath, int skip) throws IOException {
 
         Reader reader = IOUtils.getReader(new File(filepath), config.getCharset());
@@ -587,6 +1601,290 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
         return CsvUtils.newCSVReader(reader, config);
     }
 
+    /**
+     * CSV 파일의 주어진 범위를 읽는 {@link CSVReader}를 생성한다.<br>
+     * 파일 중간부터 읽는 경우 건너뛸 줄({@link CsvFileConfig#getSkip()})을 적용하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param config
+     *            CSV 파일 설정
+     * @param filepath
+     *            CSV 파일 경로
+     * @param from
+     *            시작 위치
+     * @param to
+     *            끝 위치
+     * @param counter
+     *            읽은 크기를 누적할 객체 (<code>null</code>: 누적하지 않음)
+     * @return
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static CSVReader createCSVReader(CsvFileConfig config, String filepath, long from, long to,
+            @Nullable AtomicLong counter) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ);
+        try {
+            channel.position(from);
+            Reader reader = new InputStreamReader(new RangeInputStream(Channels.newInputStream(channel), to - from, counter),
+                    config.getCharset());
+
+            CsvFileConfig newCfg = config.clone();
+            if (from > 0) {
+                newCfg.setSkip(0);
+            }
+
+            return CsvUtils.newCSVReader(reader, newCfg);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+
+    /**
+     * CSV 파일의 주어진 범위를 bytes 단위로 읽는 {@link CSVUtf8Reader}를 생성한다.<br>
+     * 파일 중간부터 읽는 경우 건너뛸 줄({@link CsvFileConfig#getSkip()})을 적용하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param config
+     *            CSV 파일 설정. {@link CSVUtf8Reader#supports(CsvFileConfig)}를 만족하는 설정
+     * @param filepath
+     *            CSV 파일 경로
+     * @param from
+     *            시작 위치
+     * @param to
+     *            끝 위치
+     * @param counter
+     *            읽은 크기를 누적할 객체 (<code>null</code>: 누적하지 않음)
+     * @return
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #createCSVReader(CsvFileConfig, String, long, long, AtomicLong)
+     */
+    private static CSVUtf8Reader createCSVUtf8Reader(CsvFileConfig config, String filepath, long from, long to,
+            @Nullable AtomicLong counter) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ);
+        try {
+            channel.position(from);
+
+            CsvFileConfig newCfg = config.clone();
+            if (from > 0) {
+                newCfg.setSkip(0);
+            }
+
+            return new CSVUtf8Reader(new RangeInputStream(Channels.newInputStream(channel), to - from, counter), newCfg);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 스냅샷 파일과 변경 내역 파일이 CSV 파일과 같은 데이터인지 확인하는 식별 키를 생성한다.<br>
+     * CSV 파일 경로, 크기, 수정시간과 CSV 파일 설정, 헤더 설정으로 구성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param config
+     *            CSV 파일 설정
+     * @param headers
+     *            CSV 파일 헤더 정보
+     * @param hasHeader
+     *            헤더 여부
+     * @param filepath
+     *            CSV 파일 경로
+     * @param size
+     *            읽을 CSV 파일 크기
+     * @return 파일 정보를 읽을 수 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see MemorizedCsvFile#createFileKey(CsvFileConfig, CsvHeader[], boolean, String, long)
+     */
+    private static @Nullable String createFileKey(CsvFileConfig config, CsvHeader[] headers, boolean hasHeader,
+            String filepath, long size) {
+        try {
+            return MemorizedCsvFile.createFileKey(config, headers, hasHeader, filepath, size);
+        } catch (IOException e) {
+            sLogger.warn("CSV 파일 정보를 읽을 수 없어 스냅샷과 변경 내역을 사용하지 않습니다. 파일={}, 원인={}", filepath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * CSV 파일 크기를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param filepath
+     *            CSV 파일 경로
+     * @return 파일 크기를 읽을 수 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static long getFileSize(String filepath) {
+        try {
+            return Files.size(Paths.get(filepath));
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 메모리 적재 중인 데이터의 예상 메모리 사용량을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static long getLoadingMemoryUsage() {
+        long usage = 0;
+        for (MemorizedCsvFile csvfile : LOADING_CSV_FILES) {
+            usage += csvfile.getMemoryUsage();
+        }
+        return usage;
+    }
+
+    /**
+     * 메모리 적재가 완료된 데이터의 예상 메모리 사용량을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param excludedUuid
+     *            제외할 데이터 식별정보. <code>null</code>인 경우 모든 데이터
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static long getManagedMemoryUsage(String excludedUuid) {
+        long usage = 0;
+        for (Entry<String, MemorizedCsvFile> entry : MANAGED_CSV_FILES.entrySet()) {
+            if (!entry.getKey().equals(excludedUuid)) {
+                usage += entry.getValue().getMemoryUsage();
+            }
+        }
+        return usage;
+    }
+
+    /**
+     * 변경 내역 파일을 열어 기록된 변경 내역을 적재 데이터에 적용한다.<br>
+     * CSV 파일이 변경되어 식별 키가 일치하지 않는 변경 내역 파일은 '.stale'을 붙인 이름으로 보관하고 새로 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param csvfile
+     *            적재 중인 데이터
+     * @param path
+     *            변경 내역 파일 경로
+     * @param key
+     *            원본 파일 식별 키
+     * @return 적용한 변경 내역 개수
+     * @throws IOException
+     *            변경 내역 파일을 열거나 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see MemorizedCsvFile#replayJournal(CsvJournalFile)
+     */
+    private static int openJournal(MemorizedCsvFile csvfile, Path path, String key) throws IOException {
+        CsvJournalFile journal = CsvJournalFile.open(path, key);
+        if (journal == null) {
+            Path stale = path.resolveSibling(path.getFileName() + ".stale");
+            Files.move(path, stale, StandardCopyOption.REPLACE_EXISTING);
+            sLogger.warn("[변경 내역] CSV 파일이 변경되어 기록된 변경 내역을 적용하지 않습니다. 파일={}, 보관={}", csvfile.getFilepath(), stale);
+            journal = CsvJournalFile.open(path, key);
+        }
+
+        int count = csvfile.replayJournal(journal);
+        if (count > 0) {
+            sLogger.info("[변경 내역] 변경 내역: {}, 파일: {}", NumberUtils.INT_TO_STR.apply(count), csvfile.getFilepath());
+        }
+        return count;
+    }
+
+    /**
+     * 스냅샷 파일을 연다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param path
+     *            스냅샷 파일 경로
+     * @param key
+     *            원본 파일 식별 키
+     * @param columnCount
+     *            컬럼 개수
+     * @return 스냅샷 파일이 없거나 원본 파일과 일치하지 않거나 읽을 수 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see CsvSnapshotFile#open(Path, String, int)
+     */
+    private static @Nullable CsvSnapshotFile openSnapshot(Path path, String key, int columnCount) {
+        try {
+            return CsvSnapshotFile.open(path, key, columnCount);
+        } catch (IOException e) {
+            sLogger.warn("[스냅샷] 스냅샷 파일을 읽을 수 없어 CSV 파일을 읽습니다. 스냅샷={}, 원인={}", path, e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * 읽어들인 CSV 파일 데이터를 등록한다. <br>
      * 
@@ -595,6 +1893,7 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 13.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         교체된 데이터 자원 해제
      * </pre>
      *
      * @param uuid
@@ -608,7 +1907,7 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
      * @return
      *
      * @since 2021. 8. 13.
-     * @version 0.1.0
+     * @version 4.0.0
      */
     private static Result<Boolean> registerManagedCsvFile(String uuid, String filepath, MemorizedCsvFile managedCsvFile,
             boolean reload) {
@@ -619,7 +1918,11 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
                     sLogger.warn(errMsg);
                     throw ExceptionUtils.newException(InternalServerException.class, errMsg);
                 } else {
-                    MANAGED_CSV_FILES.put(uuid, managedCsvFile);
+                    MemorizedCsvFile replaced = MANAGED_CSV_FILES.put(uuid, managedCsvFile);
+                    // 다시 읽기로 교체된 데이터 해제
+                    if (replaced != null && replaced != managedCsvFile) {
+                        replaced.release();
+                    }
                     sLogger.info("[적재 등록] '{}' 파일이 적재되었습니다. 정보={}", filepath, uuid);
                     return Result.success(true);
                 }
@@ -631,6 +1934,85 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
         }
     }
 
+    /**
+     * 적재 데이터를 스냅샷 파일로 저장한다.<br>
+     * 스냅샷 파일은 다시 적재하는 시간을 줄이기 위한 것이므로, 저장하지 못하더라도 적재는 실패로 처리하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param csvfile
+     *            적재 데이터
+     * @param path
+     *            스냅샷 파일 경로
+     * @param key
+     *            원본 파일 식별 키
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see MemorizedCsvFile#writeSnapshot(Path, String)
+     */
+    private static void saveSnapshot(MemorizedCsvFile csvfile, Path path, String key) {
+        StopWatch watch = new StopWatch();
+        watch.start();
+        try {
+            csvfile.writeSnapshot(path, key);
+            watch.stop();
+            sLogger.info("[스냅샷] 파일: {}, 스냅샷: {}, 경과시간: {}", csvfile.getFilepath(), path, watch.getAsPretty());
+        } catch (Exception e) {
+            sLogger.warn("[스냅샷] 스냅샷 파일을 저장하지 못하였습니다. 파일={}, 스냅샷={}, 원인={}", csvfile.getFilepath(), path,
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 오랫동안 사용하지 않은 파일부터 최근에 접근하지 않은 줄 데이터를 임시 파일로 내려쓰거나 컬럼 데이터를 압축한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param bytes
+     *            줄이려는 메모리 사용량. 단위: byte
+     * @param excludedUuid
+     *            제외할 데이터 식별정보. <code>null</code>인 경우 모든 데이터
+     * @return 줄어든 예상 메모리 사용량. 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see MemorizedCsvFile#spill(long)
+     */
+    private static long spillManagedCsvFiles(long bytes, String excludedUuid) {
+        // 정렬하는 동안 사용 시간이 바뀌지 않도록 사용 시간을 복사한다.
+        List<SimpleEntry<Long, MemorizedCsvFile>> csvfiles = MANAGED_CSV_FILES.entrySet().stream() //
+                .filter(entry -> !entry.getKey().equals(excludedUuid)) //
+                .map(entry -> new SimpleEntry<>(entry.getValue().getAccessed(), entry.getValue())) //
+                .sorted(Entry.comparingByKey()) //
+                .collect(Collectors.toList());
+
+        long spilled = 0;
+        for (SimpleEntry<Long, MemorizedCsvFile> csvfile : csvfiles) {
+            if (spilled >= bytes) {
+                break;
+            }
+            spilled += csvfile.getValue().spill(bytes - spilled);
+        }
+
+        if (spilled > 0) {
+            sLogger.info("[내려쓰기] 메모리 사용량 한도를 초과하여 적재 데이터를 내려쓰거나 압축하였습니다. 요청: {}, 줄어든 크기: {}", bytes, spilled);
+        }
+        return spilled;
+    }
+
     /**
      * 메모리 적재 중인 CSV 파일을 해제한다. <br>
      * 
@@ -639,6 +2021,7 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 8. 15.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         해제된 데이터 자원 해제
      * </pre>
      *
      * @param uuid
@@ -646,7 +2029,7 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
      * @return
      *
      * @since 2021. 8. 15.
-     * @version 0.1.0
+     * @version 4.0.0
      */
     private static Result<Boolean> unregisterManagedCsvFile(String uuid) {
         try {
@@ -654,6 +2037,7 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
                 MemorizedCsvFile file = MANAGED_CSV_FILES.remove(uuid);
                 String msg = null;
                 if (file != null) {
+                    file.release();
                     msg = String.format("[해제 성공] uuid=%s, file=%s", uuid, file.getFilepath());
                     sLogger.info(msg);
                 } else {
@@ -699,4 +2083,609 @@ public class CsvService extends AbstractGenericService implements ICsvService, I
         }
     }
 
+    /**
+     * CSV 파일 비동기 적재 작업.<br>
+     * 적재하는 스레드가 진행 정보를 갱신하면서 취소 요청을 확인한다.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    private static final class LoadJob {
+        /** CSV 파일 적재 데이터 식별 정보 */
+        private final String uuid;
+        /** CSV 파일 경로 */
+        private final String filepath;
+        /** 읽은 크기. 단위: byte */
+        private final AtomicLong bytesRead = new AtomicLong();
+        /** 읽을 파일 크기. 단위: byte (-1: 알 수 없음) */
+        private volatile long totalBytes = -1;
+        /** 적재한 줄 수 */
+        private volatile int lineCount;
+        /** 적재 작업 상태 */
+        private volatile CsvLoadState state = CsvLoadState.QUEUED;
+        /** 취소 요청 여부 */
+        private volatile boolean cancelled;
+        /** 적재 시작 시간. 단위: ms (0: 시작하지 않음) */
+        private volatile long startedTime;
+        /** 적재 종료 시간. 단위: ms (0: 끝나지 않음) */
+        private volatile long finishedTime;
+        /** 적재 결과 (<code>null</code>: 끝나지 않음) */
+        private volatile @Nullable Result<CsvFileOnMemory> result;
+        /** 적재를 완료하기 전에 조회/검색할 수 있도록 공개한 적재 데이터 (<code>null</code>: 공개하지 않음) */
+        private volatile @Nullable MemorizedCsvFile csvfile;
+        /** 적재 작업 종료 신호 */
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param uuid
+         *            CSV 파일 적재 데이터 식별 정보
+         * @param filepath
+         *            CSV 파일 경로
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private LoadJob(String uuid, String filepath) {
+            this.uuid = uuid;
+            this.filepath = filepath;
+        }
+
+        /**
+         * 적재 작업이 끝난 후 경과시간을 제공한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @return 단위: ms (millisecond), 끝나지 않은 경우 -1
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private long afterFinished() {
+            return this.finishedTime > 0 ? System.currentTimeMillis() - this.finishedTime : -1;
+        }
+
+        /**
+         * 적재 작업 취소를 요청한다. 적재하는 스레드는 다음 진행 정보를 갱신할 때 적재를 중단한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @return 이미 끝난 적재 작업인 경우 <code>false</code>
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private boolean cancel() {
+            if (this.state.isFinished()) {
+                return false;
+            }
+            this.cancelled = true;
+            return true;
+        }
+
+        /**
+         * 적재한 줄 수를 갱신한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param lineCount
+         *            적재한 줄 수
+         * @throws CancellationException
+         *             적재 작업 취소를 요청한 경우
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private void progress(int lineCount) {
+            if (this.cancelled) {
+                throw new CancellationException();
+            }
+            this.lineCount = lineCount;
+        }
+
+        /**
+         * 적재한 줄 수와 읽은 위치를 갱신한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param lineCount
+         *            적재한 줄 수
+         * @param position
+         *            읽은 위치. 0보다 작은 경우 갱신하지 않는다.
+         * @throws CancellationException
+         *             적재 작업 취소를 요청한 경우
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private void progress(int lineCount, long position) {
+            progress(lineCount);
+            if (position >= 0) {
+                this.bytesRead.set(position);
+            }
+        }
+
+        /**
+         * 적재 작업을 실행한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param loader
+         *            적재 함수
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private void run(Supplier<Result<CsvFileOnMemory>> loader) {
+            this.startedTime = System.currentTimeMillis();
+            this.state = CsvLoadState.LOADING;
+            try {
+                this.result = this.cancelled //
+                        ? Result.error("CSV 파일 적재를 취소하였습니다. 파일=%s", this.filepath)
+                        : loader.get();
+            } catch (RuntimeException e) {
+                this.result = Result.error("CSV 파일을 읽는 도중 에러가 발생하였습니다. 원인=%s, 타입=%s", e.getMessage(), e.getClass());
+            } finally {
+                Result<CsvFileOnMemory> result = this.result;
+                this.finishedTime = System.currentTimeMillis();
+                this.state = result != null && result.isSuccess() ? CsvLoadState.COMPLETED
+                        : this.cancelled ? CsvLoadState.CANCELLED : CsvLoadState.FAILED;
+                this.done.countDown();
+            }
+        }
+
+        /**
+         * 적재 작업 정보를 제공한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private CsvLoadJob toCsvLoadJob() {
+            final CsvLoadState state = this.state;
+            final Result<CsvFileOnMemory> result = this.result;
+            final long bytesRead = this.bytesRead.get();
+            final long elapsedTime = this.startedTime > 0
+                    ? (this.finishedTime > 0 ? this.finishedTime : System.currentTimeMillis()) - this.startedTime
+                    : 0;
+
+            CsvLoadJob job = new CsvLoadJob(this.uuid, this.filepath);
+            job.setState(state);
+            job.setTotalBytes(this.totalBytes);
+            job.setBytesRead(bytesRead);
+            job.setLineCount(this.lineCount);
+            job.setElapsedTime(elapsedTime);
+            if (state.isFinished()) {
+                job.setRemainingTime(0);
+                if (result != null && result.isSuccess()) {
+                    job.setResult(result.getResult());
+                } else if (result != null) {
+                    job.setMessage(result.getMessage());
+                }
+            } else if (bytesRead > 0 && this.totalBytes > 0) {
+                // 지금까지 읽은 속도로 남은 크기를 읽는 시간을 예상한다.
+                job.setRemainingTime(elapsedTime * Math.max(this.totalBytes - bytesRead, 0) / bytesRead);
+            }
+
+            return job;
+        }
+    }
+
+    /**
+     * 주어진 크기까지만 읽는 {@link InputStream}.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    private static final class RangeInputStream extends FilterInputStream {
+        /** 남은 크기 */
+        private long remaining;
+        /** 읽은 크기를 누적할 객체 (<code>null</code>: 누적하지 않음) */
+        private final @Nullable AtomicLong counter;
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param in
+         *            원본 데이터
+         * @param length
+         *            읽을 크기
+         * @param counter
+         *            읽은 크기를 누적할 객체 (<code>null</code>: 누적하지 않음)
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private RangeInputStream(InputStream in, long length, @Nullable AtomicLong counter) {
+            super(in);
+            this.remaining = length;
+            this.counter = counter;
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see java.io.FilterInputStream#read()
+         */
+        @Override
+        public int read() throws IOException {
+            if (this.remaining < 1) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                this.remaining--;
+                if (this.counter != null) {
+                    this.counter.incrementAndGet();
+                }
+            }
+            return b;
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see java.io.FilterInputStream#read(byte[], int, int)
+         */
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (this.remaining < 1) {
+                return -1;
+            }
+            int read = super.read(b, off, (int) Math.min(len, this.remaining));
+            if (read > 0) {
+                this.remaining -= read;
+                if (this.counter != null) {
+                    this.counter.addAndGet(read);
+                }
+            }
+            return read;
+        }
+    }
+
+    /**
+     * CSV 파일을 byte 범위별로 해석하여 줄 데이터를 범위 순서대로 적재하는 클래스.<br>
+     * 작업 개수가 2 이상인 경우 요청한 범위를 {@link ForkJoinPool}에서 미리 해석하며, 적재하는 스레드는 해석한 줄 데이터를 요청한 순서대로 추가한다. 미리 해석하는 범위는 작업
+     * 개수의 2배로 제한한다.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    private static final class RangeParser implements Closeable {
+        /** 적재 데이터 */
+        private final MemorizedCsvFile csvfile;
+        /** CSV 파일 설정 */
+        private final CsvFileConfig config;
+        /** CSV 파일 경로 */
+        private final String filepath;
+        /** 범위를 해석하는 작업 실행기 (<code>null</code>: 적재하는 스레드에서 해석) */
+        private final @Nullable ForkJoinPool pool;
+        /** bytes 단위로 읽는지 여부 */
+        private final boolean utf8;
+        /** 미리 해석하는 최대 범위 개수 */
+        private final int window;
+        /** 해석하지 않은 범위 목록. [0]: 시작 위치, [1]: 끝 위치 */
+        private final Deque<long[]> ranges = new ArrayDeque<>();
+        /** 해석 중인 범위 목록 */
+        private final Deque<Future<ParsedRange>> parsing = new ArrayDeque<>();
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param csvfile
+         *            적재 데이터
+         * @param config
+         *            CSV 파일 설정
+         * @param filepath
+         *            CSV 파일 경로
+         * @param parallelism
+         *            동시에 해석하는 작업 개수
+         * @param utf8
+         *            bytes 단위로 읽는지 여부. {@link CSVUtf8Reader#supports(CsvFileConfig)}를 만족해야 한다.
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private RangeParser(MemorizedCsvFile csvfile, CsvFileConfig config, String filepath, int parallelism,
+                boolean utf8) {
+            this.csvfile = csvfile;
+            this.config = config;
+            this.filepath = filepath;
+            this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+            this.utf8 = utf8;
+            this.window = parallelism * 2;
+        }
+
+        /**
+         * 해석할 범위를 추가한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param start
+         *            시작 위치
+         * @param end
+         *            끝 위치
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         * 
+         * @see #load(int)
+         */
+        private void add(long start, long end) {
+            this.ranges.add(new long[] { start, end });
+        }
+
+        /**
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see java.io.Closeable#close()
+         */
+        @Override
+        public void close() {
+            for (Future<ParsedRange> future : this.parsing) {
+                future.cancel(true);
+            }
+            if (this.pool != null) {
+                this.pool.shutdownNow();
+            }
+        }
+
+        /**
+         * 추가한 범위를 순서대로 해석하여 적재한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param lineCount
+         *            현재까지 적재한 줄 개수
+         * @return 적재한 줄 개수
+         * @throws Exception
+         *            파일을 읽을 수 없거나 헤더 정의에 맞지 않는 줄 데이터가 있는 경우
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private int load(int lineCount) throws Exception {
+            if (this.pool == null) {
+                long[] range = this.ranges.poll();
+                return load(range[0], range[1], lineCount);
+            }
+
+            // #1. 이후 범위 해석 요청
+            while (this.parsing.size() < this.window && !this.ranges.isEmpty()) {
+                long[] range = this.ranges.poll();
+                this.parsing.add(this.pool.submit(() -> parse(range[0], range[1])));
+            }
+
+            // #2. 해석한 줄 데이터 적재
+            ParsedRange parsed = null;
+            try {
+                parsed = this.parsing.poll().get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+            int count = 0;
+            for (Object[] data : parsed.lines) {
+                this.csvfile.loadSnapshotData(lineCount + ++count, data);
+            }
+            // 변환할 수 없는 줄 데이터는 원인을 확인할 수 있도록 줄 번호와 함께 다시 변환한다.
+            if (parsed.failed != null) {
+                this.csvfile.loadLineData(lineCount + ++count, parsed.failed);
+            }
+            return count;
+        }
+
+        /**
+         * 주어진 범위를 적재하는 스레드에서 해석하여 적재한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * 2026. 10. 17.     parkjunhong77@gmail.com         bytes 단위 읽기 지원
+         * </pre>
+         *
+         * @param start
+         *            시작 위치
+         * @param end
+         *            끝 위치
+         * @param lineCount
+         *            현재까지 적재한 줄 개수
+         * @return 적재한 줄 개수
+         * @throws Exception
+         *            파일을 읽을 수 없거나 헤더 정의에 맞지 않는 줄 데이터가 있는 경우
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private int load(long start, long end, int lineCount) throws Exception {
+            int count = 0;
+            if (this.utf8) {
+                try (CSVUtf8Reader reader = createCSVUtf8Reader(this.config, this.filepath, start, end, null)) {
+                    while (reader.readNext()) {
+                        this.csvfile.loadLineData(lineCount + ++count, reader);
+                    }
+                }
+                return count;
+            }
+
+            try (CSVReader reader = createCSVReader(this.config, this.filepath, start, end, null)) {
+                String[] readline = null;
+                while ((readline = reader.readNext()) != null) {
+                    this.csvfile.loadLineData(lineCount + ++count, readline);
+                }
+            }
+            return count;
+        }
+
+        /**
+         * 주어진 범위의 줄 데이터를 헤더 정의에 맞게 변환한다.<br>
+         * 변환할 수 없는 줄 데이터가 있는 경우 이후 줄 데이터는 변환하지 않는다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * 2026. 10. 17.     parkjunhong77@gmail.com         bytes 단위 읽기 지원
+         * </pre>
+         *
+         * @param start
+         *            시작 위치
+         * @param end
+         *            끝 위치
+         * @return
+         * @throws Exception
+         *            파일을 읽을 수 없는 경우
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private ParsedRange parse(long start, long end) throws Exception {
+            ParsedRange parsed = new ParsedRange();
+            if (this.utf8) {
+                try (CSVUtf8Reader reader = createCSVUtf8Reader(this.config, this.filepath, start, end, null)) {
+                    Object[] data = null;
+                    while (reader.readNext()) {
+                        if ((data = this.csvfile.convertLineData(reader)) == null) {
+                            parsed.failed = reader.toStrings();
+                            break;
+                        }
+                        parsed.lines.add(data);
+                    }
+                }
+                return parsed;
+            }
+
+            try (CSVReader reader = createCSVReader(this.config, this.filepath, start, end, null)) {
+                String[] readline = null;
+                Object[] data = null;
+                while ((readline = reader.readNext()) != null) {
+                    if ((data = this.csvfile.convertLineData(readline)) == null) {
+                        parsed.failed = readline;
+                        break;
+                    }
+                    parsed.lines.add(data);
+                }
+            }
+            return parsed;
+        }
+
+        /**
+         * CSV 파일을 줄 끝에서 나눈 범위 목록을 제공한다.<br>
+         * 작업 개수 이상, 범위 크기({@value CsvService#PARALLEL_RANGE_SIZE} bytes) 정도로 나눈다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param size
+         *            나눌 파일 크기
+         * @return 범위별 끝 위치. 나눌 수 없는 경우 <code>null</code>
+         * @throws IOException
+         *            파일을 읽을 수 없는 경우
+         * @throws InterruptedException
+         *            파일을 읽는 도중 중단된 경우
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         * 
+         * @see CsvChunkIndex#split(Path, CsvFileConfig, long, int, ExecutorService)
+         */
+        private long @Nullable [] split(long size) throws IOException, InterruptedException {
+            if (this.pool == null) {
+                return null;
+            }
+            final int count = (int) Math.max(this.pool.getParallelism(), Math.min(size / PARALLEL_RANGE_SIZE, Integer.MAX_VALUE));
+            return CsvChunkIndex.split(Paths.get(this.filepath), this.config, size, count, this.pool);
+        }
+
+        /**
+         * 범위를 해석한 결과.
+         * 
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         * @author Park Jun-Hong (parkjunhong77@gmail.com)
+         */
+        private static final class ParsedRange {
+            /** 변환한 줄 데이터 */
+            private final List<Object[]> lines = new ArrayList<>();
+            /** 변환할 수 없는 줄 데이터 (<code>null</code>: 없음) */
+            private String @Nullable [] failed;
+        }
+    }
 }
@@ -0,0 +1,866 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 7:02:15
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+
+package open.commons.spring.csv.storage;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 데이터를 일정 크기 이하의 조각(chunk)으로 나누어 유지하는 목록.<br>
+ * 위치 기반 추가/삭제시 해당 조각 내부의 데이터와 조각별 시작 위치만 이동하므로, 데이터 개수에 비례하여 참조를 이동하는 {@link java.util.ArrayList}와 달리 조각
+ * 크기와 조각 개수에 비례하는 비용이 든다. 위치 기반 조회는 조각별 시작 위치를 이진 탐색한다.<br>
+ * {@link #snapshot()}은 조각 데이터를 공유하는 목록을 제공하며, 공유된 조각은 변경하기 전에 복사(copy-on-write)하므로 스냅샷은 생성 당시의 데이터를 유지한다.<br>
+ * 임시 파일({@link CsvSpillFile})을 사용하는 경우 {@link #spill(int)}로 오랫동안 접근하지 않은 조각을 임시 파일로 내려쓰고, 내려쓴 조각은 접근할 때 다시
+ * 읽는다.
+ * 
+ * @param <E>
+ *            데이터 타입
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+final class ChunkedList<E> {
+
+    /** 조각 최대 크기. 조각이 가득찬 상태에서 데이터를 추가하는 경우 절반으로 나눈다. */
+    static final int MAX_CHUNK_SIZE = 2048;
+    /** 초기 조각 개수 */
+    private static final int INITIAL_CHUNKS = 8;
+
+    /** 조각별 데이터 */
+    private @Nullable Chunk[] chunks = new Chunk[INITIAL_CHUNKS];
+    /** 조각별 데이터 개수 */
+    private int[] sizes = new int[INITIAL_CHUNKS];
+    /** 조각별 시작 위치 */
+    private int[] starts = new int[INITIAL_CHUNKS];
+    /** 조각별 스냅샷 공유 여부. 공유된 조각은 변경하기 전에 복사한다. */
+    private boolean[] shared = new boolean[INITIAL_CHUNKS];
+    /** 조각 개수 */
+    private int chunkCount;
+    /** 데이터 개수 */
+    private int size;
+    /** 조각을 내려쓰는 임시 파일. 스냅샷과 공유한다. */
+    private final @Nullable CsvSpillFile spillFile;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    ChunkedList() {
+        this(null);
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param spillFile
+     *            조각을 내려쓰는 임시 파일. <code>null</code>인 경우 조각을 내려쓰지 않는다.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    ChunkedList(@Nullable CsvSpillFile spillFile) {
+        this.spillFile = spillFile;
+    }
+
+    /**
+     * 데이터를 마지막에 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param element
+     *            데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void add(E element) {
+        add(this.size, element);
+    }
+
+    /**
+     * 주어진 위치에 데이터를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param element
+     *            데이터
+     * @throws IndexOutOfBoundsException
+     *            범위를 벗어난 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void add(int index, E element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+
+        int chunk = index == this.size ? this.chunkCount - 1 : chunkOf(index);
+        if (chunk < 0 || (index == this.size && this.sizes[chunk] == MAX_CHUNK_SIZE)) {
+            // 마지막에 추가하는 경우 조각을 나누지 않고 새로운 조각을 추가
+            insertChunk(++chunk, new Chunk(new Object[MAX_CHUNK_SIZE]), 0, this.size);
+        } else if (this.sizes[chunk] == MAX_CHUNK_SIZE) {
+            split(chunk);
+            if (index >= this.starts[chunk + 1]) {
+                chunk++;
+            }
+        }
+
+        Object[] elements = writable(chunk);
+        if (this.sizes[chunk] == elements.length) {
+            elements = chunk(chunk).elements = Arrays.copyOf(elements, MAX_CHUNK_SIZE);
+        }
+        int offset = index - this.starts[chunk];
+        System.arraycopy(elements, offset, elements, offset + 1, this.sizes[chunk] - offset);
+        elements[offset] = element;
+        this.sizes[chunk]++;
+        shiftStarts(chunk + 1, 1);
+        this.size++;
+    }
+
+    /**
+     * 조각을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private Chunk chunk(int chunk) {
+        Chunk c = this.chunks[chunk];
+        if (c == null) {
+            throw new IllegalStateException("chunk[" + chunk + "] is empty.");
+        }
+        return c;
+    }
+
+    /**
+     * 데이터 위치가 포함된 조각 위치를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private int chunkOf(int index) {
+        int low = 0;
+        int high = this.chunkCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (this.starts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 데이터 위치를 검증한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @throws IndexOutOfBoundsException
+     *            범위를 벗어난 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * 조각 데이터를 제공한다. 내려쓴 조각인 경우 임시 파일에서 다시 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     * @return
+     * @throws java.io.UncheckedIOException
+     *            내려쓴 조각을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private Object[] elements(int chunk) {
+        return chunk(chunk).elements(this.spillFile);
+    }
+
+    /**
+     * 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     * @throws IndexOutOfBoundsException
+     *            범위를 벗어난 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    @SuppressWarnings("unchecked")
+    E get(int index) {
+        checkIndex(index);
+
+        int chunk = chunkOf(index);
+        return (E) elements(chunk)[index - this.starts[chunk]];
+    }
+
+    /**
+     * 조각을 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     * @param elements
+     *            조각 데이터
+     * @param chunkSize
+     *            조각 데이터 개수
+     * @param start
+     *            조각 시작 위치
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void insertChunk(int chunk, Chunk elements, int chunkSize, int start) {
+        if (this.chunkCount == this.chunks.length) {
+            int capacity = this.chunkCount + (this.chunkCount >> 1) + 1;
+            this.chunks = Arrays.copyOf(this.chunks, capacity);
+            this.sizes = Arrays.copyOf(this.sizes, capacity);
+            this.starts = Arrays.copyOf(this.starts, capacity);
+            this.shared = Arrays.copyOf(this.shared, capacity);
+        }
+
+        int moved = this.chunkCount - chunk;
+        System.arraycopy(this.chunks, chunk, this.chunks, chunk + 1, moved);
+        System.arraycopy(this.sizes, chunk, this.sizes, chunk + 1, moved);
+        System.arraycopy(this.starts, chunk, this.starts, chunk + 1, moved);
+        System.arraycopy(this.shared, chunk, this.shared, chunk + 1, moved);
+        this.chunks[chunk] = elements;
+        this.sizes[chunk] = chunkSize;
+        this.starts[chunk] = start;
+        this.shared[chunk] = false;
+        this.chunkCount++;
+    }
+
+    /**
+     * 데이터를 삭제한다.<br>
+     * 조각이 비게 되는 경우 조각을 삭제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return 삭제된 데이터
+     * @throws IndexOutOfBoundsException
+     *            범위를 벗어난 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    @SuppressWarnings("unchecked")
+    E remove(int index) {
+        checkIndex(index);
+
+        int chunk = chunkOf(index);
+        Object[] elements = writable(chunk);
+        int offset = index - this.starts[chunk];
+        E removed = (E) elements[offset];
+
+        int chunkSize = --this.sizes[chunk];
+        System.arraycopy(elements, offset + 1, elements, offset, chunkSize - offset);
+        elements[chunkSize] = null;
+        shiftStarts(chunk + 1, -1);
+        this.size--;
+
+        if (chunkSize == 0) {
+            removeChunk(chunk);
+        }
+
+        return removed;
+    }
+
+    /**
+     * 조각을 삭제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void removeChunk(int chunk) {
+        int moved = this.chunkCount - chunk - 1;
+        System.arraycopy(this.chunks, chunk + 1, this.chunks, chunk, moved);
+        System.arraycopy(this.sizes, chunk + 1, this.sizes, chunk, moved);
+        System.arraycopy(this.starts, chunk + 1, this.starts, chunk, moved);
+        System.arraycopy(this.shared, chunk + 1, this.shared, chunk, moved);
+        this.chunks[--this.chunkCount] = null;
+    }
+
+    /**
+     * 메모리에 있는(내려쓰지 않은) 데이터 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    int residentSize() {
+        int resident = 0;
+        for (int c = 0; c < this.chunkCount; c++) {
+            if (chunk(c).elements != null) {
+                resident += this.sizes[c];
+            }
+        }
+        return resident;
+    }
+
+    /**
+     * 데이터를 변경한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param element
+     *            데이터
+     * @return 기존 데이터
+     * @throws IndexOutOfBoundsException
+     *            범위를 벗어난 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    @SuppressWarnings("unchecked")
+    E set(int index, E element) {
+        checkIndex(index);
+
+        int chunk = chunkOf(index);
+        Object[] elements = writable(chunk);
+        int offset = index - this.starts[chunk];
+        E old = (E) elements[offset];
+        elements[offset] = element;
+        return old;
+    }
+
+    /**
+     * 조각별 시작 위치를 변경한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param from
+     *            변경을 시작할 조각 위치
+     * @param delta
+     *            변경할 크기
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void shiftStarts(int from, int delta) {
+        for (int i = from; i < this.chunkCount; i++) {
+            this.starts[i] += delta;
+        }
+    }
+
+    /**
+     * 데이터 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * 현재 데이터를 유지하는 스냅샷을 제공한다.<br>
+     * 스냅샷은 조각 데이터를 공유하며, 스냅샷 생성 이후 목록 또는 스냅샷에서 공유된 조각을 변경하는 경우 해당 조각을 복사하여 변경한다. 조각 목록만 복사하므로 조각 개수에 비례하는 비용이 든다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    ChunkedList<E> snapshot() {
+        Arrays.fill(this.shared, 0, this.chunkCount, true);
+
+        ChunkedList<E> snapshot = new ChunkedList<>(this.spillFile);
+        snapshot.chunks = Arrays.copyOf(this.chunks, this.chunkCount);
+        snapshot.sizes = Arrays.copyOf(this.sizes, this.chunkCount);
+        snapshot.starts = Arrays.copyOf(this.starts, this.chunkCount);
+        snapshot.shared = Arrays.copyOf(this.shared, this.chunkCount);
+        snapshot.chunkCount = this.chunkCount;
+        snapshot.size = this.size;
+
+        return snapshot;
+    }
+
+    /**
+     * 최근에 접근하지 않은 조각부터 임시 파일로 내려쓴다.<br>
+     * 마지막으로 내려쓴 이후에 접근한 조각은 내려쓰지 않으며, 스냅샷과 공유하는 조각은 스냅샷에서도 내려쓴 상태가 된다. 쓰기 작업과 동시에 호출해서는 안 된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param count
+     *            내려쓸 데이터 개수
+     * @return 내려쓴 데이터 개수. 조각 단위로 내려쓰므로 요청한 개수보다 많을 수 있다.
+     * @throws java.io.UncheckedIOException
+     *            임시 파일에 쓸 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    int spill(int count) {
+        CsvSpillFile spillFile = this.spillFile;
+        if (spillFile == null || count < 1) {
+            return 0;
+        }
+
+        // 지난 접근 주기까지만 접근한 조각을 접근 순서대로 내려쓴다.
+        // 읽기 작업이 접근 주기를 갱신하므로, 정렬하기 전에 접근 주기를 복사한다.
+        long epoch = spillFile.nextEpoch();
+        long[] accessed = new long[this.chunkCount];
+        Integer[] candidates = new Integer[this.chunkCount];
+        int candidateCount = 0;
+        for (int c = 0; c < this.chunkCount; c++) {
+            Chunk chunk = chunk(c);
+            accessed[c] = chunk.accessed;
+            if (chunk.elements != null && accessed[c] < epoch) {
+                candidates[candidateCount++] = c;
+            }
+        }
+        Arrays.sort(candidates, 0, candidateCount, Comparator.comparingLong(c -> accessed[c]));
+
+        int spilled = 0;
+        for (int i = 0; i < candidateCount && spilled < count; i++) {
+            spilled += chunk(candidates[i]).spill(spillFile, this.sizes[candidates[i]]);
+        }
+        return spilled;
+    }
+
+    /**
+     * 가득찬 조각을 절반으로 나눈다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void split(int chunk) {
+        Object[] elements = writable(chunk);
+        int half = this.sizes[chunk] >> 1;
+        int rest = this.sizes[chunk] - half;
+
+        Object[] next = new Object[MAX_CHUNK_SIZE];
+        System.arraycopy(elements, half, next, 0, rest);
+        Arrays.fill(elements, half, this.sizes[chunk], null);
+        this.sizes[chunk] = half;
+
+        insertChunk(chunk + 1, new Chunk(next), rest, this.starts[chunk] + half);
+    }
+
+    /**
+     * 사용하지 않는 저장공간을 정리한다.<br>
+     * 조각 데이터를 최대 크기로 다시 채우며, 마지막 조각은 데이터 개수에 맞춘다. 스냅샷과 공유하지 않는 기존 조각의 임시 파일 데이터 영역은 해제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         임시 파일 데이터 영역 해제
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void trimToSize() {
+        @Nullable
+        Object[][] packed = new Object[(this.size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE][];
+        int[] packedSizes = new int[packed.length];
+        int[] packedStarts = new int[packed.length];
+
+        int target = -1;
+        int offset = MAX_CHUNK_SIZE;
+        for (int c = 0; c < this.chunkCount; c++) {
+            Object[] elements = elements(c);
+            for (int i = 0; i < this.sizes[c];) {
+                if (offset == MAX_CHUNK_SIZE) {
+                    target++;
+                    packed[target] = new Object[Math.min(MAX_CHUNK_SIZE, this.size - target * MAX_CHUNK_SIZE)];
+                    packedStarts[target] = target * MAX_CHUNK_SIZE;
+                    offset = 0;
+                }
+                int count = Math.min(this.sizes[c] - i, MAX_CHUNK_SIZE - offset);
+                System.arraycopy(elements, i, packed[target], offset, count);
+                i += count;
+                offset += count;
+                packedSizes[target] = offset;
+            }
+        }
+
+        // 스냅샷과 공유하지 않는 조각의 임시 파일 데이터는 더 이상 사용하지 않는다.
+        for (int c = 0; c < this.chunkCount; c++) {
+            if (!this.shared[c]) {
+                chunk(c).discard();
+            }
+        }
+
+        this.chunks = new Chunk[packed.length];
+        for (int c = 0; c < packed.length; c++) {
+            this.chunks[c] = new Chunk(packed[c]);
+        }
+        this.sizes = packedSizes;
+        this.starts = packedStarts;
+        this.shared = new boolean[packed.length];
+        this.chunkCount = packed.length;
+    }
+
+    /**
+     * 변경할 수 있는 조각을 제공한다.<br>
+     * 스냅샷과 공유된 조각인 경우 복사한 후 제공하며, 공유하지 않는 조각인 경우 임시 파일 데이터 영역을 해제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         임시 파일 데이터 영역 해제
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private Object[] writable(int chunk) {
+        Object[] elements = elements(chunk);
+        if (this.shared[chunk]) {
+            elements = elements.clone();
+            this.chunks[chunk] = new Chunk(elements);
+            this.shared[chunk] = false;
+        } else {
+            // 내려쓴 이후 변경되는 조각은 다시 내려쓸 때 임시 파일에 새로 쓰므로 기존 데이터 영역을 해제한다.
+            chunk(chunk).discard();
+        }
+        return elements;
+    }
+
+    /**
+     * 조각 데이터.<br>
+     * 스냅샷과 조각을 공유하므로, 내려쓰기/다시 읽기 상태와 접근 주기도 함께 공유한다. 임시 파일 데이터 영역은 조각이 변경되거나 조각을 사용하는 목록이 없어지면 해제된다.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    private static final class Chunk {
+
+        /** 데이터. 임시 파일로 내려쓴 경우 <code>null</code> */
+        private volatile Object @Nullable [] elements;
+        /** 임시 파일의 데이터 영역. 내려쓴 적이 없거나 내려쓴 이후 변경된 경우 <code>null</code> */
+        private CsvSpillFile.@Nullable Extent extent;
+        /** 마지막 접근 주기 */
+        private long accessed;
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param elements
+         *            데이터
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        Chunk(Object[] elements) {
+            this.elements = elements;
+        }
+
+        /**
+         * 임시 파일 데이터 영역을 해제한다. 데이터는 메모리에 있어야 한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        synchronized void discard() {
+            CsvSpillFile.Extent extent = this.extent;
+            if (extent != null) {
+                this.extent = null;
+                extent.release();
+            }
+        }
+
+        /**
+         * 데이터를 제공하고 접근 주기를 갱신한다. 내려쓴 경우 임시 파일에서 다시 읽는다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param spillFile
+         *            임시 파일
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        Object[] elements(@Nullable CsvSpillFile spillFile) {
+            Object[] elements = this.elements;
+            if (elements == null) {
+                elements = load(spillFile);
+            }
+            if (spillFile != null) {
+                long epoch = spillFile.epoch();
+                if (this.accessed != epoch) {
+                    this.accessed = epoch;
+                }
+            }
+            return elements;
+        }
+
+        /**
+         * 임시 파일에서 데이터를 다시 읽는다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param spillFile
+         *            임시 파일
+         * @return
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private synchronized Object[] load(@Nullable CsvSpillFile spillFile) {
+            Object[] elements = this.elements;
+            if (elements == null) {
+                if (spillFile == null || this.extent == null) {
+                    throw new IllegalStateException("The chunk has been spilled but its spill data is missing.");
+                }
+                elements = this.elements = spillFile.read(this.extent);
+            }
+            return elements;
+        }
+
+        /**
+         * 데이터를 임시 파일로 내려쓴다. 내려쓴 이후 변경되지 않은 데이터는 임시 파일에 다시 쓰지 않는다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param spillFile
+         *            임시 파일
+         * @param count
+         *            데이터 개수
+         * @return 내려쓴 데이터 개수. 이미 내려쓴 경우 0
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        synchronized int spill(CsvSpillFile spillFile, int count) {
+            Object[] elements = this.elements;
+            if (elements == null) {
+                return 0;
+            }
+
+            if (this.extent == null) {
+                this.extent = spillFile.write(elements, count, this);
+            }
+            this.elements = null;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,568 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 10:06:15
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 최근에 사용하지 않은 컬럼 데이터를 {@value #BLOCK_SIZE}줄 단위 블록으로 압축하여 유지하는 컬럼.<br>
+ * 값은 블록 단위로 압축을 해제하여 제공하며, 최근에 압축을 해제한 블록은 일부 유지한다. 컬럼 전체 블록의 압축을 해제한 횟수가 많아지면 자주 사용하는 컬럼으로 판단하여 압축을 해제한
+ * 컬럼을 함께 유지하고, 메모리가 부족한 경우 {@link #evict()}로 다시 해제한다.<br>
+ * 압축된 데이터는 변경하지 않으므로, 데이터를 변경하려면 {@link #decompress()}로 압축을 해제한 컬럼으로 교체해야 한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see CsvColumnStore#spill(long)
+ */
+final class CompressedColumn extends CsvColumn {
+
+    /** 압축 단위 줄 개수 */
+    static final int BLOCK_SIZE = 4096;
+    /** 압축을 해제하여 유지하는 블록 개수 */
+    private static final int CACHE_SIZE = 8;
+    /** 압축을 해제한 컬럼을 유지하기 시작하는 블록 압축 해제 횟수. (전체 블록 개수의 배수) */
+    private static final int HOT_THRESHOLD = 2;
+
+    /** 압축하지 않은 빈 컬럼을 생성하는 함수 */
+    private final Supplier<CsvColumn> factory;
+    /** 데이터 개수 */
+    private final int length;
+    /** 블록별 압축 데이터 */
+    private final byte[][] blocks;
+    /** 블록별 압축 전 데이터 크기 */
+    private final int[] blockLengths;
+    /** 압축 전 컬럼의 예상 메모리 사용량. 단위: byte */
+    private final long rawUsage;
+    /** 압축 데이터의 예상 메모리 사용량. 단위: byte */
+    private final long compressedUsage;
+    /** 압축을 해제한 블록. 블록 번호를 {@value #CACHE_SIZE}로 나눈 나머지 위치에 유지한다. */
+    private final Block[] cache = new Block[CACHE_SIZE];
+    /** 블록 압축 해제 횟수 */
+    private final AtomicInteger inflatedBlocks = new AtomicInteger();
+    /** 자주 사용하여 압축을 해제한 컬럼 */
+    private volatile @Nullable CsvColumn inflated;
+
+    /**
+     * 컬럼 데이터를 압축한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            압축할 컬럼
+     * @param factory
+     *            압축하지 않은 빈 컬럼을 생성하는 함수. 압축을 해제할 때 사용한다.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    CompressedColumn(CsvColumn column, Supplier<CsvColumn> factory) {
+        this.factory = factory;
+        this.length = column.size();
+
+        final int count = (this.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        this.blocks = new byte[count][];
+        this.blockLengths = new int[count];
+
+        long usage = arraySize(count, REFERENCE_SIZE) + arraySize(count, Integer.BYTES);
+        Object[] values = new Object[Math.min(BLOCK_SIZE, this.length)];
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            int offset = 0;
+            int n = 0;
+            for (int block = 0; block < count; block++) {
+                offset = block * BLOCK_SIZE;
+                n = Math.min(BLOCK_SIZE, this.length - offset);
+                for (int i = 0; i < n; i++) {
+                    values[i] = column.get(offset + i);
+                }
+                byte[] raw = CsvValueCodec.encode(values, n);
+                this.blockLengths[block] = raw.length;
+                this.blocks[block] = deflate(deflater, raw);
+                usage += arraySize(this.blocks[block].length, Byte.BYTES);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        this.rawUsage = column.memoryUsage();
+        this.compressedUsage = usage;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#add(int, java.lang.Object)
+     */
+    @Override
+    void add(int index, @Nullable Object value) {
+        throw new UnsupportedOperationException("A compressed column must be decompressed before modification.");
+    }
+
+    /**
+     * 압축 전 컬럼 대비 압축 데이터의 크기 비율을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    double compressionRatio() {
+        return this.rawUsage > 0 ? (double) this.compressedUsage / this.rawUsage : 1D;
+    }
+
+    /**
+     * 압축을 해제한 컬럼을 제공한다.<br>
+     * 자주 사용하여 압축을 해제한 컬럼이 있는 경우 해당 컬럼을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    CsvColumn decompress() {
+        CsvColumn inflated = this.inflated;
+        return inflated != null ? inflated : toColumn();
+    }
+
+    /**
+     * 데이터를 압축한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param deflater
+     *            압축기
+     * @param raw
+     *            압축할 데이터
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static byte[] deflate(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+
+        byte[] compressed = new byte[Math.max(64, raw.length / 4)];
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                compressed = Arrays.copyOf(compressed, newCapacity(compressed.length, length + 1));
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        return Arrays.copyOf(compressed, length);
+    }
+
+    /**
+     * 압축을 해제하여 유지하는 컬럼과 블록을 해제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 줄어든 예상 메모리 사용량. 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    long evict() {
+        long usage = memoryUsage();
+
+        synchronized (this) {
+            this.inflated = null;
+            Arrays.fill(this.cache, null);
+            this.inflatedBlocks.set(0);
+        }
+
+        return usage - memoryUsage();
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#get(int)
+     */
+    @Override
+    @Nullable
+    Object get(int index) {
+        CsvColumn inflated = this.inflated;
+        return inflated != null ? inflated.get(index) : value(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getDouble(int)
+     */
+    @Override
+    double getDouble(int index) {
+        CsvColumn inflated = this.inflated;
+        if (inflated != null) {
+            return inflated.getDouble(index);
+        }
+        Object value = value(index);
+        return value != null ? (Double) value : 0D;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getLong(int)
+     */
+    @Override
+    long getLong(int index) {
+        CsvColumn inflated = this.inflated;
+        if (inflated != null) {
+            return inflated.getLong(index);
+        }
+        Object value = value(index);
+        return value != null ? (Long) value : 0L;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getString(int)
+     */
+    @Override
+    @Nullable
+    String getString(int index) {
+        CsvColumn inflated = this.inflated;
+        return inflated != null ? inflated.getString(index) : (String) value(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getText(int)
+     */
+    @Override
+    @Nullable
+    String getText(int index) {
+        CsvColumn inflated = this.inflated;
+        if (inflated != null) {
+            return inflated.getText(index);
+        }
+        Object value = value(index);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * 블록의 압축을 해제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param block
+     *            블록 번호
+     * @return 블록 데이터
+     * @throws IllegalStateException
+     *            압축 데이터가 올바르지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private Object[] inflate(int block) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(this.blocks[block]);
+            byte[] raw = new byte[this.blockLengths[block]];
+            int length = 0;
+            int n = 0;
+            while (length < raw.length) {
+                n = inflater.inflate(raw, length, raw.length - length);
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Unexpected end of the compressed block.");
+                }
+                length += n;
+            }
+            return CsvValueCodec.decode(ByteBuffer.wrap(raw));
+        } catch (DataFormatException | IOException e) {
+            throw new IllegalStateException("Failed to decompress a column block. block=" + block, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#isNull(int)
+     */
+    @Override
+    boolean isNull(int index) {
+        CsvColumn inflated = this.inflated;
+        return inflated != null ? inflated.isNull(index) : value(index) == null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#memoryUsage()
+     */
+    @Override
+    long memoryUsage() {
+        CsvColumn inflated = this.inflated;
+        long usage = this.compressedUsage + arraySize(CACHE_SIZE, REFERENCE_SIZE);
+        if (inflated != null) {
+            usage += inflated.memoryUsage();
+        } else if (this.blocks.length > 0) {
+            // 압축을 해제한 블록은 압축 전 컬럼의 블록 크기만큼 사용한다.
+            for (Block block : this.cache) {
+                if (block != null) {
+                    usage += this.rawUsage / this.blocks.length;
+                }
+            }
+        }
+        return usage;
+    }
+
+    /**
+     * 자주 사용하는 컬럼의 압축을 해제하여 유지한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private synchronized CsvColumn promote() {
+        CsvColumn inflated = this.inflated;
+        if (inflated == null) {
+            inflated = this.inflated = toColumn();
+            Arrays.fill(this.cache, null);
+        }
+        return inflated;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#remove(int)
+     */
+    @Override
+    void remove(int index) {
+        throw new UnsupportedOperationException("A compressed column must be decompressed before modification.");
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#reorder(int[])
+     */
+    @Override
+    void reorder(int[] order) {
+        throw new UnsupportedOperationException("A compressed column must be decompressed before modification.");
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#set(int, java.lang.Object)
+     */
+    @Override
+    void set(int index, @Nullable Object value) {
+        throw new UnsupportedOperationException("A compressed column must be decompressed before modification.");
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#size()
+     */
+    @Override
+    int size() {
+        return this.length;
+    }
+
+    /**
+     * 전체 블록의 압축을 해제한 컬럼을 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private CsvColumn toColumn() {
+        CsvColumn column = this.factory.get();
+        int index = 0;
+        for (int block = 0; block < this.blocks.length; block++) {
+            for (Object value : inflate(block)) {
+                column.add(index++, value);
+            }
+        }
+        column.trimToSize();
+        return column;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#trimToSize()
+     */
+    @Override
+    void trimToSize() {
+    }
+
+    /**
+     * 값을 제공한다.<br>
+     * 블록의 압축을 해제한 횟수가 전체 블록 개수의 {@value #HOT_THRESHOLD}배가 되면 압축을 해제한 컬럼을 유지한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private @Nullable Object value(int index) {
+        final int block = index / BLOCK_SIZE;
+        final int slot = block % CACHE_SIZE;
+        Block cached = this.cache[slot];
+        if (cached == null || cached.index != block) {
+            if (this.inflatedBlocks.incrementAndGet() >= HOT_THRESHOLD * this.blocks.length) {
+                return promote().get(index);
+            }
+            cached = this.cache[slot] = new Block(block, inflate(block));
+        }
+        return cached.values[index - block * BLOCK_SIZE];
+    }
+
+    /**
+     * 압축을 해제한 블록.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    private static final class Block {
+
+        /** 블록 번호 */
+        private final int index;
+        /** 블록 데이터 */
+        private final Object[] values;
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param index
+         *            블록 번호
+         * @param values
+         *            블록 데이터
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private Block(int index, Object[] values) {
+            this.index = index;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,686 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 10:41:09
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.jspecify.annotations.Nullable;
+
+import open.commons.core.csv.CsvFileConfig;
+
+/**
+ * CSV 파일을 내용에 따라 나눈 조각 색인.<br>
+ * 파일 데이터에서 계산한 값(gear hash)이 조건을 만족한 후 처음 끝나는 줄에서 조각을 나누므로, 파일 일부가 변경되더라도 변경되지 않은 부분은 같은 조각으로 나뉜다. 조각마다
+ * 데이터의 해시 값과 줄 개수를 유지하여, 파일을 다시 읽을 때 내용이 같은 조각은 이전에 변환한 줄 데이터를 재사용한다.<br>
+ * 조각은 인용 문자로 감싼 컬럼 데이터 안의 줄바꿈에서 나누지 않으며, 줄 개수는 파일을 읽는 순서대로 {@link #setRows(int, int)}로 설정한다.<br>
+ * 여러 작업으로 동시에 해석하는 경우에는 {@link #split(Path, CsvFileConfig, long, int, ExecutorService)}로 파일을 크기에 따라 줄 끝에서 나눈다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+public final class CsvChunkIndex {
+
+    /** 최소 조각 크기 */
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+    /** 최대 조각 크기. 이 크기를 넘으면 조건과 상관없이 다음 줄 끝에서 나눈다. */
+    private static final int MAX_CHUNK_SIZE = 1 << 21;
+    /** 조각을 나누는 조건. 최소 크기 이후 평균 128KiB마다 만족한다. */
+    private static final long CUT_MASK = (1L << 17) - 1;
+    /** 파일을 읽는 단위 */
+    private static final int READ_SIZE = 1 << 16;
+    /** byte별 gear hash 값 */
+    private static final long[] GEAR = new SplittableRandom(0x43535643L).longs(256).toArray();
+    /** FNV-1a 64bit 초기값 */
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    /** FNV-1a 64bit 소수 */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** 조각별 끝 위치 */
+    private final long[] ends;
+    /** 조각별 해시 값 */
+    private final long[] hashes;
+    /** 조각별 첫번째 줄 위치. [조각 개수]는 전체 줄 개수 */
+    private final int[] firstRows;
+    /** 해시 값별 조각 위치 */
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param ends
+     *            조각별 끝 위치
+     * @param hashes
+     *            조각별 해시 값
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private CsvChunkIndex(long[] ends, long[] hashes) {
+        this.ends = ends;
+        this.hashes = hashes;
+        this.firstRows = new int[ends.length + 1];
+        for (int i = hashes.length - 1; i >= 0; i--) {
+            this.positions.put(hashes[i], i);
+        }
+    }
+
+    /**
+     * 조각 끝 위치를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public long end(int chunk) {
+        return this.ends[chunk];
+    }
+
+    /**
+     * 해시 값과 크기가 같은 조각을 찾는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param hash
+     *            조각 해시 값
+     * @param length
+     *            조각 크기
+     * @return 조각 위치. 없는 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int find(long hash, long length) {
+        Integer chunk = this.positions.get(hash);
+        return chunk != null && length(chunk) == length ? chunk : -1;
+    }
+
+    /**
+     * 조각의 첫번째 줄 위치를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int firstRow(int chunk) {
+        return this.firstRows[chunk];
+    }
+
+    /**
+     * 조각 해시 값을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public long hash(int chunk) {
+        return this.hashes[chunk];
+    }
+
+    /**
+     * 조각 크기를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public long length(int chunk) {
+        return end(chunk) - start(chunk);
+    }
+
+    /**
+     * 조각의 줄 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int rows(int chunk) {
+        return this.firstRows[chunk + 1] - this.firstRows[chunk];
+    }
+
+    /**
+     * 조각의 줄 개수를 설정한다.<br>
+     * 첫번째 조각부터 순서대로 설정해야 한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     * @param rows
+     *            줄 개수
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void setRows(int chunk, int rows) {
+        this.firstRows[chunk + 1] = this.firstRows[chunk] + rows;
+    }
+
+    /**
+     * 조각 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int size() {
+        return this.ends.length;
+    }
+
+    /**
+     * 조각 시작 위치를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param chunk
+     *            조각 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public long start(int chunk) {
+        return chunk == 0 ? 0 : this.ends[chunk - 1];
+    }
+
+    /**
+     * 문자가 ASCII 문자이며 문자셋에서 1 byte로 변환되는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param charset
+     *            문자셋
+     * @param c
+     *            문자
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static boolean isAscii(Charset charset, char c) {
+        byte[] encoded = String.valueOf(c).getBytes(charset);
+        return c <= 0x7F && encoded.length == 1 && encoded[0] == c;
+    }
+
+    /**
+     * 줄 바꿈, 구분, 인용, escape 문자를 byte 단위로 찾아서 파일을 나눌 수 있는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param config
+     *            CSV 파일 설정
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static boolean isSplittable(CsvFileConfig config) {
+        final Charset charset = config.getCharset();
+        return isAscii(charset, '\n') && isAscii(charset, config.getSeparator()) && isAscii(charset, config.getQuotechar())
+                && isAscii(charset, config.getEscape());
+    }
+
+
+    /**
+     * 설정에 맞게 줄 데이터가 끝나는 위치를 확인하는 객체를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param config
+     *            CSV 파일 설정. 나눌 수 있는 설정({@link #isSplittable(CsvFileConfig)})이어야 한다.
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static CsvRecordScanner newScanner(CsvFileConfig config) {
+        return new CsvRecordScanner((byte) config.getSeparator(), (byte) config.getQuotechar(),
+                (byte) config.getEscape());
+    }
+
+    /**
+     * CSV 파일을 조각으로 나눈다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         나눌 수 있는 설정 확인 분리
+     * 2026. 10. 17.     parkjunhong77@gmail.com         opencsv와 같은 규칙으로 escape 문자 해석
+     * </pre>
+     *
+     * @param path
+     *            CSV 파일 경로
+     * @param config
+     *            CSV 파일 설정
+     * @param size
+     *            나눌 파일 크기
+     * @return 문자셋 또는 구분 문자가 ASCII 호환이 아닌 경우 <code>null</code>
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public static @Nullable CsvChunkIndex scan(Path path, CsvFileConfig config, long size) throws IOException {
+        if (!isSplittable(config)) {
+            return null;
+        }
+        final CsvRecordScanner scanner = newScanner(config);
+
+        long[] ends = new long[16];
+        long[] hashes = new long[16];
+        int count = 0;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(READ_SIZE);
+            long position = 0;
+            long start = 0;
+            long gear = 0;
+            long hash = FNV_OFFSET;
+            boolean cut = false;
+            int state = CsvRecordScanner.START;
+            int transition = 0;
+            byte b = 0;
+            while (position < size) {
+                buffer.clear();
+                buffer.limit((int) Math.min(READ_SIZE, size - position));
+                if (channel.read(buffer, position) < 0) {
+                    break;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    b = buffer.get();
+                    position++;
+                    hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+                    gear = (gear << 1) + GEAR[b & 0xFF];
+                    if (!cut && position - start >= MIN_CHUNK_SIZE && (gear & CUT_MASK) == 0) {
+                        cut = true;
+                    }
+
+                    // 인용 문자로 감싼 컬럼 데이터 밖에서 줄이 끝나는지 확인
+                    transition = scanner.next(state, b);
+                    state = CsvRecordScanner.state(transition);
+                    if (!CsvRecordScanner.endsRecord(transition) || !(cut || position - start >= MAX_CHUNK_SIZE)) {
+                        continue;
+                    }
+
+                    // 줄 끝에서 조각 나누기
+                    if (count == ends.length) {
+                        ends = Arrays.copyOf(ends, count * 2);
+                        hashes = Arrays.copyOf(hashes, count * 2);
+                    }
+                    ends[count] = position;
+                    hashes[count] = hash;
+                    count++;
+                    start = position;
+                    hash = FNV_OFFSET;
+                    cut = false;
+                }
+            }
+
+            if (position > start) {
+                if (count == ends.length) {
+                    ends = Arrays.copyOf(ends, count + 1);
+                    hashes = Arrays.copyOf(hashes, count + 1);
+                }
+                ends[count] = position;
+                hashes[count] = hash;
+                count++;
+            }
+        }
+
+        return new CsvChunkIndex(Arrays.copyOf(ends, count), Arrays.copyOf(hashes, count));
+    }
+
+    /**
+     * 같은 상태가 된 확인 상태를 하나로 합친다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param groups
+     *            시작 상태별로 확인하는 상태 위치
+     * @param current
+     *            확인하는 상태
+     * @param pending
+     *            확인하는 상태별로 첫번째 줄 끝 위치를 확인하지 않은 시작 상태가 있는지 여부
+     * @param count
+     *            확인하는 상태 개수
+     * @return 합친 후 확인하는 상태 개수
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #scanRange(FileChannel, long, long, CsvRecordScanner)
+     */
+    private static int merge(int[] groups, int[] current, boolean[] pending, int count) {
+        for (int g = 0; g < count; g++) {
+            for (int other = g + 1; other < count; other++) {
+                if (current[other] != current[g]) {
+                    continue;
+                }
+                // 같은 상태는 합치고, 마지막 상태를 빈 위치로 옮긴다.
+                pending[g] |= pending[other];
+                count--;
+                for (int s = 0; s < groups.length; s++) {
+                    if (groups[s] == other) {
+                        groups[s] = g;
+                    } else if (groups[s] == count) {
+                        groups[s] = other;
+                    }
+                }
+                current[other] = current[count];
+                pending[other] = pending[count];
+                other--;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 파일의 주어진 범위를 읽으면서, 범위 시작 위치의 인용 문자 해석 상태별로 첫번째 줄 끝 위치와 범위 끝 위치의 상태를 확인한다.<br>
+     * 범위 시작 위치의 상태는 앞 범위를 모두 읽어야 알 수 있으므로, 가능한 모든 상태를 동시에 확인한다. 줄이 끝나 같은 상태가 된 시작 상태들은 이후에도 같은 상태이므로 한 번만
+     * 확인한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         opencsv와 같은 규칙으로 escape 문자 해석
+     * </pre>
+     *
+     * @param channel
+     *            CSV 파일 채널
+     * @param start
+     *            시작 위치
+     * @param end
+     *            끝 위치
+     * @param scanner
+     *            줄 데이터가 끝나는 위치를 확인하는 객체
+     * @return [시작 상태 * 2]: 첫번째 줄 끝 위치 (없는 경우 -1), [시작 상태 * 2 + 1]: 범위 끝 위치의 상태
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static long[] scanRange(FileChannel channel, long start, long end, CsvRecordScanner scanner)
+            throws IOException {
+        final int states = CsvRecordScanner.STATES;
+        final long[] scanned = new long[states * 2];
+        // 시작 상태별로 확인하는 상태 위치
+        final int[] groups = new int[states];
+        // 확인하는 상태. [0, count) 범위만 사용한다.
+        final int[] current = new int[states];
+        // 첫번째 줄 끝 위치를 확인하지 않은 시작 상태가 있는지 여부
+        final boolean[] pending = new boolean[states];
+        for (int s = 0; s < states; s++) {
+            scanned[s * 2] = -1;
+            groups[s] = s;
+            current[s] = s;
+            pending[s] = true;
+        }
+        int count = states;
+
+        ByteBuffer buffer = ByteBuffer.allocate(READ_SIZE);
+        long position = start;
+        byte b = 0;
+        int transition = 0;
+        boolean ended = false;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(READ_SIZE, end - position));
+            if (channel.read(buffer, position) < 0) {
+                break;
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                b = buffer.get();
+                position++;
+                ended = false;
+                for (int g = 0; g < count; g++) {
+                    transition = scanner.next(current[g], b);
+                    current[g] = CsvRecordScanner.state(transition);
+                    if (!CsvRecordScanner.endsRecord(transition)) {
+                        continue;
+                    }
+                    ended = true;
+                    if (pending[g]) {
+                        pending[g] = false;
+                        for (int s = 0; s < states; s++) {
+                            if (groups[s] == g && scanned[s * 2] < 0) {
+                                scanned[s * 2] = position;
+                            }
+                        }
+                    }
+                }
+                if (ended && count > 1) {
+                    count = merge(groups, current, pending, count);
+                }
+            }
+        }
+
+        for (int s = 0; s < states; s++) {
+            scanned[s * 2 + 1] = current[groups[s]];
+        }
+        return scanned;
+    }
+
+    /**
+     * 파일을 줄 끝에서 나눈 범위 목록을 제공한다.<br>
+     * 파일을 같은 크기의 범위로 나누어 동시에 읽은 후, 앞 범위의 끝 상태에 따라 범위마다 인용 문자로 감싼 컬럼 데이터 밖에서 처음 끝나는 줄에서 나눈다. 줄이 끝나지 않는 범위는 앞
+     * 범위에 포함한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         opencsv와 같은 규칙으로 escape 문자 해석
+     * </pre>
+     *
+     * @param path
+     *            CSV 파일 경로
+     * @param config
+     *            CSV 파일 설정
+     * @param size
+     *            나눌 파일 크기
+     * @param count
+     *            나눌 범위 개수
+     * @param executor
+     *            범위를 읽을 작업 실행기
+     * @return 범위별 끝 위치. 문자셋 또는 구분 문자가 ASCII 호환이 아닌 경우 <code>null</code>
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     * @throws InterruptedException
+     *            범위를 읽는 도중 중단된 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public static long @Nullable [] split(Path path, CsvFileConfig config, long size, int count, ExecutorService executor)
+            throws IOException, InterruptedException {
+        if (!isSplittable(config)) {
+            return null;
+        }
+        final CsvRecordScanner scanner = newScanner(config);
+
+        final List<Future<long[]>> futures = new ArrayList<>(count);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // #1. 범위별 상태 확인
+            for (int i = 0; i < count; i++) {
+                final long start = size * i / count;
+                final long end = size * (i + 1) / count;
+                futures.add(executor.submit(() -> scanRange(channel, start, end, scanner)));
+            }
+
+            // #2. 앞 범위의 끝 상태에 따라 범위를 나눌 위치 결정
+            long[] ends = new long[count];
+            int n = 0;
+            int state = CsvRecordScanner.START;
+            long[] scanned = null;
+            for (int i = 0; i < count; i++) {
+                try {
+                    scanned = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException) {
+                        throw (IOException) e.getCause();
+                    }
+                    throw new IOException(e.getCause());
+                }
+                if (i > 0 && scanned[state * 2] >= 0 && scanned[state * 2] < size) {
+                    ends[n++] = scanned[state * 2];
+                }
+                state = (int) scanned[state * 2 + 1];
+            }
+            ends[n++] = size;
+
+            return Arrays.copyOf(ends, n);
+        } finally {
+            for (Future<long[]> future : futures) {
+                future.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 3:15:27
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 컬럼 단위로 데이터를 유지하는 클래스.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see CsvColumnStore
+ */
+abstract class CsvColumn {
+
+    /** 초기 저장공간 크기 */
+    protected static final int INITIAL_CAPACITY = 16;
+
+    /** 배열 객체 헤더 크기. 단위: byte */
+    static final int ARRAY_HEADER_SIZE = 16;
+    /** {@link Long}, {@link Double} 객체 크기. 단위: byte */
+    static final int BOXED_SIZE = 16;
+    /** 객체 참조 크기. 단위: byte */
+    static final int REFERENCE_SIZE = 4;
+    /** 내부 배열을 제외한 {@link String} 객체 크기. 단위: byte */
+    static final int STRING_SIZE = 24;
+
+    /** 데이터 개수 */
+    protected int size;
+
+    /**
+     * 배열의 예상 메모리 사용량을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param length
+     *            배열 길이
+     * @param elementSize
+     *            요소 크기. 단위: byte
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    static long arraySize(int length, int elementSize) {
+        return (ARRAY_HEADER_SIZE + (long) length * elementSize + 7) & ~7L;
+    }
+
+    /**
+     * 주어진 위치에 데이터를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param value
+     *            헤더 정의에 맞게 변환된 데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract void add(int index, @Nullable Object value);
+
+    /**
+     * 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract @Nullable Object get(int index);
+
+    /**
+     * 값 사전의 code를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     * @throws UnsupportedOperationException
+     *            값 사전을 사용하지 않는 컬럼인 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    int getCode(int index) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support 'dictionary code'.");
+    }
+
+    /**
+     * {@link open.commons.spring.csv.ColumnDataType#NUM} 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     * @throws UnsupportedOperationException
+     *            지원하지 않는 컬럼인 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    double getDouble(int index) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support 'double'.");
+    }
+
+    /**
+     * {@link open.commons.spring.csv.ColumnDataType#INT} 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     * @throws UnsupportedOperationException
+     *            지원하지 않는 컬럼인 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    long getLong(int index) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support 'long'.");
+    }
+
+    /**
+     * 문자열 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     * @throws UnsupportedOperationException
+     *            지원하지 않는 컬럼인 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    @Nullable
+    String getString(int index) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support 'String'.");
+    }
+
+    /**
+     * CSV 파일로 저장할 문자열을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return 값이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract @Nullable String getText(int index);
+
+    /**
+     * 데이터가 없는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract boolean isNull(int index);
+
+    /**
+     * 컬럼 데이터의 예상 메모리 사용량을 제공한다.<br>
+     * 힙 외부 메모리를 사용하는 컬럼은 힙 외부 메모리 사용량을 포함한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract long memoryUsage();
+
+    /**
+     * 새로운 저장공간 크기를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param current
+     *            현재 저장공간 크기
+     * @param required
+     *            필요한 저장공간 크기
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    protected static int newCapacity(int current, int required) {
+        int capacity = current + (current >> 1);
+        return capacity < required ? required : capacity;
+    }
+
+    /**
+     * 컬럼이 사용하는 자원을 해제한다. 힙 외부 메모리를 사용하지 않는 컬럼은 아무것도 하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void release() {
+    }
+
+    /**
+     * 데이터를 삭제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract void remove(int index);
+
+    /**
+     * 주어진 순서대로 데이터를 재배치한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param order
+     *            새로운 순서
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see ICsvStore#reorder(int[])
+     */
+    abstract void reorder(int[] order);
+
+    /**
+     * 데이터를 변경한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param value
+     *            헤더 정의에 맞게 변환된 데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract void set(int index, @Nullable Object value);
+
+    /**
+     * 데이터 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * 값의 예상 메모리 사용량을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            헤더 정의에 맞게 변환된 데이터
+     * @return 단위: byte. 값이 없는 경우 0
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    static long sizeOf(@Nullable Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return sizeOf((String) value);
+        } else {
+            return BOXED_SIZE;
+        }
+    }
+
+    /**
+     * 문자열의 예상 메모리 사용량을 제공한다.<br>
+     * Latin-1 문자로만 구성된 문자열은 문자당 1 byte, 그 외에는 문자당 2 bytes 를 사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            문자열
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    static long sizeOf(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) > 0xFF) {
+                return STRING_SIZE + arraySize(length, Character.BYTES);
+            }
+        }
+        return STRING_SIZE + arraySize(length, Byte.BYTES);
+    }
+
+    /**
+     * 사용하지 않는 저장공간을 정리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    abstract void trimToSize();
+}
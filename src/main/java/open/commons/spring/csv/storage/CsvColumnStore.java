@@ -0,0 +1,661 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 3:52:11
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import open.commons.core.utils.AssertUtils2;
+import open.commons.spring.csv.CsvHeader;
+
+/**
+ * 컬럼 단위로 데이터를 유지하는 저장소.<br>
+ * {@link open.commons.spring.csv.ColumnDataType#INT}, {@link open.commons.spring.csv.ColumnDataType#NUM} 컬럼은 기본형
+ * 배열과 null 비트맵으로 유지하므로 데이터마다 {@link Long}, {@link Double} 객체를 생성하지 않는다.<br>
+ * 메모리가 부족한 경우 {@link #spill(long)}로 최근에 검색/정렬에 사용하지 않은 컬럼을 블록 단위로 압축하고, 사용할 때 블록 단위로 압축을 해제한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see open.commons.spring.csv.CsvStorageType#COLUMNAR
+ */
+public class CsvColumnStore implements ICsvStore {
+
+    /** 컬럼 데이터 */
+    private final CsvColumn[] columns;
+    /** 값 사전을 사용하는 {@link open.commons.spring.csv.ColumnDataType#STR} 컬럼의 최대 고유값 개수 */
+    private final int dictionaryThreshold;
+    /** 문자열 컬럼 데이터를 {@link CsvUtf8Column}으로 유지할지 여부 */
+    private final boolean compactStrings;
+    /** 줄 개수 */
+    private int size;
+    /** 컬럼별 최근 접근 주기 */
+    private final long[] accessed;
+    /** 압축해도 메모리 사용량이 줄지 않는 컬럼 여부. 컬럼 데이터가 변경되면 초기화한다. */
+    private final boolean[] incompressible;
+    /** 현재 접근 주기. 압축할 때마다 증가한다. */
+    private long epoch = 1;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param headers
+     *            CSV 데이터 헤더 정보
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvColumnStore(CsvHeader[] headers) {
+        this(headers, 0);
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param headers
+     *            CSV 데이터 헤더 정보
+     * @param dictionaryThreshold
+     *            값 사전을 사용하는 {@link open.commons.spring.csv.ColumnDataType#STR} 컬럼의 최대 고유값 개수. 0 이하인 경우 사용하지 않음.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvColumnStore(CsvHeader[] headers, int dictionaryThreshold) {
+        this(headers, dictionaryThreshold, false);
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param headers
+     *            CSV 데이터 헤더 정보
+     * @param dictionaryThreshold
+     *            값 사전을 사용하는 {@link open.commons.spring.csv.ColumnDataType#STR} 컬럼의 최대 고유값 개수. 0 이하인 경우 사용하지 않음.
+     * @param compactStrings
+     *            문자열 컬럼 데이터를 {@link CsvUtf8Column}으로 유지할지 여부
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvColumnStore(CsvHeader[] headers, int dictionaryThreshold, boolean compactStrings) {
+        AssertUtils2.notEmpty((Object[]) headers);
+
+        this.dictionaryThreshold = dictionaryThreshold;
+        this.compactStrings = compactStrings;
+        this.columns = new CsvColumn[headers.length];
+        this.accessed = new long[headers.length];
+        this.incompressible = new boolean[headers.length];
+        for (int i = 0; i < headers.length; i++) {
+            this.columns[i] = createColumn(headers[i]);
+        }
+    }
+
+    /**
+     * 컬럼을 사용한 것으로 기록하고 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private CsvColumn accessColumn(int column) {
+        // 접근할 때마다 쓰지 않도록 접근 주기가 바뀐 경우에만 기록한다.
+        if (this.accessed[column] != this.epoch) {
+            this.accessed[column] = this.epoch;
+        }
+        return this.columns[column];
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#add(java.lang.Object[])
+     */
+    @Override
+    public void add(Object[] data) {
+        add(this.size, data);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#add(int, java.lang.Object[])
+     */
+    @Override
+    public void add(int index, Object[] data) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+
+        for (int i = 0; i < this.columns.length; i++) {
+            column(i, data[i]).add(index, data[i]);
+        }
+        this.size++;
+    }
+
+    /**
+     * 데이터를 유지할 수 있는 컬럼을 제공한다.<br>
+     * 값 사전을 사용하는 컬럼의 고유값 개수가 설정값을 넘는 경우 값 사전을 사용하지 않는 컬럼으로 변환한다.<br>
+     * 압축된 컬럼은 압축을 해제한 컬럼으로 교체한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @param value
+     *            추가 또는 변경할 데이터
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private CsvColumn column(int column, @Nullable Object value) {
+        CsvColumn c = writableColumn(column);
+        if (c instanceof DictionaryColumn && !((DictionaryColumn) c).accepts(value)) {
+            c = this.columns[column] = ((DictionaryColumn) c).toStringColumn(newStringColumn());
+        }
+        return c;
+    }
+
+    /**
+     * 압축하지 않은 빈 컬럼을 생성하는 함수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            압축할 컬럼
+     * @return 압축하지 않는 컬럼인 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static @Nullable Supplier<CsvColumn> columnFactory(CsvColumn column) {
+        if (column instanceof LongColumn) {
+            return LongColumn::new;
+        } else if (column instanceof DoubleColumn) {
+            return DoubleColumn::new;
+        } else if (column instanceof StringColumn) {
+            return StringColumn::new;
+        } else if (column instanceof CsvUtf8Column) {
+            return CsvUtf8Column::new;
+        } else {
+            // 값 사전을 사용하는 컬럼은 이미 code로 유지하며, off-heap 컬럼은 다른 스레드가 사용하는 동안 해제할 수 없다.
+            return null;
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#compressionRatio(int)
+     */
+    @Override
+    public double compressionRatio(int column) {
+        CsvColumn c = this.columns[column];
+        return c instanceof CompressedColumn ? ((CompressedColumn) c).compressionRatio() : 1D;
+    }
+
+    /**
+     * 헤더 정의에 맞는 컬럼을 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param header
+     *            컬럼 헤더
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    CsvColumn createColumn(CsvHeader header) {
+        switch (header.getDataType()) {
+            case INT:
+                return new LongColumn();
+            case NUM:
+                return new DoubleColumn();
+            case STR:
+                return this.dictionaryThreshold > 0 ? new DictionaryColumn(this.dictionaryThreshold) : newStringColumn();
+            case GENERAL:
+            default:
+                return newStringColumn();
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#get(int)
+     */
+    @Override
+    public Object[] get(int index) {
+        checkIndex(index);
+
+        Object[] data = new Object[this.columns.length];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = this.columns[i].get(index);
+        }
+        return data;
+    }
+
+    /**
+     * 줄 위치를 검증한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @throws IndexOutOfBoundsException
+     *            범위를 벗어난 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getCode(int, int)
+     */
+    @Override
+    public int getCode(int index, int column) throws UnsupportedOperationException {
+        return accessColumn(column).getCode(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getDictionary(int)
+     */
+    @Override
+    public @Nullable CsvDictionary getDictionary(int column) {
+        CsvColumn c = accessColumn(column);
+        return c instanceof DictionaryColumn ? ((DictionaryColumn) c).getDictionary() : null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getDouble(int, int)
+     */
+    @Override
+    public double getDouble(int index, int column) {
+        return accessColumn(column).getDouble(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getLong(int, int)
+     */
+    @Override
+    public long getLong(int index, int column) {
+        return accessColumn(column).getLong(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getString(int, int)
+     */
+    @Override
+    public @Nullable String getString(int index, int column) {
+        return accessColumn(column).getString(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getText(int, int)
+     */
+    @Override
+    public @Nullable String getText(int index, int column) {
+        return accessColumn(column).getText(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getUtf8Column(int)
+     */
+    @Override
+    public @Nullable CsvUtf8Column getUtf8Column(int column) {
+        CsvColumn c = accessColumn(column);
+        return c instanceof CsvUtf8Column ? (CsvUtf8Column) c : null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#isNull(int, int)
+     */
+    @Override
+    public boolean isNull(int index, int column) {
+        return accessColumn(column).isNull(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#memoryUsage()
+     */
+    @Override
+    public long memoryUsage() {
+        long usage = CsvColumn.arraySize(this.columns.length, CsvColumn.REFERENCE_SIZE);
+        for (CsvColumn column : this.columns) {
+            usage += column.memoryUsage();
+        }
+        return usage;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#memoryUsage(int)
+     */
+    @Override
+    public long memoryUsage(int column) {
+        return this.columns[column].memoryUsage();
+    }
+
+    /**
+     * 값 사전을 사용하지 않는 문자열 컬럼을 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private CsvColumn newStringColumn() {
+        return this.compactStrings ? new CsvUtf8Column() : new StringColumn();
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#release()
+     */
+    @Override
+    public void release() {
+        for (CsvColumn column : this.columns) {
+            column.release();
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#remove(int)
+     */
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+
+        for (int i = 0; i < this.columns.length; i++) {
+            writableColumn(i).remove(index);
+        }
+        this.size--;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#reorder(int[])
+     */
+    @Override
+    public void reorder(int[] order) {
+        for (int i = 0; i < this.columns.length; i++) {
+            writableColumn(i).reorder(order);
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#set(int, java.lang.Object[])
+     */
+    @Override
+    public void set(int index, Object[] data) {
+        checkIndex(index);
+
+        for (int i = 0; i < this.columns.length; i++) {
+            column(i, data[i]).set(index, data[i]);
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#size()
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#snapshot()
+     */
+    @Override
+    public @Nullable ICsvStore snapshot() {
+        return null;
+    }
+
+    /**
+     * 최근에 검색/정렬에 사용하지 않은 컬럼부터 압축한다.<br>
+     * 자주 사용하여 압축을 해제한 컬럼을 유지하는 압축된 컬럼은 압축을 해제한 컬럼을 먼저 해제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param bytes
+     *            줄이려는 메모리 사용량. 단위: byte
+     * @return 줄어든 예상 메모리 사용량. 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see open.commons.spring.csv.storage.ICsvStore#spill(long)
+     */
+    @Override
+    public synchronized long spill(long bytes) {
+        if (bytes < 1) {
+            return 0;
+        }
+
+        // 정렬하는 동안 접근 주기가 변경되지 않도록 복사한다.
+        final long epoch = this.epoch++;
+        final long[] accessed = this.accessed.clone();
+
+        List<Integer> candidates = new ArrayList<>();
+        CsvColumn c = null;
+        for (int i = 0; i < this.columns.length; i++) {
+            c = this.columns[i];
+            if (accessed[i] < epoch
+                    && (c instanceof CompressedColumn || (!this.incompressible[i] && columnFactory(c) != null))) {
+                candidates.add(i);
+            }
+        }
+        candidates.sort(Comparator.comparingLong(i -> accessed[i]));
+
+        long spilled = 0;
+        long usage = 0;
+        for (int i : candidates) {
+            if (spilled >= bytes) {
+                break;
+            }
+
+            c = this.columns[i];
+            if (c instanceof CompressedColumn) {
+                spilled += ((CompressedColumn) c).evict();
+                continue;
+            }
+
+            CompressedColumn compressed = new CompressedColumn(c, columnFactory(c));
+            usage = c.memoryUsage() - compressed.memoryUsage();
+            if (usage > 0) {
+                this.columns[i] = compressed;
+                spilled += usage;
+            } else {
+                this.incompressible[i] = true;
+            }
+        }
+        return spilled;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#trimToSize()
+     */
+    @Override
+    public void trimToSize() {
+        for (CsvColumn column : this.columns) {
+            column.trimToSize();
+        }
+    }
+
+    /**
+     * 데이터를 변경할 수 있는 컬럼을 제공한다.<br>
+     * 압축된 컬럼은 압축을 해제한 컬럼으로 교체한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private CsvColumn writableColumn(int column) {
+        CsvColumn c = this.columns[column];
+        if (c instanceof CompressedColumn) {
+            c = this.columns[column] = ((CompressedColumn) c).decompress();
+        }
+        this.incompressible[column] = false;
+        return c;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 5:04:37
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 고유값이 적은 {@link open.commons.spring.csv.ColumnDataType#STR} 컬럼의 값 사전.<br>
+ * 컬럼 데이터는 값 대신 사전에 등록된 순서(code)로 유지된다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see DictionaryColumn
+ */
+public class CsvDictionary {
+
+    /** 값이 없는 경우의 code */
+    public static final int NULL_CODE = -1;
+
+    /** 값 하나를 등록하는 데 필요한 목록/색인 항목의 예상 크기. (목록 참조, 색인 노드와 버킷 참조, code 객체) 단위: byte */
+    private static final int ENTRY_SIZE = 64;
+
+    /** code 별 값 */
+    private final ArrayList<String> values = new ArrayList<>();
+    /** 값 별 code */
+    private final Map<String, Integer> codes = new HashMap<>();
+    /** code 별 정렬 순위. 값이 추가되면 다시 계산한다. */
+    private volatile int @Nullable [] ranks;
+    /** 등록된 값의 문자열 객체 크기 합계. 단위: byte */
+    private long valueSize;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    CsvDictionary() {
+    }
+
+    /**
+     * 값을 등록하고 code를 제공한다. 이미 등록된 값인 경우 기존 code를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            값
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    int add(String value) {
+        Integer code = this.codes.get(value);
+        if (code == null) {
+            code = this.values.size();
+            this.values.add(value);
+            this.codes.put(value, code);
+            this.valueSize += CsvColumn.sizeOf(value);
+            this.ranks = null;
+        }
+        return code;
+    }
+
+    /**
+     * 값에 해당하는 code를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            값
+     * @return 등록되지 않은 값인 경우 {@link #NULL_CODE}
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int code(String value) {
+        Integer code = this.codes.get(value);
+        return code != null ? code : NULL_CODE;
+    }
+
+    /**
+     * 값이 등록되어 있는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            값
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    boolean contains(String value) {
+        return this.codes.containsKey(value);
+    }
+
+    /**
+     * 값 사전의 예상 메모리 사용량을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    long memoryUsage() {
+        int[] ranks = this.ranks;
+        return this.valueSize + (long) this.values.size() * ENTRY_SIZE
+                + (ranks != null ? CsvColumn.arraySize(ranks.length, Integer.BYTES) : 0);
+    }
+
+    /**
+     * code 별 정렬 순위를 제공한다. 순위는 {@link String#compareTo(String)}를 따른다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return <code>ranks[code]</code>: 정렬 순위
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int[] ranks() {
+        int[] ranks = this.ranks;
+        if (ranks == null) {
+            Integer[] order = new Integer[this.values.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (c1, c2) -> this.values.get(c1).compareTo(this.values.get(c2)));
+
+            ranks = new int[order.length];
+            for (int rank = 0; rank < order.length; rank++) {
+                ranks[order[rank]] = rank;
+            }
+            this.ranks = ranks;
+        }
+        return ranks;
+    }
+
+    /**
+     * 등록된 값의 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int size() {
+        return this.values.size();
+    }
+
+    /**
+     * code에 해당하는 값을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param code
+     *            값 code
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public String value(int code) {
+        return this.values.get(code);
+    }
+}
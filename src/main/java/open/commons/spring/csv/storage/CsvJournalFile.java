@@ -0,0 +1,556 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 10:58:12
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 적재 데이터 변경 내역을 순서대로 덧붙여 기록하는 파일.<br>
+ * 데이터를 변경하기 전에 변경 내역을 기록하고 디스크에 반영하므로, CSV 파일 전체를 다시 쓰지 않아도 변경 내역이 유지된다. 같은 CSV 파일을 다시 적재할 때 기록된 순서대로 변경 내역을
+ * 적용하며, CSV 파일에 변경 내용을 저장한 후에는 기록을 비운다.<br>
+ * 파일 앞에 원본 파일 정보(경로, 크기, 수정시간, 헤더 설정 등)로 만든 식별 키를 저장하여, 키가 일치하지 않는 파일은 사용하지 않는다. 기록마다 CRC32 값을 저장하여, 기록하는 도중
+ * 중단되어 일부만 저장된 기록은 파일을 열 때 잘라낸다.
+ * 
+ * <pre>
+ * [파일 구조]
+ * MAGIC(int) | VERSION(int) | 키 크기(int) | 키(UTF-8)
+ * { 기록 크기(int) | CRC32(int) | 연산(byte) | 줄 번호(int) | 연산 인자(int) | 값 목록 } ...
+ * </pre>
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see CsvValueCodec
+ */
+public final class CsvJournalFile implements Closeable {
+
+    /** 연산: 줄 데이터 변경 */
+    public static final byte UPDATE = 1;
+    /** 연산: 줄 데이터 추가 */
+    public static final byte INSERT = 2;
+    /** 연산: 줄 데이터 삭제 */
+    public static final byte DELETE = 3;
+    /** 연산: 줄 데이터 정렬. 줄 번호는 컬럼 위치, 연산 인자는 정렬 방향 순서. 새로 기록하지 않으며, 이전에 기록된 변경 내역을 적용할 때만 사용한다. */
+    public static final byte SORT = 4;
+
+    /** 파일 식별 값 ("CSVJ") */
+    private static final int MAGIC = 0x4353564A;
+    /** 파일 구조 버전 */
+    private static final int VERSION = 1;
+    /** 기록 앞에 붙는 크기와 CRC32 값의 크기 */
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    /** 빈 값 목록 */
+    private static final Object[] EMPTY = new Object[0];
+
+    /** 변경 내역을 기록하는 파일. 여러 적재 데이터가 같은 파일에 기록하더라도 기록이 겹치지 않도록 덧붙이기 모드로 연다. */
+    private final FileChannel writer;
+    /** 변경 내역을 읽는 파일. 덧붙이기 모드로는 읽을 수 없으므로 따로 연다. */
+    private final FileChannel reader;
+    /** 다음에 읽을 기록 위치 */
+    private long position;
+    /** 기록 개수 */
+    private int count;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param writer
+     *            변경 내역을 기록하는 파일
+     * @param reader
+     *            변경 내역을 읽는 파일
+     * @param position
+     *            첫번째 기록 위치
+     * @param count
+     *            기록 개수
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private CsvJournalFile(FileChannel writer, FileChannel reader, long position, int count) {
+        this.writer = writer;
+        this.reader = reader;
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * 변경 내역을 기록하고 디스크에 반영한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param operation
+     *            연산. {@link #UPDATE}, {@link #INSERT}, {@link #DELETE}, {@link #SORT}
+     * @param lineNumber
+     *            줄 번호
+     * @param argument
+     *            연산 인자
+     * @param data
+     *            줄 데이터. 없는 경우 <code>null</code>
+     * @throws IOException
+     *            파일을 쓸 수 없는 경우
+     * @throws IllegalArgumentException
+     *            지원하지 않는 타입의 값이 있는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public synchronized void append(byte operation, int lineNumber, int argument, Object @Nullable [] data)
+            throws IOException {
+        byte[] values = data != null ? CsvValueCodec.encode(data, data.length) : CsvValueCodec.encode(EMPTY, 0);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + Byte.BYTES + Integer.BYTES * 2 + values.length);
+        record.position(RECORD_HEADER_SIZE);
+        record.put(operation).putInt(lineNumber).putInt(argument).put(values);
+
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), RECORD_HEADER_SIZE, record.capacity() - RECORD_HEADER_SIZE);
+        record.putInt(0, record.capacity() - RECORD_HEADER_SIZE).putInt(Integer.BYTES, (int) crc.getValue()).flip();
+
+        // 덧붙이기 모드에서 한 번에 써야 다른 기록과 겹치지 않는다.
+        while (record.hasRemaining()) {
+            this.writer.write(record);
+        }
+        this.writer.force(false);
+        this.count++;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            this.writer.close();
+        } finally {
+            this.reader.close();
+        }
+    }
+
+    /**
+     * 기록 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public synchronized int getCount() {
+        return this.count;
+    }
+
+    /**
+     * 변경 내역 파일을 연다.<br>
+     * 파일이 없는 경우 새로 만들고, 일부만 저장된 기록은 잘라낸다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param path
+     *            변경 내역 파일 경로
+     * @param key
+     *            원본 파일 식별 키
+     * @return 식별 키가 일치하지 않는 경우 <code>null</code>
+     * @throws IOException
+     *            파일을 읽거나 쓸 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public static @Nullable CsvJournalFile open(Path path, String key) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+
+        FileChannel writer = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        FileChannel reader = null;
+        CsvJournalFile journal = null;
+        try {
+            reader = FileChannel.open(path, StandardOpenOption.READ);
+            final long size = reader.size();
+            if (size == 0) {
+                writeHead(writer, key);
+                return journal = new CsvJournalFile(writer, reader, reader.size(), 0);
+            }
+
+            // #1. 식별 키 검증
+            byte[] expected = key.getBytes(StandardCharsets.UTF_8);
+            if (size < Integer.BYTES * 3) {
+                return null;
+            }
+            ByteBuffer buffer = read(reader, 0, Integer.BYTES * 3);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != expected.length
+                    || size < Integer.BYTES * 3 + expected.length) {
+                return null;
+            }
+            if (!Arrays.equals(expected, read(reader, Integer.BYTES * 3, expected.length).array())) {
+                return null;
+            }
+
+            // #2. 온전히 저장된 기록까지 확인
+            final long first = Integer.BYTES * 3 + expected.length;
+            long end = first;
+            int count = 0;
+            ByteBuffer record = null;
+            while ((record = readRecord(reader, end, size)) != null) {
+                end += RECORD_HEADER_SIZE + record.remaining();
+                count++;
+            }
+            if (end < size) {
+                writer.truncate(end);
+                writer.force(false);
+            }
+
+            return journal = new CsvJournalFile(writer, reader, first, count);
+        } finally {
+            if (journal == null) {
+                writer.close();
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * 파일에서 데이터를 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param channel
+     *            파일
+     * @param position
+     *            데이터 위치
+     * @param length
+     *            데이터 크기
+     * @return
+     * @throws IOException
+     *            파일을 읽을 수 없거나 파일 끝에 도달한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of the journal file. position=" + position + ", length=" + length);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * 다음 변경 내역을 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 더 이상 변경 내역이 없는 경우 <code>null</code>
+     * @throws IOException
+     *            파일을 읽을 수 없거나 형식이 올바르지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public synchronized @Nullable Entry readNext() throws IOException {
+        ByteBuffer record = readRecord(this.reader, this.position, this.reader.size());
+        if (record == null) {
+            return null;
+        }
+        this.position += RECORD_HEADER_SIZE + record.remaining();
+
+        byte operation = record.get();
+        int lineNumber = record.getInt();
+        int argument = record.getInt();
+        return new Entry(operation, lineNumber, argument, CsvValueCodec.decode(record));
+    }
+
+    /**
+     * 기록을 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param channel
+     *            파일
+     * @param position
+     *            기록 위치
+     * @param size
+     *            파일 크기
+     * @return 기록 데이터. 기록이 없거나 일부만 저장된 경우 <code>null</code>
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static @Nullable ByteBuffer readRecord(FileChannel channel, long position, long size) throws IOException {
+        if (position + RECORD_HEADER_SIZE > size) {
+            return null;
+        }
+        ByteBuffer head = read(channel, position, RECORD_HEADER_SIZE);
+        int length = head.getInt();
+        int checksum = head.getInt();
+        if (length < 1 || position + RECORD_HEADER_SIZE + length > size) {
+            return null;
+        }
+
+        ByteBuffer record = read(channel, position + RECORD_HEADER_SIZE, length);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, length);
+        return (int) crc.getValue() == checksum ? record : null;
+    }
+
+    /**
+     * 기록을 모두 지우고 새로운 식별 키를 저장한다.<br>
+     * 원본 파일에 변경 내용을 저장한 후 사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param key
+     *            원본 파일 식별 키
+     * @throws IOException
+     *            파일을 쓸 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public synchronized void reset(String key) throws IOException {
+        this.writer.truncate(0);
+        writeHead(this.writer, key);
+        this.position = this.reader.size();
+        this.count = 0;
+    }
+
+    /**
+     * 파일 구조 정보와 식별 키를 쓰고 디스크에 반영한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param channel
+     *            파일
+     * @param key
+     *            원본 파일 식별 키
+     * @throws IOException
+     *            파일을 쓸 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static void writeHead(FileChannel channel, String key) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer head = ByteBuffer.allocate(Integer.BYTES * 3 + keyBytes.length);
+        head.putInt(MAGIC).putInt(VERSION).putInt(keyBytes.length).put(keyBytes).flip();
+        while (head.hasRemaining()) {
+            channel.write(head);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * 변경 내역.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    public static final class Entry {
+
+        /** 연산 */
+        private final byte operation;
+        /** 줄 번호 */
+        private final int lineNumber;
+        /** 연산 인자 */
+        private final int argument;
+        /** 줄 데이터. 없는 경우 빈 배열 */
+        private final Object[] data;
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param operation
+         *            연산
+         * @param lineNumber
+         *            줄 번호
+         * @param argument
+         *            연산 인자
+         * @param data
+         *            줄 데이터
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private Entry(byte operation, int lineNumber, int argument, Object[] data) {
+            this.operation = operation;
+            this.lineNumber = lineNumber;
+            this.argument = argument;
+            this.data = data;
+        }
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @return the argument
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        public int getArgument() {
+            return argument;
+        }
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @return the data
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        public Object[] getData() {
+            return data;
+        }
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @return the lineNumber
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @return the operation
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        public byte getOperation() {
+            return operation;
+        }
+    }
+}
@@ -0,0 +1,914 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 6:08:52
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+
+package open.commons.spring.csv.storage;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import org.jspecify.annotations.Nullable;
+
+import open.commons.core.csv.CsvFileConfig;
+import open.commons.core.utils.ExceptionUtils;
+import open.commons.spring.web.servlet.exception.InternalServerException;
+
+/**
+ * CSV 파일을 메모리 매핑하고 줄 시작 위치만 유지하는 저장소.<br>
+ * 줄 데이터는 요청시 매핑된 파일에서 읽어 변환하며, 추가/변경된 줄 데이터만 {@link Object} 배열로 유지한다. 따라서 적재 시간은 줄바꿈 탐색 시간, 사용 메모리는 줄
+ * 개수에 비례한다.<br>
+ * 메모리 매핑된 파일은 {@link #release()}를 호출하기 전까지 외부에서 변경되어서는 안된다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see open.commons.spring.csv.CsvStorageType#MAPPED
+ */
+public class CsvMappedStore implements ICsvStore {
+
+    /** 초기 저장공간 크기 */
+    private static final int INITIAL_CAPACITY = 1024;
+    /** 변환한 줄 데이터를 유지하는 개수. 2의 거듭제곱이어야 한다. */
+    private static final int CACHE_SIZE = 256;
+    /** 색인 진행 정보를 알리는 줄 간격 */
+    private static final int PROGRESS_INTERVAL = 8192;
+
+    /** 컬럼 개수 */
+    private final int columnCount;
+    /** 줄 데이터 변환 함수. (줄 번호, 문자열 데이터) → 변환된 데이터 */
+    private final BiFunction<Integer, String[], Object[]> deserializer;
+    /** 메모리 매핑 범위 */
+    private @Nullable Arena arena;
+    /** 메모리 매핑된 파일 */
+    private MemorySegment file = MemorySegment.NULL;
+    /** 파일 문자셋 */
+    private Charset charset = StandardCharsets.UTF_8;
+    /** 컬럼 구분자 */
+    private byte separator;
+    /** 인용 문자 */
+    private byte quotechar;
+    /** 이스케이프 문자 */
+    private byte escape;
+    /** 줄 데이터 끝 위치 확인 객체 */
+    private @Nullable CsvRecordScanner scanner;
+    /** 줄 데이터 위치. 0 이상: 파일 내 시작 위치(byte), 0 미만: -(추가/변경된 줄 데이터 위치 + 1) */
+    private long[] refs = new long[INITIAL_CAPACITY];
+    /** 줄 개수 */
+    private int size;
+    /** 추가/변경된 줄 데이터 */
+    private final ArrayList<Object @Nullable []> edited = new ArrayList<>();
+    /**
+     * 최근 변환한 줄 데이터. 줄 위치를 {@link #CACHE_SIZE}로 나눈 나머지 위치에 유지한다.<br>
+     * 여러 읽기 작업이 동시에 사용하므로 줄 위치와 함께 변경할 수 없는 객체로 교체하며, 데이터를 변경하는 경우(쓰기 잠금 상태) 비운다.
+     */
+    private final @Nullable CachedLine[] cached = new CachedLine[CACHE_SIZE];
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param columnCount
+     *            컬럼 개수
+     * @param deserializer
+     *            줄 데이터 변환 함수. (줄 번호, 문자열 데이터) → 변환된 데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvMappedStore(int columnCount, BiFunction<Integer, String[], Object[]> deserializer) {
+        this.columnCount = columnCount;
+        this.deserializer = deserializer;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#add(java.lang.Object[])
+     */
+    @Override
+    public void add(Object[] data) {
+        add(this.size, data);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#add(int, java.lang.Object[])
+     */
+    @Override
+    public void add(int index, Object[] data) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+
+        addRef(index, editedRef(data));
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#compressionRatio(int)
+     */
+    @Override
+    public double compressionRatio(int column) {
+        return 1D;
+    }
+
+    /**
+     * 줄 데이터 위치를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @param ref
+     *            줄 데이터 위치
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void addRef(int index, long ref) {
+        if (this.size == this.refs.length) {
+            this.refs = Arrays.copyOf(this.refs, Math.max(this.size + 1, this.size + (this.size >> 1)));
+        }
+        if (index < this.size) {
+            System.arraycopy(this.refs, index, this.refs, index + 1, this.size - index);
+            // 뒤에 추가하는 경우에는 기존 줄 위치가 바뀌지 않는다.
+            clearCache();
+        }
+        this.refs[index] = ref;
+        this.size++;
+    }
+
+    /**
+     * 문자를 1 byte 문자로 변환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param c
+     *            문자
+     * @return
+     * @throws IllegalArgumentException
+     *            파일 문자셋에서 ASCII 문자와 동일하게 표현되지 않는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private byte ascii(char c) {
+        byte[] encoded = String.valueOf(c).getBytes(this.charset);
+        if (c > 0x7F || encoded.length != 1 || encoded[0] != c) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class,
+                    "메모리 매핑 방식은 ASCII 호환 문자셋과 ASCII 구분 문자만 지원합니다. 문자셋=%s, 문자=%s", this.charset, c);
+        }
+        return (byte) c;
+    }
+
+    /**
+     * 줄 위치를 검증한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @throws IndexOutOfBoundsException
+     *            범위를 벗어난 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * 최근 변환한 줄 데이터를 비운다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void clearCache() {
+        Arrays.fill(this.cached, null);
+    }
+
+    /**
+     * 추가/변경된 줄 데이터를 등록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            줄 데이터
+     * @return 줄 데이터 위치
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private long editedRef(Object[] data) {
+        this.edited.add(data);
+        return -this.edited.size();
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#get(int)
+     */
+    @Override
+    public Object[] get(int index) {
+        return Arrays.copyOf(line(index), this.columnCount);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getCode(int, int)
+     */
+    @Override
+    public int getCode(int index, int column) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support 'dictionary code'.");
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getDictionary(int)
+     */
+    @Override
+    public @Nullable CsvDictionary getDictionary(int column) {
+        return null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getDouble(int, int)
+     */
+    @Override
+    public double getDouble(int index, int column) {
+        return (Double) line(index)[column];
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getLong(int, int)
+     */
+    @Override
+    public long getLong(int index, int column) {
+        return (Long) line(index)[column];
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getString(int, int)
+     */
+    @Override
+    public @Nullable String getString(int index, int column) {
+        return (String) line(index)[column];
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getText(int, int)
+     */
+    @Override
+    public @Nullable String getText(int index, int column) {
+        Object value = line(index)[column];
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getUtf8Column(int)
+     */
+    @Override
+    public @Nullable CsvUtf8Column getUtf8Column(int column) {
+        return null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#isNull(int, int)
+     */
+    @Override
+    public boolean isNull(int index, int column) {
+        return line(index)[column] == null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#memoryUsage()
+     */
+    @Override
+    public long memoryUsage() {
+        long usage = CsvColumn.arraySize(this.refs.length, Long.BYTES)
+                + CsvColumn.arraySize(this.edited.size(), CsvColumn.REFERENCE_SIZE);
+        for (Object[] line : this.edited) {
+            if (line != null) {
+                usage += CsvColumn.arraySize(line.length, CsvColumn.REFERENCE_SIZE);
+                for (Object value : line) {
+                    usage += CsvColumn.sizeOf(value);
+                }
+            }
+        }
+        return usage;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#memoryUsage(int)
+     */
+    @Override
+    public long memoryUsage(int column) {
+        long usage = 0;
+        for (Object[] line : this.edited) {
+            if (line != null) {
+                usage += CsvColumn.sizeOf(line[column]);
+            }
+        }
+        return usage;
+    }
+
+    /**
+     * 줄 데이터를 제공한다.<br>
+     * 메모리 매핑된 파일의 줄인 경우 읽어서 변환하며, 최근 변환한 줄 데이터는 다시 변환하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최근 변환한 줄 데이터 여러 개 유지
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private Object[] line(int index) {
+        checkIndex(index);
+
+        long ref = this.refs[index];
+        if (ref < 0) {
+            return this.edited.get((int) (-ref - 1));
+        }
+
+        final int slot = index & (CACHE_SIZE - 1);
+        CachedLine cached = this.cached[slot];
+        if (cached == null || cached.index != index) {
+            cached = new CachedLine(index, this.deserializer.apply(index + 1, tokenize(ref)));
+            this.cached[slot] = cached;
+        }
+        return cached.line;
+    }
+
+    /**
+     * 파일을 메모리 매핑하고 줄 시작 위치를 색인한다.<br>
+     * 줄마다 컬럼 개수를 검증하며, 컬럼 데이터 변환은 줄 데이터를 요청할 때 수행한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 18.     parkjunhong77@gmail.com         색인 진행 정보 추가
+     * </pre>
+     *
+     * @param filepath
+     *            파일 경로
+     * @param config
+     *            CSV 파일 설정
+     * @param progress
+     *            {@link #PROGRESS_INTERVAL} 줄마다 호출하는 진행 정보 함수. (색인한 줄 개수, 읽은 위치) (<code>null</code>: 사용하지
+     *            않음). 함수에서 발생한 예외는 색인을 중단하고 그대로 전달된다.
+     * @return 색인한 줄 개수
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     * @throws IllegalArgumentException
+     *            문자셋 또는 구분 문자가 ASCII 호환이 아닌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int map(Path filepath, CsvFileConfig config, @Nullable BiConsumer<Integer, Long> progress) throws IOException {
+        this.charset = config.getCharset();
+        this.separator = ascii(config.getSeparator());
+        this.quotechar = ascii(config.getQuotechar());
+        this.escape = ascii(config.getEscape());
+        this.scanner = new CsvRecordScanner(this.separator, this.quotechar, this.escape);
+
+        Arena mapped = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(filepath, StandardOpenOption.READ)) {
+            this.file = channel.map(MapMode.READ_ONLY, 0, channel.size(), mapped);
+            this.arena = mapped;
+        } catch (IOException | RuntimeException e) {
+            mapped.close();
+            throw e;
+        }
+
+        long position = 0;
+        for (int skip = config.getSkip(); skip > 0 && position < this.file.byteSize(); skip--) {
+            position = nextLine(position);
+        }
+        while (position < this.file.byteSize()) {
+            long next = scan(position);
+            addRef(this.size, position);
+            position = next;
+            if (progress != null && this.size % PROGRESS_INTERVAL == 0) {
+                progress.accept(this.size, position);
+            }
+        }
+
+        return this.size;
+    }
+
+    /**
+     * 주어진 위치가 줄의 끝(줄바꿈 문자 또는 줄바꿈 문자 앞의 '\r')인지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param record
+     *            줄 데이터
+     * @param i
+     *            위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static boolean isLineEnd(byte[] record, int i) {
+        if (i >= record.length) {
+            return true;
+        }
+        byte b = record[i];
+        return b == '\n' || (b == '\r' && (i + 1 == record.length || record[i + 1] == '\n'));
+    }
+
+    /**
+     * 다음 줄 시작 위치를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param position
+     *            시작 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private long nextLine(long position) {
+        final long length = this.file.byteSize();
+        while (position < length) {
+            if (this.file.get(ValueLayout.JAVA_BYTE, position++) == '\n') {
+                break;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#release()
+     */
+    @Override
+    public void release() {
+        if (this.arena != null) {
+            this.arena.close();
+            this.arena = null;
+        }
+        clearCache();
+    }
+
+    /**
+     * 저장한 파일을 다시 메모리 매핑하고 추가/변경된 줄 데이터를 비운다.<br>
+     * 저장한 파일의 줄 개수가 현재 줄 개수와 다른 경우 기존 상태를 유지한다. 읽기 작업과 동시에 호출해서는 안된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param filepath
+     *            저장한 파일 경로
+     * @param config
+     *            CSV 파일 설정
+     * @return 다시 메모리 매핑한 경우 <code>true</code>
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public boolean remap(Path filepath, CsvFileConfig config) throws IOException {
+        CsvMappedStore mapped = new CsvMappedStore(this.columnCount, this.deserializer);
+        try {
+            if (mapped.map(filepath, config, null) != this.size) {
+                mapped.release();
+                return false;
+            }
+        } catch (IOException | RuntimeException e) {
+            mapped.release();
+            throw e;
+        }
+
+        release();
+        this.arena = mapped.arena;
+        this.file = mapped.file;
+        this.refs = mapped.refs;
+        this.edited.clear();
+        this.edited.trimToSize();
+
+        return true;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#remove(int)
+     */
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+
+        long ref = this.refs[index];
+        if (ref < 0) {
+            this.edited.set((int) (-ref - 1), null);
+        }
+        System.arraycopy(this.refs, index + 1, this.refs, index, this.size - index - 1);
+        this.size--;
+
+        clearCache();
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#reorder(int[])
+     */
+    @Override
+    public void reorder(int[] order) {
+        long[] reordered = new long[this.refs.length];
+        for (int i = 0; i < order.length; i++) {
+            reordered[i] = this.refs[order[i]];
+        }
+        this.refs = reordered;
+
+        clearCache();
+    }
+
+    /**
+     * 한 줄의 컬럼 개수를 검증하고 다음 줄 시작 위치를 제공한다.<br>
+     * 인용 문자로 감싼 컬럼 데이터 안의 줄바꿈은 줄의 끝으로 판단하지 않으며, 인용/escape 문자는 opencsv와 같은 규칙({@link CsvRecordScanner})으로 해석한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         opencsv와 같은 규칙으로 escape 문자 해석
+     * </pre>
+     *
+     * @param position
+     *            줄 시작 위치
+     * @return
+     * @throws InternalServerException
+     *            헤더 길이와 데이터 길이가 일치하지 않는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private long scan(long position) {
+        final CsvRecordScanner scanner = this.scanner;
+        final long length = this.file.byteSize();
+        final long start = position;
+        int columns = 1;
+        int state = CsvRecordScanner.START;
+        int transition = 0;
+        while (position < length) {
+            byte b = this.file.get(ValueLayout.JAVA_BYTE, position++);
+            transition = scanner.next(state, b);
+            if (CsvRecordScanner.endsRecord(transition)) {
+                break;
+            }
+            state = CsvRecordScanner.state(transition);
+            // 인용 문자로 감싼 컬럼 데이터 밖의 구분자만 다음 컬럼을 시작한다.
+            if (b == this.separator && state == CsvRecordScanner.START) {
+                columns++;
+            }
+        }
+
+        if (columns != this.columnCount) {
+            throw ExceptionUtils.newException(InternalServerException.class,
+                    "헤더 길이와 데이터 길이가 일치하지 않습니다. 헤더=%,d, 데이터=%,d, 줄 번호=%,d, 위치=%,d", this.columnCount, columns,
+                    this.size + 1, start);
+        }
+
+        return position;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#set(int, java.lang.Object[])
+     */
+    @Override
+    public void set(int index, Object[] data) {
+        checkIndex(index);
+
+        long ref = this.refs[index];
+        if (ref < 0) {
+            this.edited.set((int) (-ref - 1), data);
+        } else {
+            this.refs[index] = editedRef(data);
+        }
+
+        clearCache();
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#size()
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#snapshot()
+     */
+    @Override
+    public @Nullable ICsvStore snapshot() {
+        return null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#spill(long)
+     */
+    @Override
+    public long spill(long bytes) {
+        return 0;
+    }
+
+    /**
+     * 메모리 매핑된 파일에서 한 줄을 읽어 컬럼 데이터로 분리한다. <br>
+     * opencsv {@link com.opencsv.CSVParser}와 같은 규칙으로 인용/escape 문자를 해석한다. escape 문자 다음의 인용/escape 문자는 데이터이며, 그 밖의 escape 문자는
+     * 데이터에 포함하지 않는다. 다만 컬럼 데이터 중간의 인용 문자는 데이터에 포함하지 않는다. ({@link open.commons.spring.csv.CsvStorageType#MAPPED}) <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         opencsv와 같은 규칙으로 escape 문자 해석
+     * </pre>
+     *
+     * @param position
+     *            줄 시작 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private String[] tokenize(long position) {
+        byte[] record = this.file.asSlice(position, scan(position) - position).toArray(ValueLayout.JAVA_BYTE);
+        String[] tokens = new String[this.columnCount];
+        int column = 0;
+        // 이스케이프를 해제한 데이터는 원래 데이터보다 길지 않으므로 같은 배열에 덮어쓴다.
+        int begin = 0;
+        int len = 0;
+        boolean inQuotes = false;
+        boolean inField = false;
+        for (int i = 0; i < record.length; i++) {
+            byte b = record[i];
+            if (isLineEnd(record, i)) {
+                // 인용 문자로 감싼 컬럼 데이터 안의 줄바꿈은 '\n'으로 유지한다.
+                if (b == '\n' && inQuotes) {
+                    record[len++] = b;
+                } else if (b == '\n') {
+                    break;
+                }
+            } else if (b == this.escape && this.escape != this.quotechar) {
+                inField = true;
+                if (!isLineEnd(record, i + 1) && (record[i + 1] == this.quotechar || record[i + 1] == this.escape)) {
+                    // 이스케이프된 문자
+                    record[len++] = record[++i];
+                }
+            } else if (b == this.quotechar) {
+                if ((inQuotes || inField) && !isLineEnd(record, i + 1) && record[i + 1] == this.quotechar) {
+                    // 연속된 인용 문자
+                    record[len++] = record[++i];
+                } else {
+                    inQuotes = !inQuotes;
+                }
+                inField = !inField;
+            } else if (b == this.separator && !inQuotes) {
+                tokens[column++] = new String(record, begin, len - begin, this.charset);
+                begin = len;
+                inField = false;
+            } else {
+                record[len++] = b;
+                inField = true;
+            }
+        }
+        tokens[column] = new String(record, begin, len - begin, this.charset);
+
+        return tokens;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#trimToSize()
+     */
+    @Override
+    public void trimToSize() {
+        if (this.size < this.refs.length) {
+            this.refs = Arrays.copyOf(this.refs, this.size);
+        }
+
+        // 삭제/변경으로 사용하지 않게 된 줄 데이터를 정리한다.
+        int live = 0;
+        for (Object[] line : this.edited) {
+            if (line != null) {
+                live++;
+            }
+        }
+        if (live < this.edited.size()) {
+            int[] moved = new int[this.edited.size()];
+            ArrayList<Object @Nullable []> compacted = new ArrayList<>(live);
+            for (int i = 0; i < moved.length; i++) {
+                Object[] line = this.edited.get(i);
+                if (line != null) {
+                    compacted.add(line);
+                    moved[i] = compacted.size();
+                }
+            }
+            for (int i = 0; i < this.size; i++) {
+                long ref = this.refs[i];
+                if (ref < 0) {
+                    this.refs[i] = -moved[(int) (-ref - 1)];
+                }
+            }
+            this.edited.clear();
+            this.edited.addAll(compacted);
+        }
+        this.edited.trimToSize();
+    }
+
+    /**
+     * 변환한 줄 위치와 데이터.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    private static final class CachedLine {
+        /** 줄 위치 */
+        private final int index;
+        /** 줄 데이터 */
+        private final Object[] line;
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param index
+         *            줄 위치
+         * @param line
+         *            줄 데이터
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private CachedLine(int index, Object[] line) {
+            this.index = index;
+            this.line = line;
+        }
+    }
+}
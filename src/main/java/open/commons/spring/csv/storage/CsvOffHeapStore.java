@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 5:41:19
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+
+package open.commons.spring.csv.storage;
+
+import open.commons.spring.csv.CsvHeader;
+
+/**
+ * 컬럼 단위 데이터를 힙 외부(off-heap) 메모리에 유지하는 저장소.<br>
+ * 데이터가 GC 대상 객체로 존재하지 않으므로 적재 데이터 크기가 GC 시간과 힙 크기에 영향을 주지 않는다. 사용을 마친 경우 반드시 {@link #release()}를
+ * 호출해야 한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see open.commons.spring.csv.CsvStorageType#OFF_HEAP
+ */
+public class CsvOffHeapStore extends CsvColumnStore {
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param headers
+     *            CSV 데이터 헤더 정보
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvOffHeapStore(CsvHeader[] headers) {
+        super(headers, 0);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumnStore#createColumn(open.commons.spring.csv.CsvHeader)
+     */
+    @Override
+    CsvColumn createColumn(CsvHeader header) {
+        switch (header.getDataType()) {
+            case INT:
+                return new OffHeapLongColumn();
+            case NUM:
+                return new OffHeapDoubleColumn();
+            case STR:
+            case GENERAL:
+            default:
+                return new OffHeapStringColumn();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 11:59:20
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+/**
+ * CSV 데이터를 byte 단위로 읽으면서 줄 데이터가 끝나는 위치를 확인한다.<br>
+ * opencsv {@link com.opencsv.CSVParser}와 같은 규칙으로 인용 문자와 escape 문자를 해석한다. 인용 문자로 감싼 컬럼 데이터 밖이라도 escape 문자 다음의 인용/escape
+ * 문자는 데이터로 해석하며(<code>5\"</code>), 컬럼 데이터 안에서 연속된 인용 문자는 인용 문자 하나로 해석한다.<br>
+ * 상태는 [0, {@link #STATES}) 범위의 값이며, 줄 데이터를 시작하는 상태는 {@link #START}이다. 해석 규칙을 byte별 표로 유지하므로, 구분/인용/escape 문자는 1 byte
+ * 문자여야 한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+public final class CsvRecordScanner {
+
+    /** 상태 개수 */
+    public static final int STATES = 16;
+    /** 줄 데이터를 시작하는 상태 */
+    public static final int START = 0;
+
+    /** 상태: 인용 문자로 감싼 컬럼 데이터 안 */
+    private static final int IN_QUOTES = 1;
+    /** 상태: 컬럼 데이터를 읽는 중 (opencsv inField) */
+    private static final int IN_FIELD = 2;
+    /** 상태: 직전 byte가 escape 문자. 다음 byte가 인용/escape 문자이면 데이터로 해석한다. */
+    private static final int ESCAPE = 4;
+    /** 상태: 직전 byte가 인용 문자. 다음 byte가 인용 문자이면 데이터로 해석하고, 아니면 인용 문자로 감싼 컬럼 데이터를 시작하거나 끝낸다. */
+    private static final int QUOTE = 8;
+    /** 상태 값 범위 */
+    private static final int STATE_MASK = STATES - 1;
+    /** 상태 변경 값에서 줄 데이터가 끝났음을 나타내는 값 */
+    private static final int RECORD_END = STATES;
+
+    /** [상태 * 256 + byte]: 다음 상태. 줄 데이터가 끝나는 경우 {@link #RECORD_END}를 포함한다. */
+    private final byte[] transitions = new byte[STATES << 8];
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param separator
+     *            컬럼 구분자
+     * @param quotechar
+     *            인용 문자
+     * @param escape
+     *            escape 문자. 인용 문자와 같은 경우 사용하지 않는다.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvRecordScanner(byte separator, byte quotechar, byte escape) {
+        for (int state = 0; state < STATES; state++) {
+            for (int b = 0; b < 256; b++) {
+                this.transitions[(state << 8) | b] = (byte) transit(state, (byte) b, separator, quotechar, escape);
+            }
+        }
+    }
+
+    /**
+     * 상태 변경 값이 줄 데이터가 끝났음을 나타내는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param transition
+     *            {@link #next(int, byte)}가 제공한 값
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public static boolean endsRecord(int transition) {
+        return (transition & RECORD_END) != 0;
+    }
+
+    /**
+     * 다음 byte를 읽은 후의 상태 변경 값을 제공한다.<br>
+     * 다음 상태는 {@link #state(int)}, 줄 데이터가 끝났는지 여부는 {@link #endsRecord(int)}로 확인한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param state
+     *            현재 상태
+     * @param b
+     *            다음 byte
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int next(int state, byte b) {
+        return this.transitions[(state << 8) | (b & 0xFF)];
+    }
+
+    /**
+     * 상태 변경 값에서 다음 상태를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param transition
+     *            {@link #next(int, byte)}가 제공한 값
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public static int state(int transition) {
+        return transition & STATE_MASK;
+    }
+
+    /**
+     * 다음 byte를 읽은 후의 상태 변경 값을 계산한다.<br>
+     * opencsv는 줄 단위로 해석하므로, 줄바꿈 직전의 escape/인용 문자는 다음 줄의 문자와 함께 해석하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param state
+     *            현재 상태
+     * @param b
+     *            다음 byte
+     * @param separator
+     *            컬럼 구분자
+     * @param quotechar
+     *            인용 문자
+     * @param escape
+     *            escape 문자. 인용 문자와 같은 경우 사용하지 않는다.
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static int transit(int state, byte b, byte separator, byte quotechar, byte escape) {
+        int quotes = state & IN_QUOTES;
+        int field = state & IN_FIELD;
+        if ((state & ESCAPE) != 0) {
+            // escape 문자 다음의 인용/escape 문자는 데이터
+            if (b == quotechar || b == escape) {
+                return quotes | field;
+            }
+        } else if ((state & QUOTE) != 0) {
+            // 연속된 인용 문자는 데이터
+            if (b == quotechar) {
+                return quotes | (field ^ IN_FIELD);
+            }
+            quotes ^= IN_QUOTES;
+            field ^= IN_FIELD;
+        }
+
+        if (b == escape && escape != quotechar) {
+            return quotes | IN_FIELD | ESCAPE;
+        } else if (b == quotechar) {
+            // 컬럼 데이터 안의 인용 문자는 다음 byte를 확인해야 해석할 수 있다.
+            return quotes != 0 || field != 0 ? quotes | field | QUOTE : IN_QUOTES | IN_FIELD;
+        } else if (quotes != 0) {
+            return b == '\n' ? quotes | field : quotes | IN_FIELD;
+        } else if (b == separator) {
+            return START;
+        } else if (b == '\n') {
+            return START | RECORD_END;
+        } else {
+            return IN_FIELD;
+        }
+    }
+}
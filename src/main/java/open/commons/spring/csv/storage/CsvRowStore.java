@@ -0,0 +1,419 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 2:48:10
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 줄 데이터를 {@link Object} 배열로 유지하는 저장소.<br>
+ * 줄 데이터는 {@link ChunkedList}로 유지하므로 위치 기반 추가/삭제시 전체 줄 데이터를 이동하지 않는다.<br>
+ * 줄 데이터는 변경하지 않고 교체하므로, 스냅샷은 줄 데이터를 복사하지 않고 조각 단위로 공유한다.<br>
+ * 메모리가 부족한 경우 {@link #spill(long)}로 최근에 접근하지 않은 조각을 임시 파일로 내려쓰고, 접근할 때 다시 읽는다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see open.commons.spring.csv.CsvStorageType#ROW
+ */
+public class CsvRowStore implements ICsvStore {
+
+    /** 컬럼 개수 */
+    private final int columnCount;
+    /** 조각을 내려쓰는 임시 파일. 스냅샷과 공유한다. */
+    private final CsvSpillFile spillFile;
+    /** CSV 파일 데이터 */
+    private ChunkedList<Object[]> lines;
+    /** 컬럼별 값 객체 크기 합계. 단위: byte */
+    private final long[] columnSizes;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param columnCount
+     *            컬럼 개수
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvRowStore(int columnCount) {
+        this.columnCount = columnCount;
+        this.spillFile = new CsvSpillFile();
+        this.lines = new ChunkedList<>(this.spillFile);
+        this.columnSizes = new long[columnCount];
+    }
+
+    /**
+     * 임시 파일과 줄 데이터 조각을 공유하는 스냅샷을 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param columnCount
+     *            컬럼 개수
+     * @param spillFile
+     *            조각을 내려쓰는 임시 파일
+     * @param lines
+     *            조각을 공유하는 CSV 파일 데이터
+     * @param columnSizes
+     *            컬럼별 값 객체 크기 합계
+     *
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     *
+     * @see #snapshot()
+     */
+    private CsvRowStore(int columnCount, CsvSpillFile spillFile, ChunkedList<Object[]> lines, long[] columnSizes) {
+        this.columnCount = columnCount;
+        this.spillFile = spillFile;
+        this.lines = lines;
+        this.columnSizes = columnSizes;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#add(java.lang.Object[])
+     */
+    @Override
+    public void add(Object[] data) {
+        this.lines.add(data);
+        measure(data, 1);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#add(int, java.lang.Object[])
+     */
+    @Override
+    public void add(int index, Object[] data) {
+        this.lines.add(index, data);
+        measure(data, 1);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#compressionRatio(int)
+     */
+    @Override
+    public double compressionRatio(int column) {
+        return 1D;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#get(int)
+     */
+    @Override
+    public Object[] get(int index) {
+        return Arrays.copyOf(this.lines.get(index), this.columnCount);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getCode(int, int)
+     */
+    @Override
+    public int getCode(int index, int column) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("CsvRowStore does not support 'dictionary code'.");
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getDictionary(int)
+     */
+    @Override
+    public @Nullable CsvDictionary getDictionary(int column) {
+        return null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getDouble(int, int)
+     */
+    @Override
+    public double getDouble(int index, int column) {
+        return (Double) this.lines.get(index)[column];
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getLong(int, int)
+     */
+    @Override
+    public long getLong(int index, int column) {
+        return (Long) this.lines.get(index)[column];
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getString(int, int)
+     */
+    @Override
+    public @Nullable String getString(int index, int column) {
+        return (String) this.lines.get(index)[column];
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getText(int, int)
+     */
+    @Override
+    public @Nullable String getText(int index, int column) {
+        Object value = this.lines.get(index)[column];
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#getUtf8Column(int)
+     */
+    @Override
+    public @Nullable CsvUtf8Column getUtf8Column(int column) {
+        return null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#isNull(int, int)
+     */
+    @Override
+    public boolean isNull(int index, int column) {
+        return this.lines.get(index)[column] == null;
+    }
+
+    /**
+     * 줄 데이터의 값 객체 크기를 컬럼별 크기 합계에 반영한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            줄 데이터
+     * @param sign
+     *            추가한 경우 1, 삭제한 경우 -1
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void measure(Object[] data, int sign) {
+        for (int column = 0; column < this.columnCount; column++) {
+            this.columnSizes[column] += sign * CsvColumn.sizeOf(data[column]);
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#memoryUsage()
+     */
+    @Override
+    public long memoryUsage() {
+        long usage = (long) this.lines.size()
+                * (CsvColumn.arraySize(this.columnCount, CsvColumn.REFERENCE_SIZE) + CsvColumn.REFERENCE_SIZE);
+        for (long columnSize : this.columnSizes) {
+            usage += columnSize;
+        }
+        return resident(usage);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#memoryUsage(int)
+     */
+    @Override
+    public long memoryUsage(int column) {
+        return resident(this.columnSizes[column]);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#release()
+     */
+    @Override
+    public void release() {
+        this.spillFile.release();
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#remove(int)
+     */
+    @Override
+    public void remove(int index) {
+        measure(this.lines.remove(index), -1);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#reorder(int[])
+     */
+    @Override
+    public void reorder(int[] order) {
+        ChunkedList<Object[]> reordered = new ChunkedList<>(this.spillFile);
+        for (int pos : order) {
+            reordered.add(this.lines.get(pos));
+        }
+        this.lines = reordered;
+    }
+
+    /**
+     * 메모리에 있는(내려쓰지 않은) 줄 데이터의 비율만큼 메모리 사용량을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param usage
+     *            전체 줄 데이터의 메모리 사용량
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private long resident(long usage) {
+        int size = this.lines.size();
+        int resident = this.lines.residentSize();
+        return resident == size ? usage : (long) ((double) usage * resident / size);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#set(int, java.lang.Object[])
+     */
+    @Override
+    public void set(int index, Object[] data) {
+        measure(this.lines.set(index, data), -1);
+        measure(data, 1);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#size()
+     */
+    @Override
+    public int size() {
+        return this.lines.size();
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#snapshot()
+     */
+    @Override
+    public @Nullable ICsvStore snapshot() {
+        return new CsvRowStore(this.columnCount, this.spillFile, this.lines.snapshot(), this.columnSizes.clone());
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#spill(long)
+     */
+    @Override
+    public long spill(long bytes) {
+        long usage = memoryUsage();
+        int resident = this.lines.residentSize();
+        if (bytes < 1 || usage < 1 || resident < 1) {
+            return 0;
+        }
+
+        double rowSize = (double) usage / resident;
+        int spilled = this.lines.spill((int) Math.min(resident, Math.ceil(bytes / rowSize)));
+        return (long) (spilled * rowSize);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.ICsvStore#trimToSize()
+     */
+    @Override
+    public void trimToSize() {
+        this.lines.trimToSize();
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 10:24:37
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 적재가 완료된 CSV 데이터를 타입이 변환된 값 그대로 저장한 파일.<br>
+ * 같은 CSV 파일을 다시 적재할 때 CSV 문자열을 해석하지 않고 파일에서 값을 바로 읽기 위해 사용한다. 데이터는 {@value #GROUP_SIZE}줄 단위 묶음마다 컬럼별로 저장하며,
+ * 읽을 때는 묶음 단위로 메모리 매핑하여 변환한다.<br>
+ * 파일 앞에 원본 파일 정보(경로, 크기, 수정시간, 헤더 설정 등)로 만든 식별 키를 저장하여, 키가 일치하지 않는 파일은 사용하지 않는다.
+ * 
+ * <pre>
+ * [파일 구조]
+ * MAGIC(int) | VERSION(int) | 키 크기(int) | 키(UTF-8) | 컬럼 개수(int)
+ * { 묶음 크기(int) | 컬럼별 값 목록 } ...
+ * 0(int)
+ * </pre>
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see CsvValueCodec
+ */
+public final class CsvSnapshotFile implements Closeable {
+
+    /** 파일 식별 값 ("CSVS") */
+    private static final int MAGIC = 0x43535653;
+    /** 파일 구조 버전 */
+    private static final int VERSION = 1;
+    /** 묶음 단위 줄 개수 */
+    private static final int GROUP_SIZE = 4096;
+
+    /** 스냅샷 파일 */
+    private final FileChannel channel;
+    /** 컬럼 개수 */
+    private final int columnCount;
+    /** 다음 묶음 위치 */
+    private long position;
+    /** 현재 묶음의 컬럼별 값 목록 */
+    private Object[] @Nullable [] group;
+    /** 현재 묶음에서 다음에 읽을 줄 위치 */
+    private int row;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param channel
+     *            스냅샷 파일
+     * @param columnCount
+     *            컬럼 개수
+     * @param position
+     *            첫번째 묶음 위치
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private CsvSnapshotFile(FileChannel channel, int columnCount, long position) {
+        this.channel = channel;
+        this.columnCount = columnCount;
+        this.position = position;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        this.group = null;
+        this.channel.close();
+    }
+
+    /**
+     * 다음 묶음을 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 더 이상 묶음이 없는 경우 <code>false</code>
+     * @throws IOException
+     *            파일을 읽을 수 없거나 형식이 올바르지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private boolean nextGroup() throws IOException {
+        int length = read(this.channel, this.position, Integer.BYTES).getInt();
+        if (length < 1) {
+            return false;
+        }
+
+        ByteBuffer buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position + Integer.BYTES, length);
+        Object[][] group = new Object[this.columnCount][];
+        for (int i = 0; i < group.length; i++) {
+            group[i] = CsvValueCodec.decode(buffer);
+            if (group[i].length != group[0].length) {
+                throw new IOException("Invalid snapshot group. position=" + this.position + ", column=" + i);
+            }
+        }
+
+        this.position += Integer.BYTES + length;
+        this.group = group;
+        this.row = 0;
+        return true;
+    }
+
+    /**
+     * 다음 줄 데이터를 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 더 이상 줄 데이터가 없는 경우 <code>null</code>
+     * @throws IOException
+     *            파일을 읽을 수 없거나 형식이 올바르지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public Object @Nullable [] readNext() throws IOException {
+        Object[][] group = this.group;
+        if (group == null || this.row >= group[0].length) {
+            if (!nextGroup()) {
+                this.group = null;
+                return null;
+            }
+            group = this.group;
+        }
+
+        Object[] data = new Object[this.columnCount];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = group[i][this.row];
+        }
+        this.row++;
+        return data;
+    }
+
+    /**
+     * 스냅샷 파일을 연다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param path
+     *            스냅샷 파일 경로
+     * @param key
+     *            원본 파일 식별 키
+     * @param columnCount
+     *            컬럼 개수
+     * @return 파일이 없거나 식별 키 또는 컬럼 개수가 일치하지 않는 경우 <code>null</code>
+     * @throws IOException
+     *            파일을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public static @Nullable CsvSnapshotFile open(Path path, String key, int columnCount) throws IOException {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+
+            ByteBuffer buffer = read(channel, 0, Integer.BYTES * 3);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                channel.close();
+                return null;
+            }
+            int keyLength = buffer.getInt();
+            byte[] expected = key.getBytes(StandardCharsets.UTF_8);
+            if (keyLength != expected.length) {
+                channel.close();
+                return null;
+            }
+            buffer = read(channel, Integer.BYTES * 3, keyLength + Integer.BYTES);
+            byte[] actual = new byte[keyLength];
+            buffer.get(actual);
+            if (!Arrays.equals(expected, actual) || buffer.getInt() != columnCount) {
+                channel.close();
+                return null;
+            }
+
+            return new CsvSnapshotFile(channel, columnCount, Integer.BYTES * 4 + keyLength);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                channel.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 파일에서 데이터를 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param channel
+     *            파일
+     * @param position
+     *            데이터 위치
+     * @param length
+     *            데이터 크기
+     * @return
+     * @throws IOException
+     *            파일을 읽을 수 없거나 파일 끝에 도달한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of the snapshot file. position=" + position + ", length=" + length);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * 저장소의 데이터를 스냅샷 파일로 저장한다.<br>
+     * 같은 디렉토리에 임시 파일을 만들어 저장한 후 파일을 교체하므로, 저장 중인 파일을 읽지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param path
+     *            스냅샷 파일 경로
+     * @param key
+     *            원본 파일 식별 키
+     * @param columnCount
+     *            컬럼 개수
+     * @param store
+     *            저장소
+     * @throws IOException
+     *            파일을 쓸 수 없는 경우
+     * @throws IllegalArgumentException
+     *            지원하지 않는 타입의 값이 있는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public static void write(Path path, String key, int columnCount, ICsvStore store) throws IOException {
+        Path dir = path.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer head = ByteBuffer.allocate(Integer.BYTES * 4 + keyBytes.length);
+            head.putInt(MAGIC).putInt(VERSION).putInt(keyBytes.length).put(keyBytes).putInt(columnCount).flip();
+            write(channel, head);
+
+            final int size = store.size();
+            Object[][] group = new Object[columnCount][GROUP_SIZE];
+            byte[][] encoded = new byte[columnCount][];
+            Object[] data = null;
+            int count = 0;
+            int length = 0;
+            for (int start = 0; start < size; start += GROUP_SIZE) {
+                count = Math.min(GROUP_SIZE, size - start);
+                for (int r = 0; r < count; r++) {
+                    data = store.get(start + r);
+                    for (int c = 0; c < columnCount; c++) {
+                        group[c][r] = c < data.length ? data[c] : null;
+                    }
+                }
+
+                length = 0;
+                for (int c = 0; c < columnCount; c++) {
+                    encoded[c] = CsvValueCodec.encode(group[c], count);
+                    length += encoded[c].length;
+                }
+                write(channel, ByteBuffer.allocate(Integer.BYTES).putInt(length).flip());
+                for (byte[] bytes : encoded) {
+                    write(channel, ByteBuffer.wrap(bytes));
+                }
+            }
+            write(channel, ByteBuffer.allocate(Integer.BYTES).putInt(0).flip());
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 데이터를 파일에 쓴다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param channel
+     *            파일
+     * @param buffer
+     *            데이터
+     * @throws IOException
+     *            파일을 쓸 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 9:14:36
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 메모리에서 내려쓴(spill) 조각 데이터를 유지하는 임시 파일.<br>
+ * 파일은 처음 내려쓸 때 생성하고 {@link #release()} 할 때 삭제한다. 내려쓴 데이터를 다시 읽어도 파일의 내용은 유지되므로, 변경되지 않은 조각은 다시 내려쓸 때 파일에 쓰지
+ * 않는다.<br>
+ * 데이터 영역({@link Extent})은 조각이 변경되거나 조각을 사용하는 목록(스냅샷 포함)이 없어지면 해제되고, 해제된 영역은 다음에 내려쓸 때 재사용한다. 파일 끝의 해제된 영역은
+ * 잘라낸다.<br>
+ * 조각별 최근 접근 주기({@link #epoch()})를 함께 관리하여, 스냅샷과 조각을 공유하더라도 같은 기준으로 접근 순서를 비교한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see ChunkedList#spill(int)
+ */
+final class CsvSpillFile {
+
+    /** 사용하지 않게 된 조각의 데이터 영역을 해제한다. */
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /** 임시 파일 경로 */
+    private @Nullable Path path;
+    /** 임시 파일 */
+    private @Nullable FileChannel channel;
+    /** 임시 파일 크기 */
+    private long length;
+    /** 해제된 데이터 영역. 위치 → 크기. 인접한 영역은 합친다. */
+    private final TreeMap<Long, Long> free = new TreeMap<>();
+    /** 임시 파일 생성 순번. 삭제한 파일의 데이터 영역이 새 파일에서 해제되지 않도록 한다. */
+    private long generation;
+    /** 현재 접근 주기. 내려쓰기를 할 때마다 증가한다. */
+    private long epoch = 1;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    CsvSpillFile() {
+    }
+
+    /**
+     * 데이터를 해제된 영역 또는 파일 끝에 쓴다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         해제된 영역 재사용
+     * </pre>
+     *
+     * @param bytes
+     *            데이터
+     * @return 데이터 영역
+     * @throws UncheckedIOException
+     *            파일을 생성하거나 쓸 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private synchronized Extent append(byte[] bytes) {
+        try {
+            if (this.channel == null) {
+                this.path = Files.createTempFile("open-commons-csv-", ".spill");
+                this.channel = FileChannel.open(this.path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+                this.generation++;
+            }
+
+            long position = -1;
+            long available = 0;
+            for (Map.Entry<Long, Long> entry : this.free.entrySet()) {
+                if (entry.getValue() >= bytes.length) {
+                    position = entry.getKey();
+                    available = entry.getValue();
+                    break;
+                }
+            }
+            if (position >= 0) {
+                this.free.remove(position);
+                if (available > bytes.length) {
+                    this.free.put(position + bytes.length, available - bytes.length);
+                }
+            }
+            if (position < 0) {
+                position = this.length;
+                this.length += bytes.length;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                this.channel.write(buffer, position + buffer.position());
+            }
+            return new Extent(this, this.generation, position, bytes.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write a spilled chunk.", e);
+        }
+    }
+
+    /**
+     * 현재 접근 주기를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    long epoch() {
+        return this.epoch;
+    }
+
+    /**
+     * 데이터 영역을 해제한다. 파일 끝의 해제된 영역은 잘라낸다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param extent
+     *            데이터 영역
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private synchronized void free(Extent extent) {
+        if (this.channel == null || extent.generation != this.generation) {
+            return;
+        }
+
+        long start = extent.position;
+        long end = start + extent.length;
+        Map.Entry<Long, Long> prev = this.free.floorEntry(start);
+        if (prev != null && prev.getKey() + prev.getValue() == start) {
+            start = prev.getKey();
+            this.free.remove(start);
+        }
+        Long next = this.free.remove(end);
+        if (next != null) {
+            end += next;
+        }
+
+        if (end < this.length) {
+            this.free.put(start, end - start);
+            return;
+        }
+
+        this.length = start;
+        try {
+            this.channel.truncate(start);
+        } catch (IOException ignored) {
+            // 잘라내지 못한 영역은 파일 끝에 다시 쓸 때 사용한다.
+        }
+    }
+
+    /**
+     * 다음 접근 주기를 시작하고, 종료된 접근 주기를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    synchronized long nextEpoch() {
+        return this.epoch++;
+    }
+
+    /**
+     * 파일에서 데이터를 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         데이터 영역 사용
+     * </pre>
+     *
+     * @param extent
+     *            데이터 영역
+     * @return 내려쓴 데이터. 배열 크기는 데이터 개수와 같다.
+     * @throws UncheckedIOException
+     *            파일을 읽을 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #write(Object[], int, Object)
+     */
+    Object[] read(Extent extent) {
+        FileChannel channel = this.channel;
+        if (channel == null) {
+            throw new IllegalStateException("The spill file has not been created or has been released.");
+        }
+
+        final long position = extent.position;
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(extent.length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of the spill file. position=" + position + ", length=" + extent.length);
+                }
+            }
+
+            buffer.flip();
+            return CsvValueCodec.decode(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read a spilled chunk.", e);
+        }
+    }
+
+    /**
+     * 임시 파일을 삭제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         파일 삭제 확인
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    synchronized void release() {
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } catch (IOException ignored) {
+            }
+            try {
+                Files.deleteIfExists(this.path);
+            } catch (IOException ignored) {
+            }
+            this.channel = null;
+            this.path = null;
+            this.length = 0;
+            this.free.clear();
+        }
+    }
+
+    /**
+     * 데이터를 파일에 쓴다.<br>
+     * 데이터 영역은 데이터를 사용하는 객체가 없어지면 해제된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         데이터 영역 제공
+     * </pre>
+     *
+     * @param elements
+     *            데이터
+     * @param count
+     *            데이터 개수
+     * @param owner
+     *            데이터를 사용하는 객체
+     * @return 데이터 영역
+     * @throws UncheckedIOException
+     *            파일을 생성하거나 쓸 수 없는 경우
+     * @throws IllegalArgumentException
+     *            지원하지 않는 타입의 값이 있는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #read(Extent)
+     */
+    Extent write(Object[] elements, int count, Object owner) {
+        Extent extent = append(CsvValueCodec.encode(elements, count));
+        extent.cleanable = CLEANER.register(owner, extent);
+        return extent;
+    }
+
+    /**
+     * 임시 파일의 데이터 영역.<br>
+     * {@link #release()}를 호출하거나 데이터를 사용하는 객체가 없어지면 한 번만 해제한다. 데이터를 사용하는 객체를 참조하지 않아야 한다.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * @author Park Jun-Hong (parkjunhong77@gmail.com)
+     */
+    static final class Extent implements Runnable {
+        /** 임시 파일 */
+        private final CsvSpillFile file;
+        /** 임시 파일 생성 순번 */
+        private final long generation;
+        /** 데이터 위치 */
+        private final long position;
+        /** 데이터 크기 */
+        private final int length;
+        /** 해제 작업 */
+        private Cleaner.@Nullable Cleanable cleanable;
+
+        /**
+         * <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         * @param file
+         *            임시 파일
+         * @param generation
+         *            임시 파일 생성 순번
+         * @param position
+         *            데이터 위치
+         * @param length
+         *            데이터 크기
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        private Extent(CsvSpillFile file, long generation, long position, int length) {
+            this.file = file;
+            this.generation = generation;
+            this.position = position;
+            this.length = length;
+        }
+
+        /**
+         * 데이터 영역을 해제한다. 이미 해제된 경우 무시한다. <br>
+         * 
+         * <pre>
+         * [개정이력]
+         *      날짜      | 작성자   |   내용
+         * ------------------------------------------
+         * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+         * </pre>
+         *
+         *
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         */
+        void release() {
+            Cleaner.Cleanable cleanable = this.cleanable;
+            if (cleanable != null) {
+                cleanable.clean();
+            }
+        }
+
+        /**
+         * 해제 작업. {@link #release()} 또는 {@link CsvSpillFile#CLEANER}가 한 번만 호출한다.
+         * 
+         * @since 2026. 10. 17.
+         * @version 4.0.0
+         *
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run() {
+            this.file.free(this);
+        }
+    }
+}
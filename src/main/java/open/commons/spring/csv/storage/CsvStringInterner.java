@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 9:41:12
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 적재 중 같은 값의 문자열이 하나의 {@link String} 객체를 공유하도록 하는 컬럼별 문자열 표.<br>
+ * 등록된 고유값 개수가 최대 개수를 넘으면 고유값이 많은 컬럼으로 판단하여 표를 해제하고, 이후에는 값을 그대로 제공한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see CsvDictionary
+ */
+public final class CsvStringInterner {
+
+    /** 최대 고유값 개수 */
+    private final int threshold;
+    /** 등록된 값. 해제된 경우 <code>null</code> */
+    private @Nullable Map<String, String> values = new HashMap<>();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param threshold
+     *            최대 고유값 개수
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public CsvStringInterner(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * 같은 값이 등록되어 있는 경우 등록된 객체를, 그렇지 않은 경우 값을 등록하고 주어진 객체를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            값
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public String intern(String value) {
+        Map<String, String> values = this.values;
+        if (values == null) {
+            return value;
+        }
+
+        String interned = values.putIfAbsent(value, value);
+        if (interned != null) {
+            return interned;
+        }
+
+        // 고유값이 많은 컬럼은 더 이상 공유하지 않는다.
+        if (values.size() > this.threshold) {
+            this.values = null;
+        }
+        return value;
+    }
+
+    /**
+     * 문자열 표를 사용하고 있는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public boolean isEnabled() {
+        return this.values != null;
+    }
+}
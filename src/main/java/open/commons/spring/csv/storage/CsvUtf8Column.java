@@ -0,0 +1,718 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 8:10:42
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+
+package open.commons.spring.csv.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 문자열 데이터를 공유 byte 배열(arena)에 UTF-8 bytes로 모아서 유지하는 컬럼.<br>
+ * 데이터마다 {@link String} 객체와 배열을 유지하지 않고, arena 내 시작 위치({@code int})와 길이({@code int}, null인 경우 -1)만
+ * 유지한다. arena는 최대 {@value #PAGE_SIZE} bytes 크기의 페이지로 나누어 할당하며, 데이터는 페이지 경계를 넘지 않는다.<br>
+ * 비교/포함 여부 확인은 {@link String}으로 변환하지 않고 UTF-8 bytes로 수행하며, 비교 결과는 {@link String#compareTo(String)}의
+ * 부호와 같으며, null 데이터에는 사용할 수 없다. 변경/삭제로 사용하지 않게 된 bytes는 일정 크기를 넘거나 {@link #trimToSize()} 호출시
+ * 정리한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see open.commons.spring.csv.CsvLoadOptions#isCompactStrings()
+ */
+public final class CsvUtf8Column extends CsvColumn {
+
+    /** null 데이터 길이 */
+    public static final int NULL_LENGTH = -1;
+    /** 페이지 내 위치 bit 수 */
+    private static final int PAGE_BITS = 20;
+    /** 페이지 크기 */
+    static final int PAGE_SIZE = 1 << PAGE_BITS;
+    /** 최대 페이지 개수. 데이터 위치는 {@code int} 범위를 넘지 않는다. */
+    private static final int MAX_PAGES = 1 << (Integer.SIZE - 1 - PAGE_BITS);
+    /** 첫번째 페이지 초기 크기 */
+    private static final int INITIAL_PAGE_SIZE = 4096;
+
+    /** UTF-8 bytes 페이지 */
+    private byte[][] pages = new byte[1][];
+    /** 페이지 개수 */
+    private int pageCount;
+    /** 마지막 페이지에서 사용중인 bytes 크기 */
+    private int pageUsed;
+    /** 데이터별 UTF-8 bytes 위치. (페이지 번호 &lt;&lt; {@value #PAGE_BITS} | 페이지 내 위치) */
+    private int[] positions = new int[INITIAL_CAPACITY];
+    /** 데이터별 UTF-8 bytes 길이 */
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    /** 사용중인 UTF-8 bytes 크기 */
+    private long used;
+    /** 사용하지 않게 된 UTF-8 bytes 크기 */
+    private long garbage;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    CsvUtf8Column() {
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#add(int, java.lang.Object)
+     */
+    @Override
+    void add(int index, @Nullable Object value) {
+        if (this.size == this.positions.length) {
+            int capacity = newCapacity(this.positions.length, this.size + 1);
+            this.positions = Arrays.copyOf(this.positions, capacity);
+            this.lengths = Arrays.copyOf(this.lengths, capacity);
+        }
+        if (index < this.size) {
+            System.arraycopy(this.positions, index, this.positions, index + 1, this.size - index);
+            System.arraycopy(this.lengths, index, this.lengths, index + 1, this.size - index);
+        }
+        this.size++;
+
+        write(index, (String) value);
+    }
+
+    /**
+     * UTF-8 bytes를 arena에 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param src
+     *            UTF-8 bytes
+     * @param srcOffset
+     *            시작 위치
+     * @param length
+     *            길이
+     * @return 데이터 위치
+     * @throws IllegalStateException
+     *            arena 최대 크기를 넘는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private int append(byte[] src, int srcOffset, int length) {
+        byte[] page = this.pageCount > 0 ? this.pages[this.pageCount - 1] : null;
+        if (page == null || this.pageUsed >= PAGE_SIZE || this.pageUsed + length > PAGE_SIZE) {
+            // 첫번째 페이지는 작은 크기부터 늘리고, 이후 페이지는 최대 크기로 할당
+            page = newPage(this.pageCount == 0 ? Math.max(length, INITIAL_PAGE_SIZE) : Math.max(length, PAGE_SIZE));
+        } else if (this.pageUsed + length > page.length) {
+            page = this.pages[this.pageCount - 1] = Arrays.copyOf(page,
+                    Math.min(PAGE_SIZE, Math.max(this.pageUsed + length, page.length << 1)));
+        }
+
+        int position = ((this.pageCount - 1) << PAGE_BITS) | this.pageUsed;
+        System.arraycopy(src, srcOffset, page, this.pageUsed, length);
+        // 페이지 크기보다 큰 데이터는 단독으로 페이지를 사용한다.
+        this.pageUsed += length;
+        this.used += length;
+
+        return position;
+    }
+
+    /**
+     * 사용하지 않게 된 bytes를 제거하고 데이터 순서대로 arena를 다시 채운다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void compact() {
+        byte[][] current = this.pages;
+        int[] currentPositions = this.positions;
+
+        this.pages = new byte[1][];
+        this.pageCount = 0;
+        this.pageUsed = 0;
+        this.positions = new int[currentPositions.length];
+        this.used = 0;
+        this.garbage = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            int length = this.lengths[i];
+            if (length == NULL_LENGTH) {
+                continue;
+            }
+            int position = currentPositions[i];
+            this.positions[i] = append(current[position >>> PAGE_BITS], position & (PAGE_SIZE - 1), length);
+        }
+    }
+
+    /**
+     * 데이터와 UTF-8 bytes를 비교한다.<br>
+     * {@link String#compareTo(String)}와 부호가 같은 결과를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param utf8
+     *            비교할 UTF-8 bytes
+     * @return 음수: 데이터가 작은 경우, 0: 같은 경우, 양수: 데이터가 큰 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int compare(int index, byte[] utf8) {
+        int position = this.positions[index];
+        return compare(page(index), position & (PAGE_SIZE - 1), length(index), utf8, 0, utf8.length);
+    }
+
+    /**
+     * 두 데이터를 비교한다.<br>
+     * {@link String#compareTo(String)}와 부호가 같은 결과를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index1
+     *            데이터 위치
+     * @param index2
+     *            데이터 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int compare(int index1, int index2) {
+        return compare(page(index1), this.positions[index1] & (PAGE_SIZE - 1), length(index1), page(index2),
+                this.positions[index2] & (PAGE_SIZE - 1), length(index2));
+    }
+
+    /**
+     * UTF-8 bytes를 {@link String#compareTo(String)}와 같은 순서로 비교한다.<br>
+     * 첫번째로 다른 byte가 U+E000 ~ U+FFFF 문자의 시작 byte(0xEE, 0xEF)인 경우, UTF-16 단위 순서에 맞게 U+10000 이상 문자의 시작
+     * byte(0xF0 ~ 0xF4)보다 크게 비교한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param a
+     *            UTF-8 bytes
+     * @param aOffset
+     *            시작 위치
+     * @param aLength
+     *            길이
+     * @param b
+     *            UTF-8 bytes
+     * @param bOffset
+     *            시작 위치
+     * @param bLength
+     *            길이
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static int compare(byte[] a, int aOffset, int aLength, byte[] b, int bOffset, int bLength) {
+        int mismatch = Arrays.mismatch(a, aOffset, aOffset + aLength, b, bOffset, bOffset + bLength);
+        if (mismatch < 0) {
+            return 0;
+        }
+        if (mismatch == Math.min(aLength, bLength)) {
+            return aLength - bLength;
+        }
+        return Integer.compare(order(a[aOffset + mismatch]), order(b[bOffset + mismatch]));
+    }
+
+    /**
+     * 데이터가 UTF-8 bytes를 포함하는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param utf8
+     *            UTF-8 bytes
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public boolean contains(int index, byte[] utf8) {
+        byte[] page = page(index);
+        int offset = this.positions[index] & (PAGE_SIZE - 1);
+        int last = offset + length(index) - utf8.length;
+        if (utf8.length == 0) {
+            return last >= offset;
+        }
+
+        byte first = utf8[0];
+        for (int i = offset; i <= last; i++) {
+            if (page[i] == first && Arrays.equals(page, i, i + utf8.length, utf8, 0, utf8.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 데이터가 UTF-8 bytes와 같은지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param utf8
+     *            UTF-8 bytes
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public boolean contentEquals(int index, byte[] utf8) {
+        int offset = this.positions[index] & (PAGE_SIZE - 1);
+        return length(index) == utf8.length
+                && Arrays.equals(page(index), offset, offset + utf8.length, utf8, 0, utf8.length);
+    }
+
+    /**
+     * 데이터가 UTF-8 bytes로 끝나는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param utf8
+     *            UTF-8 bytes
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public boolean endsWith(int index, byte[] utf8) {
+        int length = length(index);
+        int end = (this.positions[index] & (PAGE_SIZE - 1)) + length;
+        return length >= utf8.length && Arrays.equals(page(index), end - utf8.length, end, utf8, 0, utf8.length);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#get(int)
+     */
+    @Override
+    @Nullable
+    Object get(int index) {
+        return getString(index);
+    }
+
+    /**
+     * 데이터를 UTF-8 bytes로 복사한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param dst
+     *            복사할 배열
+     * @param dstOffset
+     *            복사할 배열 시작 위치
+     * @return 복사한 bytes 크기. null인 경우 {@link #NULL_LENGTH}
+     * @throws IndexOutOfBoundsException
+     *            복사할 배열 크기가 부족한 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int getBytes(int index, byte[] dst, int dstOffset) {
+        int length = this.lengths[index];
+        if (length > 0) {
+            System.arraycopy(page(index), this.positions[index] & (PAGE_SIZE - 1), dst, dstOffset, length);
+        }
+        return length;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getString(int)
+     */
+    @Override
+    @Nullable
+    String getString(int index) {
+        int length = this.lengths[index];
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        return new String(page(index), this.positions[index] & (PAGE_SIZE - 1), length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getText(int)
+     */
+    @Override
+    @Nullable
+    String getText(int index) {
+        return getString(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#isNull(int)
+     */
+    @Override
+    public boolean isNull(int index) {
+        return this.lengths[index] == NULL_LENGTH;
+    }
+
+    /**
+     * 데이터의 UTF-8 bytes 길이를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return UTF-8 bytes 길이. null인 경우 {@link #NULL_LENGTH}
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int length(int index) {
+        return this.lengths[index];
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#memoryUsage()
+     */
+    @Override
+    long memoryUsage() {
+        long usage = arraySize(this.pages.length, REFERENCE_SIZE) //
+                + arraySize(this.positions.length, Integer.BYTES) //
+                + arraySize(this.lengths.length, Integer.BYTES);
+        for (int i = 0; i < this.pageCount; i++) {
+            usage += arraySize(this.pages[i].length, Byte.BYTES);
+        }
+        return usage;
+    }
+
+    /**
+     * 페이지를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param capacity
+     *            페이지 크기
+     * @return
+     * @throws IllegalStateException
+     *            최대 페이지 개수를 넘는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private byte[] newPage(int capacity) {
+        if (this.pageCount == MAX_PAGES) {
+            throw new IllegalStateException("The UTF-8 arena is full. pages=" + this.pageCount + ", used=" + this.used);
+        }
+        if (this.pageCount == this.pages.length) {
+            this.pages = Arrays.copyOf(this.pages, newCapacity(this.pages.length, this.pageCount + 1));
+        }
+
+        byte[] page = this.pages[this.pageCount++] = new byte[capacity];
+        this.pageUsed = 0;
+        return page;
+    }
+
+    /**
+     * 비교에 사용할 byte 순서를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param b
+     *            byte
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static int order(byte b) {
+        int unsigned = b & 0xFF;
+        return unsigned == 0xEE || unsigned == 0xEF ? unsigned + 0x10 : unsigned;
+    }
+
+    /**
+     * 데이터가 속한 페이지를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private byte[] page(int index) {
+        return this.pages[this.positions[index] >>> PAGE_BITS];
+    }
+
+    /**
+     * 사용하지 않게 된 bytes를 기록하고, 사용중인 bytes보다 많아진 경우 정리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param length
+     *            사용하지 않게 된 bytes 크기
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void release(int length) {
+        if (length > 0) {
+            this.garbage += length;
+            this.used -= length;
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#remove(int)
+     */
+    @Override
+    void remove(int index) {
+        release(this.lengths[index]);
+
+        System.arraycopy(this.positions, index + 1, this.positions, index, this.size - index - 1);
+        System.arraycopy(this.lengths, index + 1, this.lengths, index, this.size - index - 1);
+        this.size--;
+
+        if (this.garbage > PAGE_SIZE && this.garbage > this.used) {
+            compact();
+        }
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#reorder(int[])
+     */
+    @Override
+    void reorder(int[] order) {
+        int[] reorderedPositions = new int[this.positions.length];
+        int[] reorderedLengths = new int[this.lengths.length];
+        for (int i = 0; i < order.length; i++) {
+            reorderedPositions[i] = this.positions[order[i]];
+            reorderedLengths[i] = this.lengths[order[i]];
+        }
+        this.positions = reorderedPositions;
+        this.lengths = reorderedLengths;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#set(int, java.lang.Object)
+     */
+    @Override
+    void set(int index, @Nullable Object value) {
+        release(this.lengths[index]);
+
+        write(index, (String) value);
+
+        if (this.garbage > PAGE_SIZE && this.garbage > this.used) {
+            compact();
+        }
+    }
+
+    /**
+     * 데이터가 UTF-8 bytes로 시작하는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param utf8
+     *            UTF-8 bytes
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public boolean startsWith(int index, byte[] utf8) {
+        int offset = this.positions[index] & (PAGE_SIZE - 1);
+        return length(index) >= utf8.length
+                && Arrays.equals(page(index), offset, offset + utf8.length, utf8, 0, utf8.length);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#trimToSize()
+     */
+    @Override
+    void trimToSize() {
+        if (this.garbage > 0) {
+            compact();
+        }
+        if (this.pageCount > 0 && this.pageUsed < this.pages[this.pageCount - 1].length) {
+            this.pages[this.pageCount - 1] = Arrays.copyOf(this.pages[this.pageCount - 1], this.pageUsed);
+        }
+        if (this.pageCount < this.pages.length) {
+            this.pages = Arrays.copyOf(this.pages, this.pageCount);
+        }
+        if (this.size < this.positions.length) {
+            this.positions = Arrays.copyOf(this.positions, this.size);
+            this.lengths = Arrays.copyOf(this.lengths, this.size);
+        }
+    }
+
+    /**
+     * 데이터를 arena에 추가하고 위치를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param value
+     *            데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void write(int index, @Nullable String value) {
+        if (value == null) {
+            this.positions[index] = 0;
+            this.lengths[index] = NULL_LENGTH;
+            return;
+        }
+
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        this.positions[index] = append(utf8, 0, utf8.length);
+        this.lengths[index] = utf8.length;
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 9:58:40
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 컬럼 데이터 값 목록을 bytes로 변환하거나, 변환된 bytes에서 값 목록을 읽는다.<br>
+ * {@link Long}, {@link Double}, {@link String}, {@link Object} 배열과 <code>null</code>을 지원하며, 값 개수를 먼저 쓴 후 값마다 타입과 데이터를 쓴다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see CsvSpillFile
+ * @see CompressedColumn
+ */
+final class CsvValueCodec {
+
+    /** 값 타입: null */
+    private static final byte NULL = 0;
+    /** 값 타입: {@link Long} */
+    private static final byte LONG = 1;
+    /** 값 타입: {@link Double} */
+    private static final byte DOUBLE = 2;
+    /** 값 타입: Latin-1 문자로만 구성된 {@link String} */
+    private static final byte LATIN1 = 3;
+    /** 값 타입: {@link String} */
+    private static final byte UTF16 = 4;
+    /** 값 타입: {@link Object} 배열 */
+    private static final byte ARRAY = 5;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private CsvValueCodec() {
+    }
+
+    /**
+     * bytes에서 값 목록을 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            {@link #encode(Object[], int)}로 변환한 데이터
+     * @return 값 목록. 배열 크기는 값 개수와 같다.
+     * @throws IOException
+     *             데이터 형식이 올바르지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    static Object[] decode(ByteBuffer buffer) throws IOException {
+        Object[] values = new Object[buffer.getInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readValue(buffer);
+        }
+        return values;
+    }
+
+    /**
+     * 값 목록을 bytes로 변환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param values
+     *            값 목록
+     * @param count
+     *            값 개수
+     * @return
+     * @throws IllegalArgumentException
+     *             지원하지 않는 타입의 값이 있는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #decode(ByteBuffer)
+     */
+    static byte[] encode(@Nullable Object[] values, int count) {
+        int length = Integer.BYTES;
+        for (int i = 0; i < count; i++) {
+            length += encodedSize(values[i]);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            writeValue(buffer, values[i]);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 값을 bytes로 변환하는 데 필요한 크기를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            값
+     * @return 단위: byte
+     * @throws IllegalArgumentException
+     *            지원하지 않는 타입의 값인 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static int encodedSize(@Nullable Object value) {
+        if (value == null) {
+            return Byte.BYTES;
+        } else if (value instanceof Long || value instanceof Double) {
+            return Byte.BYTES + Long.BYTES;
+        } else if (value instanceof String) {
+            String str = (String) value;
+            return Byte.BYTES + Integer.BYTES + str.length() * (isLatin1(str) ? Byte.BYTES : Character.BYTES);
+        } else if (value instanceof Object[]) {
+            int size = Byte.BYTES + Integer.BYTES;
+            for (Object element : (Object[]) value) {
+                size += encodedSize(element);
+            }
+            return size;
+        } else {
+            throw new IllegalArgumentException("Unsupported value type. type=" + value.getClass());
+        }
+    }
+
+    /**
+     * Latin-1 문자로만 구성된 문자열인지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            문자열
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 값을 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            데이터
+     * @return
+     * @throws IOException
+     *             데이터 형식이 올바르지 않은 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static @Nullable Object readValue(ByteBuffer buffer) throws IOException {
+        byte type = buffer.get();
+        switch (type) {
+            case NULL:
+                return null;
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                return buffer.getDouble();
+            case LATIN1: {
+                int length = buffer.getInt();
+                // 메모리 매핑한 데이터는 배열을 제공하지 않는다.
+                if (!buffer.hasArray()) {
+                    byte[] bytes = new byte[length];
+                    buffer.get(bytes);
+                    return new String(bytes, StandardCharsets.ISO_8859_1);
+                }
+                String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                        StandardCharsets.ISO_8859_1);
+                buffer.position(buffer.position() + length);
+                return value;
+            }
+            case UTF16: {
+                char[] chars = new char[buffer.getInt()];
+                buffer.asCharBuffer().get(chars);
+                buffer.position(buffer.position() + chars.length * Character.BYTES);
+                return new String(chars);
+            }
+            case ARRAY: {
+                Object[] array = new Object[buffer.getInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readValue(buffer);
+                }
+                return array;
+            }
+            default:
+                throw new IOException("Unknown value type. type=" + type);
+        }
+    }
+
+    /**
+     * 값을 쓴다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            데이터
+     * @param value
+     *            값. {@link #encodedSize(Object)}로 지원하는 타입인지 확인한 값
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static void writeValue(ByteBuffer buffer, @Nullable Object value) {
+        if (value == null) {
+            buffer.put(NULL);
+        } else if (value instanceof Long) {
+            buffer.put(LONG).putLong((Long) value);
+        } else if (value instanceof Double) {
+            buffer.put(DOUBLE).putDouble((Double) value);
+        } else if (value instanceof String) {
+            String str = (String) value;
+            if (isLatin1(str)) {
+                buffer.put(LATIN1).putInt(str.length()).put(str.getBytes(StandardCharsets.ISO_8859_1));
+            } else {
+                buffer.put(UTF16).putInt(str.length());
+                for (int i = 0; i < str.length(); i++) {
+                    buffer.putChar(str.charAt(i));
+                }
+            }
+        } else {
+            Object[] array = (Object[]) value;
+            buffer.put(ARRAY).putInt(array.length);
+            for (Object element : array) {
+                writeValue(buffer, element);
+            }
+        }
+    }
+}
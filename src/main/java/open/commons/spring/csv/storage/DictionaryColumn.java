@@ -0,0 +1,300 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 5:21:15
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link open.commons.spring.csv.ColumnDataType#STR} 데이터를 값 사전({@link CsvDictionary})의 code 배열로 유지하는 컬럼.<br>
+ * 고유값 개수가 설정값을 넘으면 값 사전을 사용하지 않는 컬럼으로 변환해야 한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * @see #accepts(Object)
+ * @see #toStringColumn(CsvColumn)
+ */
+final class DictionaryColumn extends CsvColumn {
+
+    /** 최대 고유값 개수 */
+    private final int maxCardinality;
+    /** 값 사전 */
+    private final CsvDictionary dictionary = new CsvDictionary();
+    /** 값 code. 값이 없는 경우 {@link CsvDictionary#NULL_CODE} */
+    private int[] codes = new int[INITIAL_CAPACITY];
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param maxCardinality
+     *            최대 고유값 개수
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    DictionaryColumn(int maxCardinality) {
+        this.maxCardinality = maxCardinality;
+    }
+
+    /**
+     * 고유값 개수를 넘지 않고 데이터를 유지할 수 있는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            추가 또는 변경할 데이터
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    boolean accepts(@Nullable Object value) {
+        return value == null //
+                || this.dictionary.size() < this.maxCardinality //
+                || this.dictionary.contains((String) value);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#add(int, java.lang.Object)
+     */
+    @Override
+    void add(int index, @Nullable Object value) {
+        if (this.size == this.codes.length) {
+            this.codes = Arrays.copyOf(this.codes, newCapacity(this.codes.length, this.size + 1));
+        }
+        if (index < this.size) {
+            System.arraycopy(this.codes, index, this.codes, index + 1, this.size - index);
+        }
+        this.codes[index] = encode(value);
+        this.size++;
+    }
+
+    /**
+     * 데이터를 code로 변환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            데이터
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private int encode(@Nullable Object value) {
+        return value != null ? this.dictionary.add((String) value) : CsvDictionary.NULL_CODE;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#get(int)
+     */
+    @Override
+    @Nullable
+    Object get(int index) {
+        return getString(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getCode(int)
+     */
+    @Override
+    int getCode(int index) {
+        return this.codes[index];
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return the dictionary
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #dictionary
+     */
+    CsvDictionary getDictionary() {
+        return this.dictionary;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getString(int)
+     */
+    @Override
+    @Nullable
+    String getString(int index) {
+        int code = this.codes[index];
+        return code != CsvDictionary.NULL_CODE ? this.dictionary.value(code) : null;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getText(int)
+     */
+    @Override
+    @Nullable
+    String getText(int index) {
+        return getString(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#isNull(int)
+     */
+    @Override
+    boolean isNull(int index) {
+        return this.codes[index] == CsvDictionary.NULL_CODE;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#memoryUsage()
+     */
+    @Override
+    long memoryUsage() {
+        return arraySize(this.codes.length, Integer.BYTES) + this.dictionary.memoryUsage();
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#remove(int)
+     */
+    @Override
+    void remove(int index) {
+        System.arraycopy(this.codes, index + 1, this.codes, index, this.size - index - 1);
+        this.size--;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#reorder(int[])
+     */
+    @Override
+    void reorder(int[] order) {
+        int[] reordered = new int[this.codes.length];
+        for (int i = 0; i < order.length; i++) {
+            reordered[i] = this.codes[order[i]];
+        }
+        this.codes = reordered;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#set(int, java.lang.Object)
+     */
+    @Override
+    void set(int index, @Nullable Object value) {
+        this.codes[index] = encode(value);
+    }
+
+    /**
+     * 값 사전을 사용하지 않는 컬럼으로 변환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            데이터가 없는 문자열 컬럼
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    CsvColumn toStringColumn(CsvColumn column) {
+        for (int i = 0; i < this.size; i++) {
+            column.add(i, getString(i));
+        }
+        return column;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#trimToSize()
+     */
+    @Override
+    void trimToSize() {
+        if (this.size < this.codes.length) {
+            this.codes = Arrays.copyOf(this.codes, this.size);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 3:31:40
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link open.commons.spring.csv.ColumnDataType#NUM} 데이터를 {@code double[]}과 null 비트맵으로 유지하는 컬럼.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+final class DoubleColumn extends CsvColumn {
+
+    /** 데이터 */
+    private double[] values = new double[INITIAL_CAPACITY];
+    /** null 여부 */
+    private final NullBitmap nulls = new NullBitmap();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    DoubleColumn() {
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#add(int, java.lang.Object)
+     */
+    @Override
+    void add(int index, @Nullable Object value) {
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, newCapacity(this.values.length, this.size + 1));
+        }
+        if (index < this.size) {
+            System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+        }
+        this.nulls.insert(index, this.size, value == null);
+        this.values[index] = value != null ? (Double) value : 0D;
+        this.size++;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#get(int)
+     */
+    @Override
+    @Nullable
+    Object get(int index) {
+        return this.nulls.get(index) ? null : this.values[index];
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getDouble(int)
+     */
+    @Override
+    double getDouble(int index) {
+        return this.values[index];
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getText(int)
+     */
+    @Override
+    @Nullable
+    String getText(int index) {
+        return this.nulls.get(index) ? null : Double.toString(this.values[index]);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#isNull(int)
+     */
+    @Override
+    boolean isNull(int index) {
+        return this.nulls.get(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#memoryUsage()
+     */
+    @Override
+    long memoryUsage() {
+        return arraySize(this.values.length, Long.BYTES) + this.nulls.memoryUsage();
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#remove(int)
+     */
+    @Override
+    void remove(int index) {
+        System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+        this.nulls.remove(index, this.size);
+        this.size--;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#reorder(int[])
+     */
+    @Override
+    void reorder(int[] order) {
+        double[] reordered = new double[this.values.length];
+        for (int i = 0; i < order.length; i++) {
+            reordered[i] = this.values[order[i]];
+        }
+        this.values = reordered;
+        this.nulls.reorder(order);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#set(int, java.lang.Object)
+     */
+    @Override
+    void set(int index, @Nullable Object value) {
+        this.nulls.set(index, value == null);
+        this.values[index] = value != null ? (Double) value : 0D;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#trimToSize()
+     */
+    @Override
+    void trimToSize() {
+        if (this.size < this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.size);
+        }
+        this.nulls.trimToSize(this.size);
+    }
+}
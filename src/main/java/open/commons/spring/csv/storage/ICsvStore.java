@@ -0,0 +1,483 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 2:31:52
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 메모리에 적재된 CSV 데이터를 보관하는 저장소 규격.<br>
+ * 줄 위치(index)는 0부터 시작하며, 줄 데이터는 헤더 정의에 맞게 변환된 값({@link Long}, {@link Double}, {@link String})으로
+ * 이루어진다.<br>
+ * 구현체는 동시성을 보장하지 않으므로, 호출하는 곳에서 동기화를 해야 한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+public interface ICsvStore {
+
+    /**
+     * 줄 데이터를 마지막에 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            줄 데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void add(Object[] data);
+
+    /**
+     * 주어진 위치에 줄 데이터를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @param data
+     *            줄 데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void add(int index, Object[] data);
+
+    /**
+     * 컬럼 데이터의 압축 비율을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @return 압축 데이터 크기 / 압축 전 크기. 압축하지 않은 경우 1
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #spill(long)
+     */
+    public double compressionRatio(int column);
+
+    /**
+     * 줄 데이터를 복사하여 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @return 복사된 줄 데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public Object[] get(int index);
+
+    /**
+     * 값 사전을 사용하는 컬럼의 code를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @param column
+     *            컬럼 위치
+     * @return 값이 없는 경우 {@link CsvDictionary#NULL_CODE}
+     * @throws UnsupportedOperationException
+     *            값 사전을 사용하지 않는 컬럼인 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #getDictionary(int)
+     */
+    public int getCode(int index, int column) throws UnsupportedOperationException;
+
+    /**
+     * 컬럼의 값 사전을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @return 값 사전을 사용하지 않는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public @Nullable CsvDictionary getDictionary(int column);
+
+    /**
+     * {@link open.commons.spring.csv.ColumnDataType#NUM} 컬럼 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @param column
+     *            컬럼 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #isNull(int, int)
+     */
+    public double getDouble(int index, int column);
+
+    /**
+     * {@link open.commons.spring.csv.ColumnDataType#INT} 컬럼 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @param column
+     *            컬럼 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #isNull(int, int)
+     */
+    public long getLong(int index, int column);
+
+    /**
+     * {@link open.commons.spring.csv.ColumnDataType#STR}, {@link open.commons.spring.csv.ColumnDataType#GENERAL} 컬럼
+     * 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @param column
+     *            컬럼 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public @Nullable String getString(int index, int column);
+
+    /**
+     * CSV 파일로 저장할 컬럼 문자열을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @param column
+     *            컬럼 위치
+     * @return 값이 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public @Nullable String getText(int index, int column);
+
+    /**
+     * 문자열 데이터를 UTF-8 bytes로 유지하는 컬럼을 제공한다.<br>
+     * 제공받은 컬럼으로 문자열 데이터를 {@link String}으로 변환하지 않고 비교할 수 있다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @return UTF-8 bytes로 유지하지 않는 컬럼인 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public @Nullable CsvUtf8Column getUtf8Column(int column);
+
+    /**
+     * 컬럼 데이터가 없는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @param column
+     *            컬럼 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public boolean isNull(int index, int column);
+
+    /**
+     * 저장소의 예상 메모리 사용량을 제공한다.<br>
+     * 컬럼 데이터와 줄 단위 색인/구조를 포함하며, 힙 외부 메모리를 사용하는 저장소는 힙 외부 메모리 사용량을 포함한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #memoryUsage(int)
+     */
+    public long memoryUsage();
+
+    /**
+     * 컬럼 데이터의 예상 메모리 사용량을 제공한다.<br>
+     * 줄 단위 색인/구조 등 여러 컬럼이 공유하는 메모리는 포함하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param column
+     *            컬럼 위치
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see #memoryUsage()
+     */
+    public long memoryUsage(int column);
+
+    /**
+     * 저장소가 사용하는 자원을 해제한다.<br>
+     * 해제한 이후에는 저장소를 사용할 수 없으며, 힙 외부 메모리를 사용하지 않는 저장소는 아무것도 하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void release();
+
+    /**
+     * 줄 데이터를 삭제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void remove(int index);
+
+    /**
+     * 주어진 순서대로 줄 데이터를 재배치한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param order
+     *            새로운 순서. <code>order[i]</code>는 i번째에 위치할 기존 줄 위치.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void reorder(int[] order);
+
+    /**
+     * 줄 데이터를 변경한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            줄 위치
+     * @param data
+     *            줄 데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void set(int index, Object[] data);
+
+    /**
+     * 줄 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public int size();
+
+    /**
+     * 현재 데이터를 유지하는 읽기 전용 스냅샷을 제공한다.<br>
+     * 스냅샷은 이후 저장소 변경에 영향을 받지 않으므로, 스냅샷 조회는 저장소 변경과 동시에 수행할 수 있다. 단, 스냅샷 생성은 저장소 변경과 동시에 수행할 수 없다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 스냅샷. 지원하지 않는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public @Nullable ICsvStore snapshot();
+
+    /**
+     * 최근에 접근하지 않은 데이터를 임시 파일로 내려쓰거나 압축하여 메모리 사용량을 줄인다.<br>
+     * 내려쓰거나 압축한 데이터는 접근할 때 다시 읽으며, 최근에 접근한 데이터는 메모리에 유지한다. 지원하지 않는 저장소는 아무것도 하지 않는다.<br>
+     * 읽기 작업과 동시에 호출할 수 있으나, 쓰기 작업과 동시에 호출해서는 안 된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param bytes
+     *            줄이려는 메모리 사용량. 단위: byte
+     * @return 줄어든 예상 메모리 사용량. 단위: byte
+     * @throws java.io.UncheckedIOException
+     *            임시 파일에 쓸 수 없는 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public long spill(long bytes);
+
+    /**
+     * 데이터 적재가 완료된 후 여유 공간을 정리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public void trimToSize();
+}
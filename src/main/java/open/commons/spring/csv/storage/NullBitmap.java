@@ -0,0 +1,274 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 3:02:44
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import java.util.Arrays;
+
+/**
+ * 컬럼 데이터의 null 여부를 비트 단위로 관리하는 클래스.<br>
+ * 데이터 개수(size) 이후의 비트는 항상 0 으로 유지한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+final class NullBitmap {
+
+    private static final int ADDRESS_BITS = 6;
+
+    /** null 여부 */
+    private long[] words = new long[1];
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    NullBitmap() {
+    }
+
+    /**
+     * 주어진 위치의 비트를 저장할 수 있도록 공간을 확보한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            비트 위치
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void ensureCapacity(int index) {
+        int required = (index >>> ADDRESS_BITS) + 1;
+        if (required > this.words.length) {
+            this.words = Arrays.copyOf(this.words, Math.max(required, this.words.length + (this.words.length >> 1)));
+        }
+    }
+
+    /**
+     * null 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    boolean get(int index) {
+        int w = index >>> ADDRESS_BITS;
+        return w < this.words.length && (this.words[w] & (1L << index)) != 0;
+    }
+
+    /**
+     * 주어진 위치에 비트를 추가하고 기존 비트를 뒤로 이동한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param size
+     *            추가하기 전 데이터 개수
+     * @param isNull
+     *            null 여부
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void insert(int index, int size, boolean isNull) {
+        ensureCapacity(size);
+
+        final int w = index >>> ADDRESS_BITS;
+        final int last = size >>> ADDRESS_BITS;
+        // 상위 word 부터 1 bit 씩 이동
+        for (int k = last; k > w; k--) {
+            this.words[k] = (this.words[k] << 1) | (this.words[k - 1] >>> 63);
+        }
+        long lowMask = (1L << index) - 1;
+        long x = this.words[w];
+        this.words[w] = (x & lowMask) | ((x & ~lowMask) << 1);
+
+        set(index, isNull);
+    }
+
+    /**
+     * 예상 메모리 사용량을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    long memoryUsage() {
+        return CsvColumn.arraySize(this.words.length, Long.BYTES);
+    }
+
+    /**
+     * 주어진 위치의 비트를 삭제하고 이후 비트를 앞으로 이동한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param size
+     *            삭제하기 전 데이터 개수
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void remove(int index, int size) {
+        final int w = index >>> ADDRESS_BITS;
+        if (w >= this.words.length) {
+            return;
+        }
+
+        final int last = Math.min((size - 1) >>> ADDRESS_BITS, this.words.length - 1);
+        long lowMask = (1L << index) - 1;
+        long x = this.words[w];
+        this.words[w] = (x & lowMask) | ((x >>> 1) & ~lowMask);
+        for (int k = w; k < last; k++) {
+            this.words[k] |= (this.words[k + 1] & 1L) << 63;
+            this.words[k + 1] >>>= 1;
+        }
+    }
+
+    /**
+     * 주어진 순서대로 비트를 재배치한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param order
+     *            새로운 순서
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see ICsvStore#reorder(int[])
+     */
+    void reorder(int[] order) {
+        long[] reordered = new long[Math.max(1, ((order.length - 1) >>> ADDRESS_BITS) + 1)];
+        for (int i = 0; i < order.length; i++) {
+            if (get(order[i])) {
+                reordered[i >>> ADDRESS_BITS] |= 1L << i;
+            }
+        }
+        this.words = reordered;
+    }
+
+    /**
+     * null 여부를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param isNull
+     *            null 여부
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void set(int index, boolean isNull) {
+        if (isNull) {
+            ensureCapacity(index);
+            this.words[index >>> ADDRESS_BITS] |= 1L << index;
+        } else if ((index >>> ADDRESS_BITS) < this.words.length) {
+            this.words[index >>> ADDRESS_BITS] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * 사용하지 않는 공간을 정리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param size
+     *            데이터 개수
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void trimToSize(int size) {
+        int required = Math.max(1, ((size - 1) >>> ADDRESS_BITS) + 1);
+        if (required < this.words.length) {
+            this.words = Arrays.copyOf(this.words, required);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 5:04:37
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+
+package open.commons.spring.csv.storage;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 힙 외부(off-heap) 메모리 저장공간.<br>
+ * 저장공간마다 공유 {@link Arena}를 사용하며, 크기를 변경하는 경우 새로운 {@link Arena}에 복사한 후 기존 {@link Arena}를 해제한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+final class OffHeapBuffer {
+
+    /** 메모리 정렬 단위 */
+    private static final long ALIGNMENT = Long.BYTES;
+
+    /** 메모리 할당 범위 */
+    private @Nullable Arena arena;
+    /** 메모리 */
+    private MemorySegment segment;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param byteSize
+     *            초기 저장공간 크기(byte)
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    OffHeapBuffer(long byteSize) {
+        this.arena = Arena.ofShared();
+        this.segment = this.arena.allocate(byteSize, ALIGNMENT);
+    }
+
+    /**
+     * 저장공간 크기(byte)를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    long byteSize() {
+        return this.segment.byteSize();
+    }
+
+    /**
+     * 주어진 크기 이상이 되도록 저장공간을 늘린다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param required
+     *            필요한 저장공간 크기(byte)
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void ensureCapacity(long required) {
+        long current = this.segment.byteSize();
+        if (required > current) {
+            long capacity = current + (current >> 1);
+            resize(capacity < required ? required : capacity);
+        }
+    }
+
+    /**
+     * 할당된 힙 외부 메모리 크기를 제공한다. 자원을 해제한 경우 0을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return 단위: byte
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    long memoryUsage() {
+        return this.arena != null ? this.segment.byteSize() : 0;
+    }
+
+    /**
+     * 저장공간 내부에서 데이터를 이동한다. (영역이 겹치는 경우에도 안전하다.) <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param from
+     *            원본 위치(byte)
+     * @param to
+     *            대상 위치(byte)
+     * @param byteSize
+     *            데이터 크기(byte)
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void move(long from, long to, long byteSize) {
+        if (byteSize > 0) {
+            MemorySegment.copy(this.segment, from, this.segment, to, byteSize);
+        }
+    }
+
+    /**
+     * 저장공간을 해제한다. 이미 해제된 경우 무시한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void release() {
+        if (this.arena != null) {
+            this.arena.close();
+            this.arena = null;
+        }
+    }
+
+    /**
+     * 저장공간 크기를 변경한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param byteSize
+     *            새로운 저장공간 크기(byte). 기존 데이터보다 작은 경우 초과하는 데이터는 버려진다.
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void resize(long byteSize) {
+        Arena newArena = Arena.ofShared();
+        MemorySegment newSegment = newArena.allocate(byteSize, ALIGNMENT);
+        MemorySegment.copy(this.segment, 0, newSegment, 0, Math.min(byteSize, this.segment.byteSize()));
+
+        release();
+
+        this.arena = newArena;
+        this.segment = newSegment;
+    }
+
+    /**
+     * 메모리를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    MemorySegment segment() {
+        return this.segment;
+    }
+
+    /**
+     * 데이터를 교체하고 기존 저장공간을 해제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param buffer
+     *            새로운 데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    void swap(OffHeapBuffer buffer) {
+        release();
+
+        this.arena = buffer.arena;
+        this.segment = buffer.segment;
+        buffer.arena = null;
+        buffer.segment = MemorySegment.NULL;
+    }
+}
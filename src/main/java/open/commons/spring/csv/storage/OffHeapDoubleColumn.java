@@ -0,0 +1,223 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 5:18:06
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+
+package open.commons.spring.csv.storage;
+
+import java.lang.foreign.ValueLayout;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link open.commons.spring.csv.ColumnDataType#NUM} 데이터를 힙 외부 메모리와 null 비트맵으로 유지하는 컬럼.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+final class OffHeapDoubleColumn extends CsvColumn {
+
+    /** 데이터 */
+    private final OffHeapBuffer values = new OffHeapBuffer(INITIAL_CAPACITY * Double.BYTES);
+    /** null 여부 */
+    private final NullBitmap nulls = new NullBitmap();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    OffHeapDoubleColumn() {
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#add(int, java.lang.Object)
+     */
+    @Override
+    void add(int index, @Nullable Object value) {
+        this.values.ensureCapacity(offset(this.size + 1));
+        this.values.move(offset(index), offset(index + 1), offset(this.size - index));
+        this.nulls.insert(index, this.size, value == null);
+        this.values.segment().setAtIndex(ValueLayout.JAVA_DOUBLE, index, value != null ? (Double) value : 0D);
+        this.size++;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#get(int)
+     */
+    @Override
+    @Nullable
+    Object get(int index) {
+        return this.nulls.get(index) ? null : getDouble(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getDouble(int)
+     */
+    @Override
+    double getDouble(int index) {
+        return this.values.segment().getAtIndex(ValueLayout.JAVA_DOUBLE, index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getText(int)
+     */
+    @Override
+    @Nullable
+    String getText(int index) {
+        return this.nulls.get(index) ? null : Double.toString(getDouble(index));
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#isNull(int)
+     */
+    @Override
+    boolean isNull(int index) {
+        return this.nulls.get(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#memoryUsage()
+     */
+    @Override
+    long memoryUsage() {
+        return this.values.memoryUsage() + this.nulls.memoryUsage();
+    }
+
+    /**
+     * 데이터 위치에 해당하는 메모리 위치(byte)를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static long offset(int index) {
+        return (long) index * Double.BYTES;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#release()
+     */
+    @Override
+    void release() {
+        this.values.release();
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#remove(int)
+     */
+    @Override
+    void remove(int index) {
+        this.values.move(offset(index + 1), offset(index), offset(this.size - index - 1));
+        this.nulls.remove(index, this.size);
+        this.size--;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#reorder(int[])
+     */
+    @Override
+    void reorder(int[] order) {
+        OffHeapBuffer reordered = new OffHeapBuffer(this.values.byteSize());
+        for (int i = 0; i < order.length; i++) {
+            reordered.segment().setAtIndex(ValueLayout.JAVA_DOUBLE, i, getDouble(order[i]));
+        }
+        this.values.swap(reordered);
+        this.nulls.reorder(order);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#set(int, java.lang.Object)
+     */
+    @Override
+    void set(int index, @Nullable Object value) {
+        this.nulls.set(index, value == null);
+        this.values.segment().setAtIndex(ValueLayout.JAVA_DOUBLE, index, value != null ? (Double) value : 0D);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#trimToSize()
+     */
+    @Override
+    void trimToSize() {
+        if (offset(this.size) < this.values.byteSize()) {
+            this.values.resize(offset(this.size));
+        }
+        this.nulls.trimToSize(this.size);
+    }
+}
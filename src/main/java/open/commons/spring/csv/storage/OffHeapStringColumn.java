@@ -0,0 +1,350 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 5:27:44
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+
+package open.commons.spring.csv.storage;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 문자열 데이터를 힙 외부 메모리에 UTF-8 bytes로 유지하는 컬럼.<br>
+ * 데이터마다 UTF-8 bytes 시작 위치({@code long})와 길이({@code int}, null인 경우 -1)를 유지하며, 변경/삭제로 사용하지 않게 된 bytes는
+ * {@link #trimToSize()} 호출시 정리한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+final class OffHeapStringColumn extends CsvColumn {
+
+    /** null 데이터 길이 */
+    private static final int NULL_LENGTH = -1;
+
+    /** 데이터별 UTF-8 bytes 시작 위치 */
+    private final OffHeapBuffer offsets = new OffHeapBuffer(INITIAL_CAPACITY * Long.BYTES);
+    /** 데이터별 UTF-8 bytes 길이 */
+    private final OffHeapBuffer lengths = new OffHeapBuffer(INITIAL_CAPACITY * Integer.BYTES);
+    /** UTF-8 bytes */
+    private final OffHeapBuffer bytes = new OffHeapBuffer(INITIAL_CAPACITY * Long.BYTES);
+    /** 사용중인 UTF-8 bytes 크기 */
+    private long used;
+    /** 사용하지 않게 된 UTF-8 bytes 크기 */
+    private long garbage;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    OffHeapStringColumn() {
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#add(int, java.lang.Object)
+     */
+    @Override
+    void add(int index, @Nullable Object value) {
+        this.offsets.ensureCapacity((long) (this.size + 1) * Long.BYTES);
+        this.lengths.ensureCapacity((long) (this.size + 1) * Integer.BYTES);
+        this.offsets.move((long) index * Long.BYTES, (long) (index + 1) * Long.BYTES,
+                (long) (this.size - index) * Long.BYTES);
+        this.lengths.move((long) index * Integer.BYTES, (long) (index + 1) * Integer.BYTES,
+                (long) (this.size - index) * Integer.BYTES);
+        this.size++;
+
+        write(index, (String) value);
+    }
+
+    /**
+     * 사용하지 않게 된 UTF-8 bytes를 정리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void compact() {
+        OffHeapBuffer compacted = new OffHeapBuffer(this.used - this.garbage);
+        long position = 0;
+        for (int i = 0; i < this.size; i++) {
+            int length = length(i);
+            if (length > 0) {
+                MemorySegment.copy(this.bytes.segment(), offset(i), compacted.segment(), position, length);
+            }
+            this.offsets.segment().setAtIndex(ValueLayout.JAVA_LONG, i, position);
+            position += Math.max(length, 0);
+        }
+        this.bytes.swap(compacted);
+        this.used = position;
+        this.garbage = 0;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#get(int)
+     */
+    @Override
+    @Nullable
+    Object get(int index) {
+        return getString(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getString(int)
+     */
+    @Override
+    @Nullable
+    String getString(int index) {
+        int length = length(index);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+
+        byte[] utf8 = new byte[length];
+        MemorySegment.copy(this.bytes.segment(), ValueLayout.JAVA_BYTE, offset(index), utf8, 0, length);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#getText(int)
+     */
+    @Override
+    @Nullable
+    String getText(int index) {
+        return getString(index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#isNull(int)
+     */
+    @Override
+    boolean isNull(int index) {
+        return length(index) == NULL_LENGTH;
+    }
+
+    /**
+     * UTF-8 bytes 길이를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return null인 경우 {@value #NULL_LENGTH}
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private int length(int index) {
+        return this.lengths.segment().getAtIndex(ValueLayout.JAVA_INT, index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#memoryUsage()
+     */
+    @Override
+    long memoryUsage() {
+        return this.offsets.memoryUsage() + this.lengths.memoryUsage() + this.bytes.memoryUsage();
+    }
+
+    /**
+     * UTF-8 bytes 시작 위치를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private long offset(int index) {
+        return this.offsets.segment().getAtIndex(ValueLayout.JAVA_LONG, index);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#release()
+     */
+    @Override
+    void release() {
+        this.offsets.release();
+        this.lengths.release();
+        this.bytes.release();
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#remove(int)
+     */
+    @Override
+    void remove(int index) {
+        this.garbage += Math.max(length(index), 0);
+
+        this.offsets.move((long) (index + 1) * Long.BYTES, (long) index * Long.BYTES,
+                (long) (this.size - index - 1) * Long.BYTES);
+        this.lengths.move((long) (index + 1) * Integer.BYTES, (long) index * Integer.BYTES,
+                (long) (this.size - index - 1) * Integer.BYTES);
+        this.size--;
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#reorder(int[])
+     */
+    @Override
+    void reorder(int[] order) {
+        OffHeapBuffer reorderedOffsets = new OffHeapBuffer(this.offsets.byteSize());
+        OffHeapBuffer reorderedLengths = new OffHeapBuffer(this.lengths.byteSize());
+        for (int i = 0; i < order.length; i++) {
+            reorderedOffsets.segment().setAtIndex(ValueLayout.JAVA_LONG, i, offset(order[i]));
+            reorderedLengths.segment().setAtIndex(ValueLayout.JAVA_INT, i, length(order[i]));
+        }
+        this.offsets.swap(reorderedOffsets);
+        this.lengths.swap(reorderedLengths);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#set(int, java.lang.Object)
+     */
+    @Override
+    void set(int index, @Nullable Object value) {
+        this.garbage += Math.max(length(index), 0);
+
+        write(index, (String) value);
+    }
+
+    /**
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     *
+     * @see open.commons.spring.csv.storage.CsvColumn#trimToSize()
+     */
+    @Override
+    void trimToSize() {
+        if (this.garbage > 0) {
+            compact();
+        }
+        if (this.used < this.bytes.byteSize()) {
+            this.bytes.resize(this.used);
+        }
+        if ((long) this.size * Long.BYTES < this.offsets.byteSize()) {
+            this.offsets.resize((long) this.size * Long.BYTES);
+        }
+        if ((long) this.size * Integer.BYTES < this.lengths.byteSize()) {
+            this.lengths.resize((long) this.size * Integer.BYTES);
+        }
+    }
+
+    /**
+     * 데이터를 UTF-8 bytes 끝에 추가하고 데이터 위치에 시작 위치와 길이를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param index
+     *            데이터 위치
+     * @param value
+     *            데이터
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private void write(int index, @Nullable String value) {
+        if (value == null) {
+            this.offsets.segment().setAtIndex(ValueLayout.JAVA_LONG, index, this.used);
+            this.lengths.segment().setAtIndex(ValueLayout.JAVA_INT, index, NULL_LENGTH);
+            return;
+        }
+
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        this.bytes.ensureCapacity(this.used + utf8.length);
+        MemorySegment.copy(utf8, 0, this.bytes.segment(), ValueLayout.JAVA_BYTE, this.used, utf8.length);
+
+        this.offsets.segment().setAtIndex(ValueLayout.JAVA_LONG, index, this.used);
+        this.lengths.segment().setAtIndex(ValueLayout.JAVA_INT, index, utf8.length);
+        this.used += utf8.length;
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Open Commons Spring Csv Library
+ *
+ * <p>
+ * <b>[Nullability Policy]</b><br>
+ * 이 패키지 하위의 모든 API는 JSpecify의 {@code @NullMarked} 정책을 따릅니다.<br>
+ * 별도로 {@code @Nullable}이 명시되지 않은 모든 파라미터는 {@code null}을 허용하지 않으며,<br>
+ * 위반 시 런타임에 {@link NullPointerException}이 발생합니다.
+ * </p>
+ *
+ * @since 2026. 10. 17.
+ */
+@org.jspecify.annotations.NullMarked
+package open.commons.spring.csv.storage;
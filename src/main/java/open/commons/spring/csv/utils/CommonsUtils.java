@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.IntBinaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -158,6 +159,90 @@ public class CommonsUtils {
                 : IntStream.range(1, count + 1).mapToObj(Integer::toString).collect(Collectors.toList());
     }
 
+    /**
+     * 비교함수를 이용하여 위치(index) 배열을 정렬한다. 동일한 값은 기존 순서를 유지한다. (stable) <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param indexes
+     *            정렬할 위치 배열
+     * @param comparator
+     *            위치에 해당하는 데이터 비교함수
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    public static void sortIndexes(int[] indexes, IntBinaryOperator comparator) {
+        AssertUtils2.notNulls(indexes, comparator);
+
+        if (indexes.length < 2) {
+            return;
+        }
+        sortIndexes(indexes, indexes.clone(), 0, indexes.length, comparator);
+    }
+
+    /**
+     * 합병정렬(merge sort)을 이용하여 위치 배열을 정렬한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param dest
+     *            정렬 결과 배열
+     * @param src
+     *            정렬할 데이터 배열. (dest와 동일한 데이터)
+     * @param low
+     *            시작 위치 (inclusive)
+     * @param high
+     *            마지막 위치 (exclusive)
+     * @param comparator
+     *            위치에 해당하는 데이터 비교함수
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static void sortIndexes(int[] dest, int[] src, int low, int high, IntBinaryOperator comparator) {
+        final int length = high - low;
+        // 작은 구간은 삽입정렬
+        if (length < 7) {
+            for (int i = low + 1; i < high; i++) {
+                for (int j = i; j > low && comparator.applyAsInt(dest[j - 1], dest[j]) > 0; j--) {
+                    int t = dest[j];
+                    dest[j] = dest[j - 1];
+                    dest[j - 1] = t;
+                }
+            }
+            return;
+        }
+
+        final int mid = (low + high) >>> 1;
+        sortIndexes(src, dest, low, mid, comparator);
+        sortIndexes(src, dest, mid, high, comparator);
+
+        // 이미 정렬되어 있는 경우
+        if (comparator.applyAsInt(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, low, dest, low, length);
+            return;
+        }
+
+        for (int i = low, p = low, q = mid; i < high; i++) {
+            if (q >= high || (p < mid && comparator.applyAsInt(src[p], src[q]) <= 0)) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
     /**
      * 랜덤 문자열을 제공한다. <br>
      * 
@@ -0,0 +1,469 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 11:14:05
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.utils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 문자열 또는 bytes의 주어진 범위에서 숫자를 직접 읽는 클래스. <br>
+ * 부호와 10진수 숫자(실수는 소수점과 지수 포함)로만 구성된 데이터는 {@link String}을 생성하지 않고 읽으며, 그 밖의 데이터는 {@link Long#parseLong(String)},
+ * {@link Double#parseDouble(String)}으로 읽으므로 결과는 같다.<br>
+ * 실수는 유효 숫자가 19개 이하인 경우 Eisel-Lemire 알고리즘으로 가장 가까운 {@link Double} 값을 계산한다.
+ * 
+ * <ul>
+ * <li>Daniel Lemire, "Number Parsing at a Gigabyte per Second", Software: Practice and Experience 51 (8), 2021.
+ * <li>Noble Mushtak, Daniel Lemire, "Fast Number Parsing Without Fallback", Software: Practice and Experience 53 (6), 2023.
+ * </ul>
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+public class CsvNumberParser {
+
+    /** {@link Long}으로 넘치지 않는 최대 숫자 개수 */
+    private static final int MAX_LONG_DIGITS = 18;
+    /** {@link Double}로 정확히 표현할 수 있는 (2<sup>53</sup> 미만) 최대 유효 숫자 개수 */
+    private static final int MAX_EXACT_DIGITS = 15;
+    /** unsigned long으로 넘치지 않는 최대 유효 숫자 개수 */
+    private static final int MAX_DOUBLE_DIGITS = 19;
+    /** 읽는 지수의 최대 크기. 더 큰 지수는 무한대 또는 0과 같다. */
+    private static final int MAX_EXPONENT_VALUE = 100_000;
+    /** 유효 숫자가 19개 이하일 때 0이 아닌 {@link Double} 값을 가질 수 있는 최소 10진수 지수 */
+    private static final int MIN_POWER_OF_TEN = -342;
+    /** 유효 숫자가 1개 이상일 때 무한대가 아닌 {@link Double} 값을 가질 수 있는 최대 10진수 지수 */
+    private static final int MAX_POWER_OF_TEN = 308;
+    /** 5의 거듭제곱({@value #MIN_POWER_OF_TEN} ~ {@value #MAX_POWER_OF_TEN})의 상위 128 bits 목록. [2n]: 상위 64 bits, [2n+1]: 하위 64 bits */
+    private static final long[] POWERS_OF_FIVE = powersOfFive();
+    /** {@link Double}로 정확히 표현할 수 있는 10의 거듭제곱 목록 */
+    private static final double[] POWERS_OF_TEN = { //
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, //
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private CsvNumberParser() {
+    }
+
+    /**
+     * UTF-8 bytes의 주어진 범위를 {@link Double}로 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         지수 표기법, 19개 유효 숫자 지원
+     * </pre>
+     *
+     * @param bytes
+     *            UTF-8 bytes
+     * @param offset
+     *            시작 위치
+     * @param length
+     *            크기
+     * @return
+     * @throws NumberFormatException
+     *             숫자가 아닌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see Double#parseDouble(String)
+     */
+    public static double parseDouble(byte[] bytes, int offset, int length) {
+        final int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i++] == '-';
+        }
+
+        // #1. 가수
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        boolean any = false;
+        for (; i < end; i++) {
+            int d = bytes[i] - '0';
+            if (d >= 0 && d <= 9) {
+                any = true;
+                if (point) {
+                    scale++;
+                }
+                if (mantissa != 0 || d > 0) {
+                    if (++digits > MAX_DOUBLE_DIGITS) {
+                        break;
+                    }
+                    mantissa = mantissa * 10 + d;
+                }
+            } else if (bytes[i] == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+
+        // #2. 지수
+        int exponent = 0;
+        if (any && i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            int j = i + 1;
+            boolean negativeExponent = false;
+            if (j < end && (bytes[j] == '-' || bytes[j] == '+')) {
+                negativeExponent = bytes[j++] == '-';
+            }
+            final int first = j;
+            for (; j < end; j++) {
+                int d = bytes[j] - '0';
+                if (d < 0 || d > 9) {
+                    break;
+                }
+                if (exponent < MAX_EXPONENT_VALUE) {
+                    exponent = exponent * 10 + d;
+                }
+            }
+            if (j == end && j > first) {
+                exponent = negativeExponent ? -exponent : exponent;
+                i = j;
+            }
+        }
+
+        if (i < end || !any) {
+            return Double.parseDouble(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+        return toDouble(negative, mantissa, digits, exponent - scale);
+    }
+
+    /**
+     * 문자열의 주어진 범위를 {@link Double}로 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * 2026. 10. 17.     parkjunhong77@gmail.com         지수 표기법, 19개 유효 숫자 지원
+     * </pre>
+     *
+     * @param value
+     *            문자열
+     * @param start
+     *            시작 위치
+     * @param end
+     *            끝 위치
+     * @return
+     * @throws NumberFormatException
+     *             숫자가 아닌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see Double#parseDouble(String)
+     */
+    public static double parseDouble(CharSequence value, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i++) == '-';
+        }
+
+        // #1. 가수
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        boolean any = false;
+        for (; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                any = true;
+                if (point) {
+                    scale++;
+                }
+                if (mantissa != 0 || c > '0') {
+                    if (++digits > MAX_DOUBLE_DIGITS) {
+                        break;
+                    }
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+
+        // #2. 지수
+        int exponent = 0;
+        if (any && i < end && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            int j = i + 1;
+            boolean negativeExponent = false;
+            if (j < end && (value.charAt(j) == '-' || value.charAt(j) == '+')) {
+                negativeExponent = value.charAt(j++) == '-';
+            }
+            final int first = j;
+            for (; j < end; j++) {
+                char c = value.charAt(j);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (exponent < MAX_EXPONENT_VALUE) {
+                    exponent = exponent * 10 + (c - '0');
+                }
+            }
+            if (j == end && j > first) {
+                exponent = negativeExponent ? -exponent : exponent;
+                i = j;
+            }
+        }
+
+        if (i < end || !any) {
+            return Double.parseDouble(value.subSequence(start, end).toString());
+        }
+        return toDouble(negative, mantissa, digits, exponent - scale);
+    }
+
+    /**
+     * UTF-8 bytes의 주어진 범위를 {@link Long}으로 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param bytes
+     *            UTF-8 bytes
+     * @param offset
+     *            시작 위치
+     * @param length
+     *            크기
+     * @return
+     * @throws NumberFormatException
+     *             정수가 아닌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see Long#parseLong(String)
+     */
+    public static long parseLong(byte[] bytes, int offset, int length) {
+        final int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i++] == '-';
+        }
+
+        long value = 0;
+        final int first = i;
+        for (; i < end && i - first < MAX_LONG_DIGITS; i++) {
+            int d = bytes[i] - '0';
+            if (d < 0 || d > 9) {
+                break;
+            }
+            value = value * 10 + d;
+        }
+
+        if (i < end || i == first) {
+            return Long.parseLong(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 문자열의 주어진 범위를 {@link Long}으로 읽는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            문자열
+     * @param start
+     *            시작 위치
+     * @param end
+     *            끝 위치
+     * @return
+     * @throws NumberFormatException
+     *             정수가 아닌 경우
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     * 
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static long parseLong(CharSequence value, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i++) == '-';
+        }
+
+        long result = 0;
+        final int first = i;
+        for (; i < end && i - first < MAX_LONG_DIGITS; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            result = result * 10 + (c - '0');
+        }
+
+        if (i < end || i == first) {
+            return Long.parseLong(value, start, end, 10);
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * 5의 거듭제곱({@value #MIN_POWER_OF_TEN} ~ {@value #MAX_POWER_OF_TEN})의 상위 128 bits 목록을 생성한다.<br>
+     * 최상위 bit가 1이 되도록 정규화하며, 음수 지수는 2<sup>b</sup> / 5<sup>-q</sup>의 몫에 1을 더한 값이다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @return [2n]: 상위 64 bits, [2n+1]: 하위 64 bits
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static long[] powersOfFive() {
+        final BigInteger five = BigInteger.valueOf(5);
+        final long[] powers = new long[2 * (MAX_POWER_OF_TEN - MIN_POWER_OF_TEN + 1)];
+        for (int q = MIN_POWER_OF_TEN; q <= MAX_POWER_OF_TEN; q++) {
+            BigInteger power;
+            if (q < 0) {
+                BigInteger divisor = five.pow(-q);
+                int z = divisor.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                power = BigInteger.ONE.shiftLeft(b).divide(divisor).add(BigInteger.ONE);
+            } else {
+                power = five.pow(q);
+            }
+            power = power.bitLength() > 128 ? power.shiftRight(power.bitLength() - 128) : power.shiftLeft(128 - power.bitLength());
+
+            int index = 2 * (q - MIN_POWER_OF_TEN);
+            powers[index] = power.shiftRight(64).longValue();
+            powers[index + 1] = power.longValue();
+        }
+        return powers;
+    }
+
+    /**
+     * 10진수 가수와 지수를 가장 가까운 {@link Double} 값으로 변환한다.<br>
+     * 가수와 10의 거듭제곱을 {@link Double}로 정확히 표현할 수 있는 경우 한 번의 연산으로 계산하고, 그 밖의 경우 Eisel-Lemire 알고리즘으로 계산한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param negative
+     *            음수 여부
+     * @param mantissa
+     *            가수 (unsigned)
+     * @param digits
+     *            가수의 유효 숫자 개수. 최대 {@value #MAX_DOUBLE_DIGITS}
+     * @param exponent
+     *            10진수 지수
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static double toDouble(boolean negative, long mantissa, int digits, int exponent) {
+        double value;
+        if (mantissa == 0 || exponent < MIN_POWER_OF_TEN) {
+            value = 0;
+        } else if (exponent > MAX_POWER_OF_TEN) {
+            value = Double.POSITIVE_INFINITY;
+        } else if (digits <= MAX_EXACT_DIGITS && exponent >= -(POWERS_OF_TEN.length - 1) && exponent < POWERS_OF_TEN.length) {
+            value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        } else {
+            // #1. 가수의 최상위 bit를 1로 정규화한 후 5의 거듭제곱과 곱한다.
+            final int shift = Long.numberOfLeadingZeros(mantissa);
+            final long w = mantissa << shift;
+            final int index = 2 * (exponent - MIN_POWER_OF_TEN);
+            long high = Math.unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+            long low = w * POWERS_OF_FIVE[index];
+            // 하위 bits가 모두 1인 경우에만 다음 64 bits를 더한다.
+            if ((high & 0x1FF) == 0x1FF) {
+                long next = Math.unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+                low += next;
+                if (Long.compareUnsigned(next, low) > 0) {
+                    high++;
+                }
+            }
+
+            // #2. 상위 54 bits와 2진수 지수
+            final int upperbit = (int) (high >>> 63);
+            long bits = high >>> (upperbit + 9);
+            int power2 = (((152170 + 65536) * exponent) >> 16) + 63 + upperbit - shift + 1023;
+
+            if (power2 <= 0) {
+                // #3-1. 비정규 수
+                if (-power2 + 1 >= 64) {
+                    bits = 0;
+                } else {
+                    bits >>>= -power2 + 1;
+                    bits += bits & 1;
+                    bits >>>= 1;
+                    // 반올림한 결과가 정규 수인 경우 지수 bits는 1이다.
+                    power2 = bits < (1L << 52) ? 0 : 1;
+                    bits = (bits & ((1L << 52) - 1)) | ((long) power2 << 52);
+                }
+            } else {
+                // #3-2. 정확히 중간인 경우 짝수로 반올림한다.
+                if (Long.compareUnsigned(low, 1) <= 0 && exponent >= -4 && exponent <= 23 && (bits & 3) == 1
+                        && (bits << (upperbit + 9)) == high) {
+                    bits &= ~1L;
+                }
+                bits += bits & 1;
+                bits >>>= 1;
+                if (bits >= (2L << 52)) {
+                    bits = 1L << 52;
+                    power2++;
+                }
+                bits &= ~(1L << 52);
+                bits = power2 >= 0x7FF ? Double.doubleToRawLongBits(Double.POSITIVE_INFINITY) : bits | ((long) power2 << 52);
+            }
+            value = Double.longBitsToDouble(bits);
+        }
+        return negative ? -value : value;
+    }
+}
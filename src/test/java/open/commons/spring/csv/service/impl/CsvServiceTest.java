@@ -0,0 +1,250 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 11:58:34
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import open.commons.core.Result;
+import open.commons.core.csv.CsvFileConfig;
+import open.commons.spring.csv.ColumnDataType;
+import open.commons.spring.csv.CsvFileOnMemory;
+import open.commons.spring.csv.CsvHeader;
+import open.commons.spring.csv.CsvLine;
+import open.commons.spring.csv.CsvLoadOptions;
+import open.commons.spring.csv.CsvStorageType;
+import open.commons.spring.csv.service.PositionDir;
+
+/**
+ * {@link CsvService}의 CSV 파일 이어 읽기, 변경 내역 복구, 저장 방식별 적재 결과를 검증한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+public class CsvServiceTest {
+
+    /** 헤더 정의 */
+    private static final CsvHeader[] HEADERS = { new CsvHeader("id", ColumnDataType.INT), new CsvHeader("text", ColumnDataType.STR) };
+
+    /** 임시 디렉토리 */
+    @TempDir
+    Path dir;
+
+    /**
+     * 주어진 줄 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param service
+     * @param uuid
+     *            CSV 파일 식별정보
+     * @param count
+     *            줄 개수
+     * @return
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static List<CsvLine> read(CsvService service, String uuid, int count) {
+        return service.read(uuid, 1, count).getResult().getLines().getLines();
+    }
+
+    /**
+     * 주어진 저장 방식으로 CSV 파일을 적재하고 데이터를 변경/추가/삭제한 후, 적재 직후와 변경 후의 줄 데이터를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param file
+     *            CSV 파일
+     * @param options
+     *            적재 설정
+     * @return [적재 직후 줄 데이터, 변경 후 줄 데이터]
+     *
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    private static List<List<CsvLine>> loadAndEdit(Path file, CsvLoadOptions options) {
+        final String uuid = "storage-" + options.getStorageType();
+        final CsvHeader[] headers = { new CsvHeader("id", ColumnDataType.INT), new CsvHeader("value", ColumnDataType.NUM),
+                new CsvHeader("text", ColumnDataType.STR) };
+
+        CsvService service = new CsvService();
+        try {
+            Result<CsvFileOnMemory> result = service.load(uuid, new CsvFileConfig(), headers, false, file.toString(), false, options);
+            assertTrue(result.isSuccess(), result.getMessage());
+            List<CsvLine> loaded = read(service, uuid, 5);
+
+            assertTrue(service.update(uuid, 2, new Object[] { 20L, 2.5, "updated" }).isSuccess());
+            assertTrue(service.insert(uuid, 1, PositionDir.BACK, new Object[] { 6L, 6.0, "inserted" }).isSuccess());
+            assertTrue(service.delete(uuid, 4).isSuccess());
+            return List.of(loaded, read(service, uuid, 5));
+        } finally {
+            service.release(uuid);
+        }
+    }
+
+    /**
+     * 덧붙인 데이터의 마지막 줄이 인용 문자로 감싼 줄바꿈을 포함하는 경우, 완성된 줄까지만 이어 읽는지 검증한다.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    @Test
+    public void testReloadTailQuotedMultilineRow() throws Exception {
+        final Path file = this.dir.resolve("tail.csv");
+        final String uuid = "reload-tail-quoted-multiline";
+        Files.write(file, "1,first\n".getBytes(StandardCharsets.UTF_8));
+
+        CsvService service = new CsvService();
+        try {
+            assertTrue(service.load(uuid, new CsvFileConfig(), HEADERS, false, file.toString(), false).isSuccess());
+
+            // 마지막 줄을 덧붙이는 도중: 인용 문자 안의 줄바꿈은 줄의 끝이 아니다.
+            Files.write(file, "2,\"multi\nline\"\n3,\"par\ntial".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Result<CsvFileOnMemory> result = service.reloadTail(uuid, file.toString());
+            assertTrue(result.isSuccess(), result.getMessage());
+            assertEquals(2, result.getResult().getLineCount());
+
+            // 마지막 줄을 완성
+            Files.write(file, "\"\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            result = service.reloadTail(uuid, file.toString());
+            assertTrue(result.isSuccess(), result.getMessage());
+            assertEquals(3, result.getResult().getLineCount());
+
+            List<CsvLine> lines = read(service, uuid, 3);
+            assertArrayEquals(new Object[] { 1L, "first" }, lines.get(0).getData());
+            assertArrayEquals(new Object[] { 2L, "multi\nline" }, lines.get(1).getData());
+            assertArrayEquals(new Object[] { 3L, "par\ntial" }, lines.get(2).getData());
+        } finally {
+            service.release(uuid);
+        }
+    }
+
+    /**
+     * 컬럼 단위(COLUMNAR), 메모리 외부(OFF_HEAP), 메모리 매핑(MAPPED) 방식으로 적재하고 변경한 데이터가 줄 단위(ROW) 방식과 같은지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testStorageTypesMatchRow() throws Exception {
+        final Path file = this.dir.resolve("storage.csv");
+        Files.write(file, ("1,1.5,plain\n" //
+                + "2,-0.25,\"quoted, comma\"\n" //
+                + "3,1e3,\"multi\nline\"\n" //
+                + "4,0.1,\n" //
+                + "5,7,\"say \"\"hi\"\"\"\n").getBytes(StandardCharsets.UTF_8));
+
+        CsvLoadOptions options = new CsvLoadOptions();
+        options.setStorageType(CsvStorageType.ROW);
+        final List<List<CsvLine>> expected = loadAndEdit(file, options);
+        assertArrayEquals(new Object[] { 3L, 1000.0, "multi\nline" }, expected.get(0).get(2).getData());
+        assertArrayEquals(new Object[] { 5L, 7.0, "say \"hi\"" }, expected.get(0).get(4).getData());
+
+        for (CsvStorageType type : new CsvStorageType[] { CsvStorageType.COLUMNAR, CsvStorageType.OFF_HEAP, CsvStorageType.MAPPED }) {
+            options = new CsvLoadOptions();
+            options.setStorageType(type);
+            List<List<CsvLine>> actual = loadAndEdit(file, options);
+            for (int step = 0; step < expected.size(); step++) {
+                for (int i = 0; i < expected.get(step).size(); i++) {
+                    assertArrayEquals(expected.get(step).get(i).getData(), actual.get(step).get(i).getData(),
+                            type + ", step=" + step + ", line=" + (i + 1));
+                }
+            }
+        }
+    }
+
+    /**
+     * CSV 파일에 저장하기 전에 중단된 변경 내역을 다시 적재할 때 적용하고, 일부만 저장된 마지막 기록은 무시하는지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testReplayJournal() throws Exception {
+        final Path file = this.dir.resolve("journal.csv");
+        final Path journalDir = this.dir.resolve("journal");
+        final String uuid = "replay-journal";
+        final byte[] csv = "1,a\n2,b\n3,c\n".getBytes(StandardCharsets.UTF_8);
+        Files.write(file, csv);
+
+        CsvService service = new CsvService("1H", "0", "", journalDir.toString());
+        try {
+            assertTrue(service.load(uuid, new CsvFileConfig(), HEADERS, false, file.toString(), false).isSuccess());
+            assertTrue(service.update(uuid, 1, new Object[] { 10L, "x" }).isSuccess());
+            assertTrue(service.insert(uuid, 2, PositionDir.BACK, new Object[] { 20L, "y" }).isSuccess());
+            assertTrue(service.delete(uuid, 4).isSuccess());
+        } finally {
+            // 변경 내역을 CSV 파일에 저장하지 않고 해제
+            service.release(uuid);
+        }
+        assertArrayEquals(csv, Files.readAllBytes(file));
+
+        // 기록하는 도중 중단된 기록
+        try (Stream<Path> journals = Files.list(journalDir)) {
+            List<Path> paths = journals.toList();
+            assertEquals(1, paths.size());
+            Files.write(paths.get(0), new byte[] { 0, 0, 0, 32, 9, 9 }, StandardOpenOption.APPEND);
+        }
+
+        service = new CsvService("1H", "0", "", journalDir.toString());
+        try {
+            Result<CsvFileOnMemory> result = service.load(uuid, new CsvFileConfig(), HEADERS, false, file.toString(), false);
+            assertTrue(result.isSuccess(), result.getMessage());
+            assertEquals(3, result.getResult().getLineCount());
+
+            List<CsvLine> lines = read(service, uuid, 3);
+            assertArrayEquals(new Object[] { 10L, "x" }, lines.get(0).getData());
+            assertArrayEquals(new Object[] { 2L, "b" }, lines.get(1).getData());
+            assertArrayEquals(new Object[] { 20L, "y" }, lines.get(2).getData());
+        } finally {
+            service.release(uuid);
+        }
+    }
+}
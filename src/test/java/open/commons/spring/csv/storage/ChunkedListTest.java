@@ -0,0 +1,246 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 18. 오전 1:31:05
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ChunkedList}가 임시 파일({@link CsvSpillFile})로 내려쓴 조각을 접근할 때 다시 읽고, 내려쓴 조각을 변경하거나 스냅샷과 공유하더라도 데이터를 유지하는지 검증한다.
+ * 
+ * @since 2026. 10. 18.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+public class ChunkedListTest {
+
+    /** 데이터 개수. 여러 조각으로 나뉘도록 조각 최대 크기보다 크게 정한다. */
+    private static final int SIZE = ChunkedList.MAX_CHUNK_SIZE * 5 + 7;
+
+    /**
+     * 목록의 데이터가 주어진 데이터와 같은지 검증한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param expected
+     *            기대하는 데이터
+     * @param list
+     *            목록
+     *
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    private static void assertList(List<Object[]> expected, ChunkedList<Object[]> list) {
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), list.get(i), "index=" + i);
+        }
+    }
+
+    /**
+     * 주어진 개수의 데이터를 추가한 목록을 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param spillFile
+     *            조각을 내려쓰는 임시 파일
+     * @param expected
+     *            추가한 데이터를 저장할 목록
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    private static ChunkedList<Object[]> newList(CsvSpillFile spillFile, List<Object[]> expected) {
+        ChunkedList<Object[]> list = new ChunkedList<>(spillFile);
+        for (int i = 0; i < SIZE; i++) {
+            Object[] row = row(i);
+            list.add(row);
+            expected.add(row);
+        }
+        return list;
+    }
+
+    /**
+     * 줄 데이터를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param i
+     *            데이터 순번
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    private static Object[] row(int i) {
+        return new Object[] { (long) i, "value-" + i, i % 3 == 0 ? null : i * 0.5 };
+    }
+
+    /**
+     * 모든 조각을 내려쓴다.<br>
+     * 마지막으로 내려쓴 이후에 접근한 조각은 내려쓰지 않으므로, 접근 주기를 넘긴 후 한 번 더 내려쓴다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param list
+     *            목록
+     * @return 내려쓴 데이터 개수
+     *
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    private static int spillAll(ChunkedList<Object[]> list) {
+        int spilled = list.spill(list.size());
+        return spilled + list.spill(list.size());
+    }
+
+    /**
+     * 내려쓴 조각에 데이터를 변경/추가/삭제한 후, 다시 내려쓰고 읽더라도 변경한 데이터를 유지하는지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testEditSpilledChunks() {
+        CsvSpillFile spillFile = new CsvSpillFile();
+        try {
+            List<Object[]> expected = new ArrayList<>();
+            ChunkedList<Object[]> list = newList(spillFile, expected);
+            assertEquals(SIZE, spillAll(list));
+
+            list.set(10, row(-10));
+            expected.set(10, row(-10));
+            list.remove(3000);
+            expected.remove(3000);
+            list.add(5000, row(-5000));
+            expected.add(5000, row(-5000));
+            list.add(0, row(-1));
+            expected.add(0, row(-1));
+            assertList(expected, list);
+
+            spillAll(list);
+            assertEquals(0, list.residentSize());
+            assertList(expected, list);
+        } finally {
+            spillFile.release();
+        }
+    }
+
+    /**
+     * 스냅샷과 공유하는 조각을 내려쓴 후 원본 목록을 변경하더라도, 스냅샷은 생성 당시의 데이터를 다시 읽는지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testSnapshotSharesSpilledChunks() {
+        CsvSpillFile spillFile = new CsvSpillFile();
+        try {
+            List<Object[]> expected = new ArrayList<>();
+            ChunkedList<Object[]> list = newList(spillFile, expected);
+            List<Object[]> original = new ArrayList<>(expected);
+            ChunkedList<Object[]> snapshot = list.snapshot();
+
+            // 공유하는 조각은 스냅샷에서도 내려쓴 상태가 된다.
+            assertEquals(SIZE, spillAll(list));
+            assertEquals(0, snapshot.residentSize());
+
+            list.set(0, row(-1));
+            expected.set(0, row(-1));
+            list.remove(SIZE - 1);
+            expected.remove(SIZE - 1);
+            list.add(ChunkedList.MAX_CHUNK_SIZE, row(-2));
+            expected.add(ChunkedList.MAX_CHUNK_SIZE, row(-2));
+
+            assertList(expected, list);
+            assertList(original, snapshot);
+        } finally {
+            spillFile.release();
+        }
+    }
+
+    /**
+     * 내려쓴 조각은 메모리에서 해제되고, 접근할 때 임시 파일에서 같은 데이터를 다시 읽는지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testSpillAndReload() {
+        CsvSpillFile spillFile = new CsvSpillFile();
+        try {
+            List<Object[]> expected = new ArrayList<>();
+            ChunkedList<Object[]> list = newList(spillFile, expected);
+            assertEquals(SIZE, list.residentSize());
+
+            // 추가하면서 접근한 조각은 이번 접근 주기에는 내려쓰지 않는다.
+            assertEquals(0, list.spill(SIZE));
+            // 조각 단위로 내려쓰므로 요청한 개수 이상을 내려쓴다.
+            int spilled = list.spill(1);
+            assertTrue(spilled >= 1 && spilled < SIZE, "spilled=" + spilled);
+            assertEquals(SIZE - spilled, list.residentSize());
+            assertEquals(SIZE, list.spill(SIZE) + spilled);
+            assertEquals(0, list.residentSize());
+
+            // 다시 읽은 조각은 메모리에 유지하며, 다음 접근 주기부터 다시 내려쓸 수 있다.
+            assertList(expected, list);
+            assertEquals(SIZE, list.residentSize());
+            assertEquals(0, list.spill(SIZE));
+            assertEquals(SIZE, list.spill(SIZE));
+            assertList(expected, list);
+        } finally {
+            spillFile.release();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 18. 오전 1:14:27
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link CsvJournalFile}이 기록하는 도중 중단되어 일부만 저장된 기록을 파일을 열 때 잘라내고, 온전히 저장된 기록은 순서대로 읽는지 검증한다.
+ * 
+ * @since 2026. 10. 18.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+public class CsvJournalFileTest {
+
+    /** 원본 파일 식별 키 */
+    private static final String KEY = "journal-test-key";
+
+    /** 임시 디렉토리 */
+    @TempDir
+    Path dir;
+
+    /**
+     * 기록 3개(변경, 추가, 삭제)를 저장한 변경 내역 파일을 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param path
+     *            변경 내역 파일 경로
+     * @throws IOException
+     *
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    private static void appendRecords(Path path) throws IOException {
+        try (CsvJournalFile journal = CsvJournalFile.open(path, KEY)) {
+            assertNotNull(journal);
+            journal.append(CsvJournalFile.UPDATE, 1, 0, new Object[] { 10L, "ten" });
+            journal.append(CsvJournalFile.INSERT, 2, 1, new Object[] { 20L, "twenty" });
+            journal.append(CsvJournalFile.DELETE, 3, 0, null);
+        }
+    }
+
+    /**
+     * 변경 내역 파일의 기록을 읽어 처음 저장한 기록과 같은지 검증한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param journal
+     *            변경 내역 파일
+     * @throws IOException
+     *
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    private static void assertRecords(CsvJournalFile journal) throws IOException {
+        CsvJournalFile.Entry entry = journal.readNext();
+        assertEquals(CsvJournalFile.UPDATE, entry.getOperation());
+        assertEquals(1, entry.getLineNumber());
+        assertArrayEquals(new Object[] { 10L, "ten" }, entry.getData());
+
+        entry = journal.readNext();
+        assertEquals(CsvJournalFile.INSERT, entry.getOperation());
+        assertEquals(2, entry.getLineNumber());
+        assertEquals(1, entry.getArgument());
+        assertArrayEquals(new Object[] { 20L, "twenty" }, entry.getData());
+
+        entry = journal.readNext();
+        assertEquals(CsvJournalFile.DELETE, entry.getOperation());
+        assertEquals(3, entry.getLineNumber());
+        assertArrayEquals(new Object[0], entry.getData());
+    }
+
+    /**
+     * 마지막 기록의 CRC32 값이 일치하지 않는 경우 해당 기록부터 잘라내는지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testCorruptedRecordTruncated() throws Exception {
+        final Path path = this.dir.resolve("corrupted.journal");
+        appendRecords(path);
+        final long size = Files.size(path);
+
+        try (CsvJournalFile journal = CsvJournalFile.open(path, KEY)) {
+            journal.append(CsvJournalFile.UPDATE, 4, 0, new Object[] { 40L, "forty" });
+        }
+        // 마지막 기록의 마지막 byte 변경
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 0x7F;
+        Files.write(path, bytes);
+
+        try (CsvJournalFile journal = CsvJournalFile.open(path, KEY)) {
+            assertEquals(3, journal.getCount());
+            assertEquals(size, Files.size(path));
+            assertRecords(journal);
+            assertNull(journal.readNext());
+        }
+    }
+
+    /**
+     * 식별 키가 일치하지 않는 변경 내역 파일은 사용하지 않는지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testKeyMismatch() throws Exception {
+        final Path path = this.dir.resolve("mismatch.journal");
+        appendRecords(path);
+
+        assertNull(CsvJournalFile.open(path, KEY + "-changed"));
+    }
+
+    /**
+     * 기록하는 도중 중단되어 일부만 저장된 기록을 잘라내고, 이후 덧붙인 기록을 다시 열 때 읽을 수 있는지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testTornRecordTruncated() throws Exception {
+        final Path path = this.dir.resolve("torn.journal");
+        appendRecords(path);
+        final long size = Files.size(path);
+
+        // 기록 크기와 CRC32 값, 데이터 일부만 저장된 기록
+        Files.write(path, new byte[] { 0, 0, 0, 64, 1, 2, 3, 4, CsvJournalFile.UPDATE, 0, 0 }, StandardOpenOption.APPEND);
+
+        try (CsvJournalFile journal = CsvJournalFile.open(path, KEY)) {
+            assertEquals(3, journal.getCount());
+            assertEquals(size, Files.size(path));
+            assertRecords(journal);
+            assertNull(journal.readNext());
+
+            journal.append(CsvJournalFile.UPDATE, 5, 0, new Object[] { 50L, "fifty" });
+        }
+
+        try (CsvJournalFile journal = CsvJournalFile.open(path, KEY)) {
+            assertEquals(4, journal.getCount());
+            assertRecords(journal);
+            CsvJournalFile.Entry entry = journal.readNext();
+            assertEquals(5, entry.getLineNumber());
+            assertArrayEquals(new Object[] { 50L, "fifty" }, entry.getData());
+            assertNull(journal.readNext());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 18. 오전 12:04:12
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import open.commons.core.csv.CsvFileConfig;
+
+/**
+ * {@link CsvRecordScanner}가 opencsv와 같은 위치에서 줄 데이터를 끝내는지, {@link CsvChunkIndex#split(Path, CsvFileConfig, long, int, ExecutorService)}가
+ * 줄 끝에서만 나누는지 검증한다.
+ * 
+ * @since 2026. 10. 18.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+public class CsvRecordScannerTest {
+
+    /** 줄 데이터 끝 위치 확인 객체. 구분자: ',', 인용 문자: '"', escape 문자: '\' */
+    private static final CsvRecordScanner SCANNER = new CsvRecordScanner((byte) ',', (byte) '"', (byte) '\\');
+
+    /** 임시 디렉토리 */
+    @TempDir
+    Path dir;
+
+    /**
+     * 주어진 데이터에서 줄 데이터가 끝나는 위치(줄바꿈 다음 위치) 목록을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param csv
+     *            CSV 데이터
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    private static long[] ends(String csv) {
+        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+        long[] ends = new long[bytes.length];
+        int count = 0;
+        int state = CsvRecordScanner.START;
+        for (int i = 0; i < bytes.length; i++) {
+            int transition = SCANNER.next(state, bytes[i]);
+            state = CsvRecordScanner.state(transition);
+            if (CsvRecordScanner.endsRecord(transition)) {
+                ends[count++] = i + 1;
+            }
+        }
+        return Arrays.copyOf(ends, count);
+    }
+
+    /**
+     * 인용 문자로 감싸지 않은 컬럼 데이터에서 escape 문자 다음의 인용 문자는 데이터로 해석하는지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testEscapedQuoteOutsideQuotes() {
+        assertArrayEquals(new long[] { 6, 10 }, ends("a,5\\\"\nb,c\n"));
+    }
+
+    /**
+     * 인용 문자로 감싼 컬럼 데이터 안의 escape 문자와 연속된 인용 문자를 해석하는지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testEscapedQuoteInsideQuotes() {
+        // escape 문자 다음의 인용 문자와 연속된 인용 문자는 컬럼 데이터를 끝내지 않는다.
+        assertArrayEquals(new long[] { 10, 12 }, ends("a,\"x\\\"\ny\"\nb\n"));
+        assertArrayEquals(new long[] { 10 }, ends("a,\"x\"\"\ny\"\n"));
+        // escape 문자 다음의 escape 문자는 데이터이므로 다음 인용 문자가 컬럼 데이터를 끝낸다.
+        assertArrayEquals(new long[] { 8, 10 }, ends("a,\"x\\\\\"\nb\n"));
+    }
+
+    /**
+     * 줄바꿈 직전의 escape/인용 문자는 다음 줄의 문자와 함께 해석하지 않는지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testLineEndAfterEscapeOrQuote() {
+        assertArrayEquals(new long[] { 4, 9 }, ends("a,\\\n\"b\n\"\n"));
+        // 컬럼 데이터 중간의 인용 문자는 인용 문자로 감싼 컬럼 데이터를 시작한다.
+        assertArrayEquals(new long[] { 8 }, ends("a,b\"\nc\"\n"));
+    }
+
+    /**
+     * 인용 문자로 감싸지 않은 컬럼 데이터에 escape 문자와 인용 문자가 있는 파일을 줄 끝에서만 나누는지 검증한다.
+     * 
+     * @since 2026. 10. 18.
+     * @version 4.0.0
+     */
+    @Test
+    public void testSplitEscapedQuoteOutsideQuotes() throws Exception {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            csv.append(i).append(",5\\\"\n");
+        }
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+        Path file = this.dir.resolve("split.csv");
+        Files.write(file, bytes);
+
+        CsvFileConfig config = new CsvFileConfig();
+        config.setEscape('\\');
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final int count = 8;
+            long[] ends = CsvChunkIndex.split(file, config, bytes.length, count, executor);
+            assertEquals(count, ends.length);
+            for (long end : ends) {
+                assertTrue(bytes[(int) end - 1] == '\n', "줄 끝에서 나누지 않음. 위치=" + end);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2021 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-csv".
+ *
+ * Date  : 2026. 10. 17. 오후 11:52:10
+ *
+ * Author: Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ */
+
+package open.commons.spring.csv.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CsvNumberParser}가 {@link Double#parseDouble(String)}, {@link Long#parseLong(String)}과 같은 값을 제공하는지 검증한다.<br>
+ * 실수는 bit 단위로 비교하며, bytes와 문자열의 일부 범위를 읽는 경우를 모두 확인한다.
+ * 
+ * @since 2026. 10. 17.
+ * @version 4.0.0
+ * @author Park Jun-Hong (parkjunhong77@gmail.com)
+ */
+public class CsvNumberParserTest {
+
+    /** 임의 숫자 검증 횟수 */
+    private static final int RANDOM_COUNT = 200_000;
+
+    /**
+     * 주어진 문자열을 {@link Double#parseDouble(String)}과 같은 값으로 읽는지 bit 단위로 비교한다.<br>
+     * {@link Double#parseDouble(String)}이 읽을 수 없는 문자열은 {@link NumberFormatException}이 발생하는지 확인한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param text
+     *            숫자 문자열
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static void assertDouble(String text) {
+        // 앞뒤에 다른 데이터가 있는 범위를 읽는다.
+        final String line = "1," + text + ",9";
+        final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        final int length = text.getBytes(StandardCharsets.UTF_8).length;
+
+        final double expected;
+        try {
+            expected = Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            assertThrows(NumberFormatException.class, () -> CsvNumberParser.parseDouble(bytes, 2, length), text);
+            assertThrows(NumberFormatException.class, () -> CsvNumberParser.parseDouble(line, 2, 2 + text.length()), text);
+            return;
+        }
+
+        assertEquals(Double.doubleToRawLongBits(expected),
+                Double.doubleToRawLongBits(CsvNumberParser.parseDouble(bytes, 2, length)), text);
+        assertEquals(Double.doubleToRawLongBits(expected),
+                Double.doubleToRawLongBits(CsvNumberParser.parseDouble(line, 2, 2 + text.length())), text);
+    }
+
+    /**
+     * 주어진 문자열을 {@link Long#parseLong(String)}과 같은 값으로 읽는지 비교한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 17.     parkjunhong77@gmail.com         최초 작성
+     * </pre>
+     *
+     * @param text
+     *            숫자 문자열
+     *
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    private static void assertLong(String text) {
+        final String line = "1," + text + ",9";
+        final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        final int length = text.getBytes(StandardCharsets.UTF_8).length;
+
+        final long expected;
+        try {
+            expected = Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            assertThrows(NumberFormatException.class, () -> CsvNumberParser.parseLong(bytes, 2, length), text);
+            assertThrows(NumberFormatException.class, () -> CsvNumberParser.parseLong(line, 2, 2 + text.length()), text);
+            return;
+        }
+
+        assertEquals(expected, CsvNumberParser.parseLong(bytes, 2, length), text);
+        assertEquals(expected, CsvNumberParser.parseLong(line, 2, 2 + text.length()), text);
+    }
+
+    /**
+     * 유효 숫자가 19개를 넘거나 숫자가 아닌 문자가 포함되어 {@link Double#parseDouble(String)}으로 읽는 경우를 검증한다.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    @Test
+    public void testFallback() {
+        String[] texts = { //
+                "12345678901234567890", "1234567890123456789012345678901234567890e-20", //
+                "1.00000000000000011102230246251565404236316680908203125", // 1 + 2^-53, 정확히 중간
+                "1.00000000000000011102230246251565404236316680908203126", //
+                "2.4703282292062327208828439643411068618252990130716238221279284125033775363510437593264991818081799618989828234772285886546332835517796989819938739800539093906315035659515570226392290858392449105184435931802849936536152500319370457678249219365623669863658480757001585769269903706311928279558551332927834338409351978015531246597263579574622766465272827220056374006485499977096599470454020828166226237857393450736339007967761930577506740176324673600968951340535537458516661134223766678604162159680461914467291840300530057530849048765391711386591646239524912623653881879636239373280423891018672348497668235089863388587925628302755995657524455507255189313690836254779186948667994968324049705821028513185451396213837722826145437693412532098591327667236328125e-324", //
+                "Infinity", "-Infinity", "+Infinity", "NaN", "-NaN", //
+                "0x1.8p1", "0X1P-1074", "1.5f", "1.5d", "-2D", " 1.5", "1.5 ", //
+                "", "-", "+", ".", "e5", "1e", "1e+", "1e-", "1.2.3", "1,5", "1_000", "--1", "1e5.5", "한글" };
+        for (String text : texts) {
+            assertDouble(text);
+        }
+    }
+
+    /**
+     * 2진수로 변환할 때 두 {@link Double} 값의 정확히 중간이거나 중간에 가까운 값을 검증한다.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    @Test
+    public void testHalfway() {
+        String[] texts = { //
+                // 2^53 + 1, 2^53 + 3: 짝수로 반올림
+                "9007199254740993", "9007199254740995", "9007199254740997", "18014398509481986", "18014398509481990", //
+                "4503599627370496.5", "4503599627370497.5", "2251799813685248.25", "2251799813685248.75", //
+                "9007199254740993e0", "900719925474099.3e1", "9.007199254740993e15", "9.007199254740993e22", //
+                "1.0000000000000002", "1.00000000000000011", "1.000000000000000111", "1.000000000000000112", //
+                "0.1", "0.2", "0.3", "1.1", "3.141592653589793", "2.718281828459045", //
+                "7.038531e-26", "8.589973e9", "1.448997445238699", "9007199254740991.4999999999999999999", //
+                "5e-324", "1e23", "8.41e21", "8.5e21", "1.7976931348623157e308", //
+                "123456789012345678e-8", "1234567890123456789e-18", "9223372036854775807e-10" };
+        for (String text : texts) {
+            assertDouble(text);
+            assertDouble("-" + text);
+            assertDouble("+" + text);
+        }
+
+        // 2진수 자릿수가 54개인 값(두 값의 정확히 중간)의 10진수 표기
+        Random random = new Random(20261017L);
+        for (int i = 0; i < RANDOM_COUNT / 10; i++) {
+            long odd = (1L << 53) | (random.nextLong() & ((1L << 53) - 1)) | 1L;
+            assertDouble(Long.toString(odd));
+            assertDouble(Long.toString(odd) + "e-" + random.nextInt(20));
+        }
+    }
+
+    /**
+     * 지수가 {@link Double}로 표현할 수 있는 범위를 넘는 값을 검증한다.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    @Test
+    public void testOverflowAndUnderflow() {
+        String[] texts = { //
+                "1e308", "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308", "1.8e308", //
+                "1e309", "0.1e310", "17976931348623157e292", "17976931348623159e292", "1e400", "9999999999999999999e300", //
+                "1e99999", "1e100000", "1e999999999", "1e99999999999999999999", "0e999999999", "0.0e-999999999", //
+                "1e-342", "1e-343", "1e-400", "9999999999999999999e-343", "1e-99999", "1e-999999999", //
+                "1e-99999999999999999999", "0.000000000000000000000000000000000000001e-300", //
+                "100000000000000000000e-344", "1e+308", "1E308", "1E-308", "1e0", "1e-0", "1e+0", "0" };
+        for (String text : texts) {
+            assertDouble(text);
+            assertDouble("-" + text);
+        }
+    }
+
+    /**
+     * 임의의 {@link Double} 값의 다양한 10진수 표기를 검증한다.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    @Test
+    public void testRandom() {
+        Random random = new Random(20261017L);
+        for (int i = 0; i < RANDOM_COUNT; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            assertDouble(Double.toString(value));
+            assertDouble(String.format("%.17e", value));
+            assertDouble(String.format("%.18e", value));
+            assertDouble(new java.math.BigDecimal(value).toPlainString().replaceFirst("^(-?\\d*\\.?\\d{1,25}).*$", "$1"));
+        }
+
+        // 유효 숫자 1 ~ 19개, 임의의 지수
+        for (int i = 0; i < RANDOM_COUNT; i++) {
+            StringBuilder builder = new StringBuilder();
+            int digits = 1 + random.nextInt(19);
+            int point = random.nextInt(digits + 1);
+            for (int d = 0; d < digits; d++) {
+                if (d == point) {
+                    builder.append('.');
+                }
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            builder.append('e').append(random.nextInt(700) - 360);
+            assertDouble(builder.toString());
+        }
+    }
+
+    /**
+     * 비정규 수와 정규 수의 경계 값을 검증한다.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    @Test
+    public void testSubnormal() {
+        String[] texts = { //
+                "4.9e-324", "4.9406564584124654e-324", "2.4703282292062327e-324", "2.4703282292062328e-324", //
+                "2.470328229206232e-324", "2.47032822920623272e-324", "7.4109846876186981e-324", "1e-323", "1e-320", //
+                "123456789e-330", "2.2250738585072009e-308", "2.2250738585072011e-308", "2.2250738585072012e-308", //
+                "2.2250738585072014e-308", "2.225073858507201e-308", "2.2250738585072013e-308", //
+                "4.4501477170144023e-308", "4.4501477170144028e-308", "1.5e-323", "3e-324", "2e-324", "7e-324" };
+        for (String text : texts) {
+            assertDouble(text);
+            assertDouble("-" + text);
+        }
+
+        Random random = new Random(20261017L);
+        for (int i = 0; i < RANDOM_COUNT / 10; i++) {
+            double value = Double.longBitsToDouble(random.nextLong() & ((1L << 52) - 1));
+            assertDouble(Double.toString(value));
+            assertDouble(String.format("%.18e", value));
+        }
+    }
+
+    /**
+     * {@link Long} 범위의 경계 값과 넘치는 값을 검증한다.
+     * 
+     * @since 2026. 10. 17.
+     * @version 4.0.0
+     */
+    @Test
+    public void testLong() {
+        String[] texts = { //
+                "0", "-0", "+0", "7", "-7", "000123", "123456789012345678", "999999999999999999", //
+                "1000000000000000000", "9223372036854775807", "-9223372036854775808", //
+                "9223372036854775808", "-9223372036854775809", "99999999999999999999", //
+                "", "-", "+", "1.0", "1e3", " 1", "1 ", "0x10", "1_000", "한글" };
+        for (String text : texts) {
+            assertLong(text);
+        }
+    }
+}